@@ -2,11 +2,13 @@ package de.gsi.chart;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
@@ -49,9 +51,11 @@ import de.gsi.chart.ui.ToolBarFlowPane;
 import de.gsi.chart.ui.css.CssPropertyFactory;
 import de.gsi.chart.ui.geometry.Corner;
 import de.gsi.chart.ui.geometry.Side;
+import de.gsi.chart.utils.FXPulseScheduler;
 import de.gsi.chart.utils.FXUtils;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.event.EventListener;
+import de.gsi.dataset.event.UpdateEvent;
 import de.gsi.dataset.utils.AssertUtils;
 import de.gsi.dataset.utils.NoDuplicatesList;
 import de.gsi.dataset.utils.ProcessingProfiler;
@@ -144,11 +148,36 @@ public abstract class Chart extends HiddenSidesPane implements Observable {
         }
     }
 
-    private final EventListener axisChangeListener = obs -> FXUtils.runFX(() -> axesInvalidated(obs));
+    private final Runnable pulseLayoutRequest = this::requestLayout; // N.B. persistent instance for the FXPulseScheduler
+    // N.B. dirty-flag handoff: events notified by (non-FX) producer threads are coalesced into at most one pending FX task
+    private final AtomicLong eventCount = new AtomicLong();
+    private final AtomicLong coalescedEventCount = new AtomicLong();
+    private final AtomicReference<UpdateEvent> pendingAxisEvent = new AtomicReference<>();
+    private final AtomicBoolean dataSetInvalidationPending = new AtomicBoolean();
+    private final Runnable axisInvalidationTask = () -> axesInvalidated(pendingAxisEvent.getAndSet(null));
+    private final Runnable dataSetInvalidationTask = () -> {
+        dataSetInvalidationPending.set(false);
+        dataSetInvalidated();
+    };
+    private final EventListener axisChangeListener = evt -> {
+        eventCount.incrementAndGet();
+        if (pendingAxisEvent.getAndSet(evt) != null) {
+            coalescedEventCount.incrementAndGet();
+            return;
+        }
+        FXUtils.runFX(axisInvalidationTask);
+    };
     protected final ListChangeListener<Axis> axesChangeListenerLocal = this::axesChangedLocal;
     protected final ListChangeListener<Axis> axesChangeListener = this::axesChanged;
     protected final ListChangeListener<DataSet> datasetChangeListener = this::datasetsChanged;
-    protected final EventListener dataSetDataListener = obs -> FXUtils.runFX(this::dataSetInvalidated);
+    protected final EventListener dataSetDataListener = evt -> {
+        eventCount.incrementAndGet();
+        if (dataSetInvalidationPending.getAndSet(true)) {
+            coalescedEventCount.incrementAndGet();
+            return;
+        }
+        FXUtils.runFX(dataSetInvalidationTask);
+    };
     protected final ListChangeListener<ChartPlugin> pluginsChangedListener = this::pluginsChanged;
     protected final ChangeListener<? super Window> windowPropertyListener = (ch1, oldWindow, newWindow) -> {
         if (oldWindow != null) {
@@ -580,6 +609,14 @@ public abstract class Chart extends HiddenSidesPane implements Observable {
         return canvasForeground;
     }
 
+    /**
+     * @return number of data set and axis update events that have been merged into an already pending invalidation of
+     *         the chart (ie. did not cause additional work on the FX application thread)
+     */
+    public long getCoalescedEventCount() {
+        return coalescedEventCount.get();
+    }
+
     /**
      * @return datasets attached to the chart and drawn by all renderers
      */
@@ -587,6 +624,13 @@ public abstract class Chart extends HiddenSidesPane implements Observable {
         return datasets;
     }
 
+    /**
+     * @return number of data set and axis update events received by the chart
+     */
+    public long getEventCount() {
+        return eventCount.get();
+    }
+
     public Axis getFirstAxis(final Orientation orientation) {
         for (final Axis axis : getAxes()) {
             if (axis.getSide() == null) {
@@ -1058,13 +1102,8 @@ public abstract class Chart extends HiddenSidesPane implements Observable {
 
         showing.addListener((ch, o, n) -> {
             if (Boolean.TRUE.equals(n)) {
-                // requestLayout();
-
-                // alt implementation in case of start-up issues
-                final KeyFrame kf1 = new KeyFrame(Duration.millis(20), e -> requestLayout());
-
-                final Timeline timeline = new Timeline(kf1);
-                Platform.runLater(timeline::play);
+                // N.B. deferred to the next pulse in case of start-up issues
+                requestPulseLayout();
             }
         });
     }
@@ -1093,6 +1132,20 @@ public abstract class Chart extends HiddenSidesPane implements Observable {
         updateLegend(getDatasets(), getRenderers());
     }
 
+    /**
+     * Requests a layout (and thus re-rendering) of the chart with the next eligible pulse via the scene's
+     * {@link FXPulseScheduler}. Repeated requests before that pulse are coalesced. Charts that are not shown (e.g.
+     * off-screen scenes without pulses) are invalidated immediately.
+     */
+    protected void requestPulseLayout() {
+        final Scene scene = getScene();
+        if (scene == null || !isShowing()) {
+            requestLayout();
+            return;
+        }
+        FXPulseScheduler.get(scene).schedule(pulseLayoutRequest);
+    }
+
     /**
      * This is used to check if any given animation should run. It returns true if animation is enabled and the node is
      * visible and in a scene.
@@ -7,9 +7,6 @@ import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.application.Platform;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -22,7 +19,6 @@ import javafx.collections.ObservableList;
 import javafx.geometry.Orientation;
 import javafx.scene.Node;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.util.Duration;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +30,7 @@ import de.gsi.chart.renderer.spi.ErrorDataSetRenderer;
 import de.gsi.chart.renderer.spi.GridRenderer;
 import de.gsi.chart.renderer.spi.LabelledMarkerRenderer;
 import de.gsi.chart.ui.geometry.Side;
+import de.gsi.chart.utils.FXPulseScheduler;
 import de.gsi.chart.utils.FXUtils;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.utils.AssertUtils;
@@ -51,13 +48,13 @@ import de.gsi.dataset.utils.AssertUtils;
  */
 public class XYChart extends Chart {
     private static final Logger LOGGER = LoggerFactory.getLogger(XYChart.class);
-    protected static final int BURST_LIMIT_MS = 15;
+    private static final long PULSE_JITTER_TOLERANCE = TimeUnit.MILLISECONDS.toNanos(2);
     protected BooleanProperty polarPlot = new SimpleBooleanProperty(this, "polarPlot", false);
     private final ObjectProperty<PolarTickStep> polarStepSize = new SimpleObjectProperty<>(PolarTickStep.THIRTY);
     private final GridRenderer gridRenderer = new GridRenderer();
     protected final ChangeListener<? super Boolean> gridLineVisibilitychange = (ob, o, n) -> requestLayout();
     private long lastCanvasUpdate;
-    private boolean callCanvasUpdateLater;
+    private long lastCanvasUpdatePulse = -1;
     private final ChangeListener<Side> axisSideChangeListener = this::axisSideChanged;
 
     /**
@@ -406,29 +403,25 @@ public class XYChart extends Chart {
         if (DEBUG && LOGGER.isDebugEnabled()) {
             LOGGER.debug("   xychart redrawCanvas() - pre");
         }
-        setAutoNotification(false);
         FXUtils.assertJavaFxThread();
         final long now = System.nanoTime();
-        final double diffMillisSinceLastUpdate = TimeUnit.NANOSECONDS.toMillis(now - lastCanvasUpdate);
-        if (diffMillisSinceLastUpdate < XYChart.BURST_LIMIT_MS) {
-            if (!callCanvasUpdateLater) {
-                callCanvasUpdateLater = true;
-                // repaint 20 ms later in case this was just a burst operation
-                final KeyFrame kf1 = new KeyFrame(Duration.millis(20), e -> requestLayout());
-
-                final Timeline timeline = new Timeline(kf1);
-                Platform.runLater(timeline::play);
+        if (isShowing() && getScene() != null) {
+            // render at most once per pulse and not faster than the scene's max frame rate, otherwise defer to the next eligible pulse
+            final FXPulseScheduler scheduler = FXPulseScheduler.get(getScene());
+            final long pulse = scheduler.getPulseCount();
+            if (pulse == lastCanvasUpdatePulse || now - lastCanvasUpdate < scheduler.getMinFramePeriod() - PULSE_JITTER_TOLERANCE) {
+                requestPulseLayout();
+                return;
             }
-
-            return;
+            lastCanvasUpdatePulse = pulse;
         }
+        setAutoNotification(false);
         if (DEBUG && LOGGER.isDebugEnabled()) {
             LOGGER.debug("   xychart redrawCanvas() - executing");
             LOGGER.debug("   xychart redrawCanvas() - canvas size = {}", String.format("%fx%f", canvas.getWidth(), canvas.getHeight()));
         }
 
         lastCanvasUpdate = now;
-        callCanvasUpdateLater = false;
 
         final GraphicsContext gc = canvas.getGraphicsContext2D();
         gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
@@ -75,6 +75,25 @@ public interface Axis extends AxisDescription {
      */
     double getDisplayPosition(double value);
 
+    /**
+     * Bulk version of {@link #getDisplayPosition(double)} to convert a range of data values to display positions
+     * (N.B. implementations with an affine or logarithmic transform override this with a specialised loop that avoids
+     * the per-value virtual call).
+     * <p>
+     * The input and output ranges may refer to the same array (in-place conversion) but should otherwise not overlap.
+     *
+     * @param values the data values to work out the display positions for
+     * @param valuesOffset index of the first data value
+     * @param positions the storage for the display positions (may be identical to {@code values})
+     * @param positionsOffset index of the first display position
+     * @param length number of values to be converted
+     */
+    default void getDisplayPositions(final double[] values, final int valuesOffset, final double[] positions, final int positionsOffset, final int length) {
+        for (int i = 0; i < length; i++) {
+            positions[positionsOffset + i] = getDisplayPosition(values[valuesOffset + i]);
+        }
+    }
+
     double getHeight();
 
     /**
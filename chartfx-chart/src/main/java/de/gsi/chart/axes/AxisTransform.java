@@ -15,6 +15,21 @@ public interface AxisTransform {
      */
     double backward(double val);
 
+    /**
+     * bulk version of {@link #backward(double)} (N.B. input and output range may refer to the same array)
+     *
+     * @param input input values
+     * @param inputOffset index of the first input value
+     * @param output storage for the output values (may be identical to {@code input})
+     * @param outputOffset index of the first output value
+     * @param length number of values to be transformed
+     */
+    default void backward(final double[] input, final int inputOffset, final double[] output, final int outputOffset, final int length) {
+        for (int i = 0; i < length; i++) {
+            output[outputOffset + i] = backward(input[inputOffset + i]);
+        }
+    }
+
     /**
      * default forward transform for affine functions: backward(forward(val)) = forward(backward(val)) = val;
      *
@@ -23,6 +38,21 @@ public interface AxisTransform {
      */
     double forward(double val);
 
+    /**
+     * bulk version of {@link #forward(double)} (N.B. input and output range may refer to the same array)
+     *
+     * @param input input values
+     * @param inputOffset index of the first input value
+     * @param output storage for the output values (may be identical to {@code input})
+     * @param outputOffset index of the first output value
+     * @param length number of values to be transformed
+     */
+    default void forward(final double[] input, final int inputOffset, final double[] output, final int outputOffset, final int length) {
+        for (int i = 0; i < length; i++) {
+            output[outputOffset + i] = forward(input[inputOffset + i]);
+        }
+    }
+
     double getMaximumRange();
 
     double getMinimumRange();
@@ -1,8 +1,7 @@
 package de.gsi.chart.axes.spi;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -36,7 +35,9 @@ import de.gsi.chart.axes.spi.format.DefaultTimeFormatter;
 import de.gsi.chart.ui.ResizableCanvas;
 import de.gsi.chart.ui.geometry.Side;
 import de.gsi.dataset.event.AxisChangeEvent;
-import de.gsi.dataset.utils.SoftHashMap;
+
+import it.unimi.dsi.fastutil.doubles.Double2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
 
 /**
  * @author rstein
@@ -94,11 +95,21 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
         }
     };
 
-    // cache for major tick marks
-    protected final transient Map<String, TickMark> tickMarkStringCache = new SoftHashMap<>(MAX_TICK_COUNT);
+    // last computed major and minor tick values (N.B. primitive buffers to avoid boxing on every axis update)
+    protected final transient DoubleArrayList majorTickValueBuffer = new DoubleArrayList(MAX_TICK_COUNT);
+    protected final transient DoubleArrayList minorTickValueBuffer = new DoubleArrayList(MAX_TICK_COUNT * DEFAULT_MINOR_TICK_COUNT);
+    private final transient DoubleArrayList newTickValueBuffer = new DoubleArrayList(MAX_TICK_COUNT * DEFAULT_MINOR_TICK_COUNT);
+
+    // index-stable pools of major and minor tick marks, re-used across tick computations
+    protected final transient List<TickMark> majorTickMarkPool = new ArrayList<>(MAX_TICK_COUNT);
+    protected final transient List<TickMark> minorTickMarkPool = new ArrayList<>(MAX_TICK_COUNT * DEFAULT_MINOR_TICK_COUNT);
+    private transient TickMark measureTickMark;
 
-    // cache for minor tick marks (N.B. usually w/o string label)
-    protected final transient Map<Double, TickMark> tickMarkDoubleCache = new SoftHashMap<>(MAX_TICK_COUNT * DEFAULT_MINOR_TICK_COUNT);
+    // tick label cache (N.B. only valid for the formatter state it was filled with)
+    protected final transient Double2ObjectOpenHashMap<String> tickMarkLabelCache = new Double2ObjectOpenHashMap<>(MAX_TICK_COUNT * DEFAULT_MINOR_TICK_COUNT);
+    private transient StringConverter<Number> labelCacheConverter;
+    private transient AxisLabelFormatter labelCacheFormatter;
+    private transient double labelCacheUnitScaling = Double.NaN;
 
     public AbstractAxis() {
         super();
@@ -276,22 +287,23 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
         return canvas.getGraphicsContext2D();
     }
 
+    /**
+     * @param tickValue tick mark value
+     * @param tickPosition tick mark position
+     * @param tickMarkLabel tick mark label
+     * @return new tick mark
+     * @deprecated boxed variant kept for backward compatibility, use (and override) {@link #getNewTickMark(double, double, String)}
+     */
+    @Deprecated
     public TickMark getNewTickMark(final Double tickValue, final double tickPosition, final String tickMarkLabel) {
-        // use of boxed 'Double' is on purpose for retaining the same key object in the HashMap
-        TickMark tick;
-        if (tickMarkLabel.isEmpty()) {
-            // usually a minor tick mark w/o label
-            tick = tickMarkDoubleCache.computeIfAbsent(tickValue,
-                    k -> new TickMark(getSide(), tickValue, tickPosition, getTickLabelRotation(), ""));
-        } else {
-            // usually a major tick mark with label
-            tick = tickMarkStringCache.computeIfAbsent(tickMarkLabel,
-                    k -> new TickMark(getSide(), tickValue, tickPosition, getTickLabelRotation(), k));
-            tick.setValue(tickValue);
-        }
+        return getNewTickMark(tickValue.doubleValue(), tickPosition, tickMarkLabel);
+    }
+
+    public TickMark getNewTickMark(final double tickValue, final double tickPosition, final String tickMarkLabel) {
+        final TickMark tick = new TickMark(getSide(), tickValue, tickPosition, getTickLabelRotation(), tickMarkLabel);
         tick.setFill(getTickLabelFill());
         tick.setFont(getTickLabelFont());
-        tick.setPosition(tickPosition);
+        tick.setFontMetricsCached(isTickLabelMetricsCached());
         tick.setVisible(true);
 
         return tick;
@@ -305,15 +317,28 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
      */
     @Override
     public String getTickMarkLabel(final double value) {
+        final StringConverter<Number> formatter = getTickLabelFormatter();
+        final AxisLabelFormatter axisLabelFormatter = getAxisLabelFormatter();
+        if (formatter != labelCacheConverter || axisLabelFormatter != labelCacheFormatter || getUnitScaling() != labelCacheUnitScaling) { // NOPMD - identity check on purpose
+            tickMarkLabelCache.clear();
+            labelCacheConverter = formatter;
+            labelCacheFormatter = axisLabelFormatter;
+            labelCacheUnitScaling = getUnitScaling();
+        }
+        final String cachedLabel = tickMarkLabelCache.get(value);
+        if (cachedLabel != null) {
+            return cachedLabel;
+        }
+
         // convert value according to scale factor
         final double scaledValue = value / getUnitScaling();
-
-        final StringConverter<Number> formatter = getTickLabelFormatter();
-        if (formatter != null) {
-            return formatter.toString(scaledValue);
+        // use AxisLabelFormatter based implementation if no explicit formatter is set
+        final String label = formatter == null ? axisLabelFormatter.toString(scaledValue) : formatter.toString(scaledValue);
+        if (tickMarkLabelCache.size() >= MAX_TICK_COUNT * DEFAULT_MINOR_TICK_COUNT) {
+            tickMarkLabelCache.clear();
         }
-        // use AxisLabelFormatter based implementation
-        return getAxisLabelFormatter().toString(scaledValue);
+        tickMarkLabelCache.put(value, label);
+        return label;
     }
 
     /**
@@ -334,8 +359,12 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
         getMinorTickMarkValues().clear();
         getTickMarks().clear();
         getMinorTickMarks().clear();
-        tickMarkStringCache.clear();
-        tickMarkDoubleCache.clear();
+        majorTickValueBuffer.clear();
+        minorTickValueBuffer.clear();
+        majorTickMarkPool.clear();
+        minorTickMarkPool.clear();
+        tickMarkLabelCache.clear();
+        measureTickMark = null;
     }
 
     /**
@@ -461,6 +490,19 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
      */
     protected abstract List<Double> calculateMajorTickValues(double length, AxisRange range);
 
+    /**
+     * Calculate all the data values for each tick mark in range. This is the primitive, allocation-free counterpart of
+     * {@link #calculateMajorTickValues(double, AxisRange)} that is used by {@link #computeTickMarks(AxisRange, boolean)}.
+     * The default implementation copies the values of the boxed variant, derived axes should override this.
+     *
+     * @param length The length of the axis in display units
+     * @param range A range object returned from autoRange()
+     * @param tickValues (empty) storage to be filled with the tick mark values
+     */
+    protected void calculateMajorTickValues(final double length, final AxisRange range, final DoubleArrayList tickValues) {
+        tickValues.addAll(calculateMajorTickValues(length, range));
+    }
+
     /**
      * Calculate a list of the data values for every minor tick mark
      *
@@ -469,6 +511,17 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
 
     protected abstract List<Double> calculateMinorTickValues();
 
+    /**
+     * Calculate the data values for every minor tick mark. This is the primitive, allocation-free counterpart of
+     * {@link #calculateMinorTickValues()} that is used by {@link #computeTickMarks(AxisRange, boolean)}. The default
+     * implementation copies the values of the boxed variant, derived axes should override this.
+     *
+     * @param tickValues (empty) storage to be filled with the minor tick mark values
+     */
+    protected void calculateMinorTickValues(final DoubleArrayList tickValues) {
+        tickValues.addAll(calculateMinorTickValues());
+    }
+
     /**
      * Calculate a new scale for this axis. This should not effect any state(properties) of this axis.
      *
@@ -590,27 +643,37 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
         final double height = getHeight();
         final double axisLength = side.isVertical() ? height : width; // [pixel]
 
-        final List<Double> oldTickValues = majorTickMark ? getTickMarkValues() : getMinorTickMarkValues();
-        final List<Double> newTickValues = majorTickMark ? calculateMajorTickValues(axisLength, range) : calculateMinorTickValues();
+        final DoubleArrayList oldTickValues = majorTickMark ? majorTickValueBuffer : minorTickValueBuffer;
+        final DoubleArrayList newTickValues = newTickValueBuffer;
+        newTickValues.clear();
+        if (majorTickMark) {
+            calculateMajorTickValues(axisLength, range, newTickValues);
+        } else {
+            calculateMinorTickValues(newTickValues);
+        }
 
         if (!oldTickValues.isEmpty() && !oldTickMarks.isEmpty() && newTickValues.equals(oldTickValues)) {
             // do not need to recompute TickMarks just reposition them
             return oldTickMarks;
         }
+        oldTickValues.size(newTickValues.size());
+        System.arraycopy(newTickValues.elements(), 0, oldTickValues.elements(), 0, newTickValues.size());
 
         if (majorTickMark) {
-            getAxisLabelFormatter().updateFormatter(newTickValues, getUnitScaling());
+            getAxisLabelFormatter().updateFormatter(oldTickValues, getUnitScaling());
+            // formatter state may have changed
+            tickMarkLabelCache.clear();
         }
 
-        if (newTickValues.size() > 2) {
+        if (oldTickValues.size() > 2) {
             if (majorTickMark) {
-                getTickMarkValues().setAll(newTickValues);
+                getTickMarkValues().setAll(oldTickValues);
                 // TODO. if first number is very large and range very small ->
                 // switch to:
                 // first label: full format
                 // every other label as '... \n+ X.Y'
             } else {
-                getMinorTickMarkValues().setAll(newTickValues);
+                getMinorTickMarkValues().setAll(oldTickValues);
             }
         }
 
@@ -619,13 +682,14 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
             maxLabelWidth = 0;
         }
 
-        final List<TickMark> newTickMarkList = new LinkedList<>();
-        newTickValues.forEach(tickValue -> {
+        final List<TickMark> pool = majorTickMark ? majorTickMarkPool : minorTickMarkPool;
+        final int nTicks = oldTickValues.size();
+        for (int index = 0; index < nTicks; index++) {
+            final double tickValue = oldTickValues.getDouble(index);
             final double tickPosition = getDisplayPosition(tickValue);
             final String tickMarkLabel = majorTickMark ? getTickMarkLabel(tickValue) : "";
 
-            final TickMark tick = getNewTickMark(tickValue, tickPosition, tickMarkLabel);
-            newTickMarkList.add(tick);
+            final TickMark tick = getPooledTickMark(pool, index, tickValue, tickPosition, tickMarkLabel, majorTickMark);
 
             maxLabelHeight = Math.max(maxLabelHeight, tick.getHeight());
             maxLabelWidth = Math.max(maxLabelWidth, tick.getWidth());
@@ -634,17 +698,14 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
                 tick.setOpacity(0);
 
                 final FadeTransition ft = new FadeTransition(Duration.millis(750), tick);
-                tick.opacityProperty().addListener((ch, o, n) -> {
-                    clearAxisCanvas(canvas.getGraphicsContext2D(), width, height);
-                    drawAxis(canvas.getGraphicsContext2D(), width, height);
-                });
                 ft.setFromValue(0);
                 ft.setToValue(1);
                 ft.play();
             }
-        });
+        }
 
-        return newTickMarkList;
+        // N.B. the TickMark instances are re-used, only the returned list is new
+        return new ArrayList<>(pool.subList(0, nTicks));
     }
 
     protected void drawAxisLabel(final GraphicsContext gc, final double axisWidth, final double axisHeight,
@@ -1264,10 +1325,66 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
         return labelHidden;
     }
 
+    /**
+     * @param major tick mark value
+     * @return tick mark length along the axis
+     * @deprecated boxed variant kept for backward compatibility, use (and override) {@link #measureTickMarkLength(double)}
+     */
+    @Deprecated
     protected double measureTickMarkLength(final Double major) {
-        // N.B. this is a known performance hot-spot -> start optimisation here
-        final TickMark tick = getNewTickMark(major, 0.0 /* NA */, getTickMarkLabel(major));
-        return getSide().isHorizontal() ? tick.getWidth() : tick.getHeight();
+        return measureTickMarkLength(major.doubleValue());
+    }
+
+    protected double measureTickMarkLength(final double major) {
+        // N.B. this is a known performance hot-spot -> re-use the same TickMark and cached labels
+        final String label = getTickMarkLabel(major);
+        if (measureTickMark == null || measureTickMark.getSide() != getSide()) {
+            measureTickMark = getNewTickMark(major, 0.0 /* NA */, label);
+        } else {
+            updateTickMark(measureTickMark, major, 0.0 /* NA */, label);
+        }
+        return getSide().isHorizontal() ? measureTickMark.getWidth() : measureTickMark.getHeight();
+    }
+
+    private TickMark getPooledTickMark(final List<TickMark> pool, final int index, final double tickValue, final double tickPosition, final String tickMarkLabel,
+            final boolean majorTickMark) {
+        if (index < pool.size() && pool.get(index).getSide() == getSide()) {
+            final TickMark tick = pool.get(index);
+            updateTickMark(tick, tickValue, tickPosition, tickMarkLabel);
+            return tick;
+        }
+
+        final TickMark tick = getNewTickMark(tickValue, tickPosition, tickMarkLabel);
+        if (majorTickMark) {
+            // repaint while the tick mark is being faded in
+            tick.opacityProperty().addListener((ch, o, n) -> {
+                if (shouldAnimate()) {
+                    clearAxisCanvas(canvas.getGraphicsContext2D(), getWidth(), getHeight());
+                    drawAxis(canvas.getGraphicsContext2D(), getWidth(), getHeight());
+                }
+            });
+        }
+        if (index < pool.size()) {
+            pool.set(index, tick);
+        } else {
+            pool.add(tick);
+        }
+        return tick;
+    }
+
+    private void updateTickMark(final TickMark tick, final double tickValue, final double tickPosition, final String tickMarkLabel) {
+        tick.setValue(tickValue);
+        tick.setPosition(tickPosition);
+        if (!tickMarkLabel.equals(tick.getText())) {
+            tick.setText(tickMarkLabel);
+        }
+        if (tick.getRotation() != getTickLabelRotation()) {
+            tick.setRotation(getTickLabelRotation());
+        }
+        tick.setFill(getTickLabelFill());
+        tick.setFont(getTickLabelFont());
+        tick.setFontMetricsCached(isTickLabelMetricsCached());
+        tick.setVisible(true);
     }
 
     protected void recomputeTickMarks(final AxisRange range) { // NOPMD -- complexity is unavoidable
@@ -115,6 +115,18 @@ public abstract class AbstractAxisParameter extends Pane implements Axis {
         invokeListener(new AxisChangeEvent(this));
     });
 
+    /**
+     * true if the tick mark label extent should be estimated via a cached per-font character-width table rather than a
+     * JavaFX text layout pass per tick mark
+     */
+    private final transient StyleableBooleanProperty tickLabelMetricsCached = CSS.createBooleanProperty(this, "tickLabelMetricsCached", false, () -> {
+        final boolean state = AbstractAxisParameter.this.tickLabelMetricsCached.get();
+        getTickMarks().forEach(tick -> tick.setFontMetricsCached(state));
+        getMinorTickMarks().forEach(tick -> tick.setFontMetricsCached(state));
+        invalidate();
+        invokeListener(new AxisChangeEvent(this));
+    });
+
     /** The length of tick mark lines */
     private final transient StyleableDoubleProperty axisPadding = CSS.createDoubleProperty(this, "axisPadding", 15.0, this::requestAxisLayout);
 
@@ -839,6 +851,13 @@ public abstract class AbstractAxisParameter extends Pane implements Axis {
         return minorTickVisibleProperty().get();
     }
 
+    /**
+     * @return {@code true} if the tick mark label extent is estimated via cached per-character font metrics
+     */
+    public boolean isTickLabelMetricsCached() {
+        return tickLabelMetricsCachedProperty().get();
+    }
+
     public boolean isTickLabelsVisible() {
         return tickLabelsVisibleProperty().get();
     }
@@ -1087,6 +1106,14 @@ public abstract class AbstractAxisParameter extends Pane implements Axis {
         tickLabelGapProperty().set(value);
     }
 
+    /**
+     * @param state {@code true} if the tick mark label extent should be estimated via cached per-character font metrics
+     *            rather than a JavaFX text layout pass per tick mark (N.B. kerning is neglected)
+     */
+    public void setTickLabelMetricsCached(final boolean state) {
+        tickLabelMetricsCachedProperty().set(state);
+    }
+
     public void setTickLabelRotation(final double value) {
         tickLabelRotationProperty().setValue(value);
     }
@@ -1167,6 +1194,10 @@ public abstract class AbstractAxisParameter extends Pane implements Axis {
         return tickLabelGap;
     }
 
+    public BooleanProperty tickLabelMetricsCachedProperty() {
+        return tickLabelMetricsCached;
+    }
+
     public DoubleProperty tickLabelRotationProperty() {
         return tickLabelRotation;
     }
@@ -1,7 +1,6 @@
 package de.gsi.chart.axes.spi;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import javafx.beans.property.ObjectProperty;
@@ -13,6 +12,8 @@ import javafx.util.StringConverter;
 import de.gsi.chart.axes.AxisLabelOverlapPolicy;
 import de.gsi.dataset.DataSet;
 
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+
 /**
  * A axis implementation that will works on string categories where each value as a unique category(tick mark) along the
  * axis.
@@ -217,7 +218,14 @@ public final class CategoryAxis extends DefaultNumericAxis {
 
     @Override
     protected List<Double> calculateMinorTickValues() {
-        return Collections.emptyList();
+        final DoubleArrayList tickValues = new DoubleArrayList();
+        calculateMinorTickValues(tickValues);
+        return tickValues;
+    }
+
+    @Override
+    protected void calculateMinorTickValues(final DoubleArrayList tickValues) {
+        // no minor ticks for category axes
     }
 
     @Override
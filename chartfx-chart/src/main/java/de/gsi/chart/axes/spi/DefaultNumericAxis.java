@@ -1,8 +1,6 @@
 package de.gsi.chart.axes.spi;
 
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 import javafx.beans.property.BooleanProperty;
@@ -21,6 +19,8 @@ import de.gsi.chart.axes.spi.transforms.DefaultAxisTransform;
 import de.gsi.chart.axes.spi.transforms.LogarithmicAxisTransform;
 import de.gsi.chart.axes.spi.transforms.LogarithmicTimeAxisTransform;
 
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+
 /**
  * A axis class that plots a range of numbers with major tick marks every "tickUnit". You can use any Number type with
  * this axis, Long, Double, BigDecimal etc.
@@ -212,6 +212,36 @@ public class DefaultNumericAxis extends AbstractAxis implements Axis {
         return getDisplayPositionImpl(value);
     }
 
+    /**
+     * Bulk version of {@link #getDisplayPosition(double)} with specialised loops for the linear and logarithmic case.
+     */
+    @Override
+    public void getDisplayPositions(final double[] values, final int valuesOffset, final double[] positions, final int positionsOffset, final int length) {
+        double localOffset;
+        double localScale;
+        if (isLogAxis) {
+            axisTransform.forward(values, valuesOffset, positions, positionsOffset, length);
+            // pos = localOffset + log(value) * localScale
+            localScale = cache.isVerticalAxis ? -cache.logScaleLengthInv : cache.logScaleLengthInv;
+            localOffset = (cache.isVerticalAxis ? cache.axisHeight : 0.0) - cache.lowerBoundLog * localScale;
+            if (isInvertedAxis) {
+                localOffset = offset - localOffset;
+                localScale = -localScale;
+            }
+            for (int i = 0; i < length; i++) {
+                positions[positionsOffset + i] = localOffset + positions[positionsOffset + i] * localScale;
+            }
+            return;
+        }
+
+        // default case: linear axis computation
+        localOffset = isInvertedAxis ? offset - cache.localOffset2 : cache.localOffset2;
+        localScale = isInvertedAxis ? -cache.localScale : cache.localScale;
+        for (int i = 0; i < length; i++) {
+            positions[positionsOffset + i] = localOffset + values[valuesOffset + i] * localScale;
+        }
+    }
+
     /**
      * Returns the value of the {@link #logarithmBaseProperty()}.
      *
@@ -426,10 +456,17 @@ public class DefaultNumericAxis extends AbstractAxis implements Axis {
 
     @Override
     protected List<Double> calculateMajorTickValues(final double axisLength, final AxisRange axisRange) {
-        final List<Double> tickValues = new ArrayList<>(getMaxMajorTickLabelCount());
+        final DoubleArrayList tickValues = new DoubleArrayList(getMaxMajorTickLabelCount());
+        calculateMajorTickValues(axisLength, axisRange, tickValues);
+        return tickValues;
+    }
+
+    @Override
+    protected void calculateMajorTickValues(final double axisLength, final AxisRange axisRange, final DoubleArrayList tickValues) {
         if (isLogAxis) {
             if (axisRange.getLowerBound() >= axisRange.getUpperBound()) {
-                return Arrays.asList(axisRange.getLowerBound()); // NOPMD NOSONAR -- cannot use singletonList since list needs to remain modifiable
+                tickValues.add(axisRange.getLowerBound());
+                return;
             }
             double exp = Math.ceil(axisTransform.forward(axisRange.getLowerBound()));
             for (double tickValue = axisTransform.backward(exp); tickValue <= axisRange
@@ -438,11 +475,12 @@ public class DefaultNumericAxis extends AbstractAxis implements Axis {
                 tickValues.add(tickValue);
             }
 
-            return tickValues;
+            return;
         }
 
         if (axisRange.getLowerBound() == axisRange.getUpperBound() || axisRange.getTickUnit() <= 0) {
-            return Arrays.asList(axisRange.getLowerBound()); // NOPMD NOSONAR -- cannot use singletonList since list needs to remain modifiable
+            tickValues.add(axisRange.getLowerBound());
+            return;
         }
 
         final double firstTick = DefaultNumericAxis.computeFistMajorTick(axisRange.getLowerBound(),
@@ -451,7 +489,7 @@ public class DefaultNumericAxis extends AbstractAxis implements Axis {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.atDebug().log("major ticks numerically not resolvable");
             }
-            return tickValues;
+            return;
         }
         final int maxTickCount = getMaxMajorTickLabelCount();
         for (double major = firstTick; (major <= axisRange.getUpperBound() && tickValues.size() <= maxTickCount); major += axisRange.getTickUnit()) {
@@ -460,16 +498,21 @@ public class DefaultNumericAxis extends AbstractAxis implements Axis {
             }
             tickValues.add(major);
         }
-        return tickValues;
     }
 
     @Override
     protected List<Double> calculateMinorTickValues() {
+        final DoubleArrayList tickValues = new DoubleArrayList();
+        calculateMinorTickValues(tickValues);
+        return tickValues;
+    }
+
+    @Override
+    protected void calculateMinorTickValues(final DoubleArrayList newMinorTickMarks) {
         if (getMinorTickCount() <= 0 || getTickUnit() <= 0) {
-            return Collections.emptyList();
+            return;
         }
 
-        final List<Double> newMinorTickMarks = new ArrayList<>();
         final double lowerBound = getMin();
         final double upperBound = getMax();
         final double majorUnit = getTickUnit();
@@ -515,7 +558,6 @@ public class DefaultNumericAxis extends AbstractAxis implements Axis {
                 majorTickCount++;
             }
         }
-        return newMinorTickMarks;
     }
 
     @Override
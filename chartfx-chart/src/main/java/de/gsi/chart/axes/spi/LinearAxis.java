@@ -1,8 +1,6 @@
 package de.gsi.chart.axes.spi;
 
 import java.security.InvalidParameterException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import javafx.beans.property.*;
@@ -16,6 +14,8 @@ import de.gsi.chart.axes.TickUnitSupplier;
 import de.gsi.chart.axes.spi.format.DefaultTickUnitSupplier;
 import de.gsi.chart.ui.css.CssPropertyFactory;
 
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+
 /**
  * @author rstein
  */
@@ -202,6 +202,16 @@ public class LinearAxis extends AbstractAxis {
         return cache.localOffset + (value - cache.localCurrentLowerBound) * cache.localScale;
     }
 
+    @Override
+    public void getDisplayPositions(final double[] values, final int valuesOffset, final double[] positions, final int positionsOffset, final int length) {
+        final double localOffset = cache.localOffset;
+        final double localLowerBound = cache.localCurrentLowerBound;
+        final double localScale = cache.localScale;
+        for (int i = 0; i < length; i++) {
+            positions[positionsOffset + i] = localOffset + (values[valuesOffset + i] - localLowerBound) * localScale;
+        }
+    }
+
     /**
      * @return the log axis Type @see LogAxisType
      */
@@ -429,26 +439,37 @@ public class LinearAxis extends AbstractAxis {
 
     @Override
     protected List<Double> calculateMajorTickValues(final double axisLength, final AxisRange range) {
+        final DoubleArrayList tickValues = new DoubleArrayList(MAX_TICK_COUNT);
+        calculateMajorTickValues(axisLength, range, tickValues);
+        return tickValues;
+    }
+
+    @Override
+    protected void calculateMajorTickValues(final double axisLength, final AxisRange range, final DoubleArrayList tickValues) {
         if (range == null) {
             throw new InvalidParameterException("range is null");
         }
 
-        final List<Double> tickValues = new ArrayList<>();
-
         if (range.getLowerBound() == range.getUpperBound() || range.getTickUnit() <= 0) {
-            return Collections.singletonList(range.getLowerBound());
+            tickValues.add(range.getLowerBound());
+            return;
         }
 
         final double firstTick = LinearAxis.computeFistMajorTick(range.getLowerBound(), range.getTickUnit());
         for (double major = firstTick; major <= range.getUpperBound(); major += range.getTickUnit()) {
             tickValues.add(major);
         }
-        return tickValues;
     }
 
     @Override
     protected List<Double> calculateMinorTickValues() {
-        final List<Double> minorTickMarks = new ArrayList<>();
+        final DoubleArrayList tickValues = new DoubleArrayList();
+        calculateMinorTickValues(tickValues);
+        return tickValues;
+    }
+
+    @Override
+    protected void calculateMinorTickValues(final DoubleArrayList minorTickMarks) {
         final double lowerBound = getMin();
         final double upperBound = getMax();
         final double majorUnit = getTickUnit();
@@ -463,8 +484,6 @@ public class LinearAxis extends AbstractAxis {
                 }
             }
         }
-
-        return minorTickMarks;
     }
 
     @Override
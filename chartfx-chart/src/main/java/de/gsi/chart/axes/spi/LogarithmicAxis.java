@@ -1,8 +1,6 @@
 package de.gsi.chart.axes.spi;
 
 import java.security.InvalidParameterException;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import javafx.beans.property.DoubleProperty;
@@ -19,6 +17,8 @@ import de.gsi.chart.axes.TickUnitSupplier;
 import de.gsi.chart.axes.spi.format.DefaultTickUnitSupplier;
 import de.gsi.chart.ui.css.CssPropertyFactory;
 
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+
 /**
  * @author rstein
  */
@@ -145,6 +145,20 @@ public class LogarithmicAxis extends AbstractAxis {
         return valueLogOffset * cache.logScaleLengthInv;
     }
 
+    @Override
+    public void getDisplayPositions(final double[] values, final int valuesOffset, final double[] positions, final int positionsOffset, final int length) {
+        final double logBase = cache.logBase;
+        final double lowerBoundLog = cache.lowerBoundLog;
+        final double logScaleLengthInv = cache.logScaleLengthInv;
+        final double axisHeight = cache.axisHeight;
+        final boolean isVerticalAxis = cache.isVerticalAxis;
+        for (int i = 0; i < length; i++) {
+            final double value = values[valuesOffset + i];
+            final double valueLogOffset = (value <= 0 ? Double.NaN : Math.log10(value) / logBase) - lowerBoundLog;
+            positions[positionsOffset + i] = isVerticalAxis ? axisHeight - valueLogOffset * logScaleLengthInv : valueLogOffset * logScaleLengthInv;
+        }
+    }
+
     /**
      * Returns the value of the {@link #logarithmBaseProperty()}.
      *
@@ -331,19 +345,24 @@ public class LogarithmicAxis extends AbstractAxis {
 
     @Override
     protected List<Double> calculateMajorTickValues(final double axisLength, final AxisRange range) {
+        final DoubleArrayList tickValues = new DoubleArrayList(MAX_TICK_COUNT);
+        calculateMajorTickValues(axisLength, range, tickValues);
+        return tickValues;
+    }
+
+    @Override
+    protected void calculateMajorTickValues(final double axisLength, final AxisRange range, final DoubleArrayList tickValues) {
         if (range == null) {
             throw new InvalidParameterException("range is null");
         }
-
-        final List<Double> tickValues = new ArrayList<>();
         if (range.getLowerBound() >= range.getUpperBound()) {
-            return Collections.singletonList(range.getLowerBound());
+            tickValues.add(range.getLowerBound());
+            return;
         }
         double exp = Math.ceil(log(range.getLowerBound()));
         for (double tickValue = pow(exp); tickValue <= range.getUpperBound(); tickValue = pow(++exp)) {
             tickValues.add(tickValue);
         }
-        return tickValues;
     }
 
     // -------------- STYLESHEET HANDLING
@@ -351,11 +370,17 @@ public class LogarithmicAxis extends AbstractAxis {
 
     @Override
     protected List<Double> calculateMinorTickValues() {
+        final DoubleArrayList tickValues = new DoubleArrayList();
+        calculateMinorTickValues(tickValues);
+        return tickValues;
+    }
+
+    @Override
+    protected void calculateMinorTickValues(final DoubleArrayList minorTickMarks) {
         if (getMinorTickCount() <= 0) {
-            return Collections.emptyList();
+            return;
         }
 
-        final List<Double> minorTickMarks = new ArrayList<>();
         final double lowerBound = getMin();
         final double upperBound = getMax();
 
@@ -369,8 +394,6 @@ public class LogarithmicAxis extends AbstractAxis {
                 }
             }
         }
-
-        return minorTickMarks;
     }
 
     @Override
@@ -1,7 +1,5 @@
 package de.gsi.chart.axes.spi;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 import javafx.beans.property.*;
@@ -15,6 +13,8 @@ import de.gsi.chart.axes.TickUnitSupplier;
 import de.gsi.chart.axes.spi.format.DefaultTickUnitSupplier;
 import de.gsi.chart.ui.css.CssPropertyFactory;
 
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+
 /**
  * A axis class that plots a range of numbers with major tick marks every "tickUnit". You can use any Number type with
  * this axis, Long, Double, BigDecimal etc.
@@ -241,6 +241,16 @@ public final class NumericAxis extends AbstractAxis {
         return localOffset + (value - localCurrentLowerBound) * localScale;
     }
 
+    @Override
+    public void getDisplayPositions(final double[] values, final int valuesOffset, final double[] positions, final int positionsOffset, final int length) {
+        final double offset = localOffset;
+        final double lowerBound = localCurrentLowerBound;
+        final double scale = localScale;
+        for (int i = 0; i < length; i++) {
+            positions[positionsOffset + i] = offset + (values[valuesOffset + i] - lowerBound) * scale;
+        }
+    }
+
     @Override
     public LogAxisType getLogAxisType() {
         return LogAxisType.LINEAR_SCALE;
@@ -462,24 +472,36 @@ public final class NumericAxis extends AbstractAxis {
 
     @Override
     protected List<Double> calculateMajorTickValues(final double axisLength, final AxisRange range) {
+        final DoubleArrayList tickValues = new DoubleArrayList(MAX_TICK_COUNT);
+        calculateMajorTickValues(axisLength, range, tickValues);
+        return tickValues;
+    }
+
+    @Override
+    protected void calculateMajorTickValues(final double axisLength, final AxisRange range, final DoubleArrayList tickValues) {
         if (range.getLowerBound() == range.getUpperBound() || range.getTickUnit() <= 0) {
-            return Collections.singletonList(range.getLowerBound());
+            tickValues.add(range.getLowerBound());
+            return;
         }
-        final List<Double> tickValues = new ArrayList<>();
         final double firstTick = NumericAxis.computeFistMajorTick(range.getLowerBound(), range.getTickUnit());
         for (double major = firstTick; major <= range.getUpperBound(); major += range.getTickUnit()) {
             tickValues.add(major);
         }
-        return tickValues;
     }
 
     @Override
     protected List<Double> calculateMinorTickValues() {
+        final DoubleArrayList tickValues = new DoubleArrayList();
+        calculateMinorTickValues(tickValues);
+        return tickValues;
+    }
+
+    @Override
+    protected void calculateMinorTickValues(final DoubleArrayList minorTickMarks) {
         if (getMinorTickCount() == 0 || getTickUnit() == 0) {
-            return Collections.emptyList();
+            return;
         }
 
-        final List<Double> minorTickMarks = new ArrayList<>();
         final double lowerBound = getMin();
         final double upperBound = getMax();
         final double majorUnit = getTickUnit();
@@ -495,7 +517,6 @@ public final class NumericAxis extends AbstractAxis {
                 }
             }
         }
-        return minorTickMarks;
     }
 
     @Override
@@ -20,6 +20,8 @@ import de.gsi.chart.ui.css.CssPropertyFactory;
 import de.gsi.dataset.AxisDescription;
 import de.gsi.dataset.spi.DataRange;
 
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+
 /**
  * Implements an Oscilloscope-like axis with a default of 10 divisions (tick marks) and fixed zero (or offset) screen
  * position
@@ -233,9 +235,16 @@ public class OscilloscopeAxis extends AbstractAxis implements Axis {
 
     @Override
     protected List<Double> calculateMajorTickValues(double length, AxisRange axisRange) {
-        final List<Double> tickValues = new ArrayList<>();
+        final DoubleArrayList tickValues = new DoubleArrayList(getMaxMajorTickLabelCount());
+        calculateMajorTickValues(length, axisRange, tickValues);
+        return tickValues;
+    }
+
+    @Override
+    protected void calculateMajorTickValues(final double length, final AxisRange axisRange, final DoubleArrayList tickValues) {
         if (axisRange.getMin() == axisRange.getMax() || axisRange.getTickUnit() <= 0) {
-            return Collections.singletonList(axisRange.getMin());
+            tickValues.add(axisRange.getMin());
+            return;
         }
 
         final double firstTick = Math.ceil(axisRange.getMin() / axisRange.getTickUnit()) * axisRange.getTickUnit();
@@ -243,22 +252,27 @@ public class OscilloscopeAxis extends AbstractAxis implements Axis {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.atDebug().log("major ticks numerically not resolvable");
             }
-            return tickValues;
+            return;
         }
         final int maxTickCount = getMaxMajorTickLabelCount();
         for (double major = firstTick; (major <= axisRange.getMax() && tickValues.size() <= maxTickCount); major += axisRange.getTickUnit()) {
             tickValues.add(major);
         }
-        return tickValues;
     }
 
     @Override
     protected List<Double> calculateMinorTickValues() {
+        final DoubleArrayList tickValues = new DoubleArrayList();
+        calculateMinorTickValues(tickValues);
+        return tickValues;
+    }
+
+    @Override
+    protected void calculateMinorTickValues(final DoubleArrayList newMinorTickMarks) {
         if (getMinorTickCount() <= 0 || getTickUnit() <= 0) {
-            return Collections.emptyList();
+            return;
         }
 
-        final List<Double> newMinorTickMarks = new ArrayList<>();
         final double lowerBound = getMin();
         final double upperBound = getMax();
         final double majorUnit = getTickUnit();
@@ -286,8 +300,6 @@ public class OscilloscopeAxis extends AbstractAxis implements Axis {
             }
             majorTickCount++;
         }
-
-        return newMinorTickMarks;
     }
 
     @Override
@@ -404,6 +416,16 @@ public class OscilloscopeAxis extends AbstractAxis implements Axis {
         return cache.localOffset + (value - cache.localCurrentLowerBound) * cache.localScale;
     }
 
+    @Override
+    public void getDisplayPositions(final double[] values, final int valuesOffset, final double[] positions, final int positionsOffset, final int length) {
+        final double localOffset = cache.localOffset;
+        final double localLowerBound = cache.localCurrentLowerBound;
+        final double localScale = cache.localScale;
+        for (int i = 0; i < length; i++) {
+            positions[positionsOffset + i] = localOffset + (values[valuesOffset + i] - localLowerBound) * localScale;
+        }
+    }
+
     protected class Cache {
         protected double localScale;
         protected double localCurrentLowerBound;
@@ -5,6 +5,7 @@ import javafx.scene.text.Text;
 import javafx.scene.text.TextAlignment;
 
 import de.gsi.chart.ui.geometry.Side;
+import de.gsi.chart.utils.FontMetricsCache;
 
 /**
  * TickMark represents the label text, its associated tick mark value and position along the axis for each tick.
@@ -16,6 +17,9 @@ public class TickMark extends Text {
     private double tickValue; // tick mark in data units
     private double tickPosition; // tick position along axis in display units
     private double tickRotation; // tick mark rotation (here: centre axis)
+    private boolean fontMetricsCached; // true: estimate label extent via cached per-character font metrics
+    private double labelWidth = Double.NaN; // unrotated label width, NaN: to be recomputed
+    private double labelHeight = Double.NaN; // unrotated label height, NaN: to be recomputed
 
     /**
      * Creates and initialises an instance of TickMark.
@@ -37,9 +41,23 @@ public class TickMark extends Text {
         setRotate(tickRotation);
         recomputeAlignment(); // NOPMD may be overwritten in user-code
 
-        fontProperty().addListener((ch, o, n) -> applyCss());
-        fillProperty().addListener((ch, o, n) -> applyCss());
-        visibleProperty().addListener((ch, o, n) -> applyCss());
+        textProperty().addListener((ch, o, n) -> invalidateLabelExtent());
+        fontProperty().addListener((ch, o, n) -> {
+            invalidateLabelExtent();
+            if (!fontMetricsCached) {
+                applyCss();
+            }
+        });
+        fillProperty().addListener((ch, o, n) -> {
+            if (!fontMetricsCached) {
+                applyCss();
+            }
+        });
+        visibleProperty().addListener((ch, o, n) -> {
+            if (!fontMetricsCached) {
+                applyCss();
+            }
+        });
     }
 
     @Override
@@ -61,6 +79,11 @@ public class TickMark extends Text {
      * @return the height of the tick mark including rotation etc.
      */
     public double getHeight() {
+        if (fontMetricsCached) {
+            updateLabelExtent();
+            final double angle = Math.toRadians(tickRotation);
+            return Math.abs(labelWidth * Math.sin(angle)) + Math.abs(labelHeight * Math.cos(angle));
+        }
         // N.B. important: usage of getBoundsInParent() which also takes into
         // account text rotations
         return getBoundsInParent().getHeight();
@@ -99,6 +122,11 @@ public class TickMark extends Text {
      * @return the width of the tick mark including rotation etc.
      */
     public double getWidth() {
+        if (fontMetricsCached) {
+            updateLabelExtent();
+            final double angle = Math.toRadians(tickRotation);
+            return Math.abs(labelWidth * Math.cos(angle)) + Math.abs(labelHeight * Math.sin(angle));
+        }
         // N.B. important: usage of getBoundsInParent() which also takes into
         // account text rotations
         return getBoundsInParent().getWidth();
@@ -121,6 +149,15 @@ public class TickMark extends Text {
         return result;
     }
 
+    /**
+     * @return {@code true} if the label extent is estimated via the cached per-character metrics of the font rather than
+     *         the JavaFX text layout
+     * @see FontMetricsCache
+     */
+    public boolean isFontMetricsCached() {
+        return fontMetricsCached;
+    }
+
     public void recomputeAlignment() {
         // normalise rotation to [-360, +360]
         final int rotation = ((int) getRotation() % 360);
@@ -175,6 +212,15 @@ public class TickMark extends Text {
         }
     }
 
+    /**
+     * @param state {@code true} if the label extent should be estimated via the cached per-character metrics of the
+     *            font rather than the JavaFX text layout
+     * @see FontMetricsCache
+     */
+    public void setFontMetricsCached(final boolean state) {
+        fontMetricsCached = state;
+    }
+
     /**
      * @param value tick position along the axis in display units
      */
@@ -194,7 +240,21 @@ public class TickMark extends Text {
     /**
      * @param newValue tick mark value in data units
      */
-    public void setValue(final Double newValue) {
+    public void setValue(final double newValue) {
         tickValue = newValue;
     }
+
+    private void invalidateLabelExtent() {
+        labelWidth = Double.NaN;
+        labelHeight = Double.NaN;
+    }
+
+    private void updateLabelExtent() {
+        if (!Double.isNaN(labelWidth)) {
+            return;
+        }
+        final FontMetricsCache metrics = FontMetricsCache.get(getFont());
+        labelWidth = metrics.getWidth(getText());
+        labelHeight = metrics.getHeight(getText());
+    }
 }
@@ -11,6 +11,8 @@ import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.util.StringConverter;
 
+import it.unimi.dsi.fastutil.doubles.DoubleList;
+
 /**
  * @author rstein
  */
@@ -23,6 +25,7 @@ public abstract class AbstractFormatter extends StringConverter<Number> implemen
     protected double unitScaling;
     protected double rangeMin;
     protected double rangeMax;
+    private int lastTickCount = -1;
 
     protected double localSchmidtTriggerThreshold = 0.01;
     protected DoubleProperty schmittTriggerThreshold = new SimpleDoubleProperty(this, "schmittTriggerThreshold",
@@ -106,22 +109,50 @@ public abstract class AbstractFormatter extends StringConverter<Number> implemen
         return tickUnitSupplier;
     }
 
+    /**
+     * @return the cache of already formatted labels (N.B. also provides hit-rate statistics)
+     */
+    public FormatterLabelCache getLabelCache() {
+        return labelCache;
+    }
+
+    /**
+     * @param index tick mark index
+     * @return value of the major tick mark passed with the last {@link #updateFormatter(List, double)}
+     */
+    protected double getTickValue(final int index) {
+        if (majorTickMarksCopy instanceof DoubleList) {
+            // primitive access w/o boxing
+            return ((DoubleList) majorTickMarksCopy).getDouble(index);
+        }
+        return majorTickMarksCopy.get(index);
+    }
+
     @Override
     public void updateFormatter(final List<Double> newMajorTickMarks, final double unitScaling) {
         majorTickMarksCopy = newMajorTickMarks;
-        this.unitScaling = unitScaling;
 
-        this.rangeMin = +Double.MAX_VALUE;
-        this.rangeMax = -Double.MAX_VALUE;
-        for (Number num : majorTickMarksCopy) {
-            double val = num.doubleValue();
+        double newRangeMin = +Double.MAX_VALUE;
+        double newRangeMax = -Double.MAX_VALUE;
+        final int nTicks = newMajorTickMarks.size();
+        for (int i = 0; i < nTicks; i++) {
+            final double val = getTickValue(i);
             if (Double.isFinite(val)) {
-                this.rangeMin = Math.min(this.rangeMin, val);
-                this.rangeMax = Math.max(this.rangeMax, val);
+                newRangeMin = Math.min(newRangeMin, val);
+                newRangeMax = Math.max(newRangeMax, val);
             }
         }
-        this.rangeMin /= unitScaling;
-        this.rangeMax /= unitScaling;
+        newRangeMin /= unitScaling;
+        newRangeMax /= unitScaling;
+
+        if (nTicks == lastTickCount && unitScaling == this.unitScaling && newRangeMin == rangeMin && newRangeMax == rangeMax) { // NOPMD - exact comparison on purpose
+            // same tick range and spacing -> formatter state and cached labels remain valid
+            return;
+        }
+        lastTickCount = nTicks;
+        this.unitScaling = unitScaling;
+        this.rangeMin = newRangeMin;
+        this.rangeMax = newRangeMax;
 
         rangeUpdated();
     }
@@ -2,7 +2,7 @@ package de.gsi.chart.axes.spi.format;
 
 import java.text.DecimalFormat;
 import java.text.ParseException;
-import java.util.WeakHashMap;
+import java.util.function.DoubleFunction;
 
 import de.gsi.chart.axes.Axis;
 import de.gsi.chart.axes.TickUnitSupplier;
@@ -28,11 +28,10 @@ public class DefaultFormatter extends AbstractFormatter {
     private String formatterPattern = "%f";
     private boolean isExponentialForm = false;
 
-    private final WeakHashMap<Integer, WeakHashMap<Number, String>> numberFormatCache = new WeakHashMap<>();
+    private final DoubleFunction<String> labelFormatter = this::formatLabel;
 
     protected NumberFormatterImpl myFormatter = new NumberFormatterImpl();
     protected int rangeIndex = 0;
-    protected int oldRangeIndex = 0;
     private String prefix;
     private String suffix;
 
@@ -92,6 +91,9 @@ public class DefaultFormatter extends AbstractFormatter {
 
     @Override
     protected void rangeUpdated() {
+        final String oldFormatterPattern = formatterPattern;
+        final boolean oldExponentialForm = isExponentialForm;
+        final int oldPrecision = myFormatter.getPrecision();
 
         final double range = getRange();
         isExponentialForm = range < 1e-3 || range > 1e4;
@@ -101,7 +103,7 @@ public class DefaultFormatter extends AbstractFormatter {
         int maxDigits = 0; /** number of digits before separator */
         if (majorTickMarksCopy != null) {
             for (int i = 0; i < majorTickMarksCopy.size(); i++) {
-                final double val = majorTickMarksCopy.get(i).doubleValue() / unitScaling;
+                final double val = getTickValue(i) / unitScaling;
                 final int nDigits = (int) Math.log10(Math.abs(val)) + 1;
                 maxDigits = Math.max(nDigits, maxDigits);
             }
@@ -109,8 +111,8 @@ public class DefaultFormatter extends AbstractFormatter {
             int maxExp = 0;
             int maxFrac = 0;
             for (int i = 0; i < majorTickMarksCopy.size() - 1; i++) {
-                final double lower = majorTickMarksCopy.get(i).doubleValue() / unitScaling;
-                final double upper = majorTickMarksCopy.get(i + 1).doubleValue() / unitScaling;
+                final double lower = getTickValue(i) / unitScaling;
+                final double upper = getTickValue(i + 1) / unitScaling;
                 final int significantDifferentDigits = DigitNumberArithmetic
                         .numberDigitsUntilFirstSignificantDigit(lower, upper);
                 maxSigDigits = Math.max(maxSigDigits, significantDifferentDigits);
@@ -151,11 +153,9 @@ public class DefaultFormatter extends AbstractFormatter {
         // System.out.println(range+" -> "+rangeIndex+":
         // "+formatter.toPattern());
 
-        if (oldRangeIndex != rangeIndex)
-
-        {
+        if (oldExponentialForm != isExponentialForm || oldPrecision != myFormatter.getPrecision() || !oldFormatterPattern.equals(formatterPattern)) {
+            // label format (ie. tick unit) changed
             labelCache.clear();
-            oldRangeIndex = rangeIndex;
         }
     }
 
@@ -167,32 +167,13 @@ public class DefaultFormatter extends AbstractFormatter {
      */
     @Override
     public String toString(final Number object) {
-        // TODO: just for testing need to clean-up w.r.t. use of cache etc.
-        // return labelCache.get(formatter, object.doubleValue());
-        // return labelCache.get(formatter, object.doubleValue());
+        return labelCache.computeIfAbsent(object.doubleValue(), labelFormatter);
+    }
 
+    private String formatLabel(final double value) {
         if (isExponentialForm) {
-            return labelCache.get(myFormatter, object.doubleValue());
-        }
-        final WeakHashMap<Number, String> hash = numberFormatCache.get(formatterPattern.hashCode());
-        if (hash != null) {
-            final String label = hash.get(object);
-            if (label != null) {
-                return label;
-            }
-        }
-        // couldn't find label in cache
-        final String retVal = String.format(formatterPattern, object.doubleValue());
-        // add retVal to cache
-        if (hash == null) {
-            final WeakHashMap<Number, String> temp = new WeakHashMap<>();
-            temp.put(object, retVal);
-            numberFormatCache.put(Integer.valueOf(formatterPattern.hashCode()), temp);
-            // checkCache = new WeakHashMap<>();
-        } else {
-            hash.put(object, retVal);
+            return myFormatter.toString(value);
         }
-
-        return retVal;
+        return String.format(formatterPattern, value);
     }
 }
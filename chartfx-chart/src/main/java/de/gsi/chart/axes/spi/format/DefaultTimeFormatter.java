@@ -5,6 +5,7 @@ import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleFunction;
 
 import de.gsi.chart.axes.Axis;
 import de.gsi.chart.axes.TickUnitSupplier;
@@ -23,6 +24,7 @@ public class DefaultTimeFormatter extends AbstractFormatter {
     protected int formatterIndex;
 
     protected ObjectProperty<ZoneOffset> timeZone = new SimpleObjectProperty<>(ZoneOffset.UTC);
+    private final DoubleFunction<String> labelFormatter = this::getTimeString;
 
     /**
      * Construct a DefaultFormatter for the given NumberAxis
@@ -40,6 +42,8 @@ public class DefaultTimeFormatter extends AbstractFormatter {
     public DefaultTimeFormatter(final Axis axis) {
         super(axis);
         setTickUnitSupplier(DefaultTimeFormatter.DEFAULT_TICK_UNIT_SUPPLIER);
+        // cached labels are only valid for the time-zone they have been formatted for
+        timeZone.addListener(evt -> labelCache.clear());
 
         dateFormat = new DateTimeFormatter[DefaultTimeTickUnitSupplier.TICK_UNIT_FORMATTER_DEFAULTS.length];
         for (int i = 0; i < dateFormat.length; i++) {
@@ -53,9 +57,13 @@ public class DefaultTimeFormatter extends AbstractFormatter {
     }
 
     public String formatHighResString(final Number utcValueSeconds) {
-        final double timeAbs = Math.abs(utcValueSeconds.doubleValue());
+        return formatHighResString(utcValueSeconds.doubleValue());
+    }
+
+    public String formatHighResString(final double utcValueSeconds) {
+        final double timeAbs = Math.abs(utcValueSeconds);
         final long timeUS = (long) (TimeUnit.SECONDS.toMicros(1) * timeAbs);
-        final long longUTCSeconds = Math.abs(utcValueSeconds.longValue());
+        final long longUTCSeconds = Math.abs((long) utcValueSeconds);
         final int longNanoSeconds = (int) ((timeAbs - longUTCSeconds) * 1e9);
         final LocalDateTime dateTime = LocalDateTime.ofEpochSecond(longUTCSeconds, longNanoSeconds,
                 getTimeZoneOffset());
@@ -72,13 +80,13 @@ public class DefaultTimeFormatter extends AbstractFormatter {
         return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS"));
     }
 
-    private String getTimeString(final Number utcValueSeconds) {
+    private String getTimeString(final double utcValueSeconds) {
         if (formatterIndex <= DefaultTimeTickUnitSupplier.HIGHRES_MODE_INDICES) {
             return formatHighResString(utcValueSeconds);
         }
 
-        long longUTCSeconds = utcValueSeconds.longValue();
-        int nanoSeconds = (int) ((utcValueSeconds.doubleValue() - longUTCSeconds) * 1e9);
+        long longUTCSeconds = (long) utcValueSeconds;
+        int nanoSeconds = (int) ((utcValueSeconds - longUTCSeconds) * 1e9);
         if (nanoSeconds < 0) { // Correctly Handle dates before EPOCH
             longUTCSeconds -= 1;
             nanoSeconds += (int) 1e9;
@@ -131,6 +139,6 @@ public class DefaultTimeFormatter extends AbstractFormatter {
 
     @Override
     public String toString(final Number utcValueSeconds) {
-        return labelCache.computeIfAbsent(utcValueSeconds, this::getTimeString);
+        return labelCache.computeIfAbsent(utcValueSeconds.doubleValue(), labelFormatter);
     }
 }
@@ -1,36 +1,126 @@
 package de.gsi.chart.axes.spi.format;
 
-import java.util.WeakHashMap;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.util.function.DoubleFunction;
 
 import javafx.util.StringConverter;
 
+import de.gsi.chart.utils.NumberFormatter;
+
+import it.unimi.dsi.fastutil.doubles.Double2ObjectLinkedOpenHashMap;
+
 /**
- * Simple cache to keep recurring results of String formatters
+ * Bounded least-recently-used cache to keep recurring results of String formatters.
+ * <p>
+ * The labels are stored by their primitive {@code double} value (N.B. the earlier {@code WeakHashMap<Number, String>}
+ * was keyed by freshly boxed values that were collected almost immediately). The cache is valid for a given
+ * formatter state (pattern, tick unit, ...) only and needs to be cleared by the formatter whenever this changes.
+ * <p>
+ * N.B. not thread-safe: the cache is meant to be used from within the formatter of a given axis only.
  *
  * @author rstein
  */
-public class FormatterLabelCache extends WeakHashMap<Number, String> {
-    private static final Logger LOGGER = LoggerFactory.getLogger(FormatterLabelCache.class);
+public class FormatterLabelCache {
+    public static final int DEFAULT_CAPACITY = 1000;
+    private final Double2ObjectLinkedOpenHashMap<String> cache;
+    private final int capacity;
+    private long hitCount;
+    private long missCount;
 
     public FormatterLabelCache() {
-        super();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity maximum number of labels kept in the cache
+     */
+    public FormatterLabelCache(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        cache = new Double2ObjectLinkedOpenHashMap<>(capacity);
     }
 
-    public String get(final StringConverter<Number> formatter, final Number value) {
+    /**
+     * Removes all cached labels (N.B. the hit/miss statistics are retained)
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * @param value the value to be formatted
+     * @param mappingFunction function generating the label in case it is not yet cached
+     * @return the cached or newly generated label
+     */
+    public String computeIfAbsent(final double value, final DoubleFunction<String> mappingFunction) {
+        final String label = cache.getAndMoveToLast(value);
+        if (label != null) {
+            hitCount++;
+            return label;
+        }
+        missCount++;
+        final String newLabel = mappingFunction.apply(value);
+        if (cache.size() >= capacity) {
+            cache.removeFirst(); // least recently used
+        }
+        cache.putAndMoveToLast(value, newLabel);
+        return newLabel;
+    }
+
+    /**
+     * @param formatter the formatter used in case the label is not yet cached
+     * @param value the value to be formatted
+     * @return the cached or newly formatted label
+     */
+    public String get(final StringConverter<Number> formatter, final double value) {
+        if (formatter instanceof NumberFormatter) {
+            return computeIfAbsent(value, ((NumberFormatter) formatter)::toString);
+        }
         return computeIfAbsent(value, formatter::toString);
     }
 
-    // @Override
-    // public String get(Object key) {
-    // String ret = super.get(key);
-    // if (ret == null) {
-    // System.out.println("cache missed");
-    // } else {
-    // System.out.println("cache hit");
-    // }
-    // return ret;
-    // }
+    /**
+     * @return maximum number of labels kept in the cache
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return number of look-ups that have been served from the cache
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return ratio of hits w.r.t. all look-ups, or {@code NaN} if there were no look-ups
+     */
+    public double getHitRate() {
+        final long total = hitCount + missCount;
+        return total == 0 ? Double.NaN : (double) hitCount / total;
+    }
+
+    /**
+     * @return number of look-ups that required the label to be formatted
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Resets the hit/miss statistics
+     */
+    public void resetStatistics() {
+        hitCount = 0;
+        missCount = 0;
+    }
+
+    /**
+     * @return number of cached labels
+     */
+    public int size() {
+        return cache.size();
+    }
 }
@@ -18,11 +18,21 @@ public class DefaultAxisTransform extends AbstractAxisTransform {
         return val;
     }
 
+    @Override
+    public void backward(final double[] input, final int inputOffset, final double[] output, final int outputOffset, final int length) {
+        copy(input, inputOffset, output, outputOffset, length);
+    }
+
     @Override
     public double forward(final double val) {
         return val;
     }
 
+    @Override
+    public void forward(final double[] input, final int inputOffset, final double[] output, final int outputOffset, final int length) {
+        copy(input, inputOffset, output, outputOffset, length);
+    }
+
     @Override
     public double getRoundedMaximumRange(final double max) {
         return Math.floor(max);
@@ -33,4 +43,10 @@ public class DefaultAxisTransform extends AbstractAxisTransform {
         return Math.ceil(min);
     }
 
+    private static void copy(final double[] input, final int inputOffset, final double[] output, final int outputOffset, final int length) {
+        if (input != output || inputOffset != outputOffset) {
+            System.arraycopy(input, inputOffset, output, outputOffset, length);
+        }
+    }
+
 }
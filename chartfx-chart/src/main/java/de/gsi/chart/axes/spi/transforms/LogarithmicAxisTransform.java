@@ -42,11 +42,28 @@ public class LogarithmicAxisTransform extends AbstractAxisTransform {
         return pow(val);
     }
 
+    @Override
+    public void backward(final double[] input, final int inputOffset, final double[] output, final int outputOffset, final int length) {
+        final double base = logarithmBaseCache;
+        for (int i = 0; i < length; i++) {
+            output[outputOffset + i] = Math.pow(base, input[inputOffset + i]);
+        }
+    }
+
     @Override
     public double forward(final double val) {
         return log(val);
     }
 
+    @Override
+    public void forward(final double[] input, final int inputOffset, final double[] output, final int outputOffset, final int length) {
+        final double logBase = logBaseCache;
+        for (int i = 0; i < length; i++) {
+            final double value = input[inputOffset + i];
+            output[outputOffset + i] = value <= 0 ? Double.NaN : Math.log10(value) / logBase;
+        }
+    }
+
     /**
      * Returns the value of the {@link #logarithmBaseProperty()}.
      *
@@ -21,6 +21,7 @@ import de.gsi.chart.XYChart;
 import de.gsi.chart.axes.Axis;
 import de.gsi.chart.renderer.Renderer;
 import de.gsi.chart.renderer.spi.ErrorDataSetRenderer;
+import de.gsi.chart.utils.DataSetPickingIndex;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.GridDataSet;
 import de.gsi.dataset.spi.utils.Tuple;
@@ -116,18 +117,26 @@ public class DataPointTooltip extends AbstractDataFormattingPlugin {
         if (xAxis == null || yAxis == null) {
             return Stream.empty(); // ignore this renderer because there are no valid axes available
         }
-        if (d instanceof GridDataSet) {
-            return Stream.empty(); // TODO: correct impl for grid data sets
-        }
-        // get the screen x coordinates and dataset indices between which points can be in picking distance
-        final double xMin = xAxis.getValueForDisplay(mouseLocation.getX() - getPickingDistance());
-        final double xMax = xAxis.getValueForDisplay(mouseLocation.getX() + getPickingDistance());
         final boolean sorted = r instanceof ErrorDataSetRenderer && ((ErrorDataSetRenderer) r).isAssumeSortedData();
-        final int minIdx = sorted ? Math.max(0, d.getIndex(DataSet.DIM_X, xMin) - 1) : 0;
-        final int maxIdx = sorted ? Math.min(d.getDataCount(), d.getIndex(DataSet.DIM_X, xMax) + 1) : d.getDataCount();
-        return IntStream.range(minIdx, maxIdx) // loop over all candidate points
-                .mapToObj(i -> getDataPointFromDataSet(r, d, i, xAxis, yAxis, mouseLocation)) // get points with distance to mouse
-                .filter(p -> p.distanceFromMouse <= getPickingDistance()); // filter out points which are too far away
+        if (sorted && !(d instanceof GridDataSet)) {
+            // get the screen x coordinates and dataset indices between which points can be in picking distance
+            final double xMin = xAxis.getValueForDisplay(mouseLocation.getX() - getPickingDistance());
+            final double xMax = xAxis.getValueForDisplay(mouseLocation.getX() + getPickingDistance());
+            final int minIdx = Math.max(0, d.getIndex(DataSet.DIM_X, xMin) - 1);
+            final int maxIdx = Math.min(d.getDataCount(), d.getIndex(DataSet.DIM_X, xMax) + 1);
+            return IntStream.range(minIdx, maxIdx) // loop over all candidate points
+                    .mapToObj(i -> getDataPointFromDataSet(r, d, i, xAxis, yAxis, mouseLocation)) // get points with distance to mouse
+                    .filter(p -> p.distanceFromMouse <= getPickingDistance()); // filter out points which are too far away
+        }
+        // unsorted or grid data: N.B. only the nearest point of each data set can be the nearest point overall
+        final DataSetPickingIndex index = DataSetPickingIndex.get(d);
+        final int nearest = index.getNearest(d, xAxis, yAxis, mouseLocation.getX(), mouseLocation.getY(), getPickingDistance());
+        if (nearest < 0) {
+            return Stream.empty();
+        }
+        final DataPoint point = d instanceof GridDataSet ? getDataPointFromGridDataSet(r, (GridDataSet) d, nearest) : new DataPoint(r, d.get(DataSet.DIM_X, nearest), d.get(DataSet.DIM_Y, nearest), getDataLabelSafe(d, nearest));
+        point.distanceFromMouse = index.getLastDistance();
+        return Stream.of(point);
     }
 
     private DataPoint getDataPointFromDataSet(final Renderer renderer, final DataSet d, final int i, final Axis xAxis, final Axis yAxis, final Point2D mouseLocation) {
@@ -139,6 +148,15 @@ public class DataPointTooltip extends AbstractDataFormattingPlugin {
         return point;
     }
 
+    private DataPoint getDataPointFromGridDataSet(final Renderer renderer, final GridDataSet d, final int linearIndex) {
+        final int nx = d.getShape(DataSet.DIM_X);
+        final int ix = linearIndex % nx;
+        final int iy = linearIndex / nx;
+        final double z = d.get(DataSet.DIM_Z, ix, iy);
+        final String label = String.format("%s [%d, %d] = %s", d.getName(), ix, iy, z);
+        return new DataPoint(renderer, d.getGrid(DataSet.DIM_X, ix), d.getGrid(DataSet.DIM_Y, iy), label);
+    }
+
     private String formatDataPoint(final DataPoint dataPoint) {
         return formatData(dataPoint.renderer, new Tuple<>(dataPoint.x, dataPoint.y));
     }
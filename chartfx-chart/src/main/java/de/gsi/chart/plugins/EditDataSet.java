@@ -50,6 +50,7 @@ import de.gsi.chart.Chart;
 import de.gsi.chart.XYChart;
 import de.gsi.chart.axes.Axis;
 import de.gsi.chart.renderer.Renderer;
+import de.gsi.chart.utils.DataSetPickingIndex;
 import de.gsi.chart.utils.FXUtils;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.EditConstraints;
@@ -288,32 +289,21 @@ public class EditDataSet extends TableViewer {
             }
             final EditableDataSet dataSet = (EditableDataSet) ds;
 
-            final int indexMin = Math.max(0, ds.getIndex(DataSet.DIM_X, xAxis.getValueForDisplay(xMinScreen)));
-            final int indexMax = Math.min(ds.getIndex(DataSet.DIM_X, xAxis.getValueForDisplay(xMaxScreen)) + 1,
-                    ds.getDataCount());
-
-            // N.B. (0,0) screen coordinate is in the top left corner vs. normal
-            // 0,0 in the bottom left -> need to invert limits
-            final double yMax = yAxis.getValueForDisplay(yMinScreen);
-            final double yMin = yAxis.getValueForDisplay(yMaxScreen);
-
             final ConcurrentHashMap<Integer, SelectedDataPoint> dataSetHashMap = markedPoints.computeIfAbsent(dataSet,
                     k -> new ConcurrentHashMap<>());
-            for (int i = indexMin; i < indexMax; i++) {
-                final double y = dataSet.get(DataSet.DIM_Y, i);
-                if ((y >= yMin) && (y <= yMax)) {
-                    if (isShiftDown()) {
-                        // add if not existing/remove if existing
-                        if (dataSetHashMap.get(i) != null) {
-                            dataSetHashMap.remove(i);
-                        } else {
-                            dataSetHashMap.put(i, new SelectedDataPoint(xAxis, yAxis, dataSet, i));
-                        }
+            // N.B. selection in display coordinates also covers data sets that are not sorted in x
+            DataSetPickingIndex.get(dataSet).forEachInside(dataSet, xAxis, yAxis, xMinScreen, yMinScreen, xMaxScreen, yMaxScreen, i -> {
+                if (isShiftDown()) {
+                    // add if not existing/remove if existing
+                    if (dataSetHashMap.get(i) != null) {
+                        dataSetHashMap.remove(i);
                     } else {
                         dataSetHashMap.put(i, new SelectedDataPoint(xAxis, yAxis, dataSet, i));
                     }
+                } else {
+                    dataSetHashMap.put(i, new SelectedDataPoint(xAxis, yAxis, dataSet, i));
                 }
-            }
+            });
         }
     }
 
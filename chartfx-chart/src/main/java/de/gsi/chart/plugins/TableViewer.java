@@ -6,6 +6,8 @@ import static de.gsi.dataset.DataSet.DIM_Y;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -55,6 +57,9 @@ import de.gsi.dataset.EditableDataSet;
 import de.gsi.dataset.event.EventListener;
 import de.gsi.dataset.event.UpdateEvent;
 
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntRBTreeSet;
+
 /**
  * Displays the all visible data sets inside a table on demand. Implements copy-paste functionality into system
  * clip-board and *.csv file export to allow further processing in other applications. Also enables editing of values if
@@ -172,6 +177,17 @@ public class TableViewer extends ChartPlugin {
         Clipboard.getSystemClipboard().setContent(content);
     }
 
+    /**
+     * Writes the (selected) table data in csv format row-by-row to the given writer, i.e. without building an
+     * intermediate String for the whole table.
+     *
+     * @param writer the destination of the csv data
+     * @throws IOException in case the data could not be written
+     */
+    public void writeSelectedData(final Writer writer) throws IOException {
+        dsModel.writeSelectedData(table.getSelectionModel(), writer);
+    }
+
     /**
      * Show a FileChooser and export the (selected) Table Data to the choosen .csv File.
      */
@@ -181,10 +197,9 @@ public class TableViewer extends ChartPlugin {
         if (save == null) {
             return;
         }
-        final String data = dsModel.getSelectedData(table.getSelectionModel());
         try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(save.getPath() + ".csv"),
                      StandardCharsets.UTF_8)) {
-            writer.write(data);
+            writeSelectedData(writer);
         } catch (IOException ex) {
             LOGGER.atError().setCause(ex).log("error while exporting data to csv");
         }
@@ -275,20 +290,34 @@ public class TableViewer extends ChartPlugin {
      * screen are allocated and new elements are generated onDemand using Cell Factories. Also generates the column
      * Objects for the TableView and subscribes Change Listeners to update the Table whenever the datasets change or new
      * Datasets are added
+     * <p>
+     * N.B. Data set updates are coalesced: at most one update is queued on the JavaFX thread at any time and pure data
+     * updates (i.e. same data sets) only re-render the visible rows rather than re-building the columns. Cell values
+     * are formatted on demand for the visible cells only.
      * 
      * @author akrimm
      */
     protected class DataSetsModel extends ObservableListBase<DataSetsRow> {
         protected static final double DEFAULT_COL_WIDTH = 150;
+        private static final int EXPORT_LINE_CAPACITY = 256;
         private int nRows;
         private final ObservableList<TableColumn<DataSetsRow, ?>> columns = FXCollections.observableArrayList();
+        private final List<DataSet> shownDataSets = new ArrayList<>();
 
         private long lastColumnUpdate = 0;
         private final AtomicBoolean columnUpdateScheduled = new AtomicBoolean(false);
+        private final AtomicBoolean dataUpdatePending = new AtomicBoolean(false);
 
         private final ListChangeListener<Renderer> rendererChangeListener = this::rendererChanged;
         private final InvalidationListener datasetChangeListener = this::datasetsChanged;
-        private final EventListener dataSetDataUpdateListener = (UpdateEvent evt) -> FXUtils.runFX(() -> this.datasetsChanged(null));
+        private final EventListener dataSetDataUpdateListener = (UpdateEvent evt) -> {
+            if (dataUpdatePending.compareAndSet(false, true)) {
+                FXUtils.runFX(() -> {
+                    dataUpdatePending.set(false);
+                    this.datasetsChanged(null);
+                });
+            }
+        };
         private TimerTask timerTask;
 
         public DataSetsModel() {
@@ -310,43 +339,14 @@ public class TableViewer extends ChartPlugin {
             if (getChart() == null) { // the plugin was removed from the chart
                 return;
             }
-            if (!table.isVisible()) {
+            if (!table.isVisible() || table.getParent() == null) {
+                // table is not shown -- will be updated once it is added to the chart or its data is exported
                 return;
             }
-            long now = System.currentTimeMillis();
-            if (now - lastColumnUpdate > refreshRate.get()) {
-                List<DataSet> columnsUpdated = getChart().getAllDatasets().stream().sorted(Comparator.comparing(DataSet::getName)).collect(Collectors.toList());
-                int nRowsNew = 0;
-                for (int i = 0; i < columns.size() - 1 || i < columnsUpdated.size(); i++) {
-                    if (i > MAX_DATASETS_IN_TABLE) {
-                        LOGGER.atWarn().addArgument(columnsUpdated.size()).log("Limiting number of DataSets shown in Table, chart has {} DataSets.");
-                        break;
-                    }
-                    if (i < columnsUpdated.size()) {
-                        if (i >= columns.size() - 1) {
-                            columns.add(new DataSetTableColumns());
-                        }
-                        DataSet ds = columnsUpdated.get(i);
-                        ds.removeListener(dataSetDataUpdateListener);
-                        ds.addListener(dataSetDataUpdateListener);
-                        ((DataSetTableColumns) columns.get(i + 1)).update(ds);
-                        nRowsNew = Math.max(nRowsNew, ds.getDataCount());
-                    } else {
-                        ((DataSetTableColumns) columns.get(i + 1)).update(null);
-                    }
-                }
-                lastColumnUpdate = now;
-                if (nRows != nRowsNew) {
-                    // Workaround, let the selection model realize, that the number of cols has changed
-                    // in the process the selection is lost
-                    nRows = nRowsNew;
-                    table.setItems(null);
-                    table.setItems(dsModel);
-                } else {
-                    table.refresh();
-                }
+            if (System.currentTimeMillis() - lastColumnUpdate > refreshRate.get()) {
+                updateColumns();
             } else {
-                if (columnUpdateScheduled.compareAndExchange(false, true)) {
+                if (columnUpdateScheduled.compareAndSet(false, true)) {
                     timerTask = new TimerTask() {
                         @Override
                         public void run() {
@@ -401,44 +401,111 @@ public class TableViewer extends ChartPlugin {
         }
 
         protected String getAllData() {
-            final StringBuilder sb = new StringBuilder();
-            sb.append('#');
+            final StringWriter writer = new StringWriter();
+            try {
+                writeAllData(writer);
+            } catch (IOException e) { // NOPMD -- cannot happen for a StringWriter
+                throw new IllegalStateException(e);
+            }
+            return writer.toString();
+        }
+
+        public ObservableList<TableColumn<DataSetsRow, ?>> getColumns() {
+            return columns;
+        }
+
+        protected String getSelectedData(final TableViewSelectionModel<DataSetsRow> selModel) {
+            final StringWriter writer = new StringWriter();
+            try {
+                writeSelectedData(selModel, writer);
+            } catch (IOException e) { // NOPMD -- cannot happen for a StringWriter
+                throw new IllegalStateException(e);
+            }
+            return writer.toString();
+        }
+
+        protected void writeAllData(final Writer writer) throws IOException {
+            final List<DataSetTableColumn> activeColumns = new ArrayList<>();
+            RowIndexHeaderTableColumn indexColumn = null;
+            final StringBuilder line = new StringBuilder(EXPORT_LINE_CAPACITY);
+            line.append('#');
             int dataSetNo = 0;
             for (TableColumn<DataSetsRow, ?> col : columns) {
                 if (col instanceof DataSetTableColumns && col.isVisible()) {
                     dataSetNo++;
                     for (TableColumn<DataSetsRow, ?> subcol : col.getColumns()) {
                         if (subcol instanceof DataSetTableColumn && ((DataSetTableColumn) subcol).active) {
-                            sb.append(subcol.getText()).append(dataSetNo).append(", ");
+                            line.append(subcol.getText()).append(dataSetNo).append(", ");
+                            activeColumns.add((DataSetTableColumn) subcol);
                         }
                     }
+                } else if (col instanceof RowIndexHeaderTableColumn) {
+                    indexColumn = (RowIndexHeaderTableColumn) col;
                 }
             }
-            sb.setCharAt(sb.length() - 2, '\n');
-            sb.deleteCharAt(sb.length() - 1);
+            writeLine(writer, line);
             for (int r = 0; r < nRows; r++) {
-                for (TableColumn<DataSetsRow, ?> col : columns) {
-                    if (col instanceof DataSetTableColumns && col.isVisible()) {
-                        for (TableColumn<DataSetsRow, ?> subcol : col.getColumns()) {
-                            if (subcol instanceof DataSetTableColumn && ((DataSetTableColumn) subcol).active) {
-                                sb.append(((DataSetTableColumn) subcol).getValue(r)).append(", ");
-                            }
-                        }
-                    } else if (col instanceof RowIndexHeaderTableColumn) {
-                        sb.append(col.getCellData(r)).append(", ");
-                    }
+                if (indexColumn != null) {
+                    line.append(r).append(", ");
                 }
-                sb.setCharAt(sb.length() - 2, '\n');
-                sb.deleteCharAt(sb.length() - 1);
+                for (final DataSetTableColumn col : activeColumns) {
+                    line.append(col.getValue(r)).append(", ");
+                }
+                writeLine(writer, line);
             }
-            return sb.toString();
         }
 
-        public ObservableList<TableColumn<DataSetsRow, ?>> getColumns() {
-            return columns;
+        /**
+         * (re-)builds the columns and the row count for the data sets currently attached to the chart
+         */
+        private void updateColumns() {
+            List<DataSet> columnsUpdated = getChart().getAllDatasets().stream().sorted(Comparator.comparing(DataSet::getName)).collect(Collectors.toList());
+            int nRowsNew = 0;
+            if (isSameDataSets(columnsUpdated)) {
+                // pure data update: keep columns (and their user-defined widths), only the row count may change
+                for (final DataSet ds : shownDataSets) {
+                    nRowsNew = Math.max(nRowsNew, ds.getDataCount());
+                }
+            } else {
+                shownDataSets.clear();
+                for (int i = 0; i < columns.size() - 1 || i < columnsUpdated.size(); i++) {
+                    if (i > MAX_DATASETS_IN_TABLE) {
+                        LOGGER.atWarn().addArgument(columnsUpdated.size()).log("Limiting number of DataSets shown in Table, chart has {} DataSets.");
+                        break;
+                    }
+                    if (i < columnsUpdated.size()) {
+                        if (i >= columns.size() - 1) {
+                            columns.add(new DataSetTableColumns());
+                        }
+                        DataSet ds = columnsUpdated.get(i);
+                        ds.removeListener(dataSetDataUpdateListener);
+                        ds.addListener(dataSetDataUpdateListener);
+                        ((DataSetTableColumns) columns.get(i + 1)).update(ds);
+                        shownDataSets.add(ds);
+                        nRowsNew = Math.max(nRowsNew, ds.getDataCount());
+                    } else {
+                        ((DataSetTableColumns) columns.get(i + 1)).update(null);
+                    }
+                }
+            }
+            lastColumnUpdate = System.currentTimeMillis();
+            if (nRows != nRowsNew) {
+                // Workaround, let the selection model realize, that the number of cols has changed
+                // in the process the selection is lost
+                nRows = nRowsNew;
+                table.setItems(null);
+                table.setItems(dsModel);
+            } else {
+                // re-renders the visible cells only
+                table.refresh();
+            }
         }
 
-        protected String getSelectedData(final TableViewSelectionModel<DataSetsRow> selModel) {
+        protected void writeSelectedData(final TableViewSelectionModel<DataSetsRow> selModel, final Writer writer) throws IOException {
+            if (getChart() != null && (!table.isVisible() || table.getParent() == null)) {
+                // columns are not kept up-to-date while the table is not shown
+                updateColumns();
+            }
             // Construct a sorted Set/Map with all the selected columns.
             // This means, that if you select (1,1) and (4,5), (1,5) and (4,1)
             // will also be exported.
@@ -447,34 +514,33 @@ public class TableViewer extends ChartPlugin {
             @SuppressWarnings("rawtypes") // getSelectedCells returns raw type
             final ObservableList<TablePosition> selected = selModel.getSelectedCells();
             if (selected.isEmpty()) {
-                return getAllData();
+                writeAllData(writer);
+                return;
             }
-            final TreeSet<Integer> rows = new TreeSet<>();
+            final IntRBTreeSet rows = new IntRBTreeSet();
             final TreeMap<Integer, TableColumn<DataSetsRow, ?>> cols = new TreeMap<>();
             for (final TablePosition<DataSetsRow, ?> cell : selected) {
                 cols.put(cell.getColumn(), cell.getTableColumn());
                 rows.add(cell.getRow());
             }
-            // Generate a string from the selected data
-            StringBuilder sb = new StringBuilder();
-            sb.append('#');
+            // Generate the csv lines from the selected data
+            final StringBuilder line = new StringBuilder(EXPORT_LINE_CAPACITY);
+            line.append('#');
             for (final Map.Entry<Integer, TableColumn<DataSetsRow, ?>> col : cols.entrySet()) {
-                sb.append(col.getValue().getText()).append(", ");
+                line.append(col.getValue().getText()).append(", ");
             }
-            sb.setCharAt(sb.length() - 2, '\n');
-            sb.deleteCharAt(sb.length() - 1);
-            for (final int r : rows) {
+            writeLine(writer, line);
+            for (final IntIterator it = rows.iterator(); it.hasNext();) {
+                final int r = it.nextInt();
                 for (final Map.Entry<Integer, TableColumn<DataSetsRow, ?>> col : cols.entrySet()) {
                     if (col.getValue() instanceof DataSetTableColumn) {
-                        sb.append(((DataSetTableColumn) col.getValue()).getValue(r)).append(", ");
+                        line.append(((DataSetTableColumn) col.getValue()).getValue(r)).append(", ");
                     } else {
-                        sb.append(col.getValue().getCellData(r)).append(", ");
+                        line.append(col.getValue().getCellData(r)).append(", ");
                     }
                 }
-                sb.setCharAt(sb.length() - 2, '\n');
-                sb.deleteCharAt(sb.length() - 1);
+                writeLine(writer, line);
             }
-            return sb.toString();
         }
 
         public double getValue(final int row, final DataSet ds, final ColumnType type) {
@@ -533,6 +599,28 @@ public class TableViewer extends ChartPlugin {
             return nRows;
         }
 
+        private boolean isSameDataSets(final List<DataSet> dataSets) {
+            if (dataSets.size() != shownDataSets.size()) {
+                return false;
+            }
+            for (int i = 0; i < dataSets.size(); i++) {
+                if (dataSets.get(i) != shownDataSets.get(i)) { // N.B. identity rather than content-based equality
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void writeLine(final Writer writer, final StringBuilder line) throws IOException {
+            // replaces the trailing ", " separator by a line break
+            if (line.length() >= 2) {
+                line.setLength(line.length() - 2);
+            }
+            line.append('\n');
+            writer.append(line);
+            line.setLength(0);
+        }
+
         /**
          * A Column representing an actual colum displaying Double values from a DataSet.
          *
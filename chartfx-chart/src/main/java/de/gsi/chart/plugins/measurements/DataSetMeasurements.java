@@ -14,9 +14,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.Timer;
-import java.util.TimerTask;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import javafx.beans.property.BooleanProperty;
@@ -62,7 +62,9 @@ import de.gsi.dataset.GridDataSet;
 import de.gsi.dataset.event.EventListener;
 import de.gsi.dataset.event.EventRateLimiter.UpdateStrategy;
 import de.gsi.dataset.event.UpdateEvent;
+import de.gsi.dataset.event.UpdatedDataEvent;
 import de.gsi.dataset.spi.LimitedIndexedTreeDataSet;
+import de.gsi.dataset.utils.CachedDaemonThreadFactory;
 import de.gsi.dataset.utils.ProcessingProfiler;
 import de.gsi.math.DataSetMath;
 import de.gsi.math.DataSetMath.Filter;
@@ -71,6 +73,15 @@ import de.gsi.math.MathDataSet;
 import de.gsi.math.MathDataSet.DataSetsFunction;
 import de.gsi.math.MultiDimDataSetMath;
 
+/**
+ * Measurement deriving a new DataSet (e.g. FFT, filter, integral, trending, ...) from one or more source DataSets.
+ * <p>
+ * N.B. the (potentially expensive) computations are executed on the bounded shared
+ * {@link CachedDaemonThreadFactory#getCommonPool() common pool}. Update requests that arrive while a computation is
+ * pending or running are coalesced into a single re-computation, i.e. at most one computation per measurement is
+ * in flight and superseded intermediate states are skipped. The results are published atomically to the output
+ * DataSet (i.e. under its write lock and followed by a single update event).
+ */
 public class DataSetMeasurements extends AbstractChartMeasurement {
     private static final Logger LOGGER = LoggerFactory.getLogger(DataSetMeasurements.class);
     private static final long MIN_FFT_BINS = 4;
@@ -97,8 +108,12 @@ public class DataSetMeasurements extends AbstractChartMeasurement {
     protected final boolean isTrending;
     protected final LimitedIndexedTreeDataSet trendingDataSet;
     private final MathDataSet mathDataSet;
+    private final AtomicInteger updateRequests = new AtomicInteger();
+    private final AtomicReference<UpdateEvent> lastUpdateEvent = new AtomicReference<>();
+    private final List<DataSet> listenedSourceDataSets = new ArrayList<>();
 
     protected final ChangeListener<? super Number> delayedUpdateListener = (obs, o, n) -> delayedUpdate();
+    protected final EventListener sourceUpdateListener = evt -> delayedUpdate();
     protected final ChangeListener<Chart> localChartChangeListener = (obs, o, n) -> {
         if (o != null) {
             o.getRenderers().remove(renderer);
@@ -208,6 +223,13 @@ public class DataSetMeasurements extends AbstractChartMeasurement {
 
     @Override
     public void handle(final UpdateEvent event) {
+        if (event != null) {
+            lastUpdateEvent.set(event);
+        }
+        delayedUpdate();
+    }
+
+    protected void updateMeasurement() {
         if (getValueIndicatorsUser().size() < measType.requiredSelectors) {
             // not yet initialised
             return;
@@ -218,19 +240,28 @@ public class DataSetMeasurements extends AbstractChartMeasurement {
 
         final long start = System.nanoTime();
 
-        if (isTrending) {
-            // update with parameter measurement
-            final ObservableList<AbstractChartMeasurement> measurements = measurementSelector.getSelectedChartMeasurements();
-            if (!measurements.isEmpty()) {
-                final AbstractChartMeasurement firstMeasurement = measurements.get(0);
-                final ArrayList<DataSet> list = new ArrayList<>();
-                list.add(firstMeasurement.getDataSet());
-                transform(list, mathDataSet);
-            }
-        } else {
-            // force MathDataSet update
-            transform(mathDataSet.getSourceDataSets(), mathDataSet);
+        final boolean notify = mathDataSet.autoNotification().getAndSet(false);
+        try {
+            mathDataSet.lock().writeLockGuard(() -> {
+                if (isTrending) {
+                    // update with parameter measurement
+                    final ObservableList<AbstractChartMeasurement> measurements = measurementSelector.getSelectedChartMeasurements();
+                    if (!measurements.isEmpty()) {
+                        final AbstractChartMeasurement firstMeasurement = measurements.get(0);
+                        final ArrayList<DataSet> list = new ArrayList<>();
+                        list.add(firstMeasurement.getDataSet());
+                        transform(list, mathDataSet);
+                    }
+                } else {
+                    // force MathDataSet update
+                    transform(mathDataSet.getSourceDataSets(), mathDataSet);
+                }
+            });
+        } finally {
+            mathDataSet.autoNotification().set(notify);
         }
+        // publish the new state of the output data set in one go
+        mathDataSet.fireInvalidated(new UpdatedDataEvent(mathDataSet, "updated " + measType.getName()));
 
         final long now = System.nanoTime();
         final double val = TimeUnit.NANOSECONDS.toMillis(now - start);
@@ -239,6 +270,7 @@ public class DataSetMeasurements extends AbstractChartMeasurement {
         FXUtils.runFX(() -> getValueField().setUnit("ms"));
         FXUtils.runFX(() -> getValueField().setValue(val));
 
+        final UpdateEvent event = lastUpdateEvent.getAndSet(null);
         if (event != null) {
             // republish updateEvent
             invokeListener(event);
@@ -383,13 +415,28 @@ public class DataSetMeasurements extends AbstractChartMeasurement {
         delayedUpdate();
     }
 
+    /**
+     * Requests an asynchronous re-computation of the measurement. Requests that arrive while a computation is pending or
+     * running are coalesced into a single re-computation.
+     */
     protected void delayedUpdate() {
-        new Timer(DataSetMeasurements.class.toString(), true).schedule(new TimerTask() {
-            @Override
-            public void run() {
-                handle(null);
+        if (updateRequests.getAndIncrement() == 0) {
+            // no computation in flight -- N.B. shared bounded pool rather than a new thread per request
+            CachedDaemonThreadFactory.getCommonPool().execute(this::processUpdateRequests);
+        }
+    }
+
+    private void processUpdateRequests() {
+        int requests;
+        do {
+            requests = updateRequests.get();
+            try {
+                updateMeasurement();
+            } catch (final Exception e) { // NOPMD -- keep the request accounting consistent
+                LOGGER.atError().setCause(e).addArgument(measType).log("error while updating measurement {}");
             }
-        }, 0);
+            // requests that arrived during the computation are served by (one) further iteration
+        } while (updateRequests.addAndGet(-requests) > 0);
     }
 
     protected String getDataSetsAsStringList(final List<DataSet> list) {
@@ -418,13 +465,22 @@ public class DataSetMeasurements extends AbstractChartMeasurement {
 
             mathDataSet.setName(new StringBuilder().append(measType.getName()).append(dataSetsNames).toString());
 
+            // N.B. the source updates are routed through the coalescing scheduler rather than the MathDataSet's own
+            // (synchronous) listener to avoid computing the same transform twice
             mathDataSet.deregisterListener();
             mathDataSet.getSourceDataSets().clear();
             mathDataSet.getSourceDataSets().addAll(dataSets);
-            mathDataSet.registerListener();
+            removeSourceUpdateListener();
+            dataSets.forEach(dataSet -> dataSet.addListener(sourceUpdateListener));
+            listenedSourceDataSets.addAll(dataSets);
         }
     }
 
+    private void removeSourceUpdateListener() {
+        listenedSourceDataSets.forEach(dataSet -> dataSet.removeListener(sourceUpdateListener));
+        listenedSourceDataSets.clear();
+    }
+
     @Override
     protected void nominalAction() {
         super.nominalAction();
@@ -450,6 +506,7 @@ public class DataSetMeasurements extends AbstractChartMeasurement {
     @Override
     protected void removeAction() {
         super.removeAction();
+        removeSourceUpdateListener();
         removeRendererFromOldChart();
     }
 
@@ -23,22 +23,31 @@ import de.gsi.chart.plugins.ParameterMeasurements;
 import de.gsi.chart.utils.DragResizerUtil;
 import de.gsi.chart.utils.FXUtils;
 import de.gsi.dataset.DataSet;
+import de.gsi.dataset.event.AddedDataEvent;
 import de.gsi.dataset.event.UpdateEvent;
 import de.gsi.math.SimpleDataSetEstimators;
+import de.gsi.math.StreamingDataSetEstimators;
 
 /**
  * Simple DataSet parameter measurements N.B. this contains only algorithms w/o
  * external library dependencies (ie. fitting routines, etc.)
+ * <p>
+ * The minimum, maximum, range, mean, r.m.s. and median measurements are updated incrementally via
+ * {@link StreamingDataSetEstimators} if data has only been appended to the data set or only the markers moved. The
+ * results are the same as for the corresponding {@link SimpleDataSetEstimators} except that non-finite samples are
+ * ignored by the r.m.s. and median.
  *
  * @author rstein
  */
 public class SimpleMeasurements extends AbstractChartMeasurement {
     private static final Logger LOGGER = LoggerFactory.getLogger(SimpleMeasurements.class);
     private final MeasurementType measType;
+    private final StreamingDataSetEstimators streamingEstimators;
 
     public SimpleMeasurements(final ParameterMeasurements plugin, final MeasurementType measType) {
         super(plugin, measType.toString(), measType.isVertical ? X : Y, measType.getRequiredSelectors(), 1);
         this.measType = measType;
+        streamingEstimators = measType.isStreaming() ? new StreamingDataSetEstimators(measType == MeasurementType.MEDIAN) : null;
 
         setTitle(measType.toString());
         getValueField().setMinRange(DEFAULT_MIN).setMaxRange(DEFAULT_MAX);
@@ -61,6 +70,8 @@ public class SimpleMeasurements extends AbstractChartMeasurement {
 
         final double newValueMarker1 = requiredNumberOfIndicators >= 1 && !getValueIndicatorsUser().isEmpty() ? getValueIndicatorsUser().get(0).getValue() : DEFAULT_MIN;
         final double newValueMarker2 = requiredNumberOfIndicators >= 2 && getValueIndicatorsUser().size() >= 2 ? getValueIndicatorsUser().get(1).getValue() : DEFAULT_MAX;
+        // N.B. data has either been appended or not changed at all (ie. only the markers moved)
+        final boolean dataAppendedOnly = event instanceof AddedDataEvent || (event != null && event.getSource() != ds);
 
         ds.lock().readLockGuard(() -> {
             if (!ds.getAxisDescription(DataSet.DIM_X).isDefined()) {
@@ -107,22 +118,22 @@ public class SimpleMeasurements extends AbstractChartMeasurement {
                 break;
             // vertical measurements
             case MINIMUM:
-                val = SimpleDataSetEstimators.getMinimum(ds, indexMin, indexMax);
+                val = getStreamingEstimate(ds, indexMin, indexMax, dataAppendedOnly);
                 break;
             case MAXIMUM:
-                val = SimpleDataSetEstimators.getMaximum(ds, indexMin, indexMax);
+                val = getStreamingEstimate(ds, indexMin, indexMax, dataAppendedOnly);
                 break;
             case RANGE:
-                val = SimpleDataSetEstimators.getRange(ds, indexMin, indexMax);
+                val = getStreamingEstimate(ds, indexMin, indexMax, dataAppendedOnly);
                 break;
             case MEAN:
-                val = SimpleDataSetEstimators.getMean(ds, indexMin, indexMax);
+                val = getStreamingEstimate(ds, indexMin, indexMax, dataAppendedOnly);
                 break;
             case RMS:
-                val = SimpleDataSetEstimators.getRms(ds, indexMin, indexMax);
+                val = getStreamingEstimate(ds, indexMin, indexMax, dataAppendedOnly);
                 break;
             case MEDIAN:
-                val = SimpleDataSetEstimators.getMedian(ds, indexMin, indexMax);
+                val = getStreamingEstimate(ds, indexMin, indexMax, dataAppendedOnly);
                 break;
             case INTEGRAL:
                 // N.B. use of non-sanitised indices index[0,1]
@@ -219,6 +230,29 @@ public class SimpleMeasurements extends AbstractChartMeasurement {
         }
     }
 
+    private double getStreamingEstimate(final DataSet ds, final int indexMin, final int indexMax, final boolean dataAppendedOnly) {
+        synchronized (streamingEstimators) {
+            streamingEstimators.update(ds, indexMin, indexMax, dataAppendedOnly);
+            switch (measType) {
+            case MINIMUM:
+                // N.B. same as SimpleDataSetEstimators for windows without finite samples
+                return streamingEstimators.getCount() == 0 ? Double.MAX_VALUE : streamingEstimators.getMinimum();
+            case MAXIMUM:
+                return streamingEstimators.getCount() == 0 ? -Double.MAX_VALUE : streamingEstimators.getMaximum();
+            case RANGE:
+                return streamingEstimators.getRange();
+            case MEAN:
+                return streamingEstimators.getMean();
+            case RMS:
+                return streamingEstimators.getRms();
+            case MEDIAN:
+                return streamingEstimators.getMedian();
+            default:
+                return Double.NaN;
+            }
+        }
+    }
+
     @Override
     public void initialize() {
         getDataViewWindow().setContent(getValueField());
@@ -335,6 +369,23 @@ public class SimpleMeasurements extends AbstractChartMeasurement {
             return isVertical;
         }
 
+        /**
+         * @return whether the measurement is computed incrementally via {@link StreamingDataSetEstimators}
+         */
+        public boolean isStreaming() {
+            switch (this) {
+            case MINIMUM:
+            case MAXIMUM:
+            case RANGE:
+            case MEAN:
+            case RMS:
+            case MEDIAN:
+                return true;
+            default:
+                return false;
+            }
+        }
+
         public String getName() {
             return name;
         }
@@ -0,0 +1,484 @@
+package de.gsi.chart.renderer.datareduction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.event.AxisChangeEvent;
+import de.gsi.dataset.event.EventListener;
+import de.gsi.dataset.event.UpdateEvent;
+import de.gsi.dataset.utils.CachedDaemonThreadFactory;
+
+/**
+ * Multi-resolution min/max/mean image pyramid of the z-values of a 2D {@link GridDataSet}, similar to map tiles.
+ * <p>
+ * Level {@code k} (k = 1 .. {@link #getLevelCount()}) reduces blocks of {@code 2^k x 2^k} raw grid points into one cell,
+ * level '0' denotes the raw data. Each level is partitioned into square tiles of {@code tileSize x tileSize} cells that
+ * are computed lazily on first access (from the next-finer level if its tiles are cached, from the raw data otherwise)
+ * and kept in a bounded LRU cache. Thus, panning and zooming a very large grid costs -- once the visible tiles are
+ * cached -- only the copying of the visible cells, independent of the grid size.
+ * <p>
+ * Cached tiles are invalidated lazily: any data set update invalidates all tiles except when the event carries an
+ * {@code int[] { xMin, xMax, yMin, yMax }} pay-load with the (inclusive) changed grid index range, in which case only
+ * the intersecting tiles are recomputed on their next access. Non-finite values are ignored by the reduction. N.B.
+ * reduced values are stored as {@code float} to limit the memory footprint.
+ */
+public class GridDataSetPyramid implements EventListener {
+    public static final int DEFAULT_TILE_SIZE = 128;
+    public static final int DEFAULT_MAX_TILES = 256;
+    private static final String PARALLEL_WORKER_ERROR = "one parallel worker thread finished execution with error";
+    private static final int MAX_LEVEL = 30;
+    private final GridDataSet dataSet;
+    private final int dimZ;
+    private final int tileSize;
+    private final int maxTiles;
+    private final AtomicInteger generation = new AtomicInteger(); // incremented on full invalidation
+    private final AtomicInteger modCount = new AtomicInteger(); // incremented on any invalidation
+    private final Map<Long, Tile> tiles; // LRU-ordered tile cache, guarded by itself
+    private int width;
+    private int height;
+    private int nLevels;
+
+    /**
+     * @param dataSet 2D grid data set to be reduced
+     */
+    public GridDataSetPyramid(final GridDataSet dataSet) {
+        this(dataSet, DEFAULT_TILE_SIZE, DEFAULT_MAX_TILES);
+    }
+
+    /**
+     * @param dataSet 2D grid data set to be reduced
+     * @param tileSize number of cells per tile in each dimension
+     * @param maxTiles maximum number of cached tiles
+     */
+    public GridDataSetPyramid(final GridDataSet dataSet, final int tileSize, final int maxTiles) {
+        if (dataSet.getNGrid() != 2) {
+            throw new IllegalArgumentException("pyramid supports only 2D grids but nGrid = " + dataSet.getNGrid());
+        }
+        if (tileSize < 2 || maxTiles < 1) {
+            throw new IllegalArgumentException("invalid tileSize = " + tileSize + " or maxTiles = " + maxTiles);
+        }
+        this.dataSet = dataSet;
+        this.dimZ = dataSet.getNGrid();
+        this.tileSize = tileSize;
+        this.maxTiles = maxTiles;
+        this.tiles = new LinkedHashMap<>(2 * maxTiles, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Long, Tile> eldest) {
+                return size() > GridDataSetPyramid.this.maxTiles;
+            }
+        };
+        checkShape();
+        dataSet.addListener(this);
+    }
+
+    /**
+     * Detaches the pyramid from its data set and drops all cached tiles.
+     */
+    public void dispose() {
+        dataSet.removeListener(this);
+        synchronized (tiles) {
+            tiles.clear();
+        }
+    }
+
+    /**
+     * Copies the reduced values of the given raw index range into {@code target}. The target is filled row-major with
+     * the cells {@code [xMin >> level, xMax >> level] x [yMin >> level, yMax >> level]} of the given level, i.e. it
+     * needs to hold at least {@link #getSize(int, int, int) getSize(level, xMin, xMax) * getSize(level, yMin, yMax)}
+     * values. Missing or invalidated tiles are computed in parallel. N.B. the read-lock of the data set needs to be held
+     * by the caller.
+     *
+     * @param level pyramid level [1, {@link #getLevelCount()}]
+     * @param xMin minimum raw x index (inclusive)
+     * @param xMax maximum raw x index (inclusive)
+     * @param yMin minimum raw y index (inclusive)
+     * @param yMax maximum raw y index (inclusive)
+     * @param reductionType MIN, MAX, or AVERAGE (DOWN_SAMPLE is mapped to AVERAGE)
+     * @param target storage for the reduced values
+     */
+    public void fill(final int level, final int xMin, final int xMax, final int yMin, final int yMax, final ReductionType reductionType, final double[] target) {
+        checkShape();
+        if (level < 1 || level > nLevels) {
+            throw new IllegalArgumentException("level " + level + " out of range [1, " + nLevels + "]");
+        }
+        if (xMin < 0 || yMin < 0 || xMax >= width || yMax >= height || xMin > xMax || yMin > yMax) {
+            throw new IllegalArgumentException("index range [" + xMin + ", " + xMax + "] x [" + yMin + ", " + yMax + "] out of grid bounds " + width + " x " + height);
+        }
+        final int cxMin = xMin >> level;
+        final int cxMax = xMax >> level;
+        final int cyMin = yMin >> level;
+        final int cyMax = yMax >> level;
+        final int targetWidth = cxMax - cxMin + 1;
+        final int txMin = cxMin / tileSize;
+        final int txMax = cxMax / tileSize;
+        final int tyMin = cyMin / tileSize;
+        final int tyMax = cyMax / tileSize;
+
+        final Tile[] visible = new Tile[(txMax - txMin + 1) * (tyMax - tyMin + 1)];
+        final List<Callable<Boolean>> workers = new ArrayList<>();
+        for (int ty = tyMin; ty <= tyMax; ty++) {
+            for (int tx = txMin; tx <= txMax; tx++) {
+                final int index = (ty - tyMin) * (txMax - txMin + 1) + tx - txMin;
+                visible[index] = getCachedTile(level, tx, ty);
+                if (visible[index] == null) {
+                    final int txLocal = tx;
+                    final int tyLocal = ty;
+                    workers.add(() -> {
+                        visible[index] = computeTile(level, txLocal, tyLocal);
+                        return Boolean.TRUE;
+                    });
+                }
+            }
+        }
+        invokeAll(workers);
+
+        for (final Tile tile : visible) {
+            final float[] values = tile.getValues(reductionType);
+            final int x0 = Math.max(cxMin, tile.cx0);
+            final int x1 = Math.min(cxMax + 1, tile.cx0 + tile.width);
+            final int y0 = Math.max(cyMin, tile.cy0);
+            final int y1 = Math.min(cyMax + 1, tile.cy0 + tile.height);
+            for (int cy = y0; cy < y1; cy++) {
+                final int srcOffset = (cy - tile.cy0) * tile.width - tile.cx0;
+                final int dstOffset = (cy - cyMin) * targetWidth - cxMin;
+                for (int cx = x0; cx < x1; cx++) {
+                    target[dstOffset + cx] = values[srcOffset + cx];
+                }
+            }
+        }
+    }
+
+    /**
+     * @return number of currently cached tiles
+     */
+    public int getCachedTileCount() {
+        synchronized (tiles) {
+            return tiles.size();
+        }
+    }
+
+    /**
+     * @param reductionX number of raw x-indices per screen pixel
+     * @param reductionY number of raw y-indices per screen pixel
+     * @return the coarsest level that does not reduce by more than the given factors, '0' if no reduced level applies
+     */
+    public int getLevel(final double reductionX, final double reductionY) {
+        checkShape();
+        final double reduction = Math.min(reductionX, reductionY);
+        if (!(reduction >= 2.0)) {
+            return 0;
+        }
+        final int level = 31 - Integer.numberOfLeadingZeros((int) Math.min(reduction, Integer.MAX_VALUE));
+        return Math.min(level, nLevels);
+    }
+
+    /**
+     * @return number of reduced levels, the coarsest level consists of a single cell
+     */
+    public int getLevelCount() {
+        checkShape();
+        return nLevels;
+    }
+
+    /**
+     * @param level pyramid level
+     * @param min minimum raw index (inclusive)
+     * @param max maximum raw index (inclusive)
+     * @return number of level cells covering the raw index range
+     */
+    public static int getSize(final int level, final int min, final int max) {
+        return (max >> level) - (min >> level) + 1;
+    }
+
+    @Override
+    public void handle(final UpdateEvent event) {
+        if (event instanceof AxisChangeEvent) {
+            // axis description changes do not modify the grid values
+            return;
+        }
+        final Object payLoad = event.getPayLoad();
+        if (payLoad instanceof int[] && ((int[]) payLoad).length == 4) {
+            final int[] range = (int[]) payLoad;
+            invalidate(range[0], range[1], range[2], range[3]);
+            return;
+        }
+        invalidate();
+    }
+
+    /**
+     * invalidates all tiles, they are recomputed on their next access
+     */
+    public void invalidate() {
+        modCount.incrementAndGet();
+        generation.incrementAndGet();
+    }
+
+    /**
+     * invalidates all tiles that depend on the given raw index range, they are recomputed on their next access
+     *
+     * @param xMin minimum raw x index (inclusive)
+     * @param xMax maximum raw x index (inclusive)
+     * @param yMin minimum raw y index (inclusive)
+     * @param yMax maximum raw y index (inclusive)
+     */
+    public void invalidate(final int xMin, final int xMax, final int yMin, final int yMax) {
+        modCount.incrementAndGet();
+        synchronized (tiles) {
+            for (final Tile tile : tiles.values()) {
+                final int level = tile.level;
+                if ((xMax >> level) >= tile.cx0 && (xMin >> level) < tile.cx0 + tile.width //
+                        && (yMax >> level) >= tile.cy0 && (yMin >> level) < tile.cy0 + tile.height) {
+                    tile.stale = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the coarse levels that fit into half of the tile cache in the background, starting with the finest of
+     * these levels from the raw data (N.B. this reads the whole grid once).
+     *
+     * @return future of the background task
+     */
+    public Future<?> prefetch() {
+        return CachedDaemonThreadFactory.getCommonPool().submit(() -> {
+            checkShape();
+            int finest = nLevels;
+            int nTiles = getTileCount(finest);
+            while (finest > 1 && nTiles + getTileCount(finest - 1) <= maxTiles / 2) {
+                nTiles += getTileCount(finest - 1);
+                finest--;
+            }
+            for (int level = finest; level <= nLevels; level++) {
+                final int nx = (getLevelWidth(level) + tileSize - 1) / tileSize;
+                final int ny = (getLevelHeight(level) + tileSize - 1) / tileSize;
+                for (int ty = 0; ty < ny; ty++) {
+                    for (int tx = 0; tx < nx; tx++) {
+                        final int lvl = level;
+                        final int txLocal = tx;
+                        final int tyLocal = ty;
+                        if (getCachedTile(lvl, txLocal, tyLocal) == null) {
+                            dataSet.lock().readLockGuard(() -> computeTile(lvl, txLocal, tyLocal));
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private void checkShape() {
+        final int newWidth = dataSet.getShape(DataSet.DIM_X);
+        final int newHeight = dataSet.getShape(DataSet.DIM_Y);
+        synchronized (tiles) {
+            if (newWidth == width && newHeight == height) {
+                return;
+            }
+            tiles.clear();
+            width = newWidth;
+            height = newHeight;
+            final int size = Math.max(1, Math.max(width, height));
+            nLevels = 0;
+            while (nLevels < MAX_LEVEL && ((size - 1) >> nLevels) > 0) {
+                nLevels++;
+            }
+        }
+        invalidate();
+    }
+
+    private Tile computeTile(final int level, final int tx, final int ty) {
+        final int startGeneration = generation.get();
+        final int startModCount = modCount.get();
+        final int cx0 = tx * tileSize;
+        final int cy0 = ty * tileSize;
+        final Tile tile = new Tile(level, cx0, cy0, Math.min(tileSize, getLevelWidth(level) - cx0), Math.min(tileSize, getLevelHeight(level) - cy0), startGeneration);
+
+        final Tile[] children = level > 1 ? getCachedChildren(level, tx, ty) : null;
+        if (children == null) {
+            tile.reduceRaw(dataSet, dimZ, width, height);
+        } else {
+            tile.reduceChildren(children);
+        }
+        tile.finish();
+
+        synchronized (tiles) {
+            tiles.put(key(level, tx, ty), tile);
+        }
+        if (modCount.get() != startModCount) {
+            // concurrent invalidation: use once but recompute on next access
+            tile.stale = true;
+        }
+        return tile;
+    }
+
+    private Tile getCachedTile(final int level, final int tx, final int ty) {
+        final Tile tile;
+        synchronized (tiles) {
+            tile = tiles.get(key(level, tx, ty));
+        }
+        return tile == null || tile.stale || tile.generation != generation.get() ? null : tile;
+    }
+
+    private Tile[] getCachedChildren(final int level, final int tx, final int ty) {
+        final int nx = (getLevelWidth(level - 1) + tileSize - 1) / tileSize;
+        final int ny = (getLevelHeight(level - 1) + tileSize - 1) / tileSize;
+        final List<Tile> children = new ArrayList<>(4);
+        for (int cty = 2 * ty; cty <= 2 * ty + 1 && cty < ny; cty++) {
+            for (int ctx = 2 * tx; ctx <= 2 * tx + 1 && ctx < nx; ctx++) {
+                final Tile child = getCachedTile(level - 1, ctx, cty);
+                if (child == null) {
+                    return null;
+                }
+                children.add(child);
+            }
+        }
+        return children.toArray(new Tile[0]);
+    }
+
+    private int getLevelHeight(final int level) {
+        return ((height - 1) >> level) + 1;
+    }
+
+    private int getLevelWidth(final int level) {
+        return ((width - 1) >> level) + 1;
+    }
+
+    private int getTileCount(final int level) {
+        return ((getLevelWidth(level) + tileSize - 1) / tileSize) * ((getLevelHeight(level) + tileSize - 1) / tileSize);
+    }
+
+    private static void invokeAll(final List<Callable<Boolean>> workers) {
+        if (workers.isEmpty()) {
+            return;
+        }
+        try {
+            if (workers.size() == 1) {
+                workers.get(0).call();
+                return;
+            }
+            final List<Future<Boolean>> jobs = CachedDaemonThreadFactory.getCommonPool().invokeAll(workers);
+            for (final Future<Boolean> future : jobs) {
+                final Boolean r = future.get();
+                if (Boolean.FALSE.equals(r)) {
+                    throw new IllegalStateException(PARALLEL_WORKER_ERROR);
+                }
+            }
+        } catch (final InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(PARALLEL_WORKER_ERROR, e);
+        } catch (final Exception e) { // NOPMD -- re-thrown as unchecked exception
+            throw new IllegalStateException(PARALLEL_WORKER_ERROR, e);
+        }
+    }
+
+    private static long key(final int level, final int tx, final int ty) {
+        return ((long) level << 58) | ((long) ty << 29) | tx;
+    }
+
+    private static final class Tile {
+        private final int level;
+        private final int cx0;
+        private final int cy0;
+        private final int width;
+        private final int height;
+        private final int generation;
+        private final float[] min;
+        private final float[] max;
+        private final float[] mean;
+        private final int[] count; // number of finite raw values per cell
+        private double[] sum; // temporary
+        private volatile boolean stale;
+
+        private Tile(final int level, final int cx0, final int cy0, final int width, final int height, final int generation) {
+            this.level = level;
+            this.cx0 = cx0;
+            this.cy0 = cy0;
+            this.width = width;
+            this.height = height;
+            this.generation = generation;
+            final int size = width * height;
+            min = new float[size];
+            max = new float[size];
+            mean = new float[size];
+            count = new int[size];
+            sum = new double[size];
+            Arrays.fill(min, Float.POSITIVE_INFINITY);
+            Arrays.fill(max, Float.NEGATIVE_INFINITY);
+        }
+
+        private void finish() {
+            for (int i = 0; i < sum.length; i++) {
+                if (count[i] == 0) {
+                    min[i] = Float.NaN;
+                    max[i] = Float.NaN;
+                    mean[i] = Float.NaN;
+                } else {
+                    mean[i] = (float) (sum[i] / count[i]);
+                }
+            }
+            sum = null; // NOPMD -- no longer needed
+        }
+
+        private float[] getValues(final ReductionType reductionType) {
+            switch (reductionType) {
+            case MIN:
+                return min;
+            case MAX:
+                return max;
+            case AVERAGE:
+            case DOWN_SAMPLE:
+            default:
+                return mean;
+            }
+        }
+
+        private void reduceChildren(final Tile[] children) {
+            for (final Tile child : children) {
+                for (int y = 0; y < child.height; y++) {
+                    final int rowIndex = (((child.cy0 + y) >> 1) - cy0) * width - cx0;
+                    for (int x = 0; x < child.width; x++) {
+                        final int childIndex = y * child.width + x;
+                        final int n = child.count[childIndex];
+                        if (n > 0) {
+                            final int index = rowIndex + ((child.cx0 + x) >> 1);
+                            min[index] = Math.min(min[index], child.min[childIndex]);
+                            max[index] = Math.max(max[index], child.max[childIndex]);
+                            sum[index] += (double) child.mean[childIndex] * n;
+                            count[index] += n;
+                        }
+                    }
+                }
+            }
+        }
+
+        private void reduceRaw(final GridDataSet dataSet, final int dimZ, final int rawWidth, final int rawHeight) {
+            final int xMin = cx0 << level;
+            final int xMax = Math.min((cx0 + width) << level, rawWidth);
+            final int yMin = cy0 << level;
+            final int yMax = Math.min((cy0 + height) << level, rawHeight);
+            for (int y = yMin; y < yMax; y++) {
+                final int rowIndex = ((y >> level) - cy0) * width - cx0;
+                for (int x = xMin; x < xMax; x++) {
+                    final double value = dataSet.get(dimZ, x, y);
+                    if (Double.isFinite(value)) {
+                        final int index = rowIndex + (x >> level);
+                        final float fValue = (float) value;
+                        min[index] = Math.min(min[index], fValue);
+                        max[index] = Math.max(max[index], fValue);
+                        sum[index] += value;
+                        count[index]++;
+                    }
+                }
+            }
+        }
+    }
+}
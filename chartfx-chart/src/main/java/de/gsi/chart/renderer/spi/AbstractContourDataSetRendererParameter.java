@@ -50,6 +50,8 @@ public abstract class AbstractContourDataSetRendererParameter<R extends Abstract
         }
     };
 
+    private final BooleanProperty scrolling = new SimpleBooleanProperty(this, "scrolling", false);
+
     private final BooleanProperty smooth = new SimpleBooleanProperty(this, "smooth", false) {
         @Override
         protected void invalidated() {
@@ -57,6 +59,8 @@ public abstract class AbstractContourDataSetRendererParameter<R extends Abstract
         }
     };
 
+    private final BooleanProperty tilePyramid = new SimpleBooleanProperty(this, "tilePyramid", false);
+
     public AbstractContourDataSetRendererParameter() {
         super();
         setMinRequiredReductionSize(3);
@@ -163,6 +167,15 @@ public abstract class AbstractContourDataSetRendererParameter<R extends Abstract
         return altImplementationProperty().get();
     }
 
+    /**
+     * Returns the value of the {@link #scrollingProperty()}.
+     *
+     * @return {@code true} if the incremental scrolling waterfall mode is enabled, {@code false} otherwise
+     */
+    public boolean isScrolling() {
+        return scrollingProperty().get();
+    }
+
     /**
      * Returns the value of the {@link #smoothProperty()}.
      *
@@ -172,6 +185,15 @@ public abstract class AbstractContourDataSetRendererParameter<R extends Abstract
         return smoothProperty().get();
     }
 
+    /**
+     * Returns the value of the {@link #tilePyramidProperty()}.
+     *
+     * @return {@code true} if the data reduction uses a multi-resolution tile pyramid, {@code false} otherwise
+     */
+    public boolean isTilePyramid() {
+        return tilePyramidProperty().get();
+    }
+
     /**
      * @return the property controlling the maximum number of sub-segments allowed for a contour to be drawn.
      */
@@ -265,6 +287,30 @@ public abstract class AbstractContourDataSetRendererParameter<R extends Abstract
         reductionTypeProperty().set(value);
     }
 
+    /**
+     * Indicates if waterfall-type data sets (ie. new rows being appended at the highest y index, the oldest being dropped
+     * at the lowest) should be drawn incrementally: the colour-mapped image is kept as a ring buffer and only the newly
+     * appended rows are colour-mapped. Applies to the HEATMAP contour type and non-inverted x- and y-axes only. N.B.
+     * data reduction is performed only along the x-axis in this mode.
+     * <p>
+     * By default scrolling is disabled.
+     * </p>
+     *
+     * @return scrolling property
+     */
+    public BooleanProperty scrollingProperty() {
+        return scrolling;
+    }
+
+    /**
+     * Sets the value of the {@link #scrollingProperty()}.
+     *
+     * @param value {@code true} to enable the incremental scrolling waterfall mode
+     */
+    public void setScrolling(final boolean value) {
+        scrollingProperty().set(value);
+    }
+
     /**
      * Sets the value of the {@link #smoothProperty()}.
      *
@@ -274,6 +320,15 @@ public abstract class AbstractContourDataSetRendererParameter<R extends Abstract
         smoothProperty().set(value);
     }
 
+    /**
+     * Sets the value of the {@link #tilePyramidProperty()}.
+     *
+     * @param value {@code true} to reduce the data via a multi-resolution tile pyramid
+     */
+    public void setTilePyramid(final boolean value) {
+        tilePyramidProperty().set(value);
+    }
+
     /**
      * Indicates if the chart should smooth colors between data points or render each data point as a rectangle with
      * uniform color.
@@ -289,4 +344,20 @@ public abstract class AbstractContourDataSetRendererParameter<R extends Abstract
     public BooleanProperty smoothProperty() {
         return smooth;
     }
+
+    /**
+     * Indicates if very large grid data sets should be reduced via a multi-resolution min/max/mean tile pyramid (see
+     * {@link de.gsi.chart.renderer.datareduction.GridDataSetPyramid}) rather than from the raw data on every axis
+     * change. The pyramid level matching the screen resolution is picked and only the visible tiles are fetched (and
+     * computed lazily if necessary), giving interactive pan and zoom at constant cost. Applies to the MIN, MAX and
+     * AVERAGE reduction types.
+     * <p>
+     * By default the tile pyramid is disabled.
+     * </p>
+     *
+     * @return tile pyramid property
+     */
+    public BooleanProperty tilePyramidProperty() {
+        return tilePyramid;
+    }
 }
@@ -56,6 +56,8 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
             AbstractErrorDataSetRendererParameter.DEFAULT_HISTORY_INTENSITY_FADING);
     private final BooleanProperty drawBubbles = new SimpleBooleanProperty(this, "drawBubbles", false);
     private final BooleanProperty allowNaNs = new SimpleBooleanProperty(this, "allowNaNs", false);
+    private final BooleanProperty rasterRendering = new SimpleBooleanProperty(this, "rasterRendering", false);
+    private final IntegerProperty zoomLevelCacheSize = new SimpleIntegerProperty(this, "zoomLevelCacheSize", 0);
 
     /**
      * 
@@ -258,6 +260,13 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
         return shiftBarProperty().get();
     }
 
+    /**
+     * @return true if lines, markers, error bars and bubbles are rasterised into an off-screen pixel buffer
+     */
+    public boolean isRasterRendering() {
+        return rasterRenderingProperty().get();
+    }
+
     public DoubleProperty markerSizeProperty() {
         return markerSize;
     }
@@ -271,6 +280,18 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
         return polyLineStyle;
     }
 
+    /**
+     * Sets whether lines (NORMAL poly-line style), markers, error bars and bubbles are rasterised into an off-screen
+     * pixel buffer that is drawn in one go to the canvas rather than via individual GraphicsContext commands. This is
+     * faster for several 100k segments or markers per frame, but does not support line dashes and draws the rasterised
+     * components on top of the other components of the renderer.
+     *
+     * @return the rasterRendering property
+     */
+    public BooleanProperty rasterRenderingProperty() {
+        return rasterRendering;
+    }
+
     /**
      * sets the data reduction algorithm: possibly implementations are<br>
      * <ul>
@@ -420,6 +441,16 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
         return getThis();
     }
 
+    /**
+     * @see #rasterRenderingProperty()
+     * @param state true: rasterise lines, markers, error bars and bubbles into an off-screen pixel buffer
+     * @return itself (fluent design)
+     */
+    public R setRasterRendering(final boolean state) {
+        rasterRenderingProperty().set(state);
+        return getThis();
+    }
+
     /**
      * @see #rendererDataReducerProperty()
      * @param algorithm the new data reducing algorithm to be set (null -&gt; {@link DefaultDataReducer})
@@ -462,6 +493,36 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
         return shiftBar;
     }
 
+    /**
+     * @return the maximum number of cached reduced screen representations (ie. data set and zoom level combinations)
+     */
+    public int getZoomLevelCacheSize() {
+        return zoomLevelCacheSizeProperty().get();
+    }
+
+    /**
+     * @see #zoomLevelCacheSizeProperty()
+     * @param size maximum number of cached reduced screen representations, '0' disables the cache
+     * @return itself (fluent design)
+     */
+    public R setZoomLevelCacheSize(final int size) {
+        AssertUtils.gtEqThanZero("zoomLevelCacheSize", size);
+        zoomLevelCacheSizeProperty().set(size);
+        return getThis();
+    }
+
+    /**
+     * Sets the maximum number of reduced screen representations (ie. data set and zoom level combinations) that are
+     * kept in a least-recently-used cache. Returning to a previously drawn axis range -- e.g. via the Zoomer's zoom-out
+     * or zoom-origin history -- is then redrawn without re-computing and re-reducing the full-resolution data. Entries
+     * are invalidated on data set updates. Default: '0' (disabled).
+     *
+     * @return the zoomLevelCacheSize property
+     */
+    public IntegerProperty zoomLevelCacheSizeProperty() {
+        return zoomLevelCacheSize;
+    }
+
     protected R bind(final R other) {
         errorStyleProperty().bind(other.errorStyleProperty());
         pointReductionProperty().bind(other.pointReductionProperty());
@@ -475,6 +536,8 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
         drawBarsProperty().bind(other.drawBarsProperty());
         drawBubblesProperty().bind(other.drawBubblesProperty());
         allowNaNsProperty().bind(other.allowNaNsProperty());
+        rasterRenderingProperty().bind(other.rasterRenderingProperty());
+        zoomLevelCacheSizeProperty().bind(other.zoomLevelCacheSizeProperty());
         shiftBarProperty().bind(other.shiftBarProperty());
         shiftBarOffsetProperty().bind(other.shiftBarOffsetProperty());
         dynamicBarWidthProperty().bind(other.dynamicBarWidthProperty());
@@ -512,6 +575,8 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
         drawBarsProperty().unbind();
         drawBubblesProperty().unbind();
         allowNaNsProperty().unbind();
+        rasterRenderingProperty().unbind();
+        zoomLevelCacheSizeProperty().unbind();
         shiftBarProperty().unbind();
         shiftBarOffsetProperty().unbind();
         dynamicBarWidthProperty().unbind();
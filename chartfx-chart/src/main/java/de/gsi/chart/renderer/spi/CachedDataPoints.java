@@ -4,7 +4,9 @@ import static de.gsi.dataset.DataSet.DIM_X;
 import static de.gsi.dataset.DataSet.DIM_Y;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -17,11 +19,11 @@ import de.gsi.chart.utils.StyleParser;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.DataSetError;
 import de.gsi.dataset.DataSetError.ErrorType;
-import de.gsi.dataset.utils.ArrayCache;
+import de.gsi.dataset.spi.DoubleDataSet;
+import de.gsi.dataset.spi.DoubleErrorDataSet;
 import de.gsi.dataset.utils.CachedDaemonThreadFactory;
 import de.gsi.dataset.utils.DoubleArrayCache;
 import de.gsi.dataset.utils.ProcessingProfiler;
-import de.gsi.math.ArrayUtils;
 
 /**
  * package private class implementation (data point caching) required by ErrorDataSetRenderer local screen data point
@@ -31,9 +33,9 @@ import de.gsi.math.ArrayUtils;
  */
 @SuppressWarnings({ "PMD.TooManyMethods", "PMD.TooManyFields" }) // designated purpose of this class
 class CachedDataPoints {
-    private static final String STYLES2 = "styles";
-    private static final String SELECTED2 = "selected";
     private static final double DEG_TO_RAD = Math.PI / 180.0;
+    private static final double TRIG_TABLE_TOLERANCE = 1e-9; // relative angle tolerance for the trig table look-up
+    private static final int MIN_PARALLEL_POLYGON_SIZE = 10_000; // minimum number of points per polygon worker
 
     protected double[] xValues;
     protected double[] yValues;
@@ -64,24 +66,50 @@ class CachedDataPoints {
     protected double xRange;
     protected double yRange;
     protected double maxRadius;
-    protected int maxDataCount;
+    protected int maxDataCount; // allocated array capacity
     protected int actualDataCount; // number of data points that remain after data reduction
+    protected boolean fusedReduction; // 'true': screen coordinates have been computed and reduced in a single pass
+    protected double[] polygonX = new double[0]; // scratch buffer for derived polygon geometry (area, histogram, ...)
+    protected double[] polygonY = new double[0]; // scratch buffer for derived polygon geometry (area, histogram, ...)
+    protected int[] polygonSegments = new int[0]; // (vertex offset, vertex count) pairs of the polygons in polygonX/Y
+    protected int polygonSegmentCount; // number of polygon segments
+    // cos/sin look-up table for polar plots with uniform angular steps: phi(index) = start + (index - offset) * step
+    private double[] cosTable = new double[0];
+    private double[] sinTable = new double[0];
+    private int trigTableOffset;
+    private int trigTableSize;
+    private double trigTableStart;
+    private double trigTableStep;
+    private double trigTableTolerance;
+    private final double[] point = new double[4]; // fused transform scratch: x, y, y-error negative, y-error positive
+    private boolean styleParsed;
+    private String parsedStyle; // last parsed data set style
+    private Integer parsedLayoutOffset;
+    private Integer parsedDataSetIndex;
 
     public CachedDataPoints(final int indexMin, final int indexMax, final int dataLength, final boolean full) {
-        maxDataCount = dataLength;
-        xValues = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
-        yValues = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
-        styles = ArrayCache.getCachedStringArray(STYLES2, dataLength);
+        reset(indexMin, indexMax, dataLength, full);
+    }
+
+    /**
+     * Re-initialises the cache for a new render pass. The internal arrays are re-used and only re-allocated if the
+     * required capacity exceeds the presently allocated one, ie. persistent instances do not allocate in steady state.
+     *
+     * @param indexMin minimum index (inclusive) of the data range to be drawn
+     * @param indexMax maximum index (exclusive) of the data range to be drawn
+     * @param dataLength required array capacity
+     * @param full {@code true}: also allocate arrays for horizontal errors
+     * @return itself (fluent design)
+     */
+    protected CachedDataPoints reset(final int indexMin, final int indexMax, final int dataLength, final boolean full) {
         this.indexMin = indexMin;
         this.indexMax = indexMax;
-        errorYNeg = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
-        errorYPos = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
-        if (full) {
-            errorXNeg = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
-            errorXPos = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
-        }
-        selected = ArrayCache.getCachedBooleanArray(SELECTED2, dataLength);
-        ArrayUtils.fillArray(styles, null);
+        minDistanceX = +Integer.MAX_VALUE;
+        actualDataCount = 0;
+        fusedReduction = false;
+        ensureCapacity(dataLength, full);
+        Arrays.fill(styles, 0, dataLength, null);
+        return this;
     }
 
     protected void computeBoundaryVariables(final Axis xAxis, final Axis yAxis) {
@@ -125,6 +153,83 @@ class CachedDataPoints {
         });
     }
 
+    /**
+     * Builds the error surface polygons into the re-usable {@link #polygonX}, {@link #polygonY} and
+     * {@link #polygonSegments} buffers. Each segment is a closed polygon running forward along the positive and backward
+     * along the negative errors of a contiguous run of points with finite errors. The runs are detected in a single pass,
+     * after which the vertices are written independently per point -- in parallel for large data sets. N.B. the segment of
+     * the run [start, start + length[ is located at vertex offset 2 * start, ie. the segments never overlap.
+     *
+     * @param allowNaNs {@code true}: split the surface at points with non-finite errors, {@code false}: single polygon
+     * @param parallel {@code true}: fill the vertex buffers in parallel (for large data sets)
+     */
+    protected void computeErrorSurfacePolygons(final boolean allowNaNs, final boolean parallel) {
+        final int nDataCount = actualDataCount;
+        ensurePolygonCapacity(2 * nDataCount);
+        if (polygonSegments.length < nDataCount + 1) {
+            polygonSegments = new int[nDataCount + 1]; // N.B. at most (n + 1) / 2 runs
+        }
+
+        // single-pass detection of the runs of finite errors
+        polygonSegmentCount = 0;
+        if (!allowNaNs) {
+            if (nDataCount > 0) {
+                addPolygonSegment(0, nDataCount);
+            }
+        } else {
+            int runStart = -1;
+            for (int i = 0; i < nDataCount; i++) {
+                // N.B. 'v - v == 0' is false for NaN and infinite values
+                final boolean finite = errorYNeg[i] - errorYNeg[i] == 0.0 && errorYPos[i] - errorYPos[i] == 0.0;
+                if (finite && runStart < 0) {
+                    runStart = i;
+                } else if (!finite && runStart >= 0) {
+                    addPolygonSegment(runStart, i - runStart);
+                    runStart = -1;
+                }
+            }
+            if (runStart >= 0) {
+                addPolygonSegment(runStart, nDataCount - runStart);
+            }
+        }
+
+        final int stepSize = parallel ? Math.max(MIN_PARALLEL_POLYGON_SIZE, (int) Math.ceil(nDataCount / (double) CachedDaemonThreadFactory.getNumbersOfThreads())) : nDataCount;
+        if (stepSize >= nDataCount) {
+            fillErrorSurfacePolygons(0, nDataCount);
+        } else {
+            final List<Callable<Boolean>> workers = new ArrayList<>();
+            for (int i = 0; i < nDataCount; i += stepSize) {
+                final int start = i;
+                workers.add(() -> {
+                    fillErrorSurfacePolygons(start, Math.min(nDataCount, start + stepSize));
+                    return Boolean.TRUE;
+                });
+            }
+            try {
+                final List<Future<Boolean>> jobs = CachedDaemonThreadFactory.getCommonPool().invokeAll(workers);
+                for (final Future<Boolean> future : jobs) {
+                    final Boolean r = future.get();
+                    if (Boolean.FALSE.equals(r)) {
+                        throw new IllegalStateException("one parallel worker thread finished execution with error");
+                    }
+                }
+            } catch (final InterruptedException | ExecutionException e) {
+                throw new IllegalStateException("one parallel worker thread finished execution with error", e);
+            }
+        }
+
+        if (allowNaNs && polygonSegmentCount > 0) {
+            // swap y coordinates at mid-point of the last segment (N.B. retains the previous NaN-compatible geometry)
+            final int offset = polygonSegments[2 * polygonSegmentCount - 2];
+            final int length = polygonSegments[2 * polygonSegmentCount - 1] / 2;
+            if (length > 4) {
+                final double yTmp = polygonY[offset + length - 1];
+                polygonY[offset + length - 1] = polygonY[offset + length];
+                polygonY[offset + length] = yTmp;
+            }
+        }
+    }
+
     private void computeFullPolar(final Axis yAxis, final DataSetError dataSet, final int min, final int max) {
         dataSet.lock().readLockGuardOptimistic(() -> {
             for (int index = min; index < max; index++) {
@@ -132,10 +237,8 @@ class CachedDataPoints {
                 final double y = dataSet.get(DIM_Y, index);
                 // check if error should be surrounded by Math.abs(..)
                 // to ensure that they are always positive
-                final double phi = x * DEG_TO_RAD;
                 final double r = maxRadius * Math.abs(1 - (yAxis.getDisplayPosition(y) / yRange));
-                xValues[index] = xZero + (r * Math.cos(phi));
-                yValues[index] = yZero + (r * Math.sin(phi));
+                setPolarCoordinate(index, x, r);
 
                 // ignore errors (for now) -> TODO: add proper transformation
                 errorXNeg[index] = 0.0;
@@ -159,10 +262,8 @@ class CachedDataPoints {
                 final double y = dataSet.get(DIM_Y, index);
                 // check if error should be surrounded by Math.abs(..)
                 // to ensure that they are always positive
-                final double phi = x * DEG_TO_RAD;
                 final double r = maxRadius * Math.abs(1 - (yAxis.getDisplayPosition(y) / yRange));
-                xValues[index] = xZero + (r * Math.cos(phi));
-                yValues[index] = yZero + (r * Math.sin(phi));
+                setPolarCoordinate(index, x, r);
 
                 if (!Double.isFinite(yValues[index])) {
                     yValues[index] = yZero;
@@ -172,6 +273,118 @@ class CachedDataPoints {
         });
     }
 
+    /**
+     * Fused coordinate transform and data reduction for linear (non-polar) axes. The data set values are read directly
+     * (without intermediate full-length coordinate arrays), transformed to screen coordinates and merged on-the-fly
+     * following the same point-reduction criteria as the {@link de.gsi.chart.renderer.datareduction.DefaultDataReducer
+     * DefaultDataReducer}. The internal arrays are grown on demand and are thus sized to the reduced rather than the
+     * full data set length.
+     * <p>
+     * N.B. only applicable if {@link #isFusedReductionCompatible} returns {@code true}, the subsequent {@link #reduce}
+     * call becomes a no-op.
+     *
+     * @param xAxis the horizontal axis
+     * @param yAxis the vertical axis
+     * @param dataSet the data set to be transformed
+     * @param dsIndex index of the data set within the renderer
+     * @param min minimum index (inclusive)
+     * @param max maximum index (exclusive)
+     * @param localRendErrorStyle the renderer error style
+     * @param doAllowForNaNs {@code true}: NaN values are propagated rather than clamped to the axis minimum
+     * @param minPixelDistance minimum pixel distance below which adjacent points are merged
+     */
+    protected void computeScreenCoordinatesFused(final Axis xAxis, final Axis yAxis, final DataSet dataSet,
+            final int dsIndex, final int min, final int max, final ErrorStyle localRendErrorStyle,
+            final boolean doAllowForNaNs, final int minPixelDistance) {
+        setBoundaryConditions(xAxis, yAxis, dataSet, dsIndex, min, max, localRendErrorStyle, false, doAllowForNaNs);
+        final long startTimeStamp = ProcessingProfiler.getTimeStamp();
+        ensureCapacity(maxDataCount, true);
+
+        // affine axis transform: pos = offset + (value - min) * scale
+        final double xAxisMin = xAxis.getMin();
+        final double yAxisMin = yAxis.getMin();
+        final double xOffset = xAxis.getDisplayPosition(xAxisMin);
+        final double yOffset = yAxis.getDisplayPosition(yAxisMin);
+        final double xScale = (xAxis.getDisplayPosition(xAxis.getMax()) - xOffset) / (xAxis.getMax() - xAxisMin);
+        final double yScale = (yAxis.getDisplayPosition(yAxis.getMax()) - yOffset) / (yAxis.getMax() - yAxisMin);
+
+        final boolean hasErrors = errorType[DIM_Y] != ErrorType.NO_ERROR && dataSet instanceof DataSetError;
+        final DataSetError errorDataSet = hasErrors ? (DataSetError) dataSet : null;
+
+        dataSet.lock().readLockGuardOptimistic(() -> {
+            // direct access to the internal storage where this does not imply a copy
+            // N.B. fetched within the lock since concurrent resizes may replace the backing arrays
+            final double[] xData = getBackingArray(dataSet, DIM_X);
+            final double[] yData = getBackingArray(dataSet, DIM_Y);
+            final double[] yErrorNeg = hasErrors && dataSet instanceof DoubleErrorDataSet ? errorDataSet.getErrorsNegative(DIM_Y) : null;
+            final double[] yErrorPos = hasErrors && dataSet instanceof DoubleErrorDataSet ? errorDataSet.getErrorsPositive(DIM_Y) : null;
+            int count = 0;
+            int ncount = 0;
+            double meanX = 0;
+            double meanY = 0;
+            int minY = +Integer.MAX_VALUE;
+            int maxY = -Integer.MAX_VALUE;
+            String style = null;
+
+            // add first point - by default
+            transformPoint(dataSet, errorDataSet, xData, yData, yErrorNeg, yErrorPos, min, xOffset, xAxisMin, xScale, yOffset, yAxisMin, yScale, point);
+            setReducedPoint(count++, point[0], point[1], point[2], point[3], dataSet.getStyle(min));
+            double xold = point[0];
+            double yold = point[1];
+
+            // for loop for points between ]first point, last point[
+            for (int index = min + 1; index < max - 1; index++) {
+                transformPoint(dataSet, errorDataSet, xData, yData, yErrorNeg, yErrorPos, index, xOffset, xAxisMin, xScale, yOffset, yAxisMin, yScale, point);
+                final double newXValue = point[0];
+                final double newYValue = point[1];
+                if (Double.isNaN(newYValue)) {
+                    setReducedPoint(count++, newXValue, Double.NaN, Double.NaN, Double.NaN, style);
+                    ncount = 0;
+                    continue;
+                }
+
+                // check hor. and ver. pixel distance of new to last drawn point
+                if ((int) Math.abs(xold - newXValue) > minPixelDistance || (int) Math.abs(yold - newYValue) > minPixelDistance) {
+                    if (ncount > 0) {
+                        // aggregated/merged previous points - accumulation phase is finished
+                        setReducedPoint(count++, (int) (meanX / ncount), (int) (meanY / ncount), maxY, minY, style);
+                    }
+                    // start new accumulation phase
+                    meanX = newXValue;
+                    meanY = newYValue;
+                    xold = newXValue;
+                    yold = newYValue;
+                    minY = (int) point[3];
+                    maxY = (int) point[2];
+                    style = dataSet.getStyle(index);
+                    ncount = 1;
+                } else {
+                    // points are closer than the min pixel distance, merge new point
+                    meanX += newXValue;
+                    meanY += newYValue;
+                    minY = Math.min(minY, (int) point[3]);
+                    maxY = Math.max(maxY, (int) point[2]);
+                    ncount++;
+                }
+            }
+
+            if (ncount > 0) {
+                setReducedPoint(count++, (int) (meanX / ncount), (int) (meanY / ncount), maxY, minY, style);
+            }
+
+            // add last point - by default (N.B. error order as in DefaultDataReducer)
+            transformPoint(dataSet, errorDataSet, xData, yData, yErrorNeg, yErrorPos, max - 1, xOffset, xAxisMin, xScale, yOffset, yAxisMin, yScale, point);
+            setReducedPoint(count++, point[0], point[1], point[3], point[2], dataSet.getStyle(max - 1));
+            actualDataCount = count;
+        });
+        fusedReduction = true;
+        minDataPointDistanceX();
+
+        if (ProcessingProfiler.getDebugState()) {
+            ProcessingProfiler.getTimeDiff(startTimeStamp, String.format("fused transform & data reduction (from %d to %d)", max - min, actualDataCount));
+        }
+    }
+
     protected void computeScreenCoordinates(final Axis xAxis, final Axis yAxis, final DataSet dataSet,
             final int dsIndex, final int min, final int max, final ErrorStyle localRendErrorStyle,
             final boolean isPolarPlot, final boolean doAllowForNaNs) {
@@ -271,7 +484,7 @@ class CachedDataPoints {
         }
     }
 
-    private void computeWithError(final Axis yAxis, final DataSet dataSet, final int dimIndex, final int min,
+    private void computeWithError(final Axis axis, final DataSet dataSet, final int dimIndex, final int min,
             final int max) {
         if (dataSet instanceof DataSetError) {
             dataSet.lock().readLockGuardOptimistic(() -> {
@@ -282,17 +495,18 @@ class CachedDataPoints {
                 final DataSetError ds = (DataSetError) dataSet;
                 for (int index = min; index < max; index++) {
                     final double value = dataSet.get(dimIndex, index);
+                    values[index] = value;
+                    valuesEN[index] = value - ds.getErrorNegative(dimIndex, index);
+                    valuesEP[index] = value + ds.getErrorPositive(dimIndex, index);
+                }
+                transformInPlace(axis, min, max, values, valuesEN, valuesEP);
 
-                    values[index] = yAxis.getDisplayPosition(value);
-
-                    if (!Double.isNaN(values[index])) {
-                        valuesEN[index] = yAxis.getDisplayPosition(value - ds.getErrorNegative(dimIndex, index));
-                        valuesEP[index] = yAxis.getDisplayPosition(value + ds.getErrorPositive(dimIndex, index));
-                        continue;
+                for (int index = min; index < max; index++) {
+                    if (Double.isNaN(values[index])) {
+                        values[index] = minValue;
+                        valuesEN[index] = minValue;
+                        valuesEP[index] = minValue;
                     }
-                    values[index] = minValue;
-                    valuesEN[index] = minValue;
-                    valuesEP[index] = minValue;
                 }
             });
             return;
@@ -305,8 +519,9 @@ class CachedDataPoints {
             final double[] valuesEP = dimIndex == DIM_X ? errorXPos : errorYPos;
             final double minValue = dimIndex == DIM_X ? xMin : yMin;
 
+            copyValues(dataSet, dimIndex, min, max, values);
+            transformInPlace(axis, min, max, values);
             for (int index = min; index < max; index++) {
-                values[index] = yAxis.getDisplayPosition(dataSet.get(dimIndex, index));
                 if (Double.isFinite(values[index])) {
                     valuesEN[index] = values[index];
                     valuesEP[index] = values[index];
@@ -319,7 +534,7 @@ class CachedDataPoints {
         });
     }
 
-    private void computeWithErrorAllowingNaNs(final Axis yAxis, final DataSet dataSet, final int dimIndex,
+    private void computeWithErrorAllowingNaNs(final Axis axis, final DataSet dataSet, final int dimIndex,
             final int min, final int max) {
         if (dataSet instanceof DataSetError) {
             dataSet.lock().readLockGuardOptimistic(() -> {
@@ -337,10 +552,12 @@ class CachedDataPoints {
                         continue;
                     }
 
-                    values[index] = yAxis.getDisplayPosition(value);
-                    valuesEN[index] = yAxis.getDisplayPosition(value - ds.getErrorNegative(dimIndex, index));
-                    valuesEP[index] = yAxis.getDisplayPosition(value + ds.getErrorPositive(dimIndex, index));
+                    values[index] = value;
+                    valuesEN[index] = value - ds.getErrorNegative(dimIndex, index);
+                    valuesEP[index] = value + ds.getErrorPositive(dimIndex, index);
                 }
+                // N.B. NaN values are propagated by the axis transform
+                transformInPlace(axis, min, max, values, valuesEN, valuesEP);
             });
             return;
         }
@@ -351,9 +568,9 @@ class CachedDataPoints {
             final double[] valuesEN = dimIndex == DIM_X ? errorXNeg : errorYNeg;
             final double[] valuesEP = dimIndex == DIM_X ? errorXPos : errorYPos;
 
+            copyValues(dataSet, dimIndex, min, max, values);
+            transformInPlace(axis, min, max, values);
             for (int index = min; index < max; index++) {
-                values[index] = yAxis.getDisplayPosition(dataSet.get(dimIndex, index));
-
                 if (Double.isFinite(values[index])) {
                     valuesEN[index] = values[index];
                     valuesEP[index] = values[index];
@@ -372,13 +589,11 @@ class CachedDataPoints {
         dataSet.lock().readLockGuardOptimistic(() -> {
             final double[] values = dimIndex == DIM_X ? xValues : yValues;
             final double minValue = dimIndex == DIM_X ? xMin : yMin;
+            copyValues(dataSet, dimIndex, min, max, values);
+            transformInPlace(axis, min, max, values);
             for (int index = min; index < max; index++) {
-                final double value = dataSet.get(dimIndex, index);
-
-                values[index] = axis.getDisplayPosition(value);
-
                 if (Double.isNaN(values[index])) {
-                    yValues[index] = minValue;
+                    values[index] = minValue;
                 }
             }
 
@@ -394,15 +609,13 @@ class CachedDataPoints {
         // no error attached
         dataSet.lock().readLockGuardOptimistic(() -> {
             final double[] values = dimIndex == DIM_X ? xValues : yValues;
+            copyValues(dataSet, dimIndex, min, max, values);
             for (int index = min; index < max; index++) {
-                final double value = dataSet.get(dimIndex, index);
-
-                if (Double.isFinite(value)) {
-                    values[index] = axis.getDisplayPosition(value);
-                } else {
+                if (!Double.isFinite(values[index])) {
                     values[index] = Double.NaN;
                 }
             }
+            transformInPlace(axis, min, max, values);
 
             if ((dimIndex == DIM_Y) && (rendererErrorStyle != ErrorStyle.NONE)) {
                 System.arraycopy(values, min, errorYNeg, min, max - min);
@@ -418,10 +631,8 @@ class CachedDataPoints {
                 final double y = dataSet.get(DIM_Y, index);
                 // check if error should be surrounded by Math.abs(..)
                 // to ensure that they are always positive
-                final double phi = x * DEG_TO_RAD;
                 final double r = maxRadius * Math.abs(1 - (yAxis.getDisplayPosition(y) / yRange));
-                xValues[index] = xZero + (r * Math.cos(phi));
-                yValues[index] = yZero + (r * Math.sin(phi));
+                setPolarCoordinate(index, x, r);
 
                 // ignore errors (for now) -> TODO: add proper transformation
                 errorXNeg[index] = 0.0;
@@ -437,6 +648,124 @@ class CachedDataPoints {
         });
     }
 
+    /**
+     * ensures that the polygon scratch buffers {@link #polygonX} and {@link #polygonY} can hold at least the given
+     * number of vertices (N.B. buffers are only grown and their previous content is not retained)
+     *
+     * @param requiredSize number of required polygon vertices
+     */
+    protected void ensurePolygonCapacity(final int requiredSize) {
+        if (polygonX.length < requiredSize) {
+            polygonX = new double[requiredSize];
+            polygonY = new double[requiredSize];
+        }
+    }
+
+    private void addPolygonSegment(final int start, final int length) {
+        polygonSegments[2 * polygonSegmentCount] = 2 * start;
+        polygonSegments[2 * polygonSegmentCount + 1] = 2 * length;
+        polygonSegmentCount++;
+    }
+
+    /**
+     * writes the error surface polygon vertices of the data points within [from, to[
+     *
+     * @param from first data point index (inclusive)
+     * @param to last data point index (exclusive)
+     */
+    private void fillErrorSurfacePolygons(final int from, final int to) {
+        // binary search for the first segment that ends after 'from'
+        int low = 0;
+        int high = polygonSegmentCount;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if ((polygonSegments[2 * mid] + polygonSegments[2 * mid + 1]) / 2 <= from) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int segment = low; segment < polygonSegmentCount; segment++) {
+            final int offset = polygonSegments[2 * segment];
+            final int start = offset / 2;
+            if (start >= to) {
+                break;
+            }
+            final int last = offset + polygonSegments[2 * segment + 1] - 1;
+            final int stop = Math.min(to, start + polygonSegments[2 * segment + 1] / 2);
+            for (int i = Math.max(from, start); i < stop; i++) {
+                final int k = i - start;
+                polygonX[offset + k] = xValues[i];
+                polygonY[offset + k] = errorYPos[i];
+                polygonX[last - k] = xValues[i];
+                polygonY[last - k] = errorYNeg[i];
+            }
+        }
+    }
+
+    private void ensureCapacity(final int requiredSize, final boolean full) {
+        if (full && errorXNeg == null && xValues != null) {
+            errorXNeg = new double[maxDataCount];
+            errorXPos = new double[maxDataCount];
+        }
+        if (requiredSize <= maxDataCount && xValues != null) {
+            return;
+        }
+        // grow with head-room to avoid re-allocations for slowly growing data sets
+        final int newSize = Math.max(requiredSize, maxDataCount + (maxDataCount >> 1));
+        xValues = resize(xValues, newSize);
+        yValues = resize(yValues, newSize);
+        errorYNeg = resize(errorYNeg, newSize);
+        errorYPos = resize(errorYPos, newSize);
+        if (full || errorXNeg != null) {
+            errorXNeg = resize(errorXNeg, newSize);
+            errorXPos = resize(errorXPos, newSize);
+        }
+        styles = styles == null ? new String[newSize] : Arrays.copyOf(styles, newSize);
+        selected = selected == null ? new boolean[newSize] : Arrays.copyOf(selected, newSize);
+        maxDataCount = newSize;
+    }
+
+    private void setReducedPoint(final int index, final double x, final double y, final double yErrorNeg,
+            final double yErrorPos, final String style) {
+        ensureCapacity(index + 1, true);
+        xValues[index] = x;
+        yValues[index] = y;
+        errorXNeg[index] = x;
+        errorXPos[index] = x;
+        errorYNeg[index] = yErrorNeg;
+        errorYPos[index] = yErrorPos;
+        selected[index] = false;
+        styles[index] = style;
+    }
+
+    private void transformPoint(final DataSet dataSet, final DataSetError errorDataSet, final double[] xData, //
+            final double[] yData, final double[] yErrorNeg, final double[] yErrorPos, final int index, //
+            final double xOffset, final double xAxisMin, final double xScale, //
+            final double yOffset, final double yAxisMin, final double yScale, final double[] point) {
+        final double x = xData == null ? dataSet.get(DIM_X, index) : xData[index];
+        final double y = yData == null ? dataSet.get(DIM_Y, index) : yData[index];
+        point[0] = allowForNaNs && !Double.isFinite(x) ? Double.NaN : xOffset + (x - xAxisMin) * xScale;
+
+        if (allowForNaNs ? !Double.isFinite(y) : Double.isNaN(y)) {
+            final double invalid = allowForNaNs ? Double.NaN : yMin;
+            point[1] = invalid;
+            point[2] = invalid;
+            point[3] = invalid;
+            return;
+        }
+        point[1] = yOffset + (y - yAxisMin) * yScale;
+        if (errorDataSet == null) {
+            point[2] = point[1];
+            point[3] = point[1];
+            return;
+        }
+        final double en = yErrorNeg == null ? errorDataSet.getErrorNegative(DIM_Y, index) : yErrorNeg[index];
+        final double ep = yErrorPos == null ? errorDataSet.getErrorPositive(DIM_Y, index) : yErrorPos[index];
+        point[2] = yOffset + (y - en - yAxisMin) * yScale;
+        point[3] = yOffset + (y + ep - yAxisMin) * yScale;
+    }
+
     /**
      * computes the minimum distance in between data points N.B. assumes sorted data set points
      *
@@ -477,6 +806,10 @@ class CachedDataPoints {
 
     protected void reduce(final RendererDataReducer cruncher, final boolean isReducePoints,
             final int minRequiredReductionSize) {
+        if (fusedReduction) {
+            // screen coordinates have already been reduced in computeScreenCoordinatesFused(..)
+            return;
+        }
         final long startTimeStamp = ProcessingProfiler.getTimeStamp();
         actualDataCount = 1;
 
@@ -513,6 +846,50 @@ class CachedDataPoints {
         minDataPointDistanceX();
     }
 
+    /**
+     * @return new instance owning a copy of the reduced screen representation (ie. only the first
+     *         {@code actualDataCount} points) and of the drawing state, the arrays are taken from the shared
+     *         {@link DoubleArrayCache}
+     */
+    protected CachedDataPoints copyReduced() {
+        final int length = Math.max(1, actualDataCount);
+        final CachedDataPoints copy = new CachedDataPoints(indexMin, indexMax, 0, false);
+        copy.xValues = copyOf(xValues, length);
+        copy.yValues = copyOf(yValues, length);
+        copy.errorXNeg = copyOf(errorXNeg, length);
+        copy.errorXPos = copyOf(errorXPos, length);
+        copy.errorYNeg = copyOf(errorYNeg, length);
+        copy.errorYPos = copyOf(errorYPos, length);
+        copy.selected = Arrays.copyOf(selected, length);
+        copy.styles = Arrays.copyOf(styles, length);
+        copy.maxDataCount = length;
+        copy.actualDataCount = actualDataCount;
+        copy.fusedReduction = fusedReduction;
+        copy.xAxisInverted = xAxisInverted;
+        copy.yAxisInverted = yAxisInverted;
+        copy.defaultStyle = defaultStyle;
+        copy.dataSetIndex = dataSetIndex;
+        copy.dataSetStyleIndex = dataSetStyleIndex;
+        copy.allowForNaNs = allowForNaNs;
+        copy.errorType = errorType == null ? null : errorType.clone();
+        copy.minDistanceX = minDistanceX;
+        copy.xZero = xZero;
+        copy.yZero = yZero;
+        copy.yMin = yMin;
+        copy.yMax = yMax;
+        copy.xMin = xMin;
+        copy.xMax = xMax;
+        copy.polarPlot = polarPlot;
+        copy.rendererErrorStyle = rendererErrorStyle;
+        copy.xRange = xRange;
+        copy.yRange = yRange;
+        copy.maxRadius = maxRadius;
+        return copy;
+    }
+
+    /**
+     * returns the internal arrays to the shared {@link DoubleArrayCache}, to be called if this instance is discarded
+     */
     public void release() {
         DoubleArrayCache.getInstance().add(xValues);
         DoubleArrayCache.getInstance().add(yValues);
@@ -520,8 +897,15 @@ class CachedDataPoints {
         DoubleArrayCache.getInstance().add(errorYPos);
         DoubleArrayCache.getInstance().add(errorXNeg);
         DoubleArrayCache.getInstance().add(errorXPos);
-        ArrayCache.release(SELECTED2, selected);
-        ArrayCache.release(STYLES2, styles);
+        xValues = null;
+        yValues = null;
+        errorYNeg = null;
+        errorYPos = null;
+        errorXNeg = null;
+        errorXPos = null;
+        styles = null;
+        selected = null;
+        maxDataCount = 0;
     }
 
     private void setBoundaryConditions(final Axis xAxis, final Axis yAxis, final DataSet dataSet, final int dsIndex,
@@ -536,10 +920,33 @@ class CachedDataPoints {
         computeBoundaryVariables(xAxis, yAxis);
         setStyleVariable(dataSet, dsIndex);
         setErrorType(dataSet, rendererErrorStyle);
+        if (polarPlot) {
+            updateTrigTable(dataSet, min, max);
+        }
+    }
+
+    /**
+     * @param index data point index
+     * @param x polar angle [deg]
+     * @param r radius [pixel]
+     */
+    private void setPolarCoordinate(final int index, final double x, final double r) {
+        final int k = index - trigTableOffset;
+        if (k >= 0 && k < trigTableSize && Math.abs(x - (trigTableStart + k * trigTableStep)) <= trigTableTolerance) {
+            xValues[index] = xZero + (r * cosTable[k]);
+            yValues[index] = yZero + (r * sinTable[k]);
+            return;
+        }
+        // non-uniform angular step
+        final double phi = x * DEG_TO_RAD;
+        xValues[index] = xZero + (r * Math.cos(phi));
+        yValues[index] = yZero + (r * Math.sin(phi));
     }
 
     protected void setErrorType(final DataSet dataSet, final ErrorStyle errorStyle) {
-        errorType = new ErrorType[dataSet.getDimension()];
+        if (errorType == null || errorType.length != dataSet.getDimension()) {
+            errorType = new ErrorType[dataSet.getDimension()];
+        }
         if (dataSet instanceof DataSetError) {
             final DataSetError ds = (DataSetError) dataSet;
             for (int dimIndex = 0; dimIndex < ds.getDimension(); dimIndex++) {
@@ -569,11 +976,115 @@ class CachedDataPoints {
 
     protected void setStyleVariable(final DataSet dataSet, final int dsIndex) {
         dataSet.lock().readLockGuardOptimistic(() -> defaultStyle = dataSet.getStyle());
-        final Integer layoutOffset = StyleParser.getIntegerPropertyValue(defaultStyle,
-                XYChartCss.DATASET_LAYOUT_OFFSET);
-        final Integer dsIndexLocal = StyleParser.getIntegerPropertyValue(defaultStyle, XYChartCss.DATASET_INDEX);
+        if (!styleParsed || !Objects.equals(parsedStyle, defaultStyle)) {
+            // only re-parse if the style changed since the last render pass
+            parsedLayoutOffset = StyleParser.getIntegerPropertyValue(defaultStyle, XYChartCss.DATASET_LAYOUT_OFFSET);
+            parsedDataSetIndex = StyleParser.getIntegerPropertyValue(defaultStyle, XYChartCss.DATASET_INDEX);
+            parsedStyle = defaultStyle;
+            styleParsed = true;
+        }
+
+        dataSetStyleIndex = parsedLayoutOffset == null ? 0 : parsedLayoutOffset.intValue();
+        dataSetIndex = parsedDataSetIndex == null ? dsIndex : parsedDataSetIndex.intValue();
+    }
+
+    /**
+     * @param xAxis the horizontal axis
+     * @param yAxis the vertical axis
+     * @param dataSet the data set to be drawn
+     * @param isPolarPlot whether the chart is in polar mode
+     * @return {@code true} if the fused coordinate transform and data reduction may be used for the given configuration
+     */
+    protected static boolean isFusedReductionCompatible(final Axis xAxis, final Axis yAxis, final DataSet dataSet,
+            final boolean isPolarPlot) {
+        if (isPolarPlot || xAxis.isLogAxis() || yAxis.isLogAxis() || xAxis.getMax() <= xAxis.getMin()
+                || yAxis.getMax() <= yAxis.getMin()) {
+            return false;
+        }
+        // horizontal errors are not (yet) supported by the fused implementation
+        return !(dataSet instanceof DataSetError) || ((DataSetError) dataSet).getErrorType(DIM_X) == ErrorType.NO_ERROR;
+    }
+
+    /**
+     * (re-)computes the cos/sin look-up table assuming uniform angular steps between the first and last data point. The
+     * table is retained as long as the angular range is unchanged (ie. typically across frames) and is only used for
+     * points that match the uniform step, others fall back to the direct evaluation.
+     *
+     * @param dataSet the data set to be drawn
+     * @param min minimum index (inclusive)
+     * @param max maximum index (exclusive)
+     */
+    protected void updateTrigTable(final DataSet dataSet, final int min, final int max) {
+        final int size = max - min;
+        if (size < 2) {
+            trigTableSize = 0;
+            return;
+        }
+        final double start = dataSet.lock().readLockGuardOptimistic(() -> dataSet.get(DIM_X, min));
+        final double stop = dataSet.lock().readLockGuardOptimistic(() -> dataSet.get(DIM_X, max - 1));
+        final double step = (stop - start) / (size - 1);
+        if (!Double.isFinite(step)) {
+            trigTableSize = 0;
+            return;
+        }
+        if (trigTableSize == size && trigTableOffset == min && trigTableStart == start && trigTableStep == step) { // NOPMD -- exact comparison
+            return;
+        }
+        if (cosTable.length < size) {
+            cosTable = new double[size];
+            sinTable = new double[size];
+        }
+        for (int k = 0; k < size; k++) {
+            final double phi = (start + k * step) * DEG_TO_RAD;
+            cosTable[k] = Math.cos(phi);
+            sinTable[k] = Math.sin(phi);
+        }
+        trigTableOffset = min;
+        trigTableSize = size;
+        trigTableStart = start;
+        trigTableStep = step;
+        trigTableTolerance = TRIG_TABLE_TOLERANCE * Math.max(Math.abs(step), Math.max(Math.abs(start), Math.abs(stop)));
+    }
+
+    private static void copyValues(final DataSet dataSet, final int dimIndex, final int min, final int max, final double[] values) {
+        final double[] data = getBackingArray(dataSet, dimIndex);
+        if (data != null) {
+            System.arraycopy(data, min, values, min, max - min);
+            return;
+        }
+        for (int index = min; index < max; index++) {
+            values[index] = dataSet.get(dimIndex, index);
+        }
+    }
+
+    private static double[] getBackingArray(final DataSet dataSet, final int dimIndex) {
+        // only array-backed data sets return their internal storage, other implementations would allocate a copy
+        if (dataSet instanceof DoubleDataSet || dataSet instanceof DoubleErrorDataSet) {
+            return dataSet.getValues(dimIndex);
+        }
+        return null;
+    }
+
+    private static double[] copyOf(final double[] array, final int length) {
+        if (array == null) {
+            return null;
+        }
+        final double[] copy = DoubleArrayCache.getInstance().getArray(length);
+        System.arraycopy(array, 0, copy, 0, Math.min(length, array.length));
+        return copy;
+    }
+
+    private static double[] resize(final double[] array, final int newSize) {
+        return array == null ? new double[newSize] : Arrays.copyOf(array, newSize);
+    }
+
+    private static void transformInPlace(final Axis axis, final int min, final int max, final double[] values) {
+        axis.getDisplayPositions(values, min, values, min, max - min);
+    }
 
-        dataSetStyleIndex = layoutOffset == null ? 0 : layoutOffset.intValue();
-        dataSetIndex = dsIndexLocal == null ? dsIndex : dsIndexLocal.intValue();
+    private static void transformInPlace(final Axis axis, final int min, final int max, final double[] values, final double[] valuesEN, final double[] valuesEP) {
+        transformInPlace(axis, min, max, values);
+        transformInPlace(axis, min, max, valuesEN);
+        transformInPlace(axis, min, max, valuesEP);
     }
 }
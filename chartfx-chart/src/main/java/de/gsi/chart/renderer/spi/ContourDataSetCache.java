@@ -5,10 +5,12 @@ import static de.gsi.dataset.DataSet.DIM_Y;
 import static de.gsi.dataset.DataSet.DIM_Z;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javafx.scene.image.PixelFormat;
 import javafx.scene.image.PixelWriter;
@@ -22,31 +24,50 @@ import de.gsi.chart.axes.Axis;
 import de.gsi.chart.axes.AxisTransform;
 import de.gsi.chart.renderer.ContourType;
 import de.gsi.chart.renderer.datareduction.DefaultDataReducer3D;
+import de.gsi.chart.renderer.datareduction.GridDataSetPyramid;
 import de.gsi.chart.renderer.datareduction.ReductionType;
 import de.gsi.chart.renderer.spi.utils.ColorGradient;
 import de.gsi.chart.utils.WritableImageCache;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.event.AxisChangeEvent;
+import de.gsi.dataset.event.AxisNameChangeEvent;
+import de.gsi.dataset.event.EventListener;
+import de.gsi.dataset.event.UpdateEvent;
 import de.gsi.dataset.spi.DataRange;
-import de.gsi.dataset.utils.ByteArrayCache;
+import de.gsi.dataset.utils.ArrayCache;
 import de.gsi.dataset.utils.CachedDaemonThreadFactory;
 import de.gsi.dataset.utils.DoubleArrayCache;
 import de.gsi.dataset.utils.ProcessingProfiler;
 
 /**
+ * Per data set cache of the (sub-frame copied, reduced and quantised) data and colour-mapped image used by the
+ * {@link ContourDataSetRenderer}.
+ * <p>
+ * The cache is meant to persist across render passes and is updated in stages that are invalidated selectively:
+ * <ul>
+ * <li>data stage (sub-frame copy and data reduction): on data set updates, x-/y-axis range or canvas size changes, and
+ * data-reduction parameter changes (N.B. optionally served from a {@link GridDataSetPyramid}),
+ * <li>z stage (local z-range and quantisation): on changes of the data stage, z-axis range or quantisation parameters,
+ * <li>image stage (colour-mapping): on changes of the z stage or colour gradient.
+ * </ul>
+ * Thus, a pure re-layout without data or axis changes costs only the drawing of the cached image.
+ *
  * @author rstein
  */
 class ContourDataSetCache extends WritableImageCache {
     private static final Logger LOGGER = LoggerFactory.getLogger(ContourDataSetCache.class);
     private static final String PARALLEL_WORKER_ERROR = "one parallel worker thread finished execution with error";
-    private static final int BGRA_BYTE_SIZE = 4;
+    private static final String IMAGE_BUFFER_NAME = "ContourDataSetCache-imageBuffer";
+    private static final int N_LUT_COLORS = 4096;
+    private static final int MIN_PARALLEL_PIXELS = 1 << 16;
     private static final int REF_WIDTH_PARALLEL = 1024;
     private static final int REF_HEIGHT_PARALLEL = 1000;
 
     protected final DataSet dataSet;
-    protected final Axis xAxis;
-    protected final Axis yAxis;
-    protected final Axis zAxis;
+    protected Axis xAxis;
+    protected Axis yAxis;
+    protected Axis zAxis;
 
     protected double xAxisWidth;
     protected double yAxisHeight;
@@ -73,14 +94,29 @@ class ContourDataSetCache extends WritableImageCache {
     protected double zMin;
     protected double zMax;
 
-    protected final boolean xInverted;
-    protected final boolean yInverted;
-    protected final boolean zInverted;
+    protected boolean xInverted;
+    protected boolean yInverted;
+    protected boolean zInverted;
+    protected boolean parallelImplementation;
 
     // temp data variables
-    protected final double[] dataBuffer;
-    protected double[] tempDataBuffer;
-    protected final double[] reduced;
+    protected double[] dataBuffer = new double[0];
+    protected double[] tempDataBuffer = new double[0];
+    protected double[] reducedRaw; // reduced but not yet quantised data
+    protected double[] reduced = new double[0]; // quantised data
+
+    // invalidation state
+    private final AtomicBoolean dataChanged = new AtomicBoolean(true);
+    private final AtomicBoolean zRangeChanged = new AtomicBoolean(true);
+    private final EventListener dataSetListener = this::handleDataSetEvent;
+    private final double[] dataStageState = new double[20];
+    private final double[] zStageState = new double[8];
+    private final Object[] stageReferences = new Object[4];
+    private GridDataSetPyramid pyramid;
+    private WritableImage image;
+    private ColorGradient imageColorGradient;
+    private int imageUpdateCount;
+    private int updateCount;
 
     public ContourDataSetCache(final XYChart chart, final ContourDataSetRenderer renderer, final DataSet dataSet) {
         if (dataSet.getDimension() < 3) {
@@ -93,20 +129,133 @@ class ContourDataSetCache extends WritableImageCache {
         if (gridDataSet.getNGrid() < 2) {
             throw new IllegalArgumentException("Contour Renderer only supports 2D Grids");
         }
-        final long start = ProcessingProfiler.getTimeStamp();
         this.dataSet = dataSet;
-        this.xAxis = chart.getXAxis();
-        this.yAxis = chart.getYAxis();
-        this.zAxis = renderer.getZAxis();
+        dataSet.addListener(dataSetListener);
+        update(chart, renderer);
+    }
 
-        // zMin/zMax from the axis are usually either DataSet driven (via computeLimits)
-        // or user-defined limits on the z axis
-        this.zMin = zAxis.getMin();
-        this.zMax = zAxis.getMax();
+    /**
+     * Detaches the cache from its data set and returns the internal buffers to the shared array cache. The cache must
+     * not be used afterwards.
+     */
+    public void dispose() {
+        dataSet.removeListener(dataSetListener);
+        disposePyramid();
+        releaseCachedVariables();
+        if (image != null) {
+            add(image);
+            image = null; // NOPMD
+        }
+    }
+
+    /**
+     * Returns the colour-mapped image of the quantised data. The image is cached and re-computed only if the data, z
+     * range or colour gradient changed.
+     *
+     * @param colorGradient colour gradient to be used
+     * @return colour-mapped image (N.B. owned by this cache, must not be returned to an image cache)
+     */
+    public WritableImage getColorMappedImage(final ColorGradient colorGradient) {
+        if (image == null || imageColorGradient != colorGradient || imageUpdateCount != updateCount) {
+            if (image != null) {
+                // return to the image cache so that it is re-used if the size did not change
+                add(image);
+            }
+            image = convertDataArrayToImage(reduced, xSize, ySize, colorGradient);
+            imageColorGradient = colorGradient;
+            imageUpdateCount = updateCount;
+        }
+        return image;
+    }
+
+    /**
+     * @return number of times the z stage (and thus the quantised data) has been updated, used to detect stale
+     *         dependent caches
+     */
+    public int getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * Updates the cached data if necessary. N.B. the read-lock of the data set needs to be held by the caller.
+     *
+     * @param chart the chart providing the x- and y-axis
+     * @param renderer the renderer providing the z-axis, data reduction and quantisation parameters
+     * @return {@code true} if the quantised data changed
+     */
+    public boolean update(final XYChart chart, final ContourDataSetRenderer renderer) {
+        final long start = ProcessingProfiler.getTimeStamp();
+        final Axis newXAxis = chart.getXAxis();
+        final Axis newYAxis = chart.getYAxis();
+        final Axis newZAxis = renderer.getZAxis();
+
+        // data stage: x/y-axis geometry, reduction parameters and data set content
+        final double[] dataState = { newXAxis.getMin(), newXAxis.getMax(), newXAxis.getWidth(), newXAxis.isInvertedAxis() ? 1 : 0, newXAxis.isLogAxis() ? 1 : 0, //
+            newYAxis.getMin(), newYAxis.getMax(), newYAxis.getHeight(), newYAxis.isInvertedAxis() ? 1 : 0, newYAxis.isLogAxis() ? 1 : 0, //
+            renderer.getReductionFactorX(), renderer.getReductionFactorY(), renderer.isActualReducePoints() ? 1 : 0, renderer.isParallelImplementation() ? 1 : 0,
+            renderer.getContourType().ordinal(), renderer.getReductionType().ordinal(), dataSet.getDataCount(), ((GridDataSet) dataSet).getShape(DIM_X),
+            ((GridDataSet) dataSet).getShape(DIM_Y), renderer.isTilePyramid() ? 1 : 0 };
+        final boolean axesChanged = stageReferences[0] != newXAxis || stageReferences[1] != newYAxis;
+        // N.B. clear the data flag before reading the data so that concurrent updates are not lost
+        final boolean dataStageInvalid = dataChanged.getAndSet(false) | axesChanged | !Arrays.equals(dataStageState, dataState);
+        System.arraycopy(dataState, 0, dataStageState, 0, dataState.length);
+        stageReferences[0] = newXAxis;
+        stageReferences[1] = newYAxis;
+        xAxis = newXAxis;
+        yAxis = newYAxis;
+        zAxis = newZAxis;
+
+        if (dataStageInvalid) {
+            updateDataStage(renderer);
+            ProcessingProfiler.getTimeDiff(start, "data stage");
+        }
+
+        // z stage: z-axis range and quantisation parameters
+        final AxisTransform axisTransform = zAxis.getAxisTransform();
+        if (axisTransform == null) {
+            throw new IllegalArgumentException("zAxis of renderer needs to have an axis transform for its z-Axis");
+        }
+        final double[] zState = { zAxis.getMin(), zAxis.getMax(), zAxis.isInvertedAxis() ? 1 : 0, zAxis.isLogAxis() ? 1 : 0, zAxis.isAutoRanging() ? 1 : 0,
+            zAxis.isAutoGrowRanging() ? 1 : 0, renderer.computeLocalRange() ? 1 : 0, renderer.getNumberQuantisationLevels() };
+        final boolean zStageInvalid = dataStageInvalid | zRangeChanged.getAndSet(false) | stageReferences[2] != zAxis
+                                      | stageReferences[3] != axisTransform | !Arrays.equals(zStageState, zState);
+        System.arraycopy(zState, 0, zStageState, 0, zState.length);
+        stageReferences[2] = zAxis;
+        stageReferences[3] = axisTransform;
+
+        if (zStageInvalid) {
+            updateZStage(renderer, axisTransform);
+            updateCount++;
+            ProcessingProfiler.getTimeDiff(start, "z stage");
+        }
+        return zStageInvalid;
+    }
+
+    /**
+     * invalidates all cached stages, the next update recomputes everything
+     */
+    public void invalidate() {
+        dataChanged.set(true);
+        zRangeChanged.set(true);
+    }
 
+    protected void handleDataSetEvent(final UpdateEvent evt) {
+        if (evt instanceof AxisNameChangeEvent) {
+            return;
+        }
+        if (evt instanceof AxisChangeEvent && ((AxisChangeEvent) evt).getDimension() >= ((GridDataSet) dataSet).getNGrid()) {
+            // z-range only
+            zRangeChanged.set(true);
+            return;
+        }
+        dataChanged.set(true);
+    }
+
+    private void updateDataStage(final ContourDataSetRenderer renderer) {
+        final GridDataSet gridDataSet = (GridDataSet) dataSet;
         xInverted = xAxis.isInvertedAxis();
         yInverted = yAxis.isInvertedAxis();
-        zInverted = zAxis.isInvertedAxis();
+        parallelImplementation = renderer.isParallelImplementation();
 
         this.xAxisWidth = xAxis.getWidth();
         this.yAxisHeight = yAxis.getHeight();
@@ -142,41 +291,92 @@ class ContourDataSetCache extends WritableImageCache {
         this.xSize = Math.abs(this.indexXMax - this.indexXMin) + 1;
         this.ySize = Math.abs(this.indexYMax - this.indexYMin) + 1;
 
+        if (reduceFromPyramid(renderer)) {
+            return;
+        }
+
         // copy- transform data
-        dataBuffer = DoubleArrayCache.getInstance().getArrayExact(this.xSize * this.ySize);
+        dataBuffer = ensureCapacity(dataBuffer, this.xSize * this.ySize);
         // TODO: tune this limit
         final int minSizeThreshold = REF_WIDTH_PARALLEL * REF_HEIGHT_PARALLEL;
         final boolean sufficientlyLarge = xSize * ySize < minSizeThreshold;
         copySubFrame(dataSet, dataBuffer, renderer.isParallelImplementation() && sufficientlyLarge, //
                 xInverted, indexXMin, indexXMax, yInverted, indexYMin, indexYMax);
-        ProcessingProfiler.getTimeDiff(start, "copySubFrame");
 
         // reduce data if necessary
-        reduced = reduceDataArray(dataBuffer, xSize, ySize, renderer); // NOPMD
-        ProcessingProfiler.getTimeDiff(start, "data reduction");
+        reducedRaw = reduceDataArray(dataBuffer, xSize, ySize, renderer); // NOPMD
+    }
+
+    private void disposePyramid() {
+        if (pyramid != null) {
+            pyramid.dispose();
+            pyramid = null; // NOPMD
+        }
+    }
+
+    /**
+     * Fetches the visible data range from the tile pyramid level that best matches the screen resolution.
+     *
+     * @param renderer the renderer providing the data reduction parameters
+     * @return {@code false} if the pyramid is disabled or not applicable (e.g. no reduction necessary)
+     */
+    private boolean reduceFromPyramid(final ContourDataSetRenderer renderer) {
+        final ReductionType reductionType = renderer.getReductionType();
+        if (!renderer.isTilePyramid() || !renderer.isActualReducePoints() || reductionType == ReductionType.DOWN_SAMPLE) {
+            disposePyramid();
+            return false;
+        }
+        if (pyramid == null) {
+            pyramid = new GridDataSetPyramid((GridDataSet) dataSet);
+            pyramid.prefetch();
+        }
+        final double dataPixelSizeX = (double) Math.max(renderer.getReductionFactorX(), 1) * xSize / xAxisWidth;
+        final double dataPixelSizeY = (double) Math.max(renderer.getReductionFactorY(), 1) * ySize / yAxisHeight;
+        final int level = pyramid.getLevel(dataPixelSizeX, dataPixelSizeY);
+        if (level == 0) {
+            return false;
+        }
+
+        final int width = GridDataSetPyramid.getSize(level, indexXMin, indexXMax);
+        final int height = GridDataSetPyramid.getSize(level, indexYMin, indexYMax);
+        dataBuffer = ensureCapacity(dataBuffer, width * height);
+        pyramid.fill(level, indexXMin, indexXMax, indexYMin, indexYMax, reductionType, dataBuffer);
+        flip(dataBuffer, width, height, xInverted, yInverted);
+        xSize = width;
+        ySize = height;
+
+        // remaining reduction (less than a factor two w.r.t. the pyramid level)
+        reducedRaw = reduceDataArray(dataBuffer, xSize, ySize, renderer); // NOPMD
+        return true;
+    }
+
+    private void updateZStage(final ContourDataSetRenderer renderer, final AxisTransform axisTransform) {
+        // zMin/zMax from the axis are usually either DataSet driven (via computeLimits)
+        // or user-defined limits on the z axis
+        zInverted = zAxis.isInvertedAxis();
+        zMin = zAxis.getMin();
+        zMax = zAxis.getMax();
 
         // compute local Range
-        final boolean computeLocalRange = renderer.computeLocalRange()
-                                          && (zAxis.isAutoRanging() || zAxis.isAutoGrowRanging());
-        final DataRange zDataRange = computeLocalRange(reduced, xSize, ySize, computeLocalRange);
+        final boolean computeLocalRange = renderer.computeLocalRange() && (zAxis.isAutoRanging() || zAxis.isAutoGrowRanging());
+        final DataRange zDataRange = computeLocalRange(reducedRaw, xSize, ySize, computeLocalRange);
         if (zDataRange.isDefined()) {
             zMin = zDataRange.getMin();
             zMax = zDataRange.getMax();
         }
-        ProcessingProfiler.getTimeDiff(start, "recompute local z range");
 
         // process continuous to quantised z values
-        final AxisTransform axisTransform = zAxis.getAxisTransform();
-        if (axisTransform == null) {
-            throw new IllegalArgumentException("zAxis of renderer needs to have an axis transform for its z-Axis");
-        }
-        final int nQuant = renderer.getNumberQuantisationLevels();
-        quantizeData(reduced, xSize, ySize, zInverted, zMin, zMax, axisTransform, nQuant);
-        ProcessingProfiler.getTimeDiff(start, "quantized data");
+        reduced = ensureCapacity(reduced, xSize * ySize);
+        quantizeData(reducedRaw, reduced, xSize, ySize, zInverted, zMin, zMax, axisTransform, renderer.getNumberQuantisationLevels());
     }
 
     protected static void quantizeData(final double[] input, final int width, final int height, final boolean inverted,
             final double min, final double max, final AxisTransform axisTransform, final int nQuant) {
+        quantizeData(input, input, width, height, inverted, min, max, axisTransform, nQuant);
+    }
+
+    protected static void quantizeData(final double[] input, final double[] output, final int width, final int height, final boolean inverted,
+            final double min, final double max, final AxisTransform axisTransform, final int nQuant) {
         final double zMinPixel = axisTransform.forward(min);
         final double zRange = Math.abs(axisTransform.forward(max) - zMinPixel);
         final double zRangeInv = 1.0 / zRange;
@@ -185,13 +385,18 @@ class ContourDataSetCache extends WritableImageCache {
         for (int index = 0; index < length; index++) {
             final double z = input[index];
             final double offset = ((axisTransform.forward(z) - zMinPixel) * zRangeInv);
-            input[index] = inverted ? quantize(1 - offset, nQuant) : quantize(offset, nQuant);
+            output[index] = inverted ? quantize(1 - offset, nQuant) : quantize(offset, nQuant);
         }
     }
 
     public void releaseCachedVariables() {
-        DoubleArrayCache.getInstance().add(dataBuffer);
-        DoubleArrayCache.getInstance().add(tempDataBuffer);
+        release(dataBuffer);
+        release(tempDataBuffer);
+        release(reduced);
+        dataBuffer = new double[0];
+        tempDataBuffer = new double[0];
+        reduced = new double[0];
+        reducedRaw = dataBuffer;
     }
 
     protected double[] reduceDataArray(final double[] input, final int srcWidth, final int srcHeight,
@@ -221,7 +426,7 @@ class ContourDataSetCache extends WritableImageCache {
 
             //            System.err.printf("image width = %d x %d - reduced from %d x %d\n", targetWidth, targetHeight, xSize, ySize);
 
-            tempDataBuffer = DoubleArrayCache.getInstance().getArrayExact(targetWidth * targetHeight);
+            tempDataBuffer = ensureCapacity(tempDataBuffer, targetWidth * targetHeight);
 
             DefaultDataReducer3D.resample(input, srcWidth, srcHeight, tempDataBuffer, targetWidth, targetHeight,
                     reductionType);
@@ -283,6 +488,28 @@ class ContourDataSetCache extends WritableImageCache {
         }
     }
 
+    protected static void flip(final double[] data, final int width, final int height, final boolean xInverted, final boolean yInverted) {
+        if (xInverted) {
+            for (int yIndex = 0; yIndex < height; yIndex++) {
+                final int rowIndex = yIndex * width;
+                for (int left = rowIndex, right = rowIndex + width - 1; left < right; left++, right--) {
+                    final double temp = data[left];
+                    data[left] = data[right];
+                    data[right] = temp;
+                }
+            }
+        }
+        if (yInverted) {
+            for (int bottom = 0, top = height - 1; bottom < top; bottom++, top--) {
+                for (int xIndex = 0; xIndex < width; xIndex++) {
+                    final double temp = data[bottom * width + xIndex];
+                    data[bottom * width + xIndex] = data[top * width + xIndex];
+                    data[top * width + xIndex] = temp;
+                }
+            }
+        }
+    }
+
     protected static DataRange computeLocalRange(final double[] input, final int srcWidth, final int srcHeight,
             final boolean computeLocalRange) {
         final DataRange zDataRange = new DataRange();
@@ -327,17 +554,7 @@ class ContourDataSetCache extends WritableImageCache {
             });
         }
 
-        try {
-            final List<Future<Boolean>> jobs = CachedDaemonThreadFactory.getCommonPool().invokeAll(workers);
-            for (final Future<Boolean> future : jobs) {
-                final Boolean r = future.get();
-                if (Boolean.FALSE.equals(r)) {
-                    throw new IllegalStateException(PARALLEL_WORKER_ERROR);
-                }
-            }
-        } catch (final InterruptedException | ExecutionException e) {
-            throw new IllegalStateException(PARALLEL_WORKER_ERROR, e);
-        }
+        invokeAll(workers);
     }
 
     protected static double quantize(final double value, final int nLevels) {
@@ -348,8 +565,6 @@ class ContourDataSetCache extends WritableImageCache {
             final ColorGradient colorGradient) {
         final int length = dataWidth * dataHeight;
 
-        final byte[] byteBuffer = ByteArrayCache.getInstance().getArrayExact(length * BGRA_BYTE_SIZE);
-        final int rowSizeInBytes = BGRA_BYTE_SIZE * dataWidth;
         final WritableImage image = this.getImage(dataWidth, dataHeight);
         final PixelWriter pixelWriter = image.getPixelWriter();
         if (pixelWriter == null) {
@@ -359,26 +574,92 @@ class ContourDataSetCache extends WritableImageCache {
             return image;
         }
 
-        final int hMinus1 = dataHeight - 1;
-        for (int yIndex = 0; yIndex < dataHeight; yIndex++) {
-            final int rowIndex = dataWidth * yIndex;
-            final int rowPixelIndex = rowSizeInBytes * (hMinus1 - yIndex);
-            for (int xIndex = 0; xIndex < dataWidth; xIndex++) {
-                final int x = xIndex;
-                final int[] color = colorGradient.getColorBytes(inputData[rowIndex + xIndex]);
+        // N.B. input data is already normalised to [0, 1] by 'quantizeData'
+        final int[] pixelBuffer = ArrayCache.getCachedIntArray(IMAGE_BUFFER_NAME, length);
+        convertDataArrayToArgbPre(inputData, dataWidth, dataHeight, 0.0, 1.0, colorGradient.getLookUpTable(N_LUT_COLORS), pixelBuffer,
+                parallelImplementation && length >= MIN_PARALLEL_PIXELS);
+        pixelWriter.setPixels(0, 0, dataWidth, dataHeight, PixelFormat.getIntArgbPreInstance(), pixelBuffer, 0, dataWidth);
+        ArrayCache.release(IMAGE_BUFFER_NAME, pixelBuffer);
+        return image;
+    }
+
+    /**
+     * Maps the data array to pre-multiplied ARGB pixels via a colour look-up table. The z-range normalisation is folded
+     * into the LUT index computation and the output is vertically flipped (ie. first data row corresponds to the bottom
+     * image row).
+     *
+     * @param input input data (row-major, length &ge; width * height)
+     * @param width data width
+     * @param height data height
+     * @param min value mapped to the first LUT entry
+     * @param max value mapped to the last LUT entry
+     * @param lut colour look-up table (see {@link ColorGradient#getLookUpTable(int)}), values outside [min, max] and NaNs
+     *            are transparent
+     * @param output pre-multiplied ARGB pixels (length &ge; width * height)
+     * @param parallel true: convert row-blocks concurrently using the common pool
+     */
+    protected static void convertDataArrayToArgbPre(final double[] input, final int width, final int height, final double min,
+            final double max, final int[] lut, final int[] output, final boolean parallel) {
+        if (!parallel) {
+            convertDataArrayToArgbPre(input, width, height, min, max, lut, output, 0, height);
+            return;
+        }
+
+        final int nMaxThreads = CachedDaemonThreadFactory.getNumbersOfThreads();
+        final int stepSize = Math.max((int) Math.ceil(height / (double) nMaxThreads), Math.max(1, MIN_PARALLEL_PIXELS / Math.max(1, width)));
+        final List<Callable<Boolean>> workers = new ArrayList<>();
+        for (int i = 0; i < height; i += stepSize) {
+            final int yMinLocal = i;
+            final int yMaxLocal = Math.min(i + stepSize, height);
+            workers.add(() -> {
+                convertDataArrayToArgbPre(input, width, height, min, max, lut, output, yMinLocal, yMaxLocal);
+                return Boolean.TRUE;
+            });
+        }
+        invokeAll(workers);
+    }
 
-                final int pixelIndex = rowPixelIndex + x * BGRA_BYTE_SIZE;
-                byteBuffer[pixelIndex] = (byte) (color[3]);
-                byteBuffer[pixelIndex + 1] = (byte) (color[2]);
-                byteBuffer[pixelIndex + 2] = (byte) (color[1]);
-                byteBuffer[pixelIndex + 3] = (byte) (color[0]);
+    private static void convertDataArrayToArgbPre(final double[] input, final int width, final int height, final double min,
+            final double max, final int[] lut, final int[] output, final int yMin, final int yMax) {
+        final int nColors = lut.length;
+        final double scale = 1.0 / (max - min);
+        final int hMinus1 = height - 1;
+        for (int yIndex = yMin; yIndex < yMax; yIndex++) {
+            final int rowIndex = width * yIndex;
+            final int rowPixelIndex = width * (hMinus1 - yIndex);
+            for (int xIndex = 0; xIndex < width; xIndex++) {
+                final int lutIndex = ColorGradient.getLookUpIndex((input[rowIndex + xIndex] - min) * scale, nColors);
+                output[rowPixelIndex + xIndex] = lutIndex < 0 ? 0 : lut[lutIndex];
             }
         }
+    }
 
-        pixelWriter.setPixels(0, 0, dataWidth, dataHeight, PixelFormat.getByteBgraPreInstance(), byteBuffer, 0,
-                rowSizeInBytes);
-        ByteArrayCache.getInstance().add(byteBuffer);
-        return image;
+    private static void invokeAll(final List<Callable<Boolean>> workers) {
+        try {
+            final List<Future<Boolean>> jobs = CachedDaemonThreadFactory.getCommonPool().invokeAll(workers);
+            for (final Future<Boolean> future : jobs) {
+                final Boolean r = future.get();
+                if (Boolean.FALSE.equals(r)) {
+                    throw new IllegalStateException(PARALLEL_WORKER_ERROR);
+                }
+            }
+        } catch (final InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(PARALLEL_WORKER_ERROR, e);
+        }
+    }
+
+    private static double[] ensureCapacity(final double[] array, final int length) {
+        if (array.length >= length) {
+            return array;
+        }
+        release(array);
+        return DoubleArrayCache.getInstance().getArray(length);
+    }
+
+    private static void release(final double[] array) {
+        if (array.length > 0) {
+            DoubleArrayCache.getInstance().add(array);
+        }
     }
 
     protected static int roundDownEven(double d) {
@@ -5,7 +5,9 @@ import static javafx.scene.paint.CycleMethod.NO_CYCLE;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 
 import javafx.collections.ObservableList;
@@ -21,7 +23,6 @@ import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.LinearGradient;
 import javafx.scene.shape.Rectangle;
-import javafx.scene.shape.StrokeType;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,9 +33,9 @@ import de.gsi.chart.axes.Axis;
 import de.gsi.chart.axes.AxisTransform;
 import de.gsi.chart.axes.spi.DefaultNumericAxis;
 import de.gsi.chart.plugins.Zoomer;
+import de.gsi.chart.renderer.ContourType;
 import de.gsi.chart.renderer.Renderer;
-import de.gsi.chart.renderer.spi.hexagon.Hexagon;
-import de.gsi.chart.renderer.spi.hexagon.HexagonMap;
+import de.gsi.chart.renderer.spi.hexagon.HexagonBatchRenderer;
 import de.gsi.chart.renderer.spi.marchingsquares.GeneralPath;
 import de.gsi.chart.renderer.spi.marchingsquares.MarchingSquares;
 import de.gsi.chart.renderer.spi.utils.ColorGradient;
@@ -60,6 +61,9 @@ import de.gsi.dataset.utils.ProcessingProfiler;
  * data reduction is controlled via {@link #setPointReduction(boolean)} and the reduction type (MIN, MAX, AVERAGE,
  * DOWN_SAMPLE) via {@link #setReductionType}, and the {@link #setReductionFactorX(int)} and
  * {@link #setReductionFactorY(int)} functions.
+ * For waterfall-type data sets (e.g. spectrograms with new rows being appended at the highest y index), the
+ * {@link #setScrolling(boolean)} mode keeps the colour-mapped HEATMAP image as a ring buffer and colour-maps only the
+ * newly appended rows.
  * N.B. Regarding implementation of user-level DataSet interfaces: While the DataSet3D::getZ(int) and
  * DataSet::get(DIM_Z, int) routines should match, the DataSet3D is considered a convenience interface primarily to be
  * used for external user-level code.
@@ -72,6 +76,10 @@ import de.gsi.dataset.utils.ProcessingProfiler;
 public class ContourDataSetRenderer extends AbstractContourDataSetRendererParameter<ContourDataSetRenderer> implements Renderer {
     private static final Logger LOGGER = LoggerFactory.getLogger(ContourDataSetRenderer.class);
     private ContourDataSetCache localCache;
+    // N.B. keyed by identity since the data set hashCode/equals depend on its content and ranges
+    private final Map<DataSet, ContourDataSetCache> caches = new IdentityHashMap<>();
+    private final Map<DataSet, ContourDataSetRingBuffer> ringBuffers = new IdentityHashMap<>();
+    private final Map<DataSet, HexagonBatchRenderer> hexagonRenderers = new IdentityHashMap<>();
     private Axis zAxis;
     protected final Rectangle gradientRect = new Rectangle();
 
@@ -83,13 +91,6 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
 
         final int xSize = lCache.xSize;
         final int ySize = lCache.ySize;
-        final double[][] data = new double[ySize][xSize];
-        for (int yIndex = 0; yIndex < ySize; yIndex++) {
-            for (int xIndex = 0; xIndex < xSize; xIndex++) {
-                final double offset = lCache.reduced[yIndex * xSize + xIndex];
-                data[ySize - 1 - yIndex][xIndex] = offset;
-            }
-        }
 
         // abort if min/max == 0 -> cannot compute contours
         final double zRange = Math.abs(lCache.zMax - lCache.zMin);
@@ -104,9 +105,12 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
         gc.save();
         gc.translate(lCache.xDataPixelMin, lCache.yDataPixelMin);
         gc.scale(scaleX, scaleY);
+        // contours are computed on the (guard-padded) flat data array -> flip y to screen coordinates
+        gc.translate(0, ySize + 1.0);
+        gc.scale(1.0, -1.0);
         final GeneralPath[] isolines;
         try {
-            isolines = marchingSquares.buildContours(data, levels);
+            isolines = marchingSquares.buildContours(lCache.reduced, xSize, ySize, levels);
             int levelCount = 0;
             for (final GeneralPath path : isolines) {
                 if (path.size() > getMaxContourSegments()) {
@@ -202,43 +206,28 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
         gc.setImageSmoothing(isSmooth());
 
         // process z quantisation to colour transform
-        final WritableImage image = localCache.convertDataArrayToImage(lCache.reduced, lCache.xSize, lCache.ySize, getColorGradient());
+        final WritableImage image = lCache.getColorMappedImage(getColorGradient());
         ProcessingProfiler.getTimeDiff(start, "color map");
 
         gc.drawImage(image, lCache.xDataPixelMin, lCache.yDataPixelMin, lCache.xDataPixelRange, lCache.yDataPixelRange);
 
-        localCache.add(image);
         ProcessingProfiler.getTimeDiff(start, "drawHeatMap");
     }
 
     private void drawHexagonHeatMap(final GraphicsContext gc, final ContourDataSetCache lCache) {
         final long start = ProcessingProfiler.getTimeStamp();
 
-        // process z quantisation to colour transform
-        final WritableImage image = localCache.convertDataArrayToImage(lCache.reduced, lCache.xSize, lCache.ySize, getColorGradient());
-
         final int tileSize = Math.max(getMinHexTileSizeProperty(), (int) lCache.xAxisWidth / lCache.xSize);
         final int nWidthInTiles = (int) (lCache.xAxisWidth / (tileSize * Math.sqrt(3))) + 1;
-
-        final HexagonMap map2 = new HexagonMap(tileSize, image, nWidthInTiles, (q, r, imagePixelColor, map) -> {
-            final Hexagon h = new Hexagon(q, r);
-            h.setFill(imagePixelColor);
-            h.setStroke(imagePixelColor);
-
-            h.setStrokeWidth(0.5);
-            map.addHexagon(h);
-        });
-        localCache.add(image);
-
+        final HexagonBatchRenderer hexagons = getHexagonRenderer(lCache, tileSize, nWidthInTiles);
         ProcessingProfiler.getTimeDiff(start, "drawHexagonMap - prepare");
+
         final double scaleX = lCache.xDataPixelRange / lCache.xAxisWidth;
         final double scaleY = lCache.yDataPixelRange / lCache.yAxisHeight;
-
         gc.save();
         gc.translate(lCache.xDataPixelMin, lCache.yDataPixelMin);
         gc.scale(scaleX, scaleY);
-
-        map2.render(gc.getCanvas());
+        hexagons.drawFilled(gc);
         gc.restore();
 
         ProcessingProfiler.getTimeDiff(start, "drawHexagonMap");
@@ -247,22 +236,9 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
     private void drawHexagonMapContour(final GraphicsContext gc, final ContourDataSetCache lCache) {
         final long start = ProcessingProfiler.getTimeStamp();
 
-        // process z quantisation to colour transform
-        final WritableImage image = localCache.convertDataArrayToImage(lCache.reduced, lCache.xSize, lCache.ySize, getColorGradient());
-
         final int tileSize = Math.max(getMinHexTileSizeProperty(), (int) lCache.xAxisWidth / lCache.xSize);
         final int nWidthInTiles = (int) (lCache.xAxisWidth / (tileSize * Math.sqrt(3)));
-        final HexagonMap hexMap = new HexagonMap(tileSize, image, nWidthInTiles, (q, r, imagePixelColor, map) -> {
-            final Hexagon h = new Hexagon(q, r);
-            h.setFill(Color.TRANSPARENT); // contour being plotted
-            h.setStroke(imagePixelColor);
-            h.setStrokeType(StrokeType.CENTERED);
-
-            h.setStrokeWidth(1);
-            map.addHexagon(h);
-        });
-        localCache.add(image);
-
+        final HexagonBatchRenderer hexagons = getHexagonRenderer(lCache, tileSize, nWidthInTiles);
         ProcessingProfiler.getTimeDiff(start, "drawHexagonMapContour - prepare");
 
         final double scaleX = lCache.xDataPixelRange / lCache.xAxisWidth;
@@ -270,18 +246,33 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
         gc.save();
         gc.translate(lCache.xDataPixelMin, lCache.yDataPixelMin);
         gc.scale(scaleX, scaleY);
-
-        hexMap.renderContour(gc.getCanvas());
+        hexagons.drawContour(gc, 1.0);
         gc.restore();
 
         ProcessingProfiler.getTimeDiff(start, "drawHexagonMapContour");
     }
 
+    private HexagonBatchRenderer getHexagonRenderer(final ContourDataSetCache lCache, final int tileSize, final int nWidthInTiles) {
+        final HexagonBatchRenderer hexagons = hexagonRenderers.computeIfAbsent(lCache.dataSet, ds -> new HexagonBatchRenderer());
+        // geometry is re-used as long as the tiling and the (reduced) data dimensions are unchanged
+        hexagons.updateGeometry(tileSize, nWidthInTiles, lCache.xSize, lCache.ySize);
+        hexagons.updateValues(lCache.reduced, getColorGradient());
+        return hexagons;
+    }
+
     @Override
     public Canvas drawLegendSymbol(DataSet dataSet, int dsIndex, int width, int height) {
         return null; // TODO: implement
     }
 
+    /**
+     * @param dataSet the drawn data set
+     * @return the persistent cache of the data set or {@code null} if it has not been drawn in the last render pass
+     */
+    ContourDataSetCache getCache(final DataSet dataSet) {
+        return caches.get(dataSet);
+    }
+
     /**
      * @return the instance of this ContourDataSetRenderer.
      */
@@ -401,6 +392,7 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
 
         // If there are no data sets
         if (localDataSetList.isEmpty()) {
+            releaseUnusedCaches(Collections.emptyList());
             return Collections.emptyList();
         }
 
@@ -417,6 +409,29 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
                 continue; // DataSet not applicable to ContourChartRenderer
             }
 
+            if (isScrollingApplicable(xyChart, (GridDataSet) dataSet)) {
+                final ContourDataSetCache staleCache = caches.remove(dataSet);
+                if (staleCache != null) {
+                    staleCache.dispose();
+                }
+                final ContourDataSetRingBuffer ringBuffer = ringBuffers.computeIfAbsent(dataSet, ds -> new ContourDataSetRingBuffer());
+                final boolean updated = dataSet.lock().readLockGuard(() -> {
+                    if (dataSet.getDataCount() == 0) {
+                        return false;
+                    }
+                    ringBuffer.update(xyChart, this, (GridDataSet) dataSet);
+                    return true;
+                });
+                if (updated) {
+                    layoutZAxis(getZAxis());
+                    ringBuffer.draw(gc, isSmooth());
+                    drawnDataSet.add(dataSet);
+                }
+                ProcessingProfiler.getTimeDiff(mid, "finished drawing (scrolling)");
+                continue;
+            }
+            ringBuffers.remove(dataSet);
+
             final boolean result = dataSet.lock().readLockGuard(() -> {
                 long stop = ProcessingProfiler.getTimeDiff(mid, "dataSet.lock()");
 
@@ -424,28 +439,57 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
                     return false;
                 }
 
-                localCache = new ContourDataSetCache(xyChart, this, dataSet); // NOPMD
+                final ContourDataSetCache cache = caches.get(dataSet);
+                if (cache == null) {
+                    caches.put(dataSet, new ContourDataSetCache(xyChart, this, dataSet)); // NOPMD
+                } else {
+                    cache.update(xyChart, this);
+                }
                 ProcessingProfiler.getTimeDiff(stop, "updateCachedVariables");
                 return true;
             });
 
             if (result) {
+                localCache = caches.get(dataSet);
                 layoutZAxis(getZAxis());
                 // data reduction algorithm here
                 paintCanvas(gc);
                 drawnDataSet.add(dataSet);
-                localCache.releaseCachedVariables();
             }
 
             ProcessingProfiler.getTimeDiff(mid, "finished drawing");
 
         } // end of 'dataSetIndex' loop
 
+        releaseUnusedCaches(drawnDataSet);
+
         ProcessingProfiler.getTimeDiff(start);
 
         return drawnDataSet;
     }
 
+    private boolean isScrollingApplicable(final XYChart chart, final GridDataSet dataSet) {
+        return isScrolling() && getContourType() == ContourType.HEATMAP && dataSet.getNGrid() == 2 //
+                && !chart.getXAxis().isInvertedAxis() && !chart.getYAxis().isInvertedAxis();
+    }
+
+    /**
+     * disposes the caches, ring buffers and hexagon renderers of data sets that are no longer drawn by this renderer
+     *
+     * @param drawnDataSets data sets that have been drawn in the last render pass
+     */
+    private void releaseUnusedCaches(final List<DataSet> drawnDataSets) {
+        caches.entrySet().removeIf(entry -> {
+            if (drawnDataSets.stream().anyMatch(dataSet -> dataSet == entry.getKey())) {
+                return false;
+            }
+            entry.getValue().dispose();
+            return true;
+        });
+        ringBuffers.keySet().removeIf(key -> drawnDataSets.stream().noneMatch(dataSet -> dataSet == key));
+        hexagonRenderers.keySet().removeIf(key -> drawnDataSets.stream().noneMatch(dataSet -> dataSet == key));
+    }
+
     public void shiftZAxisToLeft() {
         gradientRect.toBack();
         if (zAxis instanceof Node) {
@@ -0,0 +1,253 @@
+package de.gsi.chart.renderer.spi;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+
+import java.util.Arrays;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import de.gsi.chart.XYChart;
+import de.gsi.chart.axes.Axis;
+import de.gsi.chart.axes.AxisTransform;
+import de.gsi.chart.renderer.datareduction.DefaultDataReducer3D;
+import de.gsi.chart.renderer.datareduction.ReductionType;
+import de.gsi.chart.renderer.spi.utils.ColorGradient;
+import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.utils.ProcessingProfiler;
+
+/**
+ * Colour-mapped heat-map image of a waterfall-type {@link GridDataSet} (ie. new rows are appended at the highest y
+ * index while the oldest rows at the lowest y indices are dropped) kept as a ring buffer of image rows. Only rows
+ * that have been appended since the last update are colour-mapped and written into the image, which is drawn with a
+ * wrap-around offset, so that the per-update cost is O(new rows x width) rather than O(full grid).
+ * <p>
+ * Appended rows are detected by locating the previously newest rows in the present data. The full image is rebuilt if
+ * they cannot be found, if the axis ranges, z-range, grid shape or colour-mapping parameters changed, and -- to bound
+ * the effect of mis-detections for e.g. long sequences of identical rows -- once the whole buffer has been turned
+ * over incrementally. Only reductions along the x-axis are performed, the y-axis is scaled while drawing.
+ */
+class ContourDataSetRingBuffer {
+    protected static final int N_LUT_COLORS = 4096;
+    protected static final int N_REFERENCE_ROWS = 4;
+    private final double[] state = new double[14];
+    private ColorGradient colorGradient;
+    private ReductionType reductionType;
+    private AxisTransform zTransform;
+    private WritableImage image;
+    private int[] rowPixels = new int[0];
+    private double[] rowData = new double[0];
+    private double[] reducedRow = new double[0];
+    private double[][] referenceRows = new double[0][];
+    private int nReferenceRows;
+    private int width; // image width (after x-reduction)
+    private int height; // number of rows
+    private int head; // image row containing the newest data row
+    private int incrementalRows;
+    private boolean valid;
+
+    // geometry of the last update
+    protected int indexXMin;
+    protected int indexXMax;
+    protected double xDataPixelMin;
+    protected double xDataPixelRange;
+    protected double yDataPixelMin;
+    protected double yDataPixelRange;
+
+    /**
+     * @param gc graphics context to draw the ring-buffer image on (N.B. needs to be called after {@link #update})
+     * @param smooth {@code true}: enable image smoothing
+     */
+    public void draw(final GraphicsContext gc, final boolean smooth) {
+        if (image == null || height == 0) {
+            return;
+        }
+        final double rowHeight = yDataPixelRange / height;
+        final int nUpper = height - head;
+        gc.save();
+        gc.setImageSmoothing(smooth);
+        // newest rows (ring-buffer rows [head, height)) are drawn at the top, the older wrapped-around rows below
+        gc.drawImage(image, 0, head, width, nUpper, xDataPixelMin, yDataPixelMin, xDataPixelRange, nUpper * rowHeight);
+        if (head > 0) {
+            gc.drawImage(image, 0, 0, width, head, xDataPixelMin, yDataPixelMin + nUpper * rowHeight, xDataPixelRange, head * rowHeight);
+        }
+        gc.restore();
+    }
+
+    /**
+     * @return ring-buffer image row containing the newest data row
+     */
+    public int getHead() {
+        return head;
+    }
+
+    /**
+     * @return number of rows that have been updated incrementally since the last full rebuild
+     */
+    public int getIncrementalRows() {
+        return incrementalRows;
+    }
+
+    /**
+     * invalidates the buffer, the next update performs a full rebuild
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Updates the ring-buffer image. N.B. the read-lock of the data set needs to be held by the caller.
+     *
+     * @param chart the chart
+     * @param renderer the renderer providing the z-axis, colour-mapping and reduction parameters
+     * @param dataSet the waterfall-type grid data set (N.B. should be always the same data set for a given buffer)
+     * @return number of rows that have been colour-mapped
+     */
+    public int update(final XYChart chart, final ContourDataSetRenderer renderer, final GridDataSet dataSet) {
+        final long start = ProcessingProfiler.getTimeStamp();
+        final Axis xAxis = chart.getXAxis();
+        final Axis yAxis = chart.getYAxis();
+        final Axis zAxis = renderer.getZAxis();
+        final double xAxisWidth = xAxis.getWidth();
+
+        // visible x index range and pixel geometry -- same conventions as for ContourDataSetCache
+        final double xMin = xAxis.isInvertedAxis() ? xAxis.getValueForDisplay(xAxisWidth) : xAxis.getValueForDisplay(0);
+        final double xMax = xAxis.isInvertedAxis() ? xAxis.getValueForDisplay(0) : xAxis.getValueForDisplay(xAxisWidth);
+        final int indexXMinTemp = Math.max(0, dataSet.getGridIndex(DIM_X, xMin));
+        final int indexXMaxTemp = Math.min(dataSet.getGridIndex(DIM_X, xMax), dataSet.getShape(DIM_X) - 1);
+        indexXMin = Math.min(indexXMinTemp, indexXMaxTemp);
+        indexXMax = Math.max(indexXMinTemp, indexXMaxTemp);
+        final double xDataPixelMinTemp = xAxis.getDisplayPosition(dataSet.getAxisDescription(DIM_X).getMin());
+        final double xDataPixelMaxTemp = xAxis.getDisplayPosition(dataSet.getAxisDescription(DIM_X).getMax());
+        xDataPixelMin = Math.max(Math.min(xDataPixelMinTemp, xDataPixelMaxTemp), 0);
+        xDataPixelRange = Math.abs(Math.min(Math.max(xDataPixelMinTemp, xDataPixelMaxTemp), xAxisWidth) - xDataPixelMin);
+        final double yDataPixelMinTemp = yAxis.getDisplayPosition(dataSet.getAxisDescription(DIM_Y).getMax());
+        final double yDataPixelMaxTemp = yAxis.getDisplayPosition(dataSet.getAxisDescription(DIM_Y).getMin());
+        yDataPixelMin = Math.min(yDataPixelMinTemp, yDataPixelMaxTemp);
+        yDataPixelRange = Math.abs(yDataPixelMaxTemp - yDataPixelMinTemp);
+
+        final int xSize = indexXMax - indexXMin + 1;
+        final int nRows = dataSet.getShape(DIM_Y);
+        final int reductionFactorX = Math.max(renderer.getReductionFactorX(), 1);
+        final double dataPixelSizeX = (double) reductionFactorX * xSize / xAxisWidth;
+        final boolean reduceX = dataPixelSizeX > 1.0 && xSize > 10 && renderer.isActualReducePoints();
+        final int newWidth = reduceX ? Math.max(1, (int) (xSize / dataPixelSizeX)) : xSize;
+
+        final double[] newState = { indexXMin, indexXMax, nRows, newWidth, zAxis.getMin(), zAxis.getMax(), zAxis.isInvertedAxis() ? 1 : 0,
+            renderer.getNumberQuantisationLevels(), xAxis.getMin(), xAxis.getMax(), xAxisWidth, yAxis.getHeight(), dataSet.getShape(DIM_X),
+            zAxis.isLogAxis() ? 1 : 0 };
+        final boolean geometryChanged = !Arrays.equals(state, newState) || colorGradient != renderer.getColorGradient()
+                                        || reductionType != renderer.getReductionType() || zTransform != zAxis.getAxisTransform();
+        System.arraycopy(newState, 0, state, 0, newState.length);
+        colorGradient = renderer.getColorGradient();
+        reductionType = renderer.getReductionType();
+        zTransform = zAxis.getAxisTransform();
+        if (zTransform == null || nRows == 0 || xSize <= 0) {
+            height = 0;
+            return 0;
+        }
+
+        final int shift = valid && !geometryChanged && incrementalRows < nRows ? findRowShift(dataSet, indexXMin, indexXMax, referenceRows, nReferenceRows) : -1;
+        final int nUpdate;
+        if (shift < 0 || shift >= nRows) {
+            // full rebuild
+            width = newWidth;
+            height = nRows;
+            head = 0;
+            incrementalRows = 0;
+            if (image == null || (int) image.getWidth() != width || (int) image.getHeight() != height) {
+                image = new WritableImage(width, height);
+            }
+            nUpdate = nRows;
+        } else {
+            head = Math.floorMod(head - shift, height);
+            incrementalRows += shift;
+            nUpdate = shift;
+        }
+
+        final PixelWriter pixelWriter = image.getPixelWriter();
+        final int dataDim = dataSet.getNGrid();
+        final int nQuant = renderer.getNumberQuantisationLevels();
+        final int[] lut = colorGradient.getLookUpTable(N_LUT_COLORS);
+        ensureBufferSizes(xSize);
+        for (int i = 0; i < nUpdate; i++) {
+            final int yIndex = nRows - 1 - i; // newest first
+            for (int xIndex = 0; xIndex < xSize; xIndex++) {
+                rowData[xIndex] = dataSet.get(dataDim, xIndex + indexXMin, yIndex);
+            }
+            final double[] row;
+            if (reduceX) {
+                DefaultDataReducer3D.resample(rowData, xSize, 1, reducedRow, width, 1, reductionType);
+                row = reducedRow;
+            } else {
+                row = rowData;
+            }
+            ContourDataSetCache.quantizeData(row, width, 1, zAxis.isInvertedAxis(), zAxis.getMin(), zAxis.getMax(), zTransform, nQuant);
+            ContourDataSetCache.convertDataArrayToArgbPre(row, width, 1, 0.0, 1.0, lut, rowPixels, false);
+            pixelWriter.setPixels(0, (head + i) % height, width, 1, PixelFormat.getIntArgbPreInstance(), rowPixels, 0, width);
+        }
+        // keep a copy of the newest rows to locate them on the next update
+        nReferenceRows = Math.min(N_REFERENCE_ROWS, nRows);
+        for (int i = 0; i < nReferenceRows; i++) {
+            final double[] reference = referenceRows[i];
+            for (int xIndex = 0; xIndex < xSize; xIndex++) {
+                reference[xIndex] = dataSet.get(dataDim, xIndex + indexXMin, nRows - 1 - i);
+            }
+        }
+        valid = true;
+        ProcessingProfiler.getTimeDiff(start, "ring-buffer update: " + nUpdate + " rows");
+        return nUpdate;
+    }
+
+    private void ensureBufferSizes(final int xSize) {
+        if (rowData.length < xSize) {
+            rowData = new double[xSize];
+            reducedRow = new double[xSize];
+            rowPixels = new int[xSize];
+        }
+        if (referenceRows.length == 0 || referenceRows[0].length < xSize) {
+            referenceRows = new double[N_REFERENCE_ROWS][xSize];
+        }
+    }
+
+    /**
+     * Locates the previously newest rows in the present data.
+     *
+     * @param dataSet waterfall-type grid data set
+     * @param xMinIndex first x index of the reference rows
+     * @param xMaxIndex last x index of the reference rows
+     * @param referenceRows previously newest rows (newest first, restricted to [xMinIndex, xMaxIndex])
+     * @param nReferenceRows number of valid reference rows
+     * @return number of rows appended since (ie. '0' if unchanged) or '-1' if the reference rows could not be found
+     */
+    protected static int findRowShift(final GridDataSet dataSet, final int xMinIndex, final int xMaxIndex, final double[][] referenceRows,
+            final int nReferenceRows) {
+        final int nRows = dataSet.getShape(DIM_Y);
+        if (nReferenceRows <= 0 || nReferenceRows > nRows) {
+            return -1;
+        }
+        final int dataDim = dataSet.getNGrid();
+        for (int shift = 0; shift <= nRows - nReferenceRows; shift++) {
+            if (rowsMatch(dataSet, dataDim, xMinIndex, xMaxIndex, nRows - 1 - shift, referenceRows, nReferenceRows)) {
+                return shift;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean rowsMatch(final GridDataSet dataSet, final int dataDim, final int xMinIndex, final int xMaxIndex, final int yIndex,
+            final double[][] referenceRows, final int nReferenceRows) {
+        for (int i = 0; i < nReferenceRows; i++) {
+            final double[] reference = referenceRows[i];
+            for (int xIndex = xMinIndex; xIndex <= xMaxIndex; xIndex++) {
+                if (Double.doubleToLongBits(reference[xIndex - xMinIndex]) != Double.doubleToLongBits(dataSet.get(dataDim, xIndex, yIndex - i))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,435 @@
+package de.gsi.chart.renderer.spi;
+
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableList;
+import javafx.geometry.Orientation;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+
+import de.gsi.chart.Chart;
+import de.gsi.chart.XYChart;
+import de.gsi.chart.axes.Axis;
+import de.gsi.chart.renderer.Renderer;
+import de.gsi.chart.renderer.spi.utils.ColorGradient;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.DoubleDataSet;
+import de.gsi.dataset.spi.DoubleErrorDataSet;
+import de.gsi.dataset.utils.CachedDaemonThreadFactory;
+import de.gsi.dataset.utils.DoubleArrayCache;
+import de.gsi.dataset.utils.ProcessingProfiler;
+
+/**
+ * Density (2D histogram) scatter renderer for large numbers of data points, e.g. correlation plots with several million
+ * points for which individual markers would be both slow and visually saturated.
+ * <p>
+ * The (x,y) coordinates of all data points are binned into a pixel-resolution accumulation grid (optionally coarser,
+ * see {@link #binSizeProperty()}) -- in parallel for large data sets -- which is then colour-mapped via the
+ * {@link ColorGradient} (see {@link #colorGradientProperty()}) using a linear or logarithmic count scale and drawn as a
+ * single image. The cost is thus O(n) for the binning and O(pixels) for the drawing.
+ * <p>
+ * With {@link #accumulateProperty()} enabled, only the data points that have been appended since the previous render
+ * pass are binned as long as the axis ranges and canvas size do not change, which suits streaming data. This assumes
+ * append-only data sets: the accumulation is reset automatically if a data set shrinks, but for data sets that modify
+ * existing points (e.g. circular buffers) {@link #clearAccumulation()} needs to be called explicitly.
+ */
+public class DensityDataSetRenderer extends AbstractDataSetManagement<DensityDataSetRenderer> implements Renderer {
+    private static final String PARALLEL_WORKER_ERROR = "one parallel worker thread finished execution with error";
+    private static final int N_LUT_COLORS = 1024;
+    private static final int MIN_POINTS_PER_WORKER = 100_000;
+    private static final int TRANSFORM_BLOCK_SIZE = 4096;
+    private final ObjectProperty<ColorGradient> colorGradient = new SimpleObjectProperty<>(this, "colorGradient", ColorGradient.DEFAULT);
+    private final BooleanProperty logScale = new SimpleBooleanProperty(this, "logScale", false);
+    private final BooleanProperty accumulate = new SimpleBooleanProperty(this, "accumulate", false);
+    private final BooleanProperty parallelImplementation = new SimpleBooleanProperty(this, "parallelImplementation", true);
+    private final IntegerProperty binSize = new SimpleIntegerProperty(this, "binSize", 1) {
+        @Override
+        public void set(final int newValue) {
+            super.set(Math.max(1, newValue));
+        }
+    };
+    // N.B. keyed by identity since the data set hashCode/equals depend on its content and ranges
+    private final Map<DataSet, Integer> processedCount = new IdentityHashMap<>();
+    private int gridWidth;
+    private int gridHeight;
+    private int[] counts = new int[0];
+    private int[][] workerGrids = new int[0][];
+    private int[] pixels = new int[0];
+    private WritableImage image;
+    // axis/geometry state for which the accumulated counts are valid
+    private final double[] gridState = new double[8];
+
+    public DensityDataSetRenderer() {
+        super();
+    }
+
+    /**
+     * @return property controlling whether new data points are accumulated on top of the previously binned ones
+     */
+    public BooleanProperty accumulateProperty() {
+        return accumulate;
+    }
+
+    /**
+     * @return property controlling the bin size in screen pixels (default: 1, ie. pixel resolution)
+     */
+    public IntegerProperty binSizeProperty() {
+        return binSize;
+    }
+
+    /**
+     * resets the accumulated bin counts
+     */
+    public void clearAccumulation() {
+        Arrays.fill(counts, 0);
+        processedCount.clear();
+    }
+
+    public ObjectProperty<ColorGradient> colorGradientProperty() {
+        return colorGradient;
+    }
+
+    @Override
+    public Canvas drawLegendSymbol(final DataSet dataSet, final int dsIndex, final int width, final int height) {
+        final Canvas canvas = new Canvas(width, height);
+        final GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(new LinearGradient(0, 0, 1, 0, true, CycleMethod.NO_CYCLE, getColorGradient().getStops()));
+        gc.fillRect(1, 1, width - 2.0, height - 2.0);
+        return canvas;
+    }
+
+    public int getBinSize() {
+        return binSizeProperty().get();
+    }
+
+    public ColorGradient getColorGradient() {
+        return colorGradientProperty().get();
+    }
+
+    /**
+     * @return maximum bin count of the presently accumulated grid
+     */
+    public int getMaxCount() {
+        int max = 0;
+        final int length = gridWidth * gridHeight;
+        for (int i = 0; i < length; i++) {
+            max = Math.max(max, counts[i]);
+        }
+        return max;
+    }
+
+    /**
+     * @return true: new data points are accumulated on top of the previously binned ones
+     */
+    public boolean isAccumulate() {
+        return accumulateProperty().get();
+    }
+
+    /**
+     * @return true: bin counts are colour-mapped using a logarithmic scale
+     */
+    public boolean isLogScale() {
+        return logScaleProperty().get();
+    }
+
+    /**
+     * @return true: large data sets are binned in parallel
+     */
+    public boolean isParallelImplementation() {
+        return parallelImplementationProperty().get();
+    }
+
+    /**
+     * @return property controlling whether bin counts are colour-mapped using a logarithmic scale
+     */
+    public BooleanProperty logScaleProperty() {
+        return logScale;
+    }
+
+    /**
+     * @return property controlling whether large data sets are binned in parallel (default: true)
+     */
+    public BooleanProperty parallelImplementationProperty() {
+        return parallelImplementation;
+    }
+
+    @Override
+    public List<DataSet> render(final GraphicsContext gc, final Chart chart, final int dataSetOffset, final ObservableList<DataSet> datasets) {
+        if (!(chart instanceof XYChart)) {
+            throw new InvalidParameterException("must be derivative of XYChart for renderer - " + this.getClass().getSimpleName());
+        }
+
+        // make local copy and add renderer specific data sets
+        final List<DataSet> localDataSetList = new ArrayList<>(datasets);
+        localDataSetList.addAll(super.getDatasets());
+        if (localDataSetList.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        final Axis xAxis = getFirstAxis(Orientation.HORIZONTAL) == null ? chart.getFirstAxis(Orientation.HORIZONTAL) : getFirstAxis(Orientation.HORIZONTAL);
+        final Axis yAxis = getFirstAxis(Orientation.VERTICAL) == null ? chart.getFirstAxis(Orientation.VERTICAL) : getFirstAxis(Orientation.VERTICAL);
+        final long start = ProcessingProfiler.getTimeStamp();
+
+        updateGrid(xAxis, yAxis, isAccumulate());
+        for (final DataSet dataSet : localDataSetList) {
+            if (processedCount.getOrDefault(dataSet, 0) > dataSet.getDataCount()) {
+                // data set shrunk -> cannot be updated incrementally
+                clearAccumulation();
+                break;
+            }
+        }
+        for (final DataSet dataSet : localDataSetList) {
+            dataSet.lock().readLockGuard(() -> binDataSet(dataSet, xAxis, yAxis));
+        }
+        // release the state of data sets that are no longer drawn
+        processedCount.keySet().removeIf(dataSet -> localDataSetList.stream().noneMatch(ds -> ds == dataSet));
+        ProcessingProfiler.getTimeDiff(start, "binning");
+
+        if (gridWidth > 0 && gridHeight > 0) {
+            computePixels();
+            if (image == null || (int) image.getWidth() != gridWidth || (int) image.getHeight() != gridHeight) {
+                image = new WritableImage(gridWidth, gridHeight);
+            }
+            image.getPixelWriter().setPixels(0, 0, gridWidth, gridHeight, PixelFormat.getIntArgbPreInstance(), pixels, 0, gridWidth);
+            gc.save();
+            gc.setImageSmoothing(false);
+            gc.drawImage(image, 0, 0, gridWidth * (double) getBinSize(), gridHeight * (double) getBinSize());
+            gc.restore();
+        }
+        ProcessingProfiler.getTimeDiff(start);
+
+        return localDataSetList;
+    }
+
+    public DensityDataSetRenderer setAccumulate(final boolean state) {
+        accumulateProperty().set(state);
+        return getThis();
+    }
+
+    public DensityDataSetRenderer setBinSize(final int size) {
+        binSizeProperty().set(size);
+        return getThis();
+    }
+
+    public DensityDataSetRenderer setColorGradient(final ColorGradient gradient) {
+        colorGradientProperty().set(gradient);
+        return getThis();
+    }
+
+    public DensityDataSetRenderer setLogScale(final boolean state) {
+        logScaleProperty().set(state);
+        return getThis();
+    }
+
+    public DensityDataSetRenderer setParallelImplementation(final boolean state) {
+        parallelImplementationProperty().set(state);
+        return getThis();
+    }
+
+    /**
+     * bins the data points of the given data set that have not yet been accumulated
+     *
+     * @param dataSet data set to be binned (N.B. read-lock needs to be held by the caller)
+     * @param xAxis horizontal axis
+     * @param yAxis vertical axis
+     */
+    protected void binDataSet(final DataSet dataSet, final Axis xAxis, final Axis yAxis) {
+        final int nData = dataSet.getDataCount();
+        final int first = isAccumulate() ? processedCount.getOrDefault(dataSet, 0) : 0;
+        processedCount.put(dataSet, nData);
+        final int nBins = gridWidth * gridHeight;
+        if (first >= nData || nBins == 0) {
+            return;
+        }
+
+        final int nWorkers = isParallelImplementation() ? Math.min(CachedDaemonThreadFactory.getNumbersOfThreads(), (nData - first) / Math.max(nBins, MIN_POINTS_PER_WORKER)) : 1;
+        if (nWorkers <= 1) {
+            bin(dataSet, xAxis, yAxis, first, nData, counts);
+            return;
+        }
+
+        if (workerGrids.length < nWorkers || workerGrids[0].length < nBins) {
+            workerGrids = new int[nWorkers][nBins];
+        }
+        final int stepSize = (int) Math.ceil((nData - first) / (double) nWorkers);
+        final List<Callable<Boolean>> workers = new ArrayList<>(nWorkers);
+        for (int w = 0; w < nWorkers; w++) {
+            final int[] localGrid = workerGrids[w];
+            final int startIndex = first + w * stepSize;
+            workers.add(() -> {
+                Arrays.fill(localGrid, 0, nBins, 0);
+                bin(dataSet, xAxis, yAxis, startIndex, Math.min(nData, startIndex + stepSize), localGrid);
+                return Boolean.TRUE;
+            });
+        }
+        invokeAll(workers);
+
+        // merge worker grids in parallel (partitioned by bin index)
+        workers.clear();
+        final int binStep = (int) Math.ceil(nBins / (double) nWorkers);
+        for (int w = 0; w < nWorkers; w++) {
+            final int binStart = w * binStep;
+            final int binStop = Math.min(nBins, binStart + binStep);
+            workers.add(() -> {
+                for (final int[] localGrid : Arrays.copyOf(workerGrids, nWorkers)) {
+                    for (int i = binStart; i < binStop; i++) {
+                        counts[i] += localGrid[i];
+                    }
+                }
+                return Boolean.TRUE;
+            });
+        }
+        invokeAll(workers);
+    }
+
+    /**
+     * colour-maps the accumulated counts into the ARGB pixel buffer
+     */
+    protected void computePixels() {
+        final int length = gridWidth * gridHeight;
+        if (pixels.length < length) {
+            pixels = new int[length];
+        }
+        final int[] lut = getColorGradient().getLookUpTable(N_LUT_COLORS);
+        final int max = getMaxCount();
+        if (max == 0) {
+            Arrays.fill(pixels, 0, length, 0);
+            return;
+        }
+        final boolean log = isLogScale();
+        final double norm = (N_LUT_COLORS - 1) / (log ? Math.log1p(max) : max);
+        for (int i = 0; i < length; i++) {
+            final int count = counts[i];
+            if (count == 0) {
+                pixels[i] = 0;
+                continue;
+            }
+            // N.B. lowest non-zero counts are mapped just above the (often transparent) zero gradient offset
+            pixels[i] = lut[Math.max(1, (int) ((log ? Math.log1p(count) : count) * norm))];
+        }
+    }
+
+    /**
+     * @return accumulated bin counts (row-major, top row first, length &ge; grid width * height)
+     */
+    protected int[] getCounts() {
+        return counts;
+    }
+
+    protected int getGridHeight() {
+        return gridHeight;
+    }
+
+    protected int getGridWidth() {
+        return gridWidth;
+    }
+
+    /**
+     * @return colour-mapped pixels (pre-multiplied ARGB, row-major, length &ge; grid width * height)
+     */
+    protected int[] getPixels() {
+        return pixels;
+    }
+
+    @Override
+    protected DensityDataSetRenderer getThis() {
+        return this;
+    }
+
+    /**
+     * adjusts the accumulation grid to the axis geometry and clears it if the geometry changed or if accumulation is
+     * disabled
+     *
+     * @param xAxis horizontal axis
+     * @param yAxis vertical axis
+     * @param keepCounts true: keep the accumulated counts if the axis ranges and sizes did not change
+     */
+    protected void updateGrid(final Axis xAxis, final Axis yAxis, final boolean keepCounts) {
+        final int bin = getBinSize();
+        final double width = xAxis.getWidth();
+        final double height = yAxis.getHeight();
+        final double[] newState = { width, height, bin, xAxis.getMin(), xAxis.getMax(), yAxis.getMin(), yAxis.getMax(), (xAxis.isLogAxis() ? 1 : 0) + (yAxis.isLogAxis() ? 2 : 0) };
+        final boolean geometryChanged = !Arrays.equals(gridState, newState);
+        System.arraycopy(newState, 0, gridState, 0, newState.length);
+
+        gridWidth = Math.max(0, (int) Math.ceil(width / bin));
+        gridHeight = Math.max(0, (int) Math.ceil(height / bin));
+        final int length = gridWidth * gridHeight;
+        if (counts.length < length) {
+            counts = new int[length];
+            processedCount.clear();
+        } else if (geometryChanged || !keepCounts) {
+            clearAccumulation();
+        }
+    }
+
+    private void bin(final DataSet dataSet, final Axis xAxis, final Axis yAxis, final int min, final int max, final int[] grid) {
+        final boolean backingArrays = dataSet instanceof DoubleDataSet || dataSet instanceof DoubleErrorDataSet;
+        final double[] xValues = backingArrays ? dataSet.getValues(DataSet.DIM_X) : null;
+        final double[] yValues = backingArrays ? dataSet.getValues(DataSet.DIM_Y) : null;
+        final double scale = 1.0 / getBinSize();
+        final int width = gridWidth;
+        final int height = gridHeight;
+        // transform blocks of points with the bulk axis API
+        final double[] xPositions = DoubleArrayCache.getInstance().getArray(TRANSFORM_BLOCK_SIZE);
+        final double[] yPositions = DoubleArrayCache.getInstance().getArray(TRANSFORM_BLOCK_SIZE);
+        for (int blockStart = min; blockStart < max; blockStart += TRANSFORM_BLOCK_SIZE) {
+            final int blockLength = Math.min(TRANSFORM_BLOCK_SIZE, max - blockStart);
+            if (backingArrays) {
+                xAxis.getDisplayPositions(xValues, blockStart, xPositions, 0, blockLength);
+                yAxis.getDisplayPositions(yValues, blockStart, yPositions, 0, blockLength);
+            } else {
+                for (int i = 0; i < blockLength; i++) {
+                    xPositions[i] = dataSet.get(DataSet.DIM_X, blockStart + i);
+                    yPositions[i] = dataSet.get(DataSet.DIM_Y, blockStart + i);
+                }
+                xAxis.getDisplayPositions(xPositions, 0, xPositions, 0, blockLength);
+                yAxis.getDisplayPositions(yPositions, 0, yPositions, 0, blockLength);
+            }
+            for (int i = 0; i < blockLength; i++) {
+                final double x = xPositions[i] * scale;
+                final double y = yPositions[i] * scale;
+                // N.B. negated comparison also rejects NaN values
+                if (!(x >= 0.0 && x < width && y >= 0.0 && y < height)) {
+                    continue;
+                }
+                grid[(int) y * width + (int) x]++;
+            }
+        }
+        DoubleArrayCache.getInstance().add(xPositions);
+        DoubleArrayCache.getInstance().add(yPositions);
+    }
+
+    private static void invokeAll(final List<Callable<Boolean>> workers) {
+        try {
+            final List<Future<Boolean>> jobs = CachedDaemonThreadFactory.getCommonPool().invokeAll(workers);
+            for (final Future<Boolean> future : jobs) {
+                final Boolean r = future.get();
+                if (Boolean.FALSE.equals(r)) {
+                    throw new IllegalStateException(PARALLEL_WORKER_ERROR);
+                }
+            }
+        } catch (final InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(PARALLEL_WORKER_ERROR, e);
+        }
+    }
+}
@@ -22,8 +22,11 @@ import de.gsi.chart.marker.DefaultMarker;
 import de.gsi.chart.marker.Marker;
 import de.gsi.chart.renderer.ErrorStyle;
 import de.gsi.chart.renderer.Renderer;
+import de.gsi.chart.renderer.RendererDataReducer;
+import de.gsi.chart.renderer.datareduction.DefaultDataReducer;
 import de.gsi.chart.renderer.spi.utils.BezierCurve;
 import de.gsi.chart.renderer.spi.utils.DefaultRenderColorScheme;
+import de.gsi.chart.renderer.spi.utils.PixelBufferRasterizer;
 import de.gsi.chart.utils.StyleParser;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.DataSetError.ErrorType;
@@ -49,6 +52,11 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
     private static final Logger LOGGER = LoggerFactory.getLogger(ErrorDataSetRenderer.class);
     private Marker marker = DefaultMarker.RECTANGLE; // default: rectangle
     private long stopStamp;
+    // persistent per data set (index) screen coordinate caches, re-used across render passes
+    private final List<CachedDataPoints> cachedPointsPool = new ArrayList<>();
+    private final PixelBufferRasterizer rasterizer = new PixelBufferRasterizer();
+    private boolean rasterActive; // true: rasterise supported components into the pixel buffer during 'render(..)'
+    private final ZoomLevelCache zoomLevelCache = new ZoomLevelCache(0);
 
     /**
      * Creates new <code>ErrorDataSetRenderer</code>.
@@ -64,6 +72,7 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
      */
     public ErrorDataSetRenderer(final int dashSize) {
         setDashSize(dashSize);
+        zoomLevelCacheSizeProperty().addListener((ch, o, n) -> zoomLevelCache.setCapacity(n.intValue()));
     }
 
     /**
@@ -159,6 +168,11 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         final double xMin = xAxis.getValueForDisplay(xAxisInverted ? xAxisWidth : 0.0);
         final double xMax = xAxis.getValueForDisplay(xAxisInverted ? 0.0 : xAxisWidth);
 
+        rasterActive = isRasterRendering() && gc.getCanvas() != null;
+        if (rasterActive) {
+            rasterizer.reset((int) Math.ceil(gc.getCanvas().getWidth()), (int) Math.ceil(gc.getCanvas().getHeight()));
+        }
+
         if (ProcessingProfiler.getDebugState()) {
             ProcessingProfiler.getTimeDiff(start, "init");
         }
@@ -186,8 +200,19 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
                 }
             }
 
+            // previously drawn zoom level -> redraw from the cached reduced screen representation
+            final boolean isPolarPlot = ((XYChart) chart).isPolarPlot();
+            final ZoomLevelCache.Key zoomLevelKey = zoomLevelCache.isEnabled() ? getZoomLevelKey(xAxis, yAxis, dataSet, dataSetOffset + dataSetIndex, isPolarPlot) : null;
+            final CachedDataPoints zoomLevelPoints = zoomLevelKey == null ? null : zoomLevelCache.get(zoomLevelKey);
+            if (zoomLevelPoints != null) {
+                drawnDataSet.add(dataSet);
+                drawChartCompontents(gc, zoomLevelPoints);
+                continue;
+            }
+            final long zoomLevelGeneration = zoomLevelKey == null ? -1 : zoomLevelCache.track(dataSet);
+
             // check for potentially reduced data range we are supposed to plot
-            final Optional<CachedDataPoints> cachedPoints = dataSet.lock().readLockGuard(() -> {
+            final CachedDataPoints cachedPoints = dataSet.lock().readLockGuard(() -> {
                 int indexMin;
                 int indexMax; /* indexMax is excluded in the drawing */
                 if (isAssumeSortedData()) {
@@ -200,7 +225,7 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
 
                 if (indexMax - indexMin <= 0) {
                     // zero length/range data set -> nothing to be drawn
-                    return Optional.empty();
+                    return null;
                 }
 
                 if (ProcessingProfiler.getDebugState()) {
@@ -208,15 +233,20 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
                             "get min/max" + String.format(" from:%d to:%d", indexMin, indexMax));
                 }
 
-                final CachedDataPoints localCachedPoints = new CachedDataPoints(indexMin, indexMax,
-                        dataSet.getDataCount(), true);
+                final boolean isFusedReduction = isFusedReduction(xAxis, yAxis, dataSet, indexMax - indexMin, isPolarPlot);
+                // fused reduction: arrays are sized to the (estimated) reduced output and grown on demand
+                final int capacity = isFusedReduction ? Math.min(indexMax - indexMin, 2 * (int) (xAxis.getWidth() + yAxis.getHeight()) + 2) : dataSet.getDataCount();
+                final CachedDataPoints localCachedPoints = getCachedPoints(ldataSetIndex, indexMin, indexMax, capacity);
                 if (ProcessingProfiler.getDebugState()) {
                     stopStamp = ProcessingProfiler.getTimeDiff(stopStamp, "get CachedPoints");
                 }
 
                 // compute local screen coordinates
-                final boolean isPolarPlot = ((XYChart) chart).isPolarPlot();
-                if (isParallelImplementation()) {
+                if (isFusedReduction) {
+                    localCachedPoints.computeScreenCoordinatesFused(xAxis, yAxis, dataSet, dataSetOffset + ldataSetIndex,
+                            indexMin, indexMax, getErrorType(), isallowNaNs(),
+                            ((DefaultDataReducer) rendererDataReducerProperty().get()).getMinPointPixelDistance());
+                } else if (isParallelImplementation()) {
                     localCachedPoints.computeScreenCoordinatesInParallel(xAxis, yAxis, dataSet,
                             dataSetOffset + ldataSetIndex, indexMin, indexMax, getErrorType(), isPolarPlot,
                             isallowNaNs());
@@ -227,27 +257,42 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
                 if (ProcessingProfiler.getDebugState()) {
                     stopStamp = ProcessingProfiler.getTimeDiff(stopStamp, "computeScreenCoordinates()");
                 }
-                return Optional.of(localCachedPoints);
+                return localCachedPoints;
             });
 
             drawnDataSet.add(dataSet);
-            cachedPoints.ifPresent(value -> {
+            if (cachedPoints != null) {
                 // invoke data reduction algorithm
-                value.reduce(rendererDataReducerProperty().get(), isReducePoints(),
+                cachedPoints.reduce(rendererDataReducerProperty().get(), isReducePoints(),
                         getMinRequiredReductionSize());
 
                 // draw individual plot components
-                drawChartCompontents(gc, value);
+                drawChartCompontents(gc, cachedPoints);
 
-                value.release();
-            });
+                if (zoomLevelKey != null) {
+                    // N.B. the cache owns a copy of the reduced points, the pooled instance is kept for the next frame
+                    final CachedDataPoints reducedPoints = cachedPoints.copyReduced();
+                    if (!zoomLevelCache.put(zoomLevelKey, reducedPoints, zoomLevelGeneration)) {
+                        reducedPoints.release();
+                    }
+                }
+            }
 
             stopStamp = ProcessingProfiler.getTimeStamp();
 
             if (ProcessingProfiler.getDebugState()) {
-                ProcessingProfiler.getTimeDiff(stopStamp, "localCachedPoints.release()");
+                ProcessingProfiler.getTimeDiff(stopStamp, "drawChartCompontents()");
             }
         } // end of 'dataSetIndex' loop
+        if (rasterActive) {
+            rasterActive = false;
+            rasterizer.rasterize(isParallelImplementation());
+            rasterizer.drawToCanvas(gc);
+            if (ProcessingProfiler.getDebugState()) {
+                ProcessingProfiler.getTimeDiff(stopStamp, "rasterize()");
+            }
+        }
+        trimCachedPoints(localDataSetList.size());
         ProcessingProfiler.getTimeDiff(start);
 
         return drawnDataSet;
@@ -344,6 +389,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         if (fillColor != null) {
             gc.setFill(fillColor);
         }
+        final boolean raster = rasterActive && gc.getFill() instanceof Color;
+        final int argbPre = raster ? PixelBufferRasterizer.toArgbPre((Color) gc.getFill()) : 0;
 
         final double minSize = getMarkerSize();
         if (localCachedPoints.errorType[DataSet.DIM_X] != ErrorType.NO_ERROR
@@ -355,7 +402,7 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
                 final double x = localCachedPoints.xValues[i] - radius;
                 final double y = localCachedPoints.yValues[i] - radius;
 
-                gc.fillOval(x, y, 2 * radius, 2 * radius);
+                fillOval(gc, raster, argbPre, x, y, 2 * radius, 2 * radius);
             }
         } else if (localCachedPoints.errorType[DataSet.DIM_X] == ErrorType.NO_ERROR
                    || localCachedPoints.errorType[DataSet.DIM_Y] != ErrorType.NO_ERROR) {
@@ -366,7 +413,7 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
                 final double x = localCachedPoints.xValues[i] - radius;
                 final double y = localCachedPoints.yValues[i] - radius;
 
-                gc.fillOval(x, y, 2 * radius, 2 * radius);
+                fillOval(gc, raster, argbPre, x, y, 2 * radius, 2 * radius);
             }
         } else if (localCachedPoints.errorType[DataSet.DIM_X] != ErrorType.NO_ERROR
                    || localCachedPoints.errorType[DataSet.DIM_Y] != ErrorType.NO_ERROR) {
@@ -378,14 +425,14 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
                 final double x = localCachedPoints.xValues[i] - width;
                 final double y = localCachedPoints.yValues[i] - height;
 
-                gc.fillOval(x, y, 2 * width, 2 * height);
+                fillOval(gc, raster, argbPre, x, y, 2 * width, 2 * height);
             }
         } else { // NO ERROR
             for (int i = 0; i < localCachedPoints.actualDataCount; i++) {
                 final double x = localCachedPoints.xValues[i] - minSize;
                 final double y = localCachedPoints.yValues[i] - minSize;
 
-                gc.fillOval(x, y, 2 * minSize, 2 * minSize);
+                fillOval(gc, raster, argbPre, x, y, 2 * minSize, 2 * minSize);
             }
         }
 
@@ -416,44 +463,46 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         gc.save();
         DefaultRenderColorScheme.setFillScheme(gc, lCacheP.defaultStyle, lCacheP.dataSetIndex);
         DefaultRenderColorScheme.setGraphicsContextAttributes(gc, lCacheP.defaultStyle);
+        final boolean raster = rasterActive && gc.getStroke() instanceof Color && gc.getLineDashes() == null;
+        final int argbPre = raster ? PixelBufferRasterizer.toArgbPre((Color) gc.getStroke()) : 0;
 
         for (int i = 0; i < lCacheP.actualDataCount; i++) {
             if (lCacheP.errorType[DataSet.DIM_X] != ErrorType.NO_ERROR
                     && lCacheP.errorType[DataSet.DIM_Y] != ErrorType.NO_ERROR) {
                 // draw error bars
-                gc.strokeLine(lCacheP.xValues[i], lCacheP.errorYNeg[i], lCacheP.xValues[i], lCacheP.errorYPos[i]);
-                gc.strokeLine(lCacheP.errorXNeg[i], lCacheP.yValues[i], lCacheP.errorXPos[i], lCacheP.yValues[i]);
+                strokeLine(gc, raster, argbPre, lCacheP.xValues[i], lCacheP.errorYNeg[i], lCacheP.xValues[i], lCacheP.errorYPos[i]);
+                strokeLine(gc, raster, argbPre, lCacheP.errorXNeg[i], lCacheP.yValues[i], lCacheP.errorXPos[i], lCacheP.yValues[i]);
 
                 // draw horizontal dashes
-                gc.strokeLine(lCacheP.xValues[i] - dashHalf, lCacheP.errorYNeg[i], lCacheP.xValues[i] + dashHalf,
+                strokeLine(gc, raster, argbPre, lCacheP.xValues[i] - dashHalf, lCacheP.errorYNeg[i], lCacheP.xValues[i] + dashHalf,
                         lCacheP.errorYNeg[i]);
-                gc.strokeLine(lCacheP.xValues[i] - dashHalf, lCacheP.errorYPos[i], lCacheP.xValues[i] + dashHalf,
+                strokeLine(gc, raster, argbPre, lCacheP.xValues[i] - dashHalf, lCacheP.errorYPos[i], lCacheP.xValues[i] + dashHalf,
                         lCacheP.errorYPos[i]);
 
                 // draw vertical dashes
-                gc.strokeLine(lCacheP.errorXNeg[i], lCacheP.yValues[i] - dashHalf, lCacheP.errorXNeg[i],
+                strokeLine(gc, raster, argbPre, lCacheP.errorXNeg[i], lCacheP.yValues[i] - dashHalf, lCacheP.errorXNeg[i],
                         lCacheP.yValues[i] + dashHalf);
-                gc.strokeLine(lCacheP.errorXPos[i], lCacheP.yValues[i] - dashHalf, lCacheP.errorXPos[i],
+                strokeLine(gc, raster, argbPre, lCacheP.errorXPos[i], lCacheP.yValues[i] - dashHalf, lCacheP.errorXPos[i],
                         lCacheP.yValues[i] + dashHalf);
             } else if (lCacheP.errorType[DataSet.DIM_X] == ErrorType.NO_ERROR
                        && lCacheP.errorType[DataSet.DIM_Y] != ErrorType.NO_ERROR) {
                 // draw error bars
-                gc.strokeLine(lCacheP.xValues[i], lCacheP.errorYNeg[i], lCacheP.xValues[i], lCacheP.errorYPos[i]);
+                strokeLine(gc, raster, argbPre, lCacheP.xValues[i], lCacheP.errorYNeg[i], lCacheP.xValues[i], lCacheP.errorYPos[i]);
 
                 // draw horizontal dashes
-                gc.strokeLine(lCacheP.xValues[i] - dashHalf, lCacheP.errorYNeg[i], lCacheP.xValues[i] + dashHalf,
+                strokeLine(gc, raster, argbPre, lCacheP.xValues[i] - dashHalf, lCacheP.errorYNeg[i], lCacheP.xValues[i] + dashHalf,
                         lCacheP.errorYNeg[i]);
-                gc.strokeLine(lCacheP.xValues[i] - dashHalf, lCacheP.errorYPos[i], lCacheP.xValues[i] + dashHalf,
+                strokeLine(gc, raster, argbPre, lCacheP.xValues[i] - dashHalf, lCacheP.errorYPos[i], lCacheP.xValues[i] + dashHalf,
                         lCacheP.errorYPos[i]);
             } else if (lCacheP.errorType[DataSet.DIM_X] != ErrorType.NO_ERROR
                        && lCacheP.errorType[DataSet.DIM_Y] == ErrorType.NO_ERROR) {
                 // draw error bars
-                gc.strokeLine(lCacheP.errorXNeg[i], lCacheP.yValues[i], lCacheP.errorXPos[i], lCacheP.yValues[i]);
+                strokeLine(gc, raster, argbPre, lCacheP.errorXNeg[i], lCacheP.yValues[i], lCacheP.errorXPos[i], lCacheP.yValues[i]);
 
                 // draw horizontal dashes
-                gc.strokeLine(lCacheP.xValues[i] - dashHalf, lCacheP.errorYNeg[i], lCacheP.xValues[i] + dashHalf,
+                strokeLine(gc, raster, argbPre, lCacheP.xValues[i] - dashHalf, lCacheP.errorYNeg[i], lCacheP.xValues[i] + dashHalf,
                         lCacheP.errorYNeg[i]);
-                gc.strokeLine(lCacheP.xValues[i] - dashHalf, lCacheP.errorYPos[i], lCacheP.xValues[i] + dashHalf,
+                strokeLine(gc, raster, argbPre, lCacheP.xValues[i] - dashHalf, lCacheP.errorYPos[i], lCacheP.xValues[i] + dashHalf,
                         lCacheP.errorYPos[i]);
             }
         }
@@ -476,30 +525,15 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         DefaultRenderColorScheme.setFillScheme(gc, localCachedPoints.defaultStyle,
                 localCachedPoints.dataSetIndex + localCachedPoints.dataSetStyleIndex);
 
-        final int nDataCount = localCachedPoints.actualDataCount;
-        final int nPolygoneEdges = 2 * nDataCount;
-        final double[] xValuesSurface = DoubleArrayCache.getInstance().getArrayExact(nPolygoneEdges);
-        final double[] yValuesSurface = DoubleArrayCache.getInstance().getArrayExact(nPolygoneEdges);
-
-        final int xend = nPolygoneEdges - 1;
-        for (int i = 0; i < nDataCount; i++) {
-            xValuesSurface[i] = localCachedPoints.xValues[i];
-            yValuesSurface[i] = localCachedPoints.errorYNeg[i];
-            xValuesSurface[xend - i] = localCachedPoints.xValues[i];
-            yValuesSurface[xend - i] = localCachedPoints.errorYPos[i];
-        }
-
+        localCachedPoints.computeErrorSurfacePolygons(false, isParallelImplementation());
         gc.setFillRule(FillRule.EVEN_ODD);
-        gc.fillPolygon(xValuesSurface, yValuesSurface, nPolygoneEdges);
+        fillPolygonSegments(gc, localCachedPoints);
 
         drawPolyLine(gc, localCachedPoints);
         drawBars(gc, localCachedPoints);
         drawMarker(gc, localCachedPoints);
         drawBubbles(gc, localCachedPoints);
 
-        DoubleArrayCache.getInstance().add(xValuesSurface);
-        DoubleArrayCache.getInstance().add(yValuesSurface);
-
         ProcessingProfiler.getTimeDiff(start);
     }
 
@@ -515,57 +549,16 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         DefaultRenderColorScheme.setFillScheme(gc, localCachedPoints.defaultStyle,
                 localCachedPoints.dataSetIndex + localCachedPoints.dataSetStyleIndex);
 
+        // surface is split into separate polygons at points with non-finite errors
+        localCachedPoints.computeErrorSurfacePolygons(true, isParallelImplementation());
         gc.setFillRule(FillRule.EVEN_ODD);
-
-        final int nDataCount = localCachedPoints.actualDataCount;
-        final int nPolygoneEdges = 2 * nDataCount;
-        final double[] xValuesSurface = DoubleArrayCache.getInstance().getArrayExact(nPolygoneEdges);
-        final double[] yValuesSurface = DoubleArrayCache.getInstance().getArrayExact(nPolygoneEdges);
-
-        final int xend = nPolygoneEdges - 1;
-        int count = 0;
-        for (int i = 0; i < nDataCount; i++) {
-            final double x = localCachedPoints.xValues[i];
-            final double yen = localCachedPoints.errorYNeg[i];
-            final double yep = localCachedPoints.errorYPos[i];
-
-            if (Double.isFinite(yen) && Double.isFinite(yep)) {
-                xValuesSurface[count] = x;
-                yValuesSurface[count] = yep;
-                xValuesSurface[xend - count] = x;
-                yValuesSurface[xend - count] = yen;
-                count++;
-            } else if (count != 0) {
-                // remove zeros and plot intermediate segment
-                compactVector(xValuesSurface, count);
-                compactVector(yValuesSurface, count);
-
-                gc.fillPolygon(xValuesSurface, yValuesSurface, 2 * count);
-                count = 0;
-            }
-        }
-        if (count > 0) {
-            // swap y coordinates at mid-point
-            // remove zeros and plot intermediate segment
-            compactVector(xValuesSurface, count);
-            compactVector(yValuesSurface, count);
-            if (count > 4) {
-                final double yTmp = yValuesSurface[count - 1];
-                yValuesSurface[count - 1] = yValuesSurface[count];
-                yValuesSurface[count] = yTmp;
-            }
-
-            gc.fillPolygon(xValuesSurface, yValuesSurface, 2 * count);
-        }
+        fillPolygonSegments(gc, localCachedPoints);
 
         drawPolyLine(gc, localCachedPoints);
         drawBars(gc, localCachedPoints);
         drawMarker(gc, localCachedPoints);
         drawBubbles(gc, localCachedPoints);
 
-        DoubleArrayCache.getInstance().add(xValuesSurface);
-        DoubleArrayCache.getInstance().add(yValuesSurface);
-
         ProcessingProfiler.getTimeDiff(start);
     }
 
@@ -588,11 +581,15 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         if (defaultMarkerColor != null) {
             gc.setFill(defaultMarkerColor);
         }
+        final boolean raster = rasterActive && gc.getFill() instanceof Color && gc.getStroke() instanceof Color;
+        final int argbPre = raster ? PixelBufferRasterizer.toArgbPre((Color) gc.getFill()) : 0;
+        // N.B. the empty and line-based marker shapes are drawn with the stroke colour (see DefaultMarker)
+        final int strokeArgbPre = raster ? PixelBufferRasterizer.toArgbPre((Color) gc.getStroke()) : 0;
         for (int i = 0; i < localCachedPoints.actualDataCount; i++) {
             final double x = localCachedPoints.xValues[i];
             final double y = localCachedPoints.yValues[i];
             if (localCachedPoints.styles[i] == null) {
-                defaultMarker.draw(gc, x, y, defaultMarkerSize);
+                drawMarker(gc, raster, argbPre, strokeArgbPre, defaultMarker, x, y, defaultMarkerSize);
             } else {
                 final Triple<Marker, Color, Double> markerForPoint = getDefaultMarker(
                         localCachedPoints.defaultStyle + localCachedPoints.styles[i]);
@@ -602,7 +599,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
                 }
                 final Marker pointMarker = markerForPoint.getFirst() == null ? defaultMarker
                                                                              : markerForPoint.getFirst();
-                pointMarker.draw(gc, x, y, markerForPoint.getThird());
+                final int pointArgbPre = raster && markerForPoint.getSecond() != null ? PixelBufferRasterizer.toArgbPre(markerForPoint.getSecond()) : argbPre;
+                drawMarker(gc, raster, pointArgbPre, strokeArgbPre, pointMarker, x, y, markerForPoint.getThird());
                 gc.restore();
             }
         }
@@ -636,7 +634,9 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
             break;
         case NORMAL:
         default:
-            drawPolyLineLine(gc, localCachedPoints);
+            if (!rasterActive || !drawPolyLineLineRaster(gc, localCachedPoints)) {
+                drawPolyLineLine(gc, localCachedPoints);
+            }
             break;
         }
     }
@@ -692,6 +692,122 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         return this;
     }
 
+    /**
+     * rasterises the NORMAL poly-line style into the pixel buffer
+     *
+     * @param gc the graphics context from the Canvas parent
+     * @param localCachedPoints reference to local cached data point object
+     * @return {@code false} if the line style is not supported by the rasteriser (dashes or non-colour paint)
+     */
+    private boolean drawPolyLineLineRaster(final GraphicsContext gc, final CachedDataPoints localCachedPoints) {
+        gc.save();
+        DefaultRenderColorScheme.setLineScheme(gc, localCachedPoints.defaultStyle, localCachedPoints.dataSetIndex + localCachedPoints.dataSetStyleIndex);
+        DefaultRenderColorScheme.setGraphicsContextAttributes(gc, localCachedPoints.defaultStyle);
+        final boolean supported = gc.getStroke() instanceof Color && gc.getLineDashes() == null;
+        final int argbPre = supported ? PixelBufferRasterizer.toArgbPre((Color) gc.getStroke()) : 0;
+        final double lineWidth = gc.getLineWidth();
+        gc.restore();
+        if (!supported) {
+            return false;
+        }
+
+        // N.B. segments with non-finite end-points are skipped by the rasteriser
+        for (int i = 0; i < localCachedPoints.actualDataCount - 1; i++) {
+            rasterizer.drawLine(localCachedPoints.xValues[i], localCachedPoints.yValues[i], localCachedPoints.xValues[i + 1], localCachedPoints.yValues[i + 1], argbPre, lineWidth);
+        }
+        return true;
+    }
+
+    private void drawMarker(final GraphicsContext gc, final boolean raster, final int fillArgbPre, final int strokeArgbPre, final Marker marker, final double x, final double y, final double size) {
+        if (raster && marker instanceof DefaultMarker) {
+            rasterizer.drawMarker((DefaultMarker) marker, x, y, size, fillArgbPre, strokeArgbPre, gc.getLineWidth());
+        } else {
+            marker.draw(gc, x, y, size);
+        }
+    }
+
+    private void fillOval(final GraphicsContext gc, final boolean raster, final int argbPre, final double x, final double y, final double w, final double h) {
+        if (raster) {
+            rasterizer.fillOval(x + 0.5 * w, y + 0.5 * h, 0.5 * w, 0.5 * h, argbPre);
+        } else {
+            gc.fillOval(x, y, w, h);
+        }
+    }
+
+    private void strokeLine(final GraphicsContext gc, final boolean raster, final int argbPre, final double x0, final double y0, final double x1, final double y1) {
+        if (raster) {
+            rasterizer.drawLine(x0, y0, x1, y1, argbPre, gc.getLineWidth());
+        } else {
+            gc.strokeLine(x0, y0, x1, y1);
+        }
+    }
+
+    /**
+     * @param index the data set index within the renderer
+     * @param indexMin minimum index (inclusive) of the data range to be drawn
+     * @param indexMax maximum index (exclusive) of the data range to be drawn
+     * @param capacity required array capacity
+     * @return persistent (re-initialised) point cache for the given data set index
+     */
+    private CachedDataPoints getCachedPoints(final int index, final int indexMin, final int indexMax, final int capacity) {
+        while (cachedPointsPool.size() <= index) {
+            cachedPointsPool.add(null);
+        }
+        final CachedDataPoints cachedPoints = cachedPointsPool.get(index);
+        if (cachedPoints == null) {
+            final CachedDataPoints newCachedPoints = new CachedDataPoints(indexMin, indexMax, capacity, true);
+            cachedPointsPool.set(index, newCachedPoints);
+            return newCachedPoints;
+        }
+        return cachedPoints.reset(indexMin, indexMax, capacity, true);
+    }
+
+    /**
+     * @param xAxis the horizontal axis
+     * @param yAxis the vertical axis
+     * @param dataSet the data set to be drawn
+     * @param dsIndex global data set index (ie. including the renderer offset)
+     * @param isPolarPlot whether the chart is in polar mode
+     * @return key identifying the reduced screen representation of the data set for the present zoom level
+     */
+    private ZoomLevelCache.Key getZoomLevelKey(final Axis xAxis, final Axis yAxis, final DataSet dataSet, final int dsIndex, final boolean isPolarPlot) {
+        final RendererDataReducer reducer = rendererDataReducerProperty().get();
+        final double minPointPixelDistance = reducer instanceof DefaultDataReducer ? ((DefaultDataReducer) reducer).getMinPointPixelDistance() : 0.0;
+        return new ZoomLevelCache.Key(dataSet, dsIndex, xAxis, yAxis, getErrorType(), reducer, isPolarPlot ? 1 : 0, isallowNaNs() ? 1 : 0,
+                isAssumeSortedData() ? 1 : 0, isReducePoints() ? 1 : 0, getMinRequiredReductionSize(), minPointPixelDistance);
+    }
+
+    /**
+     * releases point caches of data sets that are no longer drawn by this renderer
+     *
+     * @param nDataSets number of presently drawn data sets
+     */
+    private void trimCachedPoints(final int nDataSets) {
+        while (cachedPointsPool.size() > nDataSets) {
+            final CachedDataPoints cachedPoints = cachedPointsPool.remove(cachedPointsPool.size() - 1);
+            if (cachedPoints != null) {
+                cachedPoints.release();
+            }
+        }
+    }
+
+    /**
+     * @param xAxis the horizontal axis
+     * @param yAxis the vertical axis
+     * @param dataSet the data set to be drawn
+     * @param nPoints number of data points within the visible range
+     * @param isPolarPlot whether the chart is in polar mode
+     * @return {@code true} if the screen coordinate transform and default data reduction can be fused into a single pass
+     */
+    private boolean isFusedReduction(final Axis xAxis, final Axis yAxis, final DataSet dataSet, final int nPoints,
+            final boolean isPolarPlot) {
+        final RendererDataReducer cruncher = rendererDataReducerProperty().get();
+        // N.B. exact class match: derived reducers may implement a different reduction scheme
+        return isReducePoints() && nPoints >= Math.max(3, getMinRequiredReductionSize()) && cruncher != null
+                && cruncher.getClass().equals(DefaultDataReducer.class)
+                && CachedDataPoints.isFusedReductionCompatible(xAxis, yAxis, dataSet, isPolarPlot);
+    }
+
     private void drawChartCompontents(final GraphicsContext gc, final CachedDataPoints localCachedPoints) {
         final long start = ProcessingProfiler.getTimeStamp();
         switch (getErrorType()) {
@@ -730,9 +846,9 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
             return;
         }
 
-        // need to allocate new array :-(
-        final double[] newX = DoubleArrayCache.getInstance().getArrayExact(n + 2);
-        final double[] newY = DoubleArrayCache.getInstance().getArrayExact(n + 2);
+        localCachedPoints.ensurePolygonCapacity(n + 2);
+        final double[] newX = localCachedPoints.polygonX;
+        final double[] newY = localCachedPoints.polygonY;
 
         final double zero = localCachedPoints.yZero;
         System.arraycopy(localCachedPoints.xValues, 0, newX, 0, n);
@@ -750,10 +866,6 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         gc.setFill(gc.getStroke());
         gc.fillPolygon(newX, newY, n + 2);
         gc.restore();
-
-        // release arrays to cache
-        DoubleArrayCache.getInstance().add(newX);
-        DoubleArrayCache.getInstance().add(newY);
     }
 
     protected static void drawPolyLineHistogram(final GraphicsContext gc, final CachedDataPoints localCachedPoints) {
@@ -762,9 +874,9 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
             return;
         }
 
-        // need to allocate new array :-(
-        final double[] newX = DoubleArrayCache.getInstance().getArrayExact(2 * (n + 1));
-        final double[] newY = DoubleArrayCache.getInstance().getArrayExact(2 * (n + 1));
+        localCachedPoints.ensurePolygonCapacity(2 * (n + 1));
+        final double[] newX = localCachedPoints.polygonX;
+        final double[] newY = localCachedPoints.polygonY;
 
         final double xRange = localCachedPoints.xMax - localCachedPoints.xMin;
         double diffLeft;
@@ -801,10 +913,6 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         }
 
         gc.restore();
-
-        // release arrays to cache
-        DoubleArrayCache.getInstance().add(newX);
-        DoubleArrayCache.getInstance().add(newY);
     }
 
     protected static void drawPolyLineHistogramBezier(final GraphicsContext gc,
@@ -866,9 +974,9 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
             return;
         }
 
-        // need to allocate new array :-(
-        final double[] newX = DoubleArrayCache.getInstance().getArrayExact(2 * (n + 1));
-        final double[] newY = DoubleArrayCache.getInstance().getArrayExact(2 * (n + 1));
+        localCachedPoints.ensurePolygonCapacity(2 * (n + 1));
+        final double[] newX = localCachedPoints.polygonX;
+        final double[] newY = localCachedPoints.polygonY;
 
         final double xRange = localCachedPoints.xMax - localCachedPoints.xMin;
         double diffLeft;
@@ -899,10 +1007,6 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         gc.setFill(gc.getStroke());
         gc.fillPolygon(newX, newY, 2 * (n + 1));
         gc.restore();
-
-        // release arrays to cache
-        DoubleArrayCache.getInstance().add(newX);
-        DoubleArrayCache.getInstance().add(newY);
     }
 
     protected static void drawPolyLineLine(final GraphicsContext gc, final CachedDataPoints localCachedPoints) {
@@ -960,9 +1064,9 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
             return;
         }
 
-        // need to allocate new array :-(
-        final double[] newX = DoubleArrayCache.getInstance().getArrayExact(2 * n);
-        final double[] newY = DoubleArrayCache.getInstance().getArrayExact(2 * n);
+        localCachedPoints.ensurePolygonCapacity(2 * n);
+        final double[] newX = localCachedPoints.polygonX;
+        final double[] newY = localCachedPoints.polygonY;
 
         for (int i = 0; i < n - 1; i++) {
             newX[2 * i] = localCachedPoints.xValues[i];
@@ -990,15 +1094,34 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
         }
 
         gc.restore();
-
-        // release arrays to cache
-        DoubleArrayCache.getInstance().add(newX);
-        DoubleArrayCache.getInstance().add(newY);
     }
 
-    private static void compactVector(final double[] input, final int stopIndex) {
-        if (stopIndex >= 0) {
-            System.arraycopy(input, input.length - stopIndex, input, stopIndex, stopIndex);
+    /**
+     * fills the polygon segments (e.g. error surfaces) computed by the {@link CachedDataPoints} into a single path
+     *
+     * @param gc the graphics context from the Canvas parent
+     * @param localCachedPoints reference to local cached data point object
+     */
+    protected static void fillPolygonSegments(final GraphicsContext gc, final CachedDataPoints localCachedPoints) {
+        final double[] x = localCachedPoints.polygonX;
+        final double[] y = localCachedPoints.polygonY;
+        final int[] segments = localCachedPoints.polygonSegments;
+        final int nSegments = localCachedPoints.polygonSegmentCount;
+        if (nSegments == 1 && segments[0] == 0) {
+            gc.fillPolygon(x, y, segments[1]);
+            return;
+        }
+        // N.B. fillPolygon(..) does not support array offsets
+        gc.beginPath();
+        for (int segment = 0; segment < nSegments; segment++) {
+            final int offset = segments[2 * segment];
+            final int stop = offset + segments[2 * segment + 1];
+            gc.moveTo(x[offset], y[offset]);
+            for (int i = offset + 1; i < stop; i++) {
+                gc.lineTo(x[i], y[i]);
+            }
+            gc.closePath();
         }
+        gc.fill();
     }
 }
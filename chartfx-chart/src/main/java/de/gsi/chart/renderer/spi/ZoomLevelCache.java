@@ -0,0 +1,260 @@
+package de.gsi.chart.renderer.spi;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.gsi.chart.axes.Axis;
+import de.gsi.chart.renderer.ErrorStyle;
+import de.gsi.chart.renderer.RendererDataReducer;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.event.EventListener;
+
+/**
+ * Bounded least-recently-used cache of reduced screen representations ({@link CachedDataPoints}) keyed by the data
+ * set, the axis state (ie. the zoom level) and the renderer parameters that affect the reduction. Returning to a
+ * previously drawn zoom level -- e.g. via the Zoomer's zoom-out/zoom-origin history -- can thus be redrawn without
+ * re-computing and re-reducing the full-resolution data.
+ * <p>
+ * All entries of a data set are dropped as soon as the data set notifies an update. Dropped and evicted entries return
+ * their arrays to the shared {@link de.gsi.dataset.utils.DoubleArrayCache}. N.B. since updates are notified by
+ * arbitrary threads, this is deferred to the next {@link #track(DataSet)} call, ie. to the render thread that may
+ * still be drawing them.
+ */
+class ZoomLevelCache {
+    private final Map<Key, CachedDataPoints> entries = new LinkedHashMap<>(16, 0.75f, true); // N.B. access-order
+    private final Map<DataSet, EventListener> dataSetListener = new IdentityHashMap<>();
+    private final List<CachedDataPoints> invalidated = new ArrayList<>(); // to be released by the render thread
+    private int capacity;
+    private long generation; // incremented on every invalidation
+
+    /**
+     * @param capacity maximum number of cached entries, '0' disables the cache
+     */
+    ZoomLevelCache(final int capacity) {
+        setCapacity(capacity);
+    }
+
+    /**
+     * drops all entries and de-registers from all data sets
+     */
+    void clear() {
+        final Map<DataSet, EventListener> stale;
+        synchronized (this) {
+            invalidated.addAll(entries.values());
+            entries.clear();
+            stale = new IdentityHashMap<>(dataSetListener);
+            dataSetListener.clear();
+        }
+        stale.forEach(DataSet::removeListener);
+    }
+
+    /**
+     * @param key the data set and zoom level
+     * @return the cached reduced screen representation or {@code null} if none
+     */
+    synchronized CachedDataPoints get(final Key key) {
+        return entries.get(key);
+    }
+
+    /**
+     * @return maximum number of cached entries
+     */
+    synchronized int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * drops all entries of the given data set
+     *
+     * @param dataSet the updated data set
+     */
+    void invalidate(final DataSet dataSet) {
+        final EventListener listener;
+        synchronized (this) {
+            entries.entrySet().removeIf(entry -> {
+                if (entry.getKey().dataSet != dataSet) {
+                    return false;
+                }
+                invalidated.add(entry.getValue());
+                return true;
+            });
+            generation++;
+            listener = dataSetListener.remove(dataSet);
+        }
+        if (listener != null) {
+            dataSet.removeListener(listener);
+        }
+    }
+
+    /**
+     * @return {@code true} if the cache is enabled
+     */
+    synchronized boolean isEnabled() {
+        return capacity > 0;
+    }
+
+    /**
+     * stores the reduced screen representation, evicting the least-recently-used entries beyond the capacity
+     *
+     * @param key the data set and zoom level
+     * @param cachedPoints reduced screen representation (N.B. ownership is transferred to the cache if accepted)
+     * @param generation invalidation counter returned by {@link #track(DataSet)} before the data has been read
+     * @return {@code false} if the entry has not been stored (cache disabled or data set invalidated in the meantime)
+     */
+    boolean put(final Key key, final CachedDataPoints cachedPoints, final long generation) {
+        final Map<DataSet, EventListener> stale;
+        synchronized (this) {
+            if (capacity <= 0 || generation != this.generation || !dataSetListener.containsKey(key.dataSet)) {
+                return false;
+            }
+            final CachedDataPoints previous = entries.put(key, cachedPoints);
+            if (previous != null && previous != cachedPoints) {
+                invalidated.add(previous);
+            }
+            stale = trim();
+        }
+        stale.forEach(DataSet::removeListener);
+        return true;
+    }
+
+    /**
+     * @param capacity maximum number of cached entries, '0' disables the cache
+     */
+    void setCapacity(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+        }
+        if (capacity == 0) {
+            synchronized (this) {
+                this.capacity = 0;
+            }
+            clear();
+            return;
+        }
+        final Map<DataSet, EventListener> stale;
+        synchronized (this) {
+            this.capacity = capacity;
+            stale = trim();
+        }
+        stale.forEach(DataSet::removeListener);
+    }
+
+    /**
+     * @return number of cached entries
+     */
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * registers the update listener for the given data set (if not already done) -- to be called by the render thread
+     * before reading its data for a new entry
+     *
+     * @param dataSet the data set to be drawn
+     * @return invalidation counter to be passed to {@link #put}
+     */
+    long track(final DataSet dataSet) {
+        final EventListener listener;
+        synchronized (this) {
+            invalidated.forEach(CachedDataPoints::release);
+            invalidated.clear();
+            if (dataSetListener.containsKey(dataSet)) {
+                return generation;
+            }
+            listener = evt -> invalidate(dataSet);
+            dataSetListener.put(dataSet, listener);
+        }
+        // N.B. listener (de-)registration outside the lock since data sets may notify while holding their own locks
+        dataSet.addListener(listener);
+        synchronized (this) {
+            if (dataSetListener.get(dataSet) == listener) {
+                return generation;
+            }
+        }
+        // invalidated or cleared in the meantime
+        dataSet.removeListener(listener);
+        return -1;
+    }
+
+    /**
+     * @return listeners of data sets that are no longer referenced by any entry (to be de-registered by the caller)
+     */
+    private Map<DataSet, EventListener> trim() {
+        final Map<DataSet, EventListener> stale = new IdentityHashMap<>();
+        final Iterator<Map.Entry<Key, CachedDataPoints>> iterator = entries.entrySet().iterator();
+        while (entries.size() > capacity && iterator.hasNext()) {
+            final Map.Entry<Key, CachedDataPoints> eldest = iterator.next();
+            iterator.remove();
+            invalidated.add(eldest.getValue());
+            final DataSet dataSet = eldest.getKey().dataSet;
+            if (entries.keySet().stream().noneMatch(key -> key.dataSet == dataSet)) {
+                final EventListener listener = dataSetListener.remove(dataSet);
+                if (listener != null) {
+                    stale.put(dataSet, listener);
+                }
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * immutable cache key: data set (identity), axes (identity and state) and reduction-relevant renderer parameters
+     */
+    static final class Key {
+        private final DataSet dataSet;
+        private final Axis xAxis;
+        private final Axis yAxis;
+        private final ErrorStyle errorStyle;
+        private final RendererDataReducer reducer;
+        private final double[] state;
+        private final int hashCode;
+
+        /**
+         * @param dataSet the data set to be drawn
+         * @param dsIndex global data set index (ie. including the renderer offset, used for the default styling)
+         * @param xAxis the horizontal axis
+         * @param yAxis the vertical axis
+         * @param errorStyle the renderer error style
+         * @param reducer the renderer data reducer
+         * @param parameter further reduction-relevant parameters (polar plot, allow NaNs, point reduction, ...)
+         */
+        Key(final DataSet dataSet, final int dsIndex, final Axis xAxis, final Axis yAxis, final ErrorStyle errorStyle,
+                final RendererDataReducer reducer, final double... parameter) {
+            this.dataSet = dataSet;
+            this.xAxis = xAxis;
+            this.yAxis = yAxis;
+            this.errorStyle = errorStyle;
+            this.reducer = reducer;
+            final double[] axisState = { dsIndex, //
+                xAxis.getMin(), xAxis.getMax(), xAxis.getLength(), xAxis.isInvertedAxis() ? 1 : 0, xAxis.isLogAxis() ? 1 : 0, //
+                yAxis.getMin(), yAxis.getMax(), yAxis.getLength(), yAxis.isInvertedAxis() ? 1 : 0, yAxis.isLogAxis() ? 1 : 0 };
+            state = Arrays.copyOf(axisState, axisState.length + parameter.length);
+            System.arraycopy(parameter, 0, state, axisState.length, parameter.length);
+            hashCode = 31 * System.identityHashCode(dataSet) + Arrays.hashCode(state);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            // N.B. identity rather than content-based data set and axis comparison
+            return dataSet == other.dataSet && xAxis == other.xAxis && yAxis == other.yAxis && errorStyle == other.errorStyle
+                    && reducer == other.reducer && Arrays.equals(state, other.state);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
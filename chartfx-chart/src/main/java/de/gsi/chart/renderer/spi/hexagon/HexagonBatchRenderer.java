@@ -0,0 +1,246 @@
+package de.gsi.chart.renderer.spi.hexagon;
+
+import java.util.Arrays;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import de.gsi.chart.renderer.spi.utils.ColorGradient;
+
+/**
+ * Batched, allocation-free alternative to rendering a {@link HexagonMap} of individual {@link Hexagon} nodes.
+ * <p>
+ * The hexagon geometry (same layout as generated by {@link MapGenerator}: vertex coordinates, the sampled data index
+ * and the neighbour indices) is kept in primitive arrays and recomputed only if the tile size, map width or data
+ * dimension change. On value updates, each hexagon is assigned to a colour bucket (the colour look-up-table index of its
+ * value) and all hexagons of a bucket are drawn as a single path with one fill/stroke call.
+ */
+public class HexagonBatchRenderer {
+    private static final int N_COLORS = 4096;
+    private static final double CONTOUR_COLOUR_THRESHOLD = 0.2;
+    private static final double FILL_STROKE_WIDTH = 0.5; // hides the anti-aliasing seams between adjacent hexagons
+    private static final double[] SIN_ANGLE = { 0.5 * Math.sqrt(3), 0.5 * Math.sqrt(3), 0, -0.5 * Math.sqrt(3), -0.5 * Math.sqrt(3), 0 };
+    private static final double[] COS_ANGLE = { 0.5, -0.5, -1, -0.5, 0.5, 1 };
+    // axial (dq, dr) offsets in the order of the polygon edges: EAST, NORTHEAST, NORTHWEST, WEST, SOUTHWEST, SOUTHEAST
+    private static final int[] EDGE_DQ = { +1, +1, 0, -1, -1, 0 };
+    private static final int[] EDGE_DR = { 0, -1, -1, 0, +1, +1 };
+
+    // geometry state
+    private int hexagonSize = -1;
+    private int mapWidth = -1;
+    private int dataWidth = -1;
+    private int dataHeight = -1;
+    private int nHexagons;
+    private double[] vertexX = new double[0]; // 6 vertices per hexagon
+    private double[] vertexY = new double[0];
+    private int[] dataIndex = new int[0]; // sampled data index per hexagon
+    private int[] neighbours = new int[0]; // 6 neighbour indices per hexagon, '-1' if none
+
+    // value state
+    private int[] buckets = new int[0]; // colour bucket per hexagon, '-1' if not drawn
+    private int[] sorted = new int[0]; // hexagon indices sorted by bucket
+    private final int[] bucketStart = new int[N_COLORS + 1];
+    private final int[] bucketPosition = new int[N_COLORS]; // sort scratch buffer
+    private final Color[] bucketColors = new Color[N_COLORS];
+
+    /**
+     * Draws the outline segments between hexagons of (sufficiently) different colour, one path per colour bucket.
+     *
+     * @param gc the graphics context to draw into
+     * @param lineWidth stroke line width
+     */
+    public void drawContour(final GraphicsContext gc, final double lineWidth) {
+        gc.save();
+        gc.setLineWidth(lineWidth);
+        for (int bucket = 0; bucket < N_COLORS; bucket++) {
+            final int start = bucketStart[bucket];
+            final int stop = bucketStart[bucket + 1];
+            if (start == stop) {
+                continue;
+            }
+            final Color color = bucketColors[bucket];
+            gc.setStroke(color);
+            gc.beginPath();
+            for (int i = start; i < stop; i++) {
+                final int hexagon = sorted[i];
+                for (int edge = 0; edge < 6; edge++) {
+                    final int neighbour = neighbours[6 * hexagon + edge];
+                    // N.B. transparent or undefined neighbours always differ
+                    if (neighbour < 0 || buckets[neighbour] >= 0 && (buckets[neighbour] == bucket || isSimilar(color, bucketColors[buckets[neighbour]]))) {
+                        continue;
+                    }
+                    final int v0 = 6 * hexagon + edge;
+                    final int v1 = 6 * hexagon + (edge + 1) % 6;
+                    gc.moveTo(vertexX[v0], vertexY[v0]);
+                    gc.lineTo(vertexX[v1], vertexY[v1]);
+                }
+            }
+            gc.stroke();
+        }
+        gc.restore();
+    }
+
+    /**
+     * Draws the filled hexagons, one path per colour bucket. N.B. the path is also stroked in the same colour to close
+     * the anti-aliasing seams between adjacent hexagons.
+     *
+     * @param gc the graphics context to draw into
+     */
+    public void drawFilled(final GraphicsContext gc) {
+        gc.save();
+        gc.setLineWidth(FILL_STROKE_WIDTH);
+        for (int bucket = 0; bucket < N_COLORS; bucket++) {
+            final int start = bucketStart[bucket];
+            final int stop = bucketStart[bucket + 1];
+            if (start == stop) {
+                continue;
+            }
+            gc.setFill(bucketColors[bucket]);
+            gc.setStroke(bucketColors[bucket]);
+            gc.beginPath();
+            for (int i = start; i < stop; i++) {
+                final int offset = 6 * sorted[i];
+                gc.moveTo(vertexX[offset], vertexY[offset]);
+                for (int vertex = 1; vertex < 6; vertex++) {
+                    gc.lineTo(vertexX[offset + vertex], vertexY[offset + vertex]);
+                }
+                gc.closePath();
+            }
+            gc.fill();
+            gc.stroke();
+        }
+        gc.restore();
+    }
+
+    /**
+     * @return number of colour buckets containing at least one visible hexagon
+     */
+    public int getBucketCount() {
+        int count = 0;
+        for (int bucket = 0; bucket < N_COLORS; bucket++) {
+            if (bucketStart[bucket + 1] > bucketStart[bucket]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return number of hexagons of the current geometry
+     */
+    public int getHexagonCount() {
+        return nHexagons;
+    }
+
+    /**
+     * Recomputes the hexagon geometry if any of the parameters changed.
+     *
+     * @param newHexagonSize the distance between the centre and one corner
+     * @param mapWidthInHexes the number of hexagons on the x-axis
+     * @param newDataWidth number of data columns
+     * @param newDataHeight number of data rows
+     * @return {@code true} if the geometry has been recomputed
+     */
+    public boolean updateGeometry(final int newHexagonSize, final int mapWidthInHexes, final int newDataWidth, final int newDataHeight) {
+        if (newHexagonSize == hexagonSize && mapWidthInHexes == mapWidth && newDataWidth == dataWidth && newDataHeight == dataHeight) {
+            return false;
+        }
+        hexagonSize = newHexagonSize;
+        mapWidth = Math.max(mapWidthInHexes, 0);
+        dataWidth = newDataWidth;
+        dataHeight = newDataHeight;
+
+        // same layout and image sampling as the MapGenerator
+        final double graphicsHeight = 2.0 * hexagonSize;
+        final double graphicsWidth = Math.sqrt(3) / 2 * graphicsHeight;
+        final double verticalDistance = 3.0 / 4.0 * graphicsHeight;
+        final double horizontalRelation = dataWidth / (graphicsWidth * mapWidth);
+        final int mapHeight = mapWidth == 0 ? 0 : (int) (dataHeight / horizontalRelation / verticalDistance);
+        final double verticalRelation = dataHeight / (verticalDistance * mapHeight + graphicsHeight / 2);
+
+        nHexagons = mapWidth * mapHeight;
+        vertexX = ensureSize(vertexX, 6 * nHexagons);
+        vertexY = ensureSize(vertexY, 6 * nHexagons);
+        dataIndex = ensureSize(dataIndex, nHexagons);
+        neighbours = ensureSize(neighbours, 6 * nHexagons);
+        buckets = ensureSize(buckets, nHexagons);
+        sorted = ensureSize(sorted, nHexagons);
+
+        for (int y = 0; y < mapHeight; y++) {
+            for (int x = 0; x < mapWidth; x++) {
+                final int hexagon = y * mapWidth + x;
+                final int q = x - (y - (y & 1)) / 2;
+                final int r = y;
+                final int xOffset = (int) (graphicsWidth * q + 0.5 * graphicsWidth * r);
+                final int yOffset = (int) (verticalDistance * r);
+                for (int vertex = 0; vertex < 6; vertex++) {
+                    vertexX[6 * hexagon + vertex] = 0.5 + Math.round(xOffset + hexagonSize * SIN_ANGLE[vertex]);
+                    vertexY[6 * hexagon + vertex] = 0.5 + Math.round(yOffset + hexagonSize * COS_ANGLE[vertex]);
+
+                    final int nr = r + EDGE_DR[vertex];
+                    final int nx = q + EDGE_DQ[vertex] + (nr - (nr & 1)) / 2;
+                    neighbours[6 * hexagon + vertex] = nr >= 0 && nr < mapHeight && nx >= 0 && nx < mapWidth ? nr * mapWidth + nx : -1;
+                }
+
+                // N.B. image row '0' corresponds to the highest data row
+                final int xOnImage = clamp((int) (xOffset * horizontalRelation), dataWidth);
+                final int yOnImage = clamp((int) (yOffset * verticalRelation), dataHeight);
+                dataIndex[hexagon] = (dataHeight - 1 - yOnImage) * dataWidth + xOnImage;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Assigns the hexagons to colour buckets.
+     *
+     * @param data normalised data values [0, 1] (row-major, dimension as given in {@link #updateGeometry})
+     * @param colorGradient colour gradient to be used
+     */
+    public void updateValues(final double[] data, final ColorGradient colorGradient) {
+        Arrays.fill(bucketStart, 0);
+        for (int hexagon = 0; hexagon < nHexagons; hexagon++) {
+            final double value = data[dataIndex[hexagon]];
+            int bucket = ColorGradient.getLookUpIndex(value, N_COLORS);
+            if (bucket >= 0 && bucketStart[bucket + 1] == 0) {
+                bucketColors[bucket] = colorGradient.getColor(value);
+            }
+            if (bucket >= 0 && bucketColors[bucket].getOpacity() <= 0.0) {
+                bucket = -1; // fully transparent -> nothing to draw
+            }
+            buckets[hexagon] = bucket;
+            if (bucket >= 0) {
+                bucketStart[bucket + 1]++;
+            }
+        }
+
+        // counting sort by bucket
+        for (int bucket = 0; bucket < N_COLORS; bucket++) {
+            bucketStart[bucket + 1] += bucketStart[bucket];
+        }
+        System.arraycopy(bucketStart, 0, bucketPosition, 0, N_COLORS);
+        for (int hexagon = 0; hexagon < nHexagons; hexagon++) {
+            final int bucket = buckets[hexagon];
+            if (bucket >= 0) {
+                sorted[bucketPosition[bucket]++] = hexagon;
+            }
+        }
+    }
+
+    private static int clamp(final int index, final int length) {
+        return Math.max(0, Math.min(index, length - 1));
+    }
+
+    private static double[] ensureSize(final double[] array, final int length) {
+        return array.length >= length ? array : new double[length];
+    }
+
+    private static int[] ensureSize(final int[] array, final int length) {
+        return array.length >= length ? array : new int[length];
+    }
+
+    private static boolean isSimilar(final Color a, final Color b) {
+        return Math.abs(a.getRed() - b.getRed()) <= CONTOUR_COLOUR_THRESHOLD && Math.abs(a.getGreen() - b.getGreen()) <= CONTOUR_COLOUR_THRESHOLD
+                && Math.abs(a.getBlue() - b.getBlue()) <= CONTOUR_COLOUR_THRESHOLD && Math.abs(a.getOpacity() - b.getOpacity()) <= CONTOUR_COLOUR_THRESHOLD;
+    }
+}
@@ -62,14 +62,18 @@ public class GeneralPath /* extends Path2D */ {
         return drawList.size();
     }
 
+    List<Segment> getSegments() {
+        return drawList;
+    }
+
     enum PathType {
         GC_LINETO, GC_MOVETO, GC_BEGINPATH, GC_CLOSEPATH
     }
 
-    private class Segment {
-        public double x;
-        public double y;
-        public PathType type;
+    static class Segment {
+        protected double x;
+        protected double y;
+        protected PathType type;
 
         Segment(final PathType type, final double x, final double y) {
             this.type = type;
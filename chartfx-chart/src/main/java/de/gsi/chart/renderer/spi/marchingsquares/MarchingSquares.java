@@ -1,12 +1,12 @@
 package de.gsi.chart.renderer.spi.marchingsquares;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 
 import de.gsi.dataset.utils.CachedDaemonThreadFactory;
@@ -16,238 +16,447 @@ import de.gsi.dataset.utils.ProcessingProfiler;
  * <p>
  * Implementation of the Marching Squares algorithm described in: {@code https://en.wikipedia.org/wiki/Marching_squares}
  * </p>
+ * <p>
+ * The contours are extracted directly from a flat row-major value array (e.g. the z-values of a
+ * {@link de.gsi.dataset.GridDataSet}). The grid is split into horizontal tiles that are — together with the individual
+ * iso-levels — processed in parallel on the bounded {@link CachedDaemonThreadFactory#getCommonPool() common pool}. Each
+ * tile traces its contour segments up to the tile boundaries, and the open segments are subsequently stitched across
+ * tiles into closed sub-paths. The data is not copied: the 'guard' border (a value below the data minimum, needed to
+ * obtain closed contours) is emulated by the cell look-up rather than by padding the grid.
+ * </p>
+ * <p>
+ * The returned path coordinates are in units of grid cells of the (virtually) padded grid, i.e. data point
+ * {@code (x, y)} is located at {@code (x + 1, y + 1)}.
+ * </p>
  */
 public class MarchingSquares {
-    private static final ExecutorService ES = Executors.newCachedThreadPool(CachedDaemonThreadFactory.getInstance());
-    private double[] isovalues;
+    private static final String PARALLEL_WORKER_ERROR = "one parallel worker thread finished execution with error";
+    private static final int MIN_TILE_ROWS = 32; // minimum number of cell rows per tile
+    private static final int TASKS_PER_THREAD = 2;
+    private static final float EPSILON = 1e-7f;
+    // cell sides -- N.B. opposite side = (side + 2) & 3
+    private static final int LEFT = 0;
+    private static final int BOTTOM = 1;
+    private static final int RIGHT = 2;
+    private static final int TOP = 3;
+    // cell state bits on top of the 4-bit marching-squares case index
+    private static final int CASE_MASK = 0x0F;
+    private static final int FLIPPED = 0x10; // saddle connection flipped (centre below iso-value)
+    private static final int VISITED_A = 0x20; // saddle segment entering from LEFT/BOTTOM has been traced
+    private static final int VISITED_B = 0x40; // saddle segment entering from RIGHT/TOP has been traced
+    // entry and exit side of non-saddle cells for a consistent (CCW) traversal, indexed by case
+    private static final int[] ENTRY_SIDE = { -1, LEFT, BOTTOM, LEFT, RIGHT, -1, BOTTOM, LEFT, TOP, TOP, -1, TOP, RIGHT, RIGHT, BOTTOM, -1 };
+    private static final int[] EXIT_SIDE = { -1, BOTTOM, RIGHT, RIGHT, TOP, -1, TOP, TOP, LEFT, BOTTOM, -1, RIGHT, LEFT, BOTTOM, LEFT, -1 };
 
-    public GeneralPath[] buildContours(final double[][] data, final double[] levels)
-            throws InterruptedException, ExecutionException {
-        final long start = ProcessingProfiler.getTimeStamp();
-        // find min, max, and guard
-        double min = +Double.MAX_VALUE;
-        double max = -Double.MAX_VALUE;
+    public GeneralPath[] buildContours(final double[][] data, final double[] levels) throws InterruptedException, ExecutionException {
         final int rowCount = data.length;
         final int colCount = data[0].length;
-        double here;
+        final double[] flat = new double[rowCount * colCount];
         for (int i = 0; i < rowCount; i++) {
-            for (int j = 0; j < colCount; j++) {
-                here = data[i][j];
-                min = Math.min(min, here);
-                max = Math.max(max, here);
-            }
+            System.arraycopy(data[i], 0, flat, i * colCount, colCount);
         }
+        return buildContours(flat, colCount, rowCount, levels);
+    }
 
-        isovalues = new double[levels.length];
-        System.arraycopy(levels, 0, isovalues, 0, levels.length);
+    /**
+     * @param data row-major grid values, i.e. value {@code (x, y)} is stored at {@code data[y * width + x]}
+     * @param width number of columns
+     * @param height number of rows
+     * @param levels iso-values for which the contours are computed
+     * @return one path per iso-level
+     * @throws InterruptedException if interrupted while waiting for the worker threads
+     * @throws ExecutionException if one of the worker threads failed
+     */
+    public GeneralPath[] buildContours(final double[] data, final int width, final int height, final double[] levels) throws InterruptedException, ExecutionException {
+        final int nThreads = CachedDaemonThreadFactory.getNumbersOfThreads();
+        final int nTasks = TASKS_PER_THREAD * nThreads;
+        final int nTiles = Math.max(1, Math.min((height + 1) / MIN_TILE_ROWS, (nTasks + levels.length - 1) / Math.max(1, levels.length)));
+        return buildContours(data, width, height, levels, nTiles);
+    }
 
-        GeneralPath[] result = null;
-        if (min == max) {
+    GeneralPath[] buildContours(final double[] data, final int width, final int height, final double[] levels, final int nTiles) throws InterruptedException, ExecutionException {
+        if (width <= 0 || height <= 0 || data.length < width * height) {
+            throw new IllegalArgumentException("data array length " + data.length + " inconsistent with grid size " + width + " x " + height);
+        }
+        final long start = ProcessingProfiler.getTimeStamp();
+        final double[] minMax = getMinMax(data, width * height);
+        if (minMax[0] == minMax[1]) {
             final String m = "All values are equal. Cannot build contours for a constant field";
             throw new IllegalArgumentException(m);
         }
 
-        // IMPORTANT: pad data to ensure resulting linear strings are closed
-        final double guard = min - 1;
-        final double padded[][] = MarchingSquares.pad(data, guard);
+        // IMPORTANT: the guard border ensures that the resulting linear strings are closed
+        final Field field = new Field(data, width, height, minMax[0] - 1);
+        final int nRows = field.nRows;
+        final int nTilesLocal = Math.max(1, Math.min(nTiles, nRows));
+        final int tileSize = (nRows + nTilesLocal - 1) / nTilesLocal;
+        final Tile[][] tiles = new Tile[levels.length][];
+        final List<Callable<Boolean>> workers = new ArrayList<>();
+        for (int level = 0; level < levels.length; level++) {
+            final double isoValue = levels[level];
+            final List<Tile> levelTiles = new ArrayList<>();
+            for (int rowMin = 0; rowMin < nRows; rowMin += tileSize) {
+                final Tile tile = new Tile(field, isoValue, rowMin, Math.min(nRows, rowMin + tileSize));
+                levelTiles.add(tile);
+                workers.add(() -> {
+                    tile.trace();
+                    return Boolean.TRUE;
+                });
+            }
+            tiles[level] = levelTiles.toArray(new Tile[0]);
+        }
+        invokeAll(workers);
 
-        result = doConcurrent(padded);
+        // stitch open segments across tile boundaries
+        final GeneralPath[] result = new GeneralPath[levels.length];
+        workers.clear();
+        for (int level = 0; level < levels.length; level++) {
+            final int index = level;
+            workers.add(() -> {
+                result[index] = stitch(tiles[index]);
+                return Boolean.TRUE;
+            });
+        }
+        invokeAll(workers);
 
         ProcessingProfiler.getTimeDiff(start, "built " + levels.length + " contours");
         return result;
     }
 
-    private GeneralPath[] doConcurrent(final double[][] data) throws InterruptedException, ExecutionException {
-        final Collection<Callable<Result>> workers = new ArrayList<>();
-        for (int i = 0; i < isovalues.length; i++) {
-            workers.add(new Task(i, data, isovalues[i]));
+    private static void addSubPath(final GeneralPath path, final Polyline polyline) {
+        final float[] xy = polyline.xy;
+        float xPrev = xy[0];
+        float yPrev = xy[1];
+        path.moveTo(xPrev, yPrev);
+        for (int i = 2; i < polyline.size; i += 2) {
+            final float x = xy[i];
+            final float y = xy[i + 1];
+            if (Math.abs(x - xPrev) > EPSILON || Math.abs(y - yPrev) > EPSILON) {
+                path.lineTo(x, y);
+            }
+            xPrev = x;
+            yPrev = y;
         }
+        path.closePath();
+    }
 
-        final List<Future<Result>> jobs = MarchingSquares.ES.invokeAll(workers);
-        final GeneralPath[] result = new GeneralPath[isovalues.length];
-        for (final Future<Result> future : jobs) {
-            final Result r = future.get();
-            result[r.ndx] = r.path;
+    private static double[] getMinMax(final double[] data, final int length) {
+        double min = +Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        for (int i = 0; i < length; i++) {
+            final double value = data[i];
+            if (Double.isFinite(value)) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
         }
-        return result;
+        return new double[] { min, max };
     }
 
-    private static Grid contour(final double[][] data, final double isovalue) {
-        final int rowCount = data.length;
-        final int colCount = data[0].length;
+    private static void invokeAll(final List<Callable<Boolean>> workers) throws InterruptedException, ExecutionException {
+        if (workers.size() == 1) {
+            try {
+                workers.get(0).call();
+            } catch (final Exception e) { // NOPMD -- propagated like the pooled execution
+                throw new ExecutionException(PARALLEL_WORKER_ERROR, e);
+            }
+            return;
+        }
+        final List<Future<Boolean>> jobs = CachedDaemonThreadFactory.getCommonPool().invokeAll(workers);
+        for (final Future<Boolean> future : jobs) {
+            final Boolean r = future.get();
+            if (Boolean.FALSE.equals(r)) {
+                throw new IllegalStateException(PARALLEL_WORKER_ERROR);
+            }
+        }
+    }
 
-        // Every 2x2 block of pixels in the binary image forms a contouring cell,
-        // so the whole image is represented by a grid of such cells. Note that
-        // this contouring grid is one cell smaller in each direction than the
-        // original 2D field.
-        final Cell[][] cells = new Cell[rowCount - 1][colCount - 1];
-        for (int r = 0; r < rowCount - 1; r++) {
-            for (int c = 0; c < colCount - 1; c++) {
-                // Compose the 4 bits at the corners of the cell to build a binary
-                // index: walk around the cell in a clockwise direction appending
-                // the bit to the index, using bitwise OR and left-shift, from most
-                // significant bit at the top left, to least significant bit at the
-                // bottom left. The resulting 4-bit index can have 16 possible
-                // values in the range 0-15.
-                int ndx = 0;
-                final double tl = data[r + 1][c];
-                final double tr = data[r + 1][c + 1];
-                final double br = data[r][c + 1];
-                final double bl = data[r][c];
-                ndx |= tl > isovalue ? 0 : 8;
-                ndx |= tr > isovalue ? 0 : 4;
-                ndx |= br > isovalue ? 0 : 2;
-                ndx |= bl > isovalue ? 0 : 1;
-                boolean flipped = false;
-                if (ndx == 5 || ndx == 10) {
-                    // resolve the ambiguity by using the average data value for the
-                    // center of the cell to choose between different connections of
-                    // the interpolated points.
-                    final double center = (tl + tr + br + bl) / 4;
-                    if (ndx == 5 && center < isovalue) {
-                        flipped = true;
-                    } else if (ndx == 10 && center < isovalue) {
-                        flipped = true;
-                    }
+    private static GeneralPath stitch(final Tile[] tiles) {
+        final GeneralPath path = new GeneralPath();
+        final Map<Integer, Polyline> openByStart = new HashMap<>();
+        for (final Tile tile : tiles) {
+            for (final Polyline polyline : tile.closed) {
+                addSubPath(path, polyline);
+            }
+            for (final Polyline polyline : tile.open) {
+                openByStart.put(polyline.startEdge, polyline);
+            }
+        }
+
+        for (final Tile tile : tiles) {
+            for (final Polyline first : tile.open) {
+                if (openByStart.remove(first.startEdge) == null) {
+                    continue; // already part of a stitched sub-path
                 }
-                // to node: 'rsn' - we only populate the grid without non-trivial cells;
-                // i.e. those w/ an index different than 0 and 15.
-                if (ndx != 0 && ndx != 15) {
-                    // Apply linear interpolation between the original field data
-                    // values to find the exact position of the contour line along
-                    // the edges of the cell.
-                    float left = 0.5F;
-                    float top = 0.5F;
-                    float right = 0.5F;
-                    float bottom = 0.5F;
-                    switch (ndx) {
-                    case 1:
-                    case 14:
-                        left = (float) ((isovalue - bl) / (tl - bl));
-                        bottom = (float) ((isovalue - bl) / (br - bl));
-                        break;
-                    case 2:
-                    case 13:
-                        bottom = (float) ((isovalue - bl) / (br - bl));
-                        right = (float) ((isovalue - br) / (tr - br));
-                        break;
-                    case 3:
-                    case 12:
-                        left = (float) ((isovalue - bl) / (tl - bl));
-                        right = (float) ((isovalue - br) / (tr - br));
-                        break;
-                    case 4:
-                    case 11:
-                        top = (float) ((isovalue - tl) / (tr - tl));
-                        right = (float) ((isovalue - br) / (tr - br));
-                        break;
-                    case 5:
-                    case 10:
-                        left = (float) ((isovalue - bl) / (tl - bl));
-                        bottom = (float) ((isovalue - bl) / (br - bl));
-                        top = (float) ((isovalue - tl) / (tr - tl));
-                        right = (float) ((isovalue - br) / (tr - br));
-                        break;
-                    case 6:
-                    case 9:
-                        bottom = (float) ((isovalue - bl) / (br - bl));
-                        top = (float) ((isovalue - tl) / (tr - tl));
-                        break;
-                    case 7:
-                    case 8:
-                        left = (float) ((isovalue - bl) / (tl - bl));
-                        top = (float) ((isovalue - tl) / (tr - tl));
-                        break;
-                    default: // shouldn't happen
-                        final String m = "Unexpected cell index " + ndx;
-                        throw new IllegalStateException(m);
+                final Polyline joined = new Polyline(-1);
+                joined.append(first);
+                int nextEdge = first.endEdge;
+                while (nextEdge != first.startEdge) {
+                    final Polyline next = openByStart.remove(nextEdge);
+                    if (next == null) {
+                        throw new IllegalStateException("open contour segment at tile boundary edge " + nextEdge);
                     }
-
-                    cells[r][c] = new Cell(ndx, flipped, left, top, right, bottom);
+                    joined.append(next);
+                    nextEdge = next.endEdge;
                 }
+                addSubPath(path, joined);
             }
         }
-        final Grid result = new Grid(cells, isovalue);
-        return result;
+        return path;
     }
 
     /**
-     * <p>
-     * Pad data with a given 'guard' value.
-     * </p>
-     *
-     * @param data matrix to pad.
-     * @param guard the value to use for padding. It's expected to be less than the minimum of all data cell values.
-     * @return the resulting padded matrix which will be larger by 2 in both directions.
+     * Read-only view of the data that is virtually padded by one 'guard' value in each direction.
      */
-    private static double[][] pad(final double[][] data, final double guard) {
-        final int rowCount = data.length;
-        final int colCount = data[0].length;
-        final double[][] result = new double[rowCount + 2][colCount + 2];
+    private static final class Field {
+        private final double[] data;
+        private final int width;
+        private final int height;
+        private final double guard;
+        private final int nRows; // number of cells in y-direction
+        private final int nCols; // number of cells in x-direction
 
-        // top and bottom rows
-        for (int j = 0; j < colCount + 2; j++) {
-            result[0][j] = guard;
-            result[rowCount + 1][j] = guard;
+        private Field(final double[] data, final int width, final int height, final double guard) {
+            this.data = data;
+            this.width = width;
+            this.height = height;
+            this.guard = guard;
+            nRows = height + 1;
+            nCols = width + 1;
         }
 
-        // left- and right-most columns excl. top and bottom rows
-        for (int i = 1; i < rowCount + 1; i++) {
-            result[i][0] = guard;
-            result[i][colCount + 1] = guard;
+        /**
+         * @param row row index of the padded grid
+         * @param col column index of the padded grid
+         * @return data or guard value
+         */
+        private double get(final int row, final int col) {
+            if (row <= 0 || col <= 0 || row > height || col > width) {
+                return guard;
+            }
+            final double value = data[(row - 1) * width + col - 1];
+            return Double.isFinite(value) ? value : guard;
         }
+    }
 
-        // the middle
-        for (int i = 0; i < rowCount; i++) {
-            System.arraycopy(data[i], 0, result[i + 1], 1, colCount);
+    /**
+     * growable list of (x,y) coordinates of a contour segment
+     */
+    private static final class Polyline {
+        private final int startEdge; // index of the tile-boundary edge the segment enters from, '-1' if closed
+        private int endEdge; // index of the tile-boundary edge the segment leaves through
+        private float[] xy = new float[32];
+        private int size;
+
+        private Polyline(final int startEdge) {
+            this.startEdge = startEdge;
         }
 
-        return result;
+        private void add(final float x, final float y) {
+            if (size + 2 > xy.length) {
+                xy = Arrays.copyOf(xy, 2 * xy.length);
+            }
+            xy[size++] = x;
+            xy[size++] = y;
+        }
+
+        private void append(final Polyline other) {
+            if (size + other.size > xy.length) {
+                xy = Arrays.copyOf(xy, Math.max(2 * xy.length, size + other.size));
+            }
+            System.arraycopy(other.xy, 0, xy, size, other.size);
+            size += other.size;
+        }
     }
 
-    private static final class Result {
-        private final int ndx;
-        private final GeneralPath path;
-        private String str;
+    /**
+     * Contour tracing for the cell rows [rowMin, rowMax) of a given iso-level. Segments crossing the tile boundary are
+     * kept open and identified by the index of the horizontal edge they cross ({@code row * nCols + col}).
+     */
+    private static final class Tile {
+        private final Field field;
+        private final double isoValue;
+        private final int rowMin;
+        private final int rowMax;
+        private final byte[] cells;
+        private final List<Polyline> closed = new ArrayList<>();
+        private final List<Polyline> open = new ArrayList<>();
 
-        Result(final int ndx, final GeneralPath path) {
-            super();
-            this.ndx = ndx;
-            this.path = path;
+        private Tile(final Field field, final double isoValue, final int rowMin, final int rowMax) {
+            this.field = field;
+            this.isoValue = isoValue;
+            this.rowMin = rowMin;
+            this.rowMax = rowMax;
+            this.cells = new byte[(rowMax - rowMin) * field.nCols];
         }
 
-        @Override
-        public String toString() {
-            if (str == null) {
-                str = "Result{ndx=" + ndx + ", bbox=" + '}';
+        private void trace() {
+            classify();
+            final int nCols = field.nCols;
+
+            // segments entering from the neighbouring tiles (none at the outer, guarded border)
+            if (rowMin > 0) {
+                for (int col = 0; col < nCols; col++) {
+                    if (hasUntracedEntry(cells[col], BOTTOM)) {
+                        traceSegment(rowMin, col, BOTTOM, rowMin * nCols + col);
+                    }
+                }
+            }
+            if (rowMax < field.nRows) {
+                final int offset = (rowMax - 1 - rowMin) * nCols;
+                for (int col = 0; col < nCols; col++) {
+                    if (hasUntracedEntry(cells[offset + col], TOP)) {
+                        traceSegment(rowMax - 1, col, TOP, rowMax * nCols + col);
+                    }
+                }
+            }
+
+            // remaining contours are closed within this tile
+            for (int row = rowMin; row < rowMax; row++) {
+                final int offset = (row - rowMin) * nCols;
+                for (int col = 0; col < nCols; col++) {
+                    final int state = cells[offset + col];
+                    final int ndx = state & CASE_MASK;
+                    if (ndx == 5 || ndx == 10) {
+                        // loops consisting only of saddle cells
+                        final int entryA = ndx == 5 ? LEFT : BOTTOM;
+                        if ((state & VISITED_A) == 0) {
+                            traceSegment(row, col, entryA, -1);
+                        }
+                        if ((cells[offset + col] & VISITED_B) == 0) {
+                            traceSegment(row, col, (entryA + 2) & 3, -1);
+                        }
+                    } else if (ndx != 0 && ndx != 15) {
+                        traceSegment(row, col, ENTRY_SIDE[ndx], -1);
+                    }
+                }
             }
-            return str;
         }
-    }
 
-    private final class Task implements Callable<Result> {
-        private final int ndx;
-        private final double[][] data;
-        private final double level;
+        private void classify() {
+            final int nCols = field.nCols;
+            for (int row = rowMin; row < rowMax; row++) {
+                final int offset = (row - rowMin) * nCols;
+                for (int col = 0; col < nCols; col++) {
+                    // Compose the 4 bits at the corners of the cell to build a binary index: from most significant
+                    // bit at the top left, clockwise to least significant bit at the bottom left.
+                    final double tl = field.get(row + 1, col);
+                    final double tr = field.get(row + 1, col + 1);
+                    final double br = field.get(row, col + 1);
+                    final double bl = field.get(row, col);
+                    int ndx = 0;
+                    ndx |= tl > isoValue ? 0 : 8;
+                    ndx |= tr > isoValue ? 0 : 4;
+                    ndx |= br > isoValue ? 0 : 2;
+                    ndx |= bl > isoValue ? 0 : 1;
+                    // resolve the saddle ambiguity by using the average data value for the centre of the cell
+                    if ((ndx == 5 || ndx == 10) && (tl + tr + br + bl) / 4 < isoValue) {
+                        ndx |= FLIPPED;
+                    }
+                    cells[offset + col] = (byte) ndx;
+                }
+            }
+        }
 
-        Task(final int ndx, final double[][] data, final double level) {
-            super();
-            this.ndx = ndx;
-            this.data = data;
-            this.level = level;
+        private float crossing(final double v0, final double v1) {
+            return (float) ((isoValue - v0) / (v1 - v0));
         }
 
-        @Override
-        public Result call() throws Exception {
-            GeneralPath path = null;
-            try {
-                path = new PathGenerator().generalPath(MarchingSquares.contour(data, level));
-            } catch (final Exception x) {
-                final String m = "Failed making contour at index #" + ndx + " for level " + level + ": "
-                        + x.getLocalizedMessage();
-                throw new IllegalArgumentException(m, x);
+        private int exitSide(final int state, final int entry) {
+            final int ndx = state & CASE_MASK;
+            final boolean flipped = (state & FLIPPED) != 0;
+            if (ndx == 5) {
+                if (entry == LEFT) {
+                    return flipped ? TOP : BOTTOM;
+                } else if (entry == RIGHT) {
+                    return flipped ? BOTTOM : TOP;
+                }
+            } else if (ndx == 10) {
+                if (entry == BOTTOM) {
+                    return flipped ? LEFT : RIGHT;
+                } else if (entry == TOP) {
+                    return flipped ? RIGHT : LEFT;
+                }
+            } else if (ENTRY_SIDE[ndx] == entry) {
+                return EXIT_SIDE[ndx];
+            }
+            throw new IllegalStateException("no connected contour segment for cell index " + ndx + " entered from side " + entry);
+        }
+
+        private boolean hasUntracedEntry(final int state, final int entry) {
+            final int ndx = state & CASE_MASK;
+            if (ndx == 5 || ndx == 10) {
+                final boolean validEntry = ndx == 5 ? (entry == LEFT || entry == RIGHT) : (entry == BOTTOM || entry == TOP);
+                return validEntry && (state & visitedBit(entry)) == 0;
+            }
+            return ENTRY_SIDE[ndx] == entry;
+        }
+
+        /**
+         * Follows the contour from the given cell until it either leaves the tile or returns to its start.
+         *
+         * @param startRow cell row
+         * @param startCol cell column
+         * @param startEntry side through which the contour enters the start cell
+         * @param startEdge boundary edge index for segments entering from a neighbouring tile, '-1' for closed loops
+         */
+        private void traceSegment(final int startRow, final int startCol, final int startEntry, final int startEdge) {
+            final int nCols = field.nCols;
+            final Polyline polyline = new Polyline(startEdge);
+            int row = startRow;
+            int col = startCol;
+            int entry = startEntry;
+            do {
+                final int index = (row - rowMin) * nCols + col;
+                final int state = cells[index];
+                final int exit = exitSide(state, entry);
+                final int ndx = state & CASE_MASK;
+                if (ndx == 5 || ndx == 10) {
+                    cells[index] = (byte) (state | visitedBit(entry));
+                } else {
+                    cells[index] = 0; // clear so as to ensure it will not be re-used as a start node
+                }
+
+                switch (exit) {
+                case LEFT:
+                    polyline.add(col, row + crossing(field.get(row, col), field.get(row + 1, col)));
+                    col--;
+                    break;
+                case RIGHT:
+                    polyline.add(col + 1.0f, row + crossing(field.get(row, col + 1), field.get(row + 1, col + 1)));
+                    col++;
+                    break;
+                case BOTTOM:
+                    polyline.add(col + crossing(field.get(row, col), field.get(row, col + 1)), row);
+                    if (row == rowMin) {
+                        polyline.endEdge = row * nCols + col;
+                        open.add(polyline);
+                        return;
+                    }
+                    row--;
+                    break;
+                case TOP:
+                default:
+                    polyline.add(col + crossing(field.get(row + 1, col), field.get(row + 1, col + 1)), row + 1.0f);
+                    if (row == rowMax - 1) {
+                        polyline.endEdge = (row + 1) * nCols + col;
+                        open.add(polyline);
+                        return;
+                    }
+                    row++;
+                    break;
+                }
+                entry = (exit + 2) & 3;
+            } while (row != startRow || col != startCol || entry != startEntry);
+
+            if (startEdge >= 0) {
+                throw new IllegalStateException("contour entering tile at edge " + startEdge + " did not leave the tile");
             }
-            return new Result(ndx, path);
+            closed.add(polyline);
+        }
+
+        private static int visitedBit(final int entry) {
+            return entry == LEFT || entry == BOTTOM ? VISITED_A : VISITED_B;
         }
     }
 }
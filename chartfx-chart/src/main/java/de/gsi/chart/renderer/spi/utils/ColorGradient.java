@@ -112,6 +112,7 @@ public class ColorGradient {
     private final String name;
     private final WeakHashMap<Double, Color> colorMap = new WeakHashMap<>();
     private final WeakHashMap<Double, int[]> colorMapBytes = new WeakHashMap<>();
+    private volatile int[] lookUpTable = new int[0]; // NOPMD - replaced atomically, read often
 
     /**
      * Creates a new instance of ColorGradient.**
@@ -234,6 +235,49 @@ public class ColorGradient {
         });
     }
 
+    /**
+     * Returns a quantised colour look-up table (LUT) sampling the gradient at offsets {@code i / (nColors - 1)}. Use
+     * {@link #getLookUpIndex(double, int)} to map an offset to its LUT index.
+     * <p>
+     * N.B. the table is cached for the last requested size and must not be modified.
+     *
+     * @param nColors number of LUT entries (&ge; 2)
+     * @return colour look-up table as pre-multiplied ARGB integers (compatible with
+     *         {@link javafx.scene.image.PixelFormat#getIntArgbPreInstance()})
+     */
+    public int[] getLookUpTable(final int nColors) {
+        int[] lut = lookUpTable;
+        if (lut.length == nColors) {
+            return lut;
+        }
+        if (nColors < 2) {
+            throw new IllegalArgumentException("nColors must be >= 2: " + nColors);
+        }
+        lut = new int[nColors];
+        for (int i = 0; i < nColors; i++) {
+            final int[] color = getColorBytes(i / (double) (nColors - 1));
+            final int alpha = color[0];
+            lut[i] = alpha << 24 | (color[1] * alpha + 127) / 255 << 16 | (color[2] * alpha + 127) / 255 << 8 | (color[3] * alpha + 127) / 255;
+        }
+        lookUpTable = lut;
+        return lut;
+    }
+
+    /**
+     * @param offset within ranges [0, 1]
+     * @param nColors number of look-up table entries
+     * @return index into the look-up table (see {@link #getLookUpTable(int)}) or '-1' for offsets outside [0, 1] or NaN
+     *         (ie. transparent). N.B. positive offsets are never mapped to the index '0' so that gradients with a
+     *         dedicated colour for the exact zero offset (e.g. {@link #RAINBOW}) are preserved.
+     */
+    public static int getLookUpIndex(final double offset, final int nColors) {
+        if (!(offset >= 0.0 && offset <= 1.0)) {
+            return -1;
+        }
+        final int index = (int) (offset * (nColors - 1) + 0.5);
+        return index == 0 && offset > 0.0 ? 1 : index;
+    }
+
     /**
      * Returns the gradient stops.
      *
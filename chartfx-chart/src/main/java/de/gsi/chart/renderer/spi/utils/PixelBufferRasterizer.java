@@ -0,0 +1,509 @@
+package de.gsi.chart.renderer.spi.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import de.gsi.chart.marker.DefaultMarker;
+import de.gsi.dataset.utils.CachedDaemonThreadFactory;
+
+/**
+ * Software rasteriser that draws lines, rectangles, ellipses and the {@link DefaultMarker} shapes directly into an
+ * {@code int[]} pre-multiplied ARGB pixel buffer that is blitted in one go to the canvas via a {@link WritableImage}.
+ * <p>
+ * This bypasses the per-primitive JavaFX {@link GraphicsContext} command buffer that becomes the bottleneck for several
+ * 100k line segments or markers per frame. The primitives are first recorded and then rasterised in parallel, with each
+ * worker owning one horizontal strip of the buffer. Since the strips are disjoint and each worker processes the
+ * primitives in their recording order, no synchronisation is needed and the painter's order is preserved.
+ * <p>
+ * Lines are rasterised using a DDA-type (Bresenham-equivalent) algorithm or -- if anti-aliasing is enabled and the line
+ * width is one pixel -- Xiaolin Wu's algorithm. Each pixel is computed from the original end-points (rather than the
+ * strip-clipped ones) so that the strip partitioning does not cause seams. Filled shapes are rasterised per scan-line
+ * using pixel-centre sampling. Thick lines are drawn with a square brush (no caps or joins) and line dashes are not
+ * supported.
+ */
+public class PixelBufferRasterizer {
+    private static final String PARALLEL_WORKER_ERROR = "one parallel worker thread finished execution with error";
+    private static final int MIN_STRIP_HEIGHT = 32;
+    private static final int N_CIRCLE_SEGMENTS = 16;
+    private static final int TYPE_LINE = 0;
+    private static final int TYPE_RECT = 1;
+    private static final int TYPE_OVAL = 2;
+    private static final int TYPE_DIAMOND = 3;
+    private static final int N_PARAMETER = 5;
+    private int width;
+    private int height;
+    private int[] buffer = new int[0];
+    private boolean antiAliasing = true;
+    private WritableImage image;
+
+    // recorded primitives
+    private int nPrimitives;
+    private int[] types = new int[256];
+    private int[] colors = new int[256];
+    private double[] parameter = new double[N_PARAMETER * 256];
+    private double[] yMinMax = new double[2 * 256];
+
+    /**
+     * draws a line segment
+     *
+     * @param x0 start horizontal coordinate
+     * @param y0 start vertical coordinate
+     * @param x1 stop horizontal coordinate
+     * @param y1 stop vertical coordinate
+     * @param argbPre pre-multiplied colour (see {@link #toArgbPre(Color)})
+     * @param lineWidth line width in pixel
+     */
+    public void drawLine(final double x0, final double y0, final double x1, final double y1, final int argbPre, final double lineWidth) {
+        if (!Double.isFinite(x0) || !Double.isFinite(y0) || !Double.isFinite(x1) || !Double.isFinite(y1)) {
+            return;
+        }
+        final double halfWidth = 0.5 * Math.max(1.0, lineWidth) + 1.0;
+        add(TYPE_LINE, argbPre, Math.min(y0, y1) - halfWidth, Math.max(y0, y1) + halfWidth, x0, y0, x1, y1, lineWidth);
+    }
+
+    /**
+     * draws one of the {@link DefaultMarker} shapes
+     *
+     * @param marker marker type
+     * @param x horizontal centre coordinate
+     * @param y vertical centre coordinate
+     * @param size marker size (half width)
+     * @param fillArgbPre pre-multiplied fill colour (see {@link #toArgbPre(Color)}) used for the filled marker shapes
+     * @param strokeArgbPre pre-multiplied stroke colour used for the empty and line-based marker shapes
+     * @param lineWidth line width used for the empty and line-based marker shapes
+     */
+    public void drawMarker(final DefaultMarker marker, final double x, final double y, final double size, final int fillArgbPre, final int strokeArgbPre, final double lineWidth) {
+        switch (marker) {
+        case DIAMOND:
+        case DIAMOND1:
+            fillDiamond(x, y, size, fillArgbPre);
+            break;
+        case DIAMOND2:
+            drawLine(x + size, y, x, y + size, strokeArgbPre, lineWidth);
+            drawLine(x, y + size, x - size, y, strokeArgbPre, lineWidth);
+            drawLine(x - size, y, x, y - size, strokeArgbPre, lineWidth);
+            drawLine(x, y - size, x + size, y, strokeArgbPre, lineWidth);
+            break;
+        case CIRCLE:
+        case CIRCLE1:
+            fillOval(x, y, size, size, fillArgbPre);
+            break;
+        case CIRCLE2:
+            double xLast = x + size;
+            double yLast = y;
+            for (int i = 1; i <= N_CIRCLE_SEGMENTS; i++) {
+                final double phi = 2.0 * Math.PI * i / N_CIRCLE_SEGMENTS;
+                final double xNew = x + size * Math.cos(phi);
+                final double yNew = y + size * Math.sin(phi);
+                drawLine(xLast, yLast, xNew, yNew, strokeArgbPre, lineWidth);
+                xLast = xNew;
+                yLast = yNew;
+            }
+            break;
+        case CROSS:
+            drawLine(x - size, y - size, x + size, y + size, strokeArgbPre, lineWidth);
+            drawLine(x - size, y + size, x + size, y - size, strokeArgbPre, lineWidth);
+            break;
+        case PLUS:
+            drawLine(x, y - size, x, y + size, strokeArgbPre, lineWidth);
+            drawLine(x - size, y, x + size, y, strokeArgbPre, lineWidth);
+            break;
+        case RECTANGLE2:
+            drawLine(x - size, y - size, x + size, y - size, strokeArgbPre, lineWidth);
+            drawLine(x + size, y - size, x + size, y + size, strokeArgbPre, lineWidth);
+            drawLine(x + size, y + size, x - size, y + size, strokeArgbPre, lineWidth);
+            drawLine(x - size, y + size, x - size, y - size, strokeArgbPre, lineWidth);
+            break;
+        case RECTANGLE:
+        case RECTANGLE1:
+        default:
+            fillRect(x - size, y - size, 2.0 * size, 2.0 * size, fillArgbPre);
+            break;
+        }
+    }
+
+    /**
+     * draws the pixel buffer content onto the canvas
+     *
+     * @param gc the graphics context from the Canvas parent
+     */
+    public void drawToCanvas(final GraphicsContext gc) {
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (image == null || (int) image.getWidth() != width || (int) image.getHeight() != height) {
+            image = new WritableImage(width, height);
+        }
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbPreInstance(), buffer, 0, width);
+        gc.drawImage(image, 0, 0);
+    }
+
+    /**
+     * fills the diamond with the given centre and half-diagonal
+     *
+     * @param x horizontal centre coordinate
+     * @param y vertical centre coordinate
+     * @param size half-diagonal
+     * @param argbPre pre-multiplied colour (see {@link #toArgbPre(Color)})
+     */
+    public void fillDiamond(final double x, final double y, final double size, final int argbPre) {
+        add(TYPE_DIAMOND, argbPre, y - size, y + size, x, y, size, 0.0, 0.0);
+    }
+
+    /**
+     * fills the ellipse with the given centre and radii
+     *
+     * @param x horizontal centre coordinate
+     * @param y vertical centre coordinate
+     * @param radiusX horizontal radius
+     * @param radiusY vertical radius
+     * @param argbPre pre-multiplied colour (see {@link #toArgbPre(Color)})
+     */
+    public void fillOval(final double x, final double y, final double radiusX, final double radiusY, final int argbPre) {
+        add(TYPE_OVAL, argbPre, y - radiusY, y + radiusY, x, y, radiusX, radiusY, 0.0);
+    }
+
+    /**
+     * fills the rectangle
+     *
+     * @param x horizontal top-left coordinate
+     * @param y vertical top-left coordinate
+     * @param w width
+     * @param h height
+     * @param argbPre pre-multiplied colour (see {@link #toArgbPre(Color)})
+     */
+    public void fillRect(final double x, final double y, final double w, final double h, final int argbPre) {
+        add(TYPE_RECT, argbPre, y, y + h, x, y, w, h, 0.0);
+    }
+
+    /**
+     * @return the pre-multiplied ARGB pixel buffer (row-major, length &ge; width * height)
+     */
+    public int[] getBuffer() {
+        return buffer;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return number of recorded and not yet rasterised primitives
+     */
+    public int getPrimitiveCount() {
+        return nPrimitives;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * @return {@code true} if one pixel wide lines are drawn using Wu's anti-aliasing algorithm
+     */
+    public boolean isAntiAliasing() {
+        return antiAliasing;
+    }
+
+    /**
+     * rasterises the recorded primitives into the pixel buffer and clears the recorded primitives
+     *
+     * @param parallel {@code true}: rasterise horizontal strips in parallel
+     */
+    public void rasterize(final boolean parallel) {
+        if (nPrimitives == 0 || width <= 0 || height <= 0) {
+            nPrimitives = 0;
+            return;
+        }
+        final int nThreads = parallel ? Math.min(CachedDaemonThreadFactory.getNumbersOfThreads(), height / MIN_STRIP_HEIGHT) : 1;
+        if (nThreads <= 1) {
+            rasterizeStrip(0, height);
+            nPrimitives = 0;
+            return;
+        }
+
+        final int stripHeight = (int) Math.ceil(height / (double) nThreads);
+        final List<Callable<Boolean>> workers = new ArrayList<>(nThreads);
+        for (int i = 0; i < height; i += stripHeight) {
+            final int start = i;
+            workers.add(() -> {
+                rasterizeStrip(start, Math.min(height, start + stripHeight));
+                return Boolean.TRUE;
+            });
+        }
+
+        try {
+            final List<Future<Boolean>> jobs = CachedDaemonThreadFactory.getCommonPool().invokeAll(workers);
+            for (final Future<Boolean> future : jobs) {
+                final Boolean r = future.get();
+                if (Boolean.FALSE.equals(r)) {
+                    throw new IllegalStateException(PARALLEL_WORKER_ERROR);
+                }
+            }
+        } catch (final InterruptedException | ExecutionException e) {
+            throw new IllegalStateException(PARALLEL_WORKER_ERROR, e);
+        } finally {
+            nPrimitives = 0;
+        }
+    }
+
+    /**
+     * clears the recorded primitives and pixel buffer and adjusts the latter to the new dimensions if necessary
+     *
+     * @param newWidth new buffer width in pixel
+     * @param newHeight new buffer height in pixel
+     */
+    public void reset(final int newWidth, final int newHeight) {
+        width = Math.max(0, newWidth);
+        height = Math.max(0, newHeight);
+        final int length = width * height;
+        if (buffer.length < length) {
+            buffer = new int[length];
+        } else {
+            Arrays.fill(buffer, 0, length, 0);
+        }
+        nPrimitives = 0;
+    }
+
+    /**
+     * @param state {@code true} if one pixel wide lines shall be drawn using Wu's anti-aliasing algorithm
+     */
+    public void setAntiAliasing(final boolean state) {
+        antiAliasing = state;
+    }
+
+    private void add(final int type, final int argbPre, final double yMin, final double yMax, final double p0, final double p1, final double p2, final double p3, final double p4) {
+        if ((argbPre >>> 24) == 0 || yMax < 0 || yMin >= height) {
+            // fully transparent or outside the visible buffer
+            return;
+        }
+        if (nPrimitives >= types.length) {
+            final int newLength = types.length * 2;
+            types = Arrays.copyOf(types, newLength);
+            colors = Arrays.copyOf(colors, newLength);
+            parameter = Arrays.copyOf(parameter, N_PARAMETER * newLength);
+            yMinMax = Arrays.copyOf(yMinMax, 2 * newLength);
+        }
+        types[nPrimitives] = type;
+        colors[nPrimitives] = argbPre;
+        yMinMax[2 * nPrimitives] = yMin;
+        yMinMax[2 * nPrimitives + 1] = yMax;
+        final int offset = N_PARAMETER * nPrimitives;
+        parameter[offset] = p0;
+        parameter[offset + 1] = p1;
+        parameter[offset + 2] = p2;
+        parameter[offset + 3] = p3;
+        parameter[offset + 4] = p4;
+        nPrimitives++;
+    }
+
+    private void blend(final int index, final int argbPre, final int coverage) {
+        if (coverage >= 255 && (argbPre >>> 24) == 255) {
+            buffer[index] = argbPre;
+            return;
+        }
+        buffer[index] = blendSrcOver(buffer[index], argbPre, coverage);
+    }
+
+    private void fillSpan(final int row, final int xStart, final int xStop, final int argbPre) {
+        final int start = Math.max(0, xStart);
+        final int stop = Math.min(width - 1, xStop);
+        if (start > stop) {
+            return;
+        }
+        final int offset = row * width;
+        if ((argbPre >>> 24) == 255) {
+            Arrays.fill(buffer, offset + start, offset + stop + 1, argbPre);
+            return;
+        }
+        for (int x = start; x <= stop; x++) {
+            buffer[offset + x] = blendSrcOver(buffer[offset + x], argbPre, 255);
+        }
+    }
+
+    private void plot(final int x, final int y, final int stripMin, final int stripMax, final int argbPre, final int coverage) {
+        if (x < 0 || x >= width || y < stripMin || y >= stripMax || coverage <= 0) {
+            return;
+        }
+        blend(y * width + x, argbPre, coverage);
+    }
+
+    private void rasterizeDiamond(final int offset, final int argbPre, final int stripMin, final int stripMax) {
+        final double x = parameter[offset];
+        final double y = parameter[offset + 1];
+        final double size = parameter[offset + 2];
+        final int rowMin = Math.max(stripMin, (int) Math.ceil(y - size - 0.5));
+        final int rowMax = Math.min(stripMax - 1, (int) Math.floor(y + size - 0.5));
+        for (int row = rowMin; row <= rowMax; row++) {
+            final double half = size - Math.abs(row + 0.5 - y);
+            if (half >= 0) {
+                fillSpan(row, (int) Math.ceil(x - half - 0.5), (int) Math.ceil(x + half - 0.5) - 1, argbPre);
+            }
+        }
+    }
+
+    private void rasterizeLine(final int offset, final int argbPre, final int stripMin, final int stripMax) {
+        final double x0 = parameter[offset];
+        final double y0 = parameter[offset + 1];
+        final double x1 = parameter[offset + 2];
+        final double y1 = parameter[offset + 3];
+        final int brush = Math.max(1, (int) Math.round(parameter[offset + 4]));
+        final boolean wu = antiAliasing && brush == 1;
+        final int brushMin = -(brush - 1) / 2;
+        final int brushMax = brushMin + brush - 1;
+        final double dx = x1 - x0;
+        final double dy = y1 - y0;
+
+        if (Math.abs(dx) >= Math.abs(dy)) {
+            // x-major: one (or two for Wu) pixel(s) per column
+            final double xa = Math.min(x0, x1);
+            final double xb = Math.max(x0, x1);
+            int colMin = Math.max(0, (int) Math.floor(xa));
+            int colMax = Math.min(width - 1, (int) Math.floor(xb));
+            final double slope = dx == 0.0 ? 0.0 : dy / dx;
+            if (slope != 0.0) {
+                // restrict column range to the part of the line crossing the strip
+                final double xs0 = x0 + (stripMin - 1 + brushMin - y0) / slope;
+                final double xs1 = x0 + (stripMax + 1 + brushMax - y0) / slope;
+                colMin = Math.max(colMin, (int) Math.floor(Math.min(xs0, xs1)) - 1);
+                colMax = Math.min(colMax, (int) Math.ceil(Math.max(xs0, xs1)) + 1);
+            }
+            for (int col = colMin; col <= colMax; col++) {
+                final double y = y0 + slope * (Math.min(Math.max(col + 0.5, xa), xb) - x0);
+                if (wu) {
+                    final double yc = y - 0.5;
+                    final int row = (int) Math.floor(yc);
+                    final int cov = (int) ((yc - row) * 255.0 + 0.5);
+                    plot(col, row, stripMin, stripMax, argbPre, 255 - cov);
+                    plot(col, row + 1, stripMin, stripMax, argbPre, cov);
+                } else {
+                    final int row = (int) Math.floor(y);
+                    for (int k = brushMin; k <= brushMax; k++) {
+                        plot(col, row + k, stripMin, stripMax, argbPre, 255);
+                    }
+                }
+            }
+            return;
+        }
+
+        // y-major: one (or two for Wu) pixel(s) per row
+        final double ya = Math.min(y0, y1);
+        final double yb = Math.max(y0, y1);
+        final int rowMin = Math.max(stripMin, (int) Math.floor(ya));
+        final int rowMax = Math.min(stripMax - 1, (int) Math.floor(yb));
+        final double slope = dx / dy;
+        for (int row = rowMin; row <= rowMax; row++) {
+            final double x = x0 + slope * (Math.min(Math.max(row + 0.5, ya), yb) - y0);
+            if (wu) {
+                final double xc = x - 0.5;
+                final int col = (int) Math.floor(xc);
+                final int cov = (int) ((xc - col) * 255.0 + 0.5);
+                plot(col, row, stripMin, stripMax, argbPre, 255 - cov);
+                plot(col + 1, row, stripMin, stripMax, argbPre, cov);
+            } else {
+                final int col = (int) Math.floor(x);
+                for (int k = brushMin; k <= brushMax; k++) {
+                    plot(col + k, row, stripMin, stripMax, argbPre, 255);
+                }
+            }
+        }
+    }
+
+    private void rasterizeOval(final int offset, final int argbPre, final int stripMin, final int stripMax) {
+        final double x = parameter[offset];
+        final double y = parameter[offset + 1];
+        final double radiusX = parameter[offset + 2];
+        final double radiusY = parameter[offset + 3];
+        if (radiusX <= 0 || radiusY <= 0) {
+            return;
+        }
+        final int rowMin = Math.max(stripMin, (int) Math.ceil(y - radiusY - 0.5));
+        final int rowMax = Math.min(stripMax - 1, (int) Math.floor(y + radiusY - 0.5));
+        for (int row = rowMin; row <= rowMax; row++) {
+            final double norm = (row + 0.5 - y) / radiusY;
+            final double half = radiusX * Math.sqrt(Math.max(0.0, 1.0 - norm * norm));
+            fillSpan(row, (int) Math.ceil(x - half - 0.5), (int) Math.ceil(x + half - 0.5) - 1, argbPre);
+        }
+    }
+
+    private void rasterizeRect(final int offset, final int argbPre, final int stripMin, final int stripMax) {
+        final double x = parameter[offset];
+        final double y = parameter[offset + 1];
+        final double w = parameter[offset + 2];
+        final double h = parameter[offset + 3];
+        final int rowMin = Math.max(stripMin, (int) Math.ceil(Math.min(y, y + h) - 0.5));
+        final int rowMax = Math.min(stripMax - 1, (int) Math.ceil(Math.max(y, y + h) - 0.5) - 1);
+        final int colMin = (int) Math.ceil(Math.min(x, x + w) - 0.5);
+        final int colMax = (int) Math.ceil(Math.max(x, x + w) - 0.5) - 1;
+        for (int row = rowMin; row <= rowMax; row++) {
+            fillSpan(row, colMin, colMax, argbPre);
+        }
+    }
+
+    private void rasterizeStrip(final int stripMin, final int stripMax) {
+        for (int i = 0; i < nPrimitives; i++) {
+            if (yMinMax[2 * i + 1] < stripMin - 1 || yMinMax[2 * i] >= stripMax + 1) {
+                continue;
+            }
+            final int offset = N_PARAMETER * i;
+            switch (types[i]) {
+            case TYPE_LINE:
+                rasterizeLine(offset, colors[i], stripMin, stripMax);
+                break;
+            case TYPE_RECT:
+                rasterizeRect(offset, colors[i], stripMin, stripMax);
+                break;
+            case TYPE_OVAL:
+                rasterizeOval(offset, colors[i], stripMin, stripMax);
+                break;
+            case TYPE_DIAMOND:
+            default:
+                rasterizeDiamond(offset, colors[i], stripMin, stripMax);
+                break;
+            }
+        }
+    }
+
+    /**
+     * @param color JavaFX colour
+     * @return pre-multiplied 32-bit ARGB representation of the colour
+     */
+    public static int toArgbPre(final Color color) {
+        final double alpha = color.getOpacity();
+        final int a = (int) Math.round(alpha * 255.0);
+        final int r = (int) Math.round(color.getRed() * alpha * 255.0);
+        final int g = (int) Math.round(color.getGreen() * alpha * 255.0);
+        final int b = (int) Math.round(color.getBlue() * alpha * 255.0);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+
+    /**
+     * 'source-over' compositing of pre-multiplied ARGB values
+     *
+     * @param dst destination pixel
+     * @param src source pixel
+     * @param coverage additional source coverage [0, 255]
+     * @return composited pixel
+     */
+    protected static int blendSrcOver(final int dst, final int src, final int coverage) {
+        final int srcA = (((src >>> 24) * coverage) + 127) / 255;
+        final int srcR = ((((src >>> 16) & 0xFF) * coverage) + 127) / 255;
+        final int srcG = ((((src >>> 8) & 0xFF) * coverage) + 127) / 255;
+        final int srcB = (((src & 0xFF) * coverage) + 127) / 255;
+        final int inv = 255 - srcA;
+        final int a = srcA + ((((dst >>> 24) * inv) + 127) / 255);
+        final int r = srcR + (((((dst >>> 16) & 0xFF) * inv) + 127) / 255);
+        final int g = srcG + (((((dst >>> 8) & 0xFF) * inv) + 127) / 255);
+        final int b = srcB + ((((dst & 0xFF) * inv) + 127) / 255);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+}
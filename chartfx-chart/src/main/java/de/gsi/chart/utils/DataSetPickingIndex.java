@@ -0,0 +1,330 @@
+package de.gsi.chart.utils;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import de.gsi.chart.axes.Axis;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.event.EventListener;
+import de.gsi.dataset.event.UpdateEvent;
+
+/**
+ * Lazily built screen-space index to pick the data points of a {@link DataSet} that are close to a given display
+ * coordinate (e.g. the mouse cursor).
+ * <p>
+ * The display coordinates of all points are bucketed into a uniform grid of {@value #CELL_SIZE} pixel wide cells
+ * (counting sort, flat primitive arrays) so that a query only needs to visit the few cells around the query position.
+ * The index is rebuilt on the next query after the data set has been updated or the axis transform (range, length,
+ * inversion, log-scale) has changed. Queries do not allocate.
+ * <p>
+ * For {@link GridDataSet}s the nearest grid node is determined directly via the grid look-up (binary search) and
+ * returned as linear index {@code ix + iy * nx}.
+ * <p>
+ * Instances are shared per data set between plugins via {@link #get(DataSet)}. N.B. not thread-safe, to be used from
+ * the JavaFX application thread.
+ */
+public final class DataSetPickingIndex {
+    private static final double CELL_SIZE = 16.0;
+    private volatile boolean valid; // N.B. data set updates may be notified from other threads
+    // N.B. weak references since the index lives as long as its data set
+    private WeakReference<Axis> xAxisRef = new WeakReference<>(null);
+    private WeakReference<Axis> yAxisRef = new WeakReference<>(null);
+    private final double[] xAxisState = new double[6];
+    private final double[] yAxisState = new double[6];
+
+    private int nPoints;
+    private double[] xPositions = new double[0];
+    private double[] yPositions = new double[0];
+    private int nCellsX;
+    private int nCellsY;
+    private int[] cellStart = new int[0]; // index into 'sorted', one entry per cell + 1
+    private int[] sorted = new int[0]; // data point indices sorted by cell
+    private double lastDistance = Double.NaN;
+
+    private DataSetPickingIndex() {
+        // instantiated via get(DataSet)
+    }
+
+    /**
+     * Visits all data points whose display coordinates are within the given rectangle.
+     *
+     * @param dataSet the data set (N.B. has to be the same as the one this index was obtained for)
+     * @param xAxis the horizontal axis
+     * @param yAxis the vertical axis
+     * @param minX minimum horizontal display coordinate
+     * @param minY minimum vertical display coordinate
+     * @param maxX maximum horizontal display coordinate
+     * @param maxY maximum vertical display coordinate
+     * @param consumer called with the index of every data point inside the rectangle (N.B. linear index for grid data sets)
+     */
+    public void forEachInside(final DataSet dataSet, final Axis xAxis, final Axis yAxis, final double minX, final double minY, final double maxX, final double maxY, final IntConsumer consumer) {
+        if (dataSet instanceof GridDataSet) {
+            forEachGridNodeInside((GridDataSet) dataSet, xAxis, yAxis, minX, minY, maxX, maxY, consumer);
+            return;
+        }
+        update(dataSet, xAxis, yAxis);
+        final int cellMinX = getCellX(minX);
+        final int cellMaxX = getCellX(maxX);
+        final int cellMinY = getCellY(minY);
+        final int cellMaxY = getCellY(maxY);
+        for (int cellY = cellMinY; cellY <= cellMaxY; cellY++) {
+            for (int cellX = cellMinX; cellX <= cellMaxX; cellX++) {
+                final int cell = cellY * nCellsX + cellX;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    final int index = sorted[i];
+                    final double x = xPositions[index];
+                    final double y = yPositions[index];
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                        consumer.accept(index);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return display distance of the point found by the last {@link #getNearest} query, {@code NaN} if none was
+     *         found
+     */
+    public double getLastDistance() {
+        return lastDistance;
+    }
+
+    /**
+     * @param dataSet the data set (N.B. has to be the same as the one this index was obtained for)
+     * @param xAxis the horizontal axis
+     * @param yAxis the vertical axis
+     * @param x horizontal display coordinate
+     * @param y vertical display coordinate
+     * @param maxDistance maximum display distance of the point
+     * @return index of the nearest data point within the given distance (N.B. linear index {@code ix + iy * nx} for
+     *         grid data sets) or '-1' if there is none
+     */
+    public int getNearest(final DataSet dataSet, final Axis xAxis, final Axis yAxis, final double x, final double y, final double maxDistance) {
+        lastDistance = Double.NaN;
+        if (dataSet instanceof GridDataSet) {
+            return getNearestGridNode((GridDataSet) dataSet, xAxis, yAxis, x, y, maxDistance);
+        }
+        update(dataSet, xAxis, yAxis);
+        final int cellMinX = getCellX(x - maxDistance);
+        final int cellMaxX = getCellX(x + maxDistance);
+        final int cellMinY = getCellY(y - maxDistance);
+        final int cellMaxY = getCellY(y + maxDistance);
+        double minDistance2 = maxDistance * maxDistance;
+        int nearest = -1;
+        for (int cellY = cellMinY; cellY <= cellMaxY; cellY++) {
+            for (int cellX = cellMinX; cellX <= cellMaxX; cellX++) {
+                final int cell = cellY * nCellsX + cellX;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    final int index = sorted[i];
+                    final double dx = xPositions[index] - x;
+                    final double dy = yPositions[index] - y;
+                    final double distance2 = dx * dx + dy * dy;
+                    if (distance2 < minDistance2 || distance2 == minDistance2 && (nearest < 0 || index < nearest)) {
+                        minDistance2 = distance2;
+                        nearest = index;
+                    }
+                }
+            }
+        }
+        if (nearest >= 0) {
+            lastDistance = Math.sqrt(minDistance2);
+        }
+        return nearest;
+    }
+
+    /**
+     * Forces the index to be rebuilt on the next query
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    private void build(final DataSet dataSet, final Axis xAxis, final Axis yAxis) {
+        dataSet.lock().readLockGuardOptimistic(() -> {
+            nPoints = dataSet.getDataCount();
+            xPositions = ensureSize(xPositions, nPoints);
+            yPositions = ensureSize(yPositions, nPoints);
+            sorted = ensureSize(sorted, nPoints);
+            for (int index = 0; index < nPoints; index++) {
+                xPositions[index] = dataSet.get(DataSet.DIM_X, index);
+                yPositions[index] = dataSet.get(DataSet.DIM_Y, index);
+            }
+        });
+        xAxis.getDisplayPositions(xPositions, 0, xPositions, 0, nPoints);
+        yAxis.getDisplayPositions(yPositions, 0, yPositions, 0, nPoints);
+
+        // N.B. points outside the axis range are assigned to the border cells
+        nCellsX = Math.max(1, (int) Math.ceil(xAxis.getLength() / CELL_SIZE));
+        nCellsY = Math.max(1, (int) Math.ceil(yAxis.getLength() / CELL_SIZE));
+        final int nCells = nCellsX * nCellsY;
+        cellStart = cellStart.length >= nCells + 1 ? cellStart : new int[nCells + 1];
+        Arrays.fill(cellStart, 0, nCells + 1, 0);
+
+        // counting sort by cell, points with undefined coordinates are not indexed
+        for (int index = 0; index < nPoints; index++) {
+            if (Double.isFinite(xPositions[index]) && Double.isFinite(yPositions[index])) {
+                cellStart[getCell(index) + 1]++;
+            }
+        }
+        for (int cell = 0; cell < nCells; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+        }
+        final int[] position = Arrays.copyOf(cellStart, nCells);
+        for (int index = 0; index < nPoints; index++) {
+            if (Double.isFinite(xPositions[index]) && Double.isFinite(yPositions[index])) {
+                sorted[position[getCell(index)]++] = index;
+            }
+        }
+    }
+
+    private void forEachGridNodeInside(final GridDataSet dataSet, final Axis xAxis, final Axis yAxis, final double minX, final double minY, final double maxX, final double maxY, final IntConsumer consumer) {
+        if (dataSet.getNGrid() < 2 || dataSet.getShape(DataSet.DIM_X) == 0 || dataSet.getShape(DataSet.DIM_Y) == 0) {
+            return;
+        }
+        final int nx = dataSet.getShape(DataSet.DIM_X);
+        final int[] xRange = getGridRange(dataSet, DataSet.DIM_X, xAxis.getValueForDisplay(minX), xAxis.getValueForDisplay(maxX));
+        final int[] yRange = getGridRange(dataSet, DataSet.DIM_Y, yAxis.getValueForDisplay(minY), yAxis.getValueForDisplay(maxY));
+        for (int iy = yRange[0]; iy <= yRange[1]; iy++) {
+            final double y = yAxis.getDisplayPosition(dataSet.getGrid(DataSet.DIM_Y, iy));
+            if (!(y >= minY && y <= maxY)) {
+                continue;
+            }
+            for (int ix = xRange[0]; ix <= xRange[1]; ix++) {
+                final double x = xAxis.getDisplayPosition(dataSet.getGrid(DataSet.DIM_X, ix));
+                if (x >= minX && x <= maxX) {
+                    consumer.accept(ix + iy * nx);
+                }
+            }
+        }
+    }
+
+    private int getCell(final int index) {
+        return getCellY(yPositions[index]) * nCellsX + getCellX(xPositions[index]);
+    }
+
+    private int getCellX(final double x) {
+        return clamp(x / CELL_SIZE, nCellsX);
+    }
+
+    private int getCellY(final double y) {
+        return clamp(y / CELL_SIZE, nCellsY);
+    }
+
+    private int getNearestGridNode(final GridDataSet dataSet, final Axis xAxis, final Axis yAxis, final double x, final double y, final double maxDistance) {
+        if (dataSet.getNGrid() < 2 || dataSet.getShape(DataSet.DIM_X) == 0 || dataSet.getShape(DataSet.DIM_Y) == 0) {
+            return -1;
+        }
+        final int nx = dataSet.getShape(DataSet.DIM_X);
+        final int ny = dataSet.getShape(DataSet.DIM_Y);
+        // N.B. the grid look-up returns the neighbouring node index, the nearest one is among its direct neighbours
+        final int ix0 = dataSet.getGridIndex(DataSet.DIM_X, xAxis.getValueForDisplay(x));
+        final int iy0 = dataSet.getGridIndex(DataSet.DIM_Y, yAxis.getValueForDisplay(y));
+        double minDistance2 = maxDistance * maxDistance;
+        int nearest = -1;
+        for (int iy = Math.max(0, iy0 - 1); iy <= Math.min(ny - 1, iy0 + 1); iy++) {
+            final double dy = yAxis.getDisplayPosition(dataSet.getGrid(DataSet.DIM_Y, iy)) - y;
+            for (int ix = Math.max(0, ix0 - 1); ix <= Math.min(nx - 1, ix0 + 1); ix++) {
+                final double dx = xAxis.getDisplayPosition(dataSet.getGrid(DataSet.DIM_X, ix)) - x;
+                final double distance2 = dx * dx + dy * dy;
+                if (distance2 <= minDistance2) {
+                    minDistance2 = distance2;
+                    nearest = ix + iy * nx;
+                }
+            }
+        }
+        if (nearest >= 0) {
+            lastDistance = Math.sqrt(minDistance2);
+        }
+        return nearest;
+    }
+
+    private void update(final DataSet dataSet, final Axis xAxis, final Axis yAxis) {
+        final boolean axesChanged = xAxisRef.get() != xAxis || yAxisRef.get() != yAxis;
+        final boolean xStateChanged = updateAxisState(xAxis, xAxisState);
+        final boolean yStateChanged = updateAxisState(yAxis, yAxisState);
+        if (valid && !axesChanged && !xStateChanged && !yStateChanged && nPoints == dataSet.getDataCount()) {
+            return;
+        }
+        xAxisRef = new WeakReference<>(xAxis);
+        yAxisRef = new WeakReference<>(yAxis);
+        // N.B. set before building so that concurrent updates during the build invalidate the result
+        valid = true;
+        build(dataSet, xAxis, yAxis);
+    }
+
+    /**
+     * @param dataSet the data set to be indexed
+     * @return the (shared) picking index of the given data set
+     */
+    public static DataSetPickingIndex get(final DataSet dataSet) {
+        // N.B. the index is attached to the data set via its invalidation listener rather than kept in a (weak) map
+        // since data set equality and hash code are based on their content
+        final List<EventListener> listeners = dataSet.updateEventListener();
+        synchronized (listeners) {
+            for (final EventListener listener : listeners) {
+                if (listener instanceof InvalidationListener) {
+                    return ((InvalidationListener) listener).index;
+                }
+            }
+            final InvalidationListener listener = new InvalidationListener(new DataSetPickingIndex());
+            dataSet.addListener(listener);
+            return listener.index;
+        }
+    }
+
+    private static int clamp(final double cell, final int nCells) {
+        // N.B. also maps NaN to '0'
+        return cell >= nCells ? nCells - 1 : cell > 0 ? (int) cell : 0;
+    }
+
+    private static double[] ensureSize(final double[] array, final int length) {
+        return array.length >= length ? array : new double[length];
+    }
+
+    private static int[] ensureSize(final int[] array, final int length) {
+        return array.length >= length ? array : new int[length];
+    }
+
+    private static int[] getGridRange(final GridDataSet dataSet, final int dimIndex, final double value1, final double value2) {
+        final int n = dataSet.getShape(dimIndex);
+        final int index1 = dataSet.getGridIndex(dimIndex, Math.min(value1, value2));
+        final int index2 = dataSet.getGridIndex(dimIndex, Math.max(value1, value2));
+        // N.B. widen by one to include nodes close to the boundaries, exact check is done in display coordinates
+        return new int[] { Math.max(0, Math.min(index1, index2) - 1), Math.min(n - 1, Math.max(index1, index2) + 1) };
+    }
+
+    private static boolean updateAxisState(final Axis axis, final double[] state) {
+        final double min = axis.getMin();
+        final double max = axis.getMax();
+        final double length = axis.getLength();
+        final double pos0 = axis.getDisplayPosition(min);
+        final double pos1 = axis.getDisplayPosition(max);
+        // N.B. centre position distinguishes linear from non-linear transforms with identical end points
+        final double posCentre = axis.getDisplayPosition(0.5 * (min + max));
+        final boolean changed = state[0] != min || state[1] != max || state[2] != length || state[3] != pos0 || state[4] != pos1 || state[5] != posCentre;
+        state[0] = min;
+        state[1] = max;
+        state[2] = length;
+        state[3] = pos0;
+        state[4] = pos1;
+        state[5] = posCentre;
+        return changed;
+    }
+
+    private static class InvalidationListener implements EventListener {
+        private final DataSetPickingIndex index;
+
+        private InvalidationListener(final DataSetPickingIndex index) {
+            this.index = index;
+        }
+
+        @Override
+        public void handle(final UpdateEvent event) {
+            index.invalidate();
+        }
+    }
+}
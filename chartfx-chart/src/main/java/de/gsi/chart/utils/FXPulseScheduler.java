@@ -0,0 +1,152 @@
+package de.gsi.chart.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.scene.Scene;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-scene, pulse-aligned scheduler for deferred (layout) requests.
+ * <p>
+ * Tasks (typically a chart's {@code requestLayout()}) are collected and executed by a single {@link AnimationTimer}
+ * at the beginning of the next JavaFX pulse -- ie. before the CSS and layout pass of the same pulse -- but not more
+ * often than the configured {@link #maxFrameRateProperty() maximum frame rate}. The same task instance is executed at
+ * most once per pulse irrespective of how often it has been scheduled. The timer is stopped while no tasks are pending.
+ * <p>
+ * The scheduler also counts the pulses of the scene (via a pre-layout pulse listener) so that e.g. charts may limit
+ * their rendering to once per pulse. All methods must be called from the JavaFX application thread.
+ */
+public final class FXPulseScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FXPulseScheduler.class);
+    private static final String SCENE_PROPERTY_KEY = FXPulseScheduler.class.getName();
+    public static final double DEFAULT_MAX_FRAME_RATE = 60.0;
+    private final DoubleProperty maxFrameRate = new SimpleDoubleProperty(this, "maxFrameRate", DEFAULT_MAX_FRAME_RATE) {
+        @Override
+        public void set(final double newValue) {
+            if (!(newValue > 0.0)) {
+                throw new IllegalArgumentException("max frame rate must be > 0: " + newValue);
+            }
+            super.set(newValue);
+        }
+    };
+    private final Set<Runnable> pendingTasks = new LinkedHashSet<>(); // N.B. identity-based for lambdas and method references
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(final long now) {
+            executePendingTasks(now);
+        }
+    };
+    private boolean timerRunning;
+    private long lastExecution = Long.MIN_VALUE / 2;
+    private long pulseCount;
+
+    private FXPulseScheduler(final Scene scene) {
+        scene.addPreLayoutPulseListener(() -> pulseCount++);
+    }
+
+    /**
+     * @return the minimum time between two task executions [ns]
+     */
+    public long getMinFramePeriod() {
+        return (long) (1e9 / getMaxFrameRate());
+    }
+
+    /**
+     * @return maximum rate [Hz] at which pending tasks are executed
+     */
+    public double getMaxFrameRate() {
+        return maxFrameRateProperty().get();
+    }
+
+    /**
+     * @return running number of pulses of the scene, can be used to detect repeated invocations within the same pulse
+     */
+    public long getPulseCount() {
+        return pulseCount;
+    }
+
+    /**
+     * @param task the task to be checked
+     * @return {@code true} if the task is pending for execution
+     */
+    public boolean isScheduled(final Runnable task) {
+        FXUtils.assertJavaFxThread();
+        return pendingTasks.contains(task);
+    }
+
+    /**
+     * @return maximum rate [Hz] at which pending tasks are executed (default: {@value #DEFAULT_MAX_FRAME_RATE})
+     */
+    public DoubleProperty maxFrameRateProperty() {
+        return maxFrameRate;
+    }
+
+    /**
+     * Schedules the given task for execution at the beginning of the next eligible pulse. Scheduling the same task
+     * instance again before its execution has no effect.
+     *
+     * @param task the task to be executed (N.B. should be a persistent instance, e.g. a field)
+     */
+    public void schedule(final Runnable task) {
+        FXUtils.assertJavaFxThread();
+        if (!pendingTasks.add(task) || timerRunning) {
+            return;
+        }
+        timerRunning = true;
+        timer.start();
+    }
+
+    /**
+     * @param frameRate maximum rate [Hz] at which pending tasks are executed
+     */
+    public void setMaxFrameRate(final double frameRate) {
+        maxFrameRateProperty().set(frameRate);
+    }
+
+    private void executePendingTasks(final long now) {
+        if (pendingTasks.isEmpty()) {
+            timerRunning = false;
+            timer.stop();
+            return;
+        }
+        if (now - lastExecution < getMinFramePeriod()) {
+            return;
+        }
+        lastExecution = now;
+        final List<Runnable> tasks = new ArrayList<>(pendingTasks);
+        pendingTasks.clear();
+        for (final Runnable task : tasks) {
+            try {
+                task.run();
+            } catch (final Exception e) { // NOPMD -- one failing task must not prevent the execution of the others
+                LOGGER.atError().setCause(e).log("pending task execution");
+            }
+        }
+    }
+
+    /**
+     * @param scene the scene
+     * @return the (lazily created) scheduler of the given scene
+     */
+    public static FXPulseScheduler get(final Scene scene) {
+        FXUtils.assertJavaFxThread();
+        if (scene == null) {
+            throw new IllegalArgumentException("scene must not be null");
+        }
+        final Object scheduler = scene.getProperties().get(SCENE_PROPERTY_KEY);
+        if (scheduler instanceof FXPulseScheduler) {
+            return (FXPulseScheduler) scheduler;
+        }
+        final FXPulseScheduler newScheduler = new FXPulseScheduler(scene);
+        scene.getProperties().put(SCENE_PROPERTY_KEY, newScheduler);
+        return newScheduler;
+    }
+}
@@ -0,0 +1,129 @@
+package de.gsi.chart.utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import it.unimi.dsi.fastutil.chars.Char2DoubleOpenHashMap;
+
+/**
+ * Font-metrics table to estimate the extent of (short) strings without a JavaFX {@link Text} layout pass for every
+ * string.
+ * <p>
+ * The advance width of each character is measured once per font and cached (N.B. kerning and ligatures are ignored,
+ * which is a good approximation for numeric axis labels). Multi-line strings are supported with the width being the
+ * widest line and the height being the number of lines times the font's line height. The tables of the
+ * {@value #MAX_FONTS} most recently used fonts are kept.
+ */
+public final class FontMetricsCache {
+    private static final int TABLE_SIZE = 256;
+    private static final int MAX_FONTS = 32;
+    private static final Map<Font, FontMetricsCache> FONT_METRICS = Collections.synchronizedMap(new LinkedHashMap<>(2 * MAX_FONTS, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Font, FontMetricsCache> eldest) {
+            return size() > MAX_FONTS;
+        }
+    });
+    private final Font font;
+    private final Text measure = new Text();
+    private final double[] charWidths = new double[TABLE_SIZE]; // NaN: not yet measured
+    private final Char2DoubleOpenHashMap otherCharWidths = new Char2DoubleOpenHashMap();
+    private final double lineHeight;
+
+    private FontMetricsCache(final Font font) {
+        this.font = font;
+        measure.setFont(font);
+        Arrays.fill(charWidths, Double.NaN);
+        measure.setText("0");
+        lineHeight = measure.getLayoutBounds().getHeight();
+    }
+
+    /**
+     * @return the font these metrics apply to
+     */
+    public Font getFont() {
+        return font;
+    }
+
+    /**
+     * @param text string to be measured (N.B. may contain line breaks)
+     * @return the height of the string
+     */
+    public double getHeight(final String text) {
+        if (text == null) {
+            return lineHeight;
+        }
+        int nLines = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '\n') {
+                nLines++;
+            }
+        }
+        return nLines * lineHeight;
+    }
+
+    /**
+     * @return the height of a single line of text
+     */
+    public double getLineHeight() {
+        return lineHeight;
+    }
+
+    /**
+     * @param text string to be measured (N.B. may contain line breaks)
+     * @return the width of the widest line of the string
+     */
+    public synchronized double getWidth(final String text) {
+        if (text == null) {
+            return 0.0;
+        }
+        double maxWidth = 0.0;
+        double width = 0.0;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == '\n') {
+                maxWidth = Math.max(maxWidth, width);
+                width = 0.0;
+            } else if (c != '\r') {
+                width += getCharWidth(c);
+            }
+        }
+        return Math.max(maxWidth, width);
+    }
+
+    private double getCharWidth(final char c) {
+        if (c < TABLE_SIZE) {
+            double width = charWidths[c];
+            if (Double.isNaN(width)) {
+                width = measureCharWidth(c);
+                charWidths[c] = width;
+            }
+            return width;
+        }
+        if (otherCharWidths.containsKey(c)) {
+            return otherCharWidths.get(c);
+        }
+        final double width = measureCharWidth(c);
+        otherCharWidths.put(c, width);
+        return width;
+    }
+
+    private double measureCharWidth(final char c) {
+        measure.setText(String.valueOf(c));
+        return measure.getLayoutBounds().getWidth();
+    }
+
+    /**
+     * @param font the font to be used
+     * @return the (shared) metrics table for the given font
+     */
+    public static FontMetricsCache get(final Font font) {
+        return FONT_METRICS.computeIfAbsent(font, FontMetricsCache::new);
+    }
+}
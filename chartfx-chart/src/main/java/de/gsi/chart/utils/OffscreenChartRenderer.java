@@ -0,0 +1,250 @@
+package de.gsi.chart.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+import de.gsi.chart.XYChart;
+import de.gsi.chart.viewer.ChartRenderCoordinator;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.utils.CachedDaemonThreadFactory;
+
+/**
+ * Headless (off-screen) rendering of {@link XYChart}s -- including their layout, axes, renderers and plugins -- into
+ * {@link WritableImage}s or {@code int[]} ARGB pixel buffers without a visible stage, e.g. for server-side batch image
+ * generation from {@link DataSet}s (with the JavaFX toolkit being initialised on a headless system via e.g. Monocle).
+ * <p>
+ * Each chart is attached to its own private scene that is never shown. Since the final CSS, layout and snapshot passes
+ * must be executed on the JavaFX application thread, {@link #renderAll(List)} splits the work into three stages to
+ * minimise the time spent on it:
+ * <ol>
+ * <li>the data ranges (limits) of all data sets are recomputed in parallel on the
+ * {@link CachedDaemonThreadFactory#getCommonPool() common pool},</li>
+ * <li>all charts are laid out, drawn and captured within a single FX application thread task,</li>
+ * <li>the pixels are read back into {@code int[]} buffers in parallel on the common pool.</li>
+ * </ol>
+ * The methods may be called concurrently from arbitrary threads. N.B. charts in off-screen scenes are not limited by
+ * the {@link FXPulseScheduler} frame rate and the chart animation is disabled so that the final axis ranges are
+ * captured.
+ */
+public class OffscreenChartRenderer {
+    private static final int MAX_LAYOUT_PASSES = 3;
+    private final XYChart chart;
+    private final int width;
+    private final int height;
+    private final SnapshotParameters snapshotParameters = new SnapshotParameters();
+    private Scene scene; // N.B. lazily created on the FX application thread
+
+    /**
+     * @param chart the chart to be rendered (N.B. must not be attached to another scene graph)
+     * @param width image width in pixel
+     * @param height image height in pixel
+     */
+    public OffscreenChartRenderer(final XYChart chart, final int width, final int height) {
+        if (chart == null) {
+            throw new IllegalArgumentException("chart must not be null");
+        }
+        if (chart.getParent() != null || chart.getScene() != null) {
+            throw new IllegalArgumentException("chart must not be attached to another scene graph");
+        }
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("image size must be positive: " + width + "x" + height);
+        }
+        this.chart = chart;
+        this.width = width;
+        this.height = height;
+        chart.setAnimated(false);
+    }
+
+    /**
+     * @return the rendered chart
+     */
+    public XYChart getChart() {
+        return chart;
+    }
+
+    /**
+     * @return image height in pixel
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return the snapshot parameters (e.g. background fill) used for the image capture
+     */
+    public SnapshotParameters getSnapshotParameters() {
+        return snapshotParameters;
+    }
+
+    /**
+     * @return image width in pixel
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * renders the chart into the given pixel buffer
+     *
+     * @param pixels ARGB (non pre-multiplied, row-major) pixel buffer, a new one is allocated if {@code null} or too
+     *            small
+     * @return the pixel buffer containing the rendered chart
+     */
+    public int[] render(final int[] pixels) {
+        return renderAll(Collections.singletonList(this), Collections.singletonList(pixels)).get(0);
+    }
+
+    /**
+     * renders the chart into the given image. This may be called from arbitrary threads but is executed on the FX
+     * application thread.
+     *
+     * @param image the image to be written to, a new one is allocated if {@code null} or of different size
+     * @return the image containing the rendered chart
+     */
+    public WritableImage render(final WritableImage image) {
+        recomputeLimits(Collections.singletonList(this));
+        try {
+            return FXUtils.runAndWait(() -> snapshot(image));
+        } catch (final Exception e) { // NOPMD -- re-thrown as unchecked exception
+            throw new IllegalStateException("could not render chart", e);
+        }
+    }
+
+    /**
+     * lays out, draws and captures the chart -- to be called on the FX application thread
+     *
+     * @param image the image to be written to, a new one is allocated if {@code null} or of different size
+     * @return the image containing the rendered chart
+     */
+    protected WritableImage snapshot(final WritableImage image) {
+        FXUtils.assertJavaFxThread();
+        if (scene == null) {
+            scene = new Scene(chart, width, height);
+        }
+        // N.B. data set notifications of other threads may still be pending on the FX event queue
+        for (int pass = 0; pass < MAX_LAYOUT_PASSES && (pass == 0 || chart.isNeedsLayout()); pass++) {
+            chart.requestLayout();
+            chart.applyCss();
+            chart.layout();
+        }
+        final WritableImage target = image != null && (int) image.getWidth() == width && (int) image.getHeight() == height ? image : null;
+        return chart.snapshot(snapshotParameters, target);
+    }
+
+    /**
+     * renders the given charts into newly allocated pixel buffers
+     *
+     * @param renderers the charts to be rendered
+     * @return ARGB (non pre-multiplied, row-major) pixel buffers of the rendered charts (same order as the renderers)
+     */
+    public static List<int[]> renderAll(final List<OffscreenChartRenderer> renderers) {
+        if (renderers == null) {
+            throw new IllegalArgumentException("renderers must not be null");
+        }
+        return renderAll(renderers, Collections.nCopies(renderers.size(), null));
+    }
+
+    /**
+     * renders the given charts into the given pixel buffers
+     *
+     * @param renderers the charts to be rendered
+     * @param pixels ARGB (non pre-multiplied, row-major) pixel buffers, new ones are allocated for {@code null} or too
+     *            small entries
+     * @return pixel buffers of the rendered charts (same order as the renderers)
+     */
+    public static List<int[]> renderAll(final List<OffscreenChartRenderer> renderers, final List<int[]> pixels) {
+        if (renderers == null || pixels == null || renderers.size() != pixels.size()) {
+            throw new IllegalArgumentException("renderers and pixel buffers must be non-null and of the same size");
+        }
+        recomputeLimits(renderers);
+
+        final WritableImageCache imageCache = WritableImageCache.getInstance();
+        final List<WritableImage> images;
+        try {
+            images = FXUtils.runAndWait(() -> {
+                final List<WritableImage> retVal = new ArrayList<>(renderers.size());
+                for (final OffscreenChartRenderer renderer : renderers) {
+                    retVal.add(renderer.snapshot(imageCache.getImage(renderer.getWidth(), renderer.getHeight())));
+                }
+                return retVal;
+            });
+        } catch (final Exception e) { // NOPMD -- re-thrown as unchecked exception
+            throw new IllegalStateException("could not render charts", e);
+        }
+        if (images == null) {
+            // N.B. errors (e.g. missing native font libraries) are not propagated by FXUtils.runAndWait
+            throw new IllegalStateException("could not render charts - see log for details");
+        }
+
+        final List<Callable<int[]>> workers = new ArrayList<>(renderers.size());
+        for (int index = 0; index < renderers.size(); index++) {
+            final WritableImage image = images.get(index);
+            final int[] buffer = pixels.get(index);
+            workers.add(() -> {
+                final int[] retVal = readPixels(image, buffer);
+                imageCache.add(image);
+                return retVal;
+            });
+        }
+        if (workers.size() <= 1) {
+            final List<int[]> retVal = new ArrayList<>(workers.size());
+            for (final Callable<int[]> worker : workers) {
+                try {
+                    retVal.add(worker.call());
+                } catch (final Exception e) { // NOPMD -- re-thrown as unchecked exception
+                    throw new IllegalStateException("could not read image pixels", e);
+                }
+            }
+            return retVal;
+        }
+        try {
+            final List<int[]> retVal = new ArrayList<>(workers.size());
+            for (final Future<int[]> future : CachedDaemonThreadFactory.getCommonPool().invokeAll(workers)) {
+                retVal.add(future.get());
+            }
+            return retVal;
+        } catch (final InterruptedException | ExecutionException e) {
+            throw new IllegalStateException("one parallel worker thread finished execution with error", e);
+        }
+    }
+
+    /**
+     * @param image the image to be read
+     * @param pixels ARGB pixel buffer, a new one is allocated if {@code null} or too small
+     * @return the pixel buffer
+     */
+    protected static int[] readPixels(final WritableImage image, final int[] pixels) {
+        final int w = (int) image.getWidth();
+        final int h = (int) image.getHeight();
+        final int[] retVal = pixels == null || pixels.length < w * h ? new int[w * h] : pixels;
+        final PixelReader pixelReader = image.getPixelReader();
+        pixelReader.getPixels(0, 0, w, h, PixelFormat.getIntArgbInstance(), retVal, 0, w);
+        return retVal;
+    }
+
+    private static void recomputeLimits(final List<OffscreenChartRenderer> renderers) {
+        if (Platform.isFxApplicationThread()) {
+            // N.B. do not block the FX application thread, the limits are recomputed as part of the regular layout pass
+            return;
+        }
+        final Set<DataSet> dataSets = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final OffscreenChartRenderer renderer : renderers) {
+            dataSets.addAll(renderer.getChart().getDatasets());
+            renderer.getChart().getRenderers().forEach(r -> dataSets.addAll(r.getDatasets()));
+        }
+        ChartRenderCoordinator.recomputeLimits(new ArrayList<>(dataSets));
+    }
+}
@@ -0,0 +1,359 @@
+package de.gsi.chart.viewer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.gsi.chart.Chart;
+import de.gsi.chart.utils.FXUtils;
+import de.gsi.dataset.AxisDescription;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.locks.DataSetLock;
+import de.gsi.dataset.locks.DefaultDataSetLock;
+import de.gsi.dataset.utils.CachedDaemonThreadFactory;
+
+/**
+ * Coordinates the layout and render passes of all charts below a common root node (typically a {@link DataViewer}
+ * dashboard with charts linked via e.g. {@link de.gsi.chart.utils.AxisSynchronizer}).
+ * <p>
+ * Before each layout pulse of the root's scene, the charts that requested a layout are collected and prepared in one
+ * batch:
+ * <ol>
+ * <li>the data ranges (limits) of all their data sets are recomputed once and in parallel on the
+ * {@link CachedDaemonThreadFactory#getCommonPool() common pool} (N.B. data sets shared between charts are processed
+ * only once, data sets that are presently being written to are skipped and left to the charts' regular layout
+ * pass),</li>
+ * <li>the axis ranges are updated, iterating until the cascade of charts invalidated via synchronised axes has settled,
+ * </li>
+ * </ol>
+ * so that all dirty charts are subsequently laid out and rendered in the same pulse, rather than some of them being
+ * deferred to the following pulses. The statistics of the last coordinated pulse are exposed via
+ * {@link #pulseStatisticsProperty()}.
+ * <p>
+ * N.B. charts in undocked windows (ie. in a different scene) are not coordinated.
+ */
+public class ChartRenderCoordinator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChartRenderCoordinator.class);
+    protected static final int MAX_AXIS_ITERATIONS = 4;
+    private final Parent root;
+    private final BooleanProperty enabled = new SimpleBooleanProperty(this, "enabled", true);
+    private final ReadOnlyObjectWrapper<PulseStatistics> pulseStatistics = new ReadOnlyObjectWrapper<>(this, "pulseStatistics", new PulseStatistics());
+    private final Runnable preLayoutPulseListener = this::preLayoutPulse;
+    private final Runnable postLayoutPulseListener = this::postLayoutPulse;
+    private final ChangeListener<Scene> sceneChangeListener = (ch, oldScene, newScene) -> {
+        if (oldScene != null) {
+            oldScene.removePreLayoutPulseListener(preLayoutPulseListener);
+            oldScene.removePostLayoutPulseListener(postLayoutPulseListener);
+        }
+        if (newScene != null) {
+            newScene.addPreLayoutPulseListener(preLayoutPulseListener);
+            newScene.addPostLayoutPulseListener(postLayoutPulseListener);
+        }
+    };
+    private PulseStatistics pendingStatistics; // statistics of the ongoing pulse, completed by the post-layout listener
+    private long pulseCount;
+
+    /**
+     * @param root node below which all charts are coordinated
+     */
+    public ChartRenderCoordinator(final Parent root) {
+        if (root == null) {
+            throw new IllegalArgumentException("root must not be null");
+        }
+        this.root = root;
+        root.sceneProperty().addListener(sceneChangeListener);
+        sceneChangeListener.changed(root.sceneProperty(), null, root.getScene());
+    }
+
+    /**
+     * @return property controlling whether layout and render passes are coordinated (default: true)
+     */
+    public BooleanProperty enabledProperty() {
+        return enabled;
+    }
+
+    /**
+     * @return all charts presently attached below the root node
+     */
+    public List<Chart> getCharts() {
+        final List<Chart> charts = new ArrayList<>();
+        collectCharts(root, charts);
+        return charts;
+    }
+
+    /**
+     * @return statistics of the last coordinated pulse
+     */
+    public PulseStatistics getPulseStatistics() {
+        return pulseStatisticsProperty().get();
+    }
+
+    /**
+     * @return the root node below which all charts are coordinated
+     */
+    public Parent getRoot() {
+        return root;
+    }
+
+    public boolean isEnabled() {
+        return enabledProperty().get();
+    }
+
+    /**
+     * prepares all charts that requested a layout, ie. recomputes their data set limits and updates their axis ranges.
+     * This is invoked automatically before each layout pulse but may also be called explicitly.
+     *
+     * @return the number of prepared charts
+     */
+    public int prepare() {
+        FXUtils.assertJavaFxThread();
+        final long start = System.nanoTime();
+        final List<Chart> charts = getCharts();
+        final Set<Chart> prepared = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<DataSet> preparedDataSets = Collections.newSetFromMap(new IdentityHashMap<>());
+        long prepareTime = 0;
+        int iteration = 0;
+        for (; iteration < MAX_AXIS_ITERATIONS; iteration++) {
+            // charts that (still or newly) requested a layout, e.g. via axes that have been synchronised in the previous iteration
+            final List<Chart> dirtyCharts = new ArrayList<>();
+            for (final Chart chart : charts) {
+                if (chart.isNeedsLayout() && prepared.add(chart)) {
+                    dirtyCharts.add(chart);
+                }
+            }
+            if (dirtyCharts.isEmpty()) {
+                break;
+            }
+
+            final long startPrepare = System.nanoTime();
+            final List<DataSet> dataSets = new ArrayList<>();
+            for (final Chart chart : dirtyCharts) {
+                for (final DataSet dataSet : chart.getAllDatasets()) {
+                    if (preparedDataSets.add(dataSet)) {
+                        dataSets.add(dataSet);
+                    }
+                }
+            }
+            recomputeLimits(dataSets);
+            prepareTime += System.nanoTime() - startPrepare;
+
+            dirtyCharts.forEach(Chart::updateAxisRange);
+        }
+
+        final long stop = System.nanoTime();
+        if (!prepared.isEmpty()) {
+            pulseCount++;
+        }
+        pendingStatistics = new PulseStatistics(pulseCount, charts.size(), prepared.size(), preparedDataSets.size(), iteration, prepareTime, stop - start - prepareTime, stop, 0);
+        return prepared.size();
+    }
+
+    /**
+     * @return statistics of the last coordinated pulse (N.B. updated only for pulses with charts that needed a layout)
+     */
+    public ReadOnlyObjectProperty<PulseStatistics> pulseStatisticsProperty() {
+        return pulseStatistics.getReadOnlyProperty();
+    }
+
+    public void setEnabled(final boolean state) {
+        enabledProperty().set(state);
+    }
+
+    protected void postLayoutPulse() {
+        final PulseStatistics stats = pendingStatistics;
+        pendingStatistics = null;
+        if (stats == null || stats.getDirtyChartCount() == 0) {
+            return;
+        }
+        pulseStatistics.set(new PulseStatistics(stats.getPulseCount(), stats.getChartCount(), stats.getDirtyChartCount(), stats.getDataSetCount(), stats.getAxisIterations(),
+                stats.getPrepareTime(), stats.getAxisTime(), stats.layoutStart, System.nanoTime() - stats.layoutStart));
+    }
+
+    protected void preLayoutPulse() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            prepare();
+        } catch (final Exception e) { // NOPMD -- ensure that failures do not prevent the regular layout pass
+            LOGGER.atError().setCause(e).log("could not prepare charts - fall back to regular layout pass");
+        }
+    }
+
+    private static void collectCharts(final Parent parent, final List<Chart> charts) {
+        for (final Node node : parent.getChildrenUnmodifiable()) {
+            if (node instanceof Chart) {
+                charts.add((Chart) node);
+            } else if (node instanceof Parent) {
+                collectCharts((Parent) node, charts);
+            }
+        }
+    }
+
+    /**
+     * recomputes the undefined data ranges (limits) of the given data sets in parallel on the
+     * {@link CachedDaemonThreadFactory#getCommonPool() common pool}. N.B. data sets that are presently write-locked are
+     * skipped rather than blocking the calling (ie. JavaFX application) thread.
+     *
+     * @param dataSets the data sets to be updated
+     */
+    public static void recomputeLimits(final List<DataSet> dataSets) {
+        final List<Callable<Boolean>> workers = new ArrayList<>(dataSets.size());
+        for (final DataSet dataSet : dataSets) {
+            if (isWriteLocked(dataSet)) {
+                continue;
+            }
+            workers.add(() -> {
+                final List<AxisDescription> axisDescriptions = dataSet.getAxisDescriptions();
+                for (int dim = 0; dim < axisDescriptions.size(); dim++) {
+                    if (!axisDescriptions.get(dim).isDefined()) {
+                        final int dimIndex = dim;
+                        dataSet.lock().writeLockGuard(() -> dataSet.recomputeLimits(dimIndex));
+                    }
+                }
+                return Boolean.TRUE;
+            });
+        }
+        if (workers.size() <= 1) {
+            for (final Callable<Boolean> worker : workers) {
+                try {
+                    worker.call();
+                } catch (final Exception e) { // NOPMD -- re-thrown as unchecked exception
+                    throw new IllegalStateException("could not recompute data set limits", e);
+                }
+            }
+            return;
+        }
+
+        try {
+            final List<Future<Boolean>> jobs = CachedDaemonThreadFactory.getCommonPool().invokeAll(workers);
+            for (final Future<Boolean> future : jobs) {
+                final Boolean r = future.get();
+                if (Boolean.FALSE.equals(r)) {
+                    throw new IllegalStateException("one parallel worker thread finished execution with error");
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while recomputing data set limits", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("one parallel worker thread finished execution with error", e);
+        }
+    }
+
+    private static boolean isWriteLocked(final DataSet dataSet) {
+        final DataSetLock<DataSet> lock = dataSet.lock();
+        return lock instanceof DefaultDataSetLock && ((DefaultDataSetLock<DataSet>) lock).getLockObject().isWriteLocked();
+    }
+
+    /**
+     * immutable statistics of a coordinated layout pulse
+     */
+    public static final class PulseStatistics {
+        private final long pulseCount;
+        private final int chartCount;
+        private final int dirtyChartCount;
+        private final int dataSetCount;
+        private final int axisIterations;
+        private final long prepareTime;
+        private final long axisTime;
+        private final long layoutStart;
+        private final long layoutTime;
+
+        private PulseStatistics() {
+            this(0, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+
+        private PulseStatistics(final long pulseCount, final int chartCount, final int dirtyChartCount, final int dataSetCount, final int axisIterations, final long prepareTime,
+                final long axisTime, final long layoutStart, final long layoutTime) {
+            this.pulseCount = pulseCount;
+            this.chartCount = chartCount;
+            this.dirtyChartCount = dirtyChartCount;
+            this.dataSetCount = dataSetCount;
+            this.axisIterations = axisIterations;
+            this.prepareTime = prepareTime;
+            this.axisTime = axisTime;
+            this.layoutStart = layoutStart;
+            this.layoutTime = layoutTime;
+        }
+
+        /**
+         * @return number of iterations needed to settle the axis ranges (ie. cascades via synchronised axes)
+         */
+        public int getAxisIterations() {
+            return axisIterations;
+        }
+
+        /**
+         * @return time spent updating the axis ranges [ns]
+         */
+        public long getAxisTime() {
+            return axisTime;
+        }
+
+        /**
+         * @return number of coordinated charts
+         */
+        public int getChartCount() {
+            return chartCount;
+        }
+
+        /**
+         * @return number of data sets whose limits have been (re-)computed in parallel
+         */
+        public int getDataSetCount() {
+            return dataSetCount;
+        }
+
+        /**
+         * @return number of charts that have been laid out and rendered within the pulse
+         */
+        public int getDirtyChartCount() {
+            return dirtyChartCount;
+        }
+
+        /**
+         * @return time spent in the subsequent layout and render pass of the scene [ns]
+         */
+        public long getLayoutTime() {
+            return layoutTime;
+        }
+
+        /**
+         * @return time spent (re-)computing the data set limits [ns]
+         */
+        public long getPrepareTime() {
+            return prepareTime;
+        }
+
+        /**
+         * @return running number of coordinated pulses
+         */
+        public long getPulseCount() {
+            return pulseCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("PulseStatistics [pulse=%d, charts=%d/%d, dataSets=%d, axisIterations=%d, prepare=%.3f ms, axes=%.3f ms, layout=%.3f ms]", //
+                    pulseCount, dirtyChartCount, chartCount, dataSetCount, axisIterations, 1e-6 * prepareTime, 1e-6 * axisTime, 1e-6 * layoutTime);
+        }
+    }
+}
@@ -80,6 +80,7 @@ public class DataViewer extends BorderPane {
     private final ToolBar toolBar;
     private final ObservableList<Node> userToolBarItems = FXCollections.observableList(new NoDuplicatesList<>());
     private final BooleanProperty showListStyleDataViews = new SimpleBooleanProperty(this, "listStyleViews", false);
+    private final ChartRenderCoordinator renderCoordinator = new ChartRenderCoordinator(this);
     // private final VisibleViewerPane visibleViewerPane = new VisibleViewerPane();
     // private final VBox viewerPane;
     // private final SplitPane splitPane = new SplitPane();
@@ -168,6 +169,13 @@ public class DataViewer extends BorderPane {
         return explorerVisible;
     }
 
+    /**
+     * @return coordinator that prepares, lays out and renders all charts of this viewer within the same pulse
+     */
+    public ChartRenderCoordinator getRenderCoordinator() {
+        return renderCoordinator;
+    }
+
     public final DataView getSelectedView() {
         return selectedViewProperty().get();
     }
@@ -2,11 +2,16 @@ package de.gsi.chart;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javafx.application.Platform;
 import javafx.collections.ListChangeListener;
 import javafx.scene.control.Label;
 import javafx.scene.paint.Color;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.testfx.framework.junit5.ApplicationExtension;
 
@@ -14,6 +19,9 @@ import de.gsi.chart.axes.Axis;
 import de.gsi.chart.ui.geometry.Side;
 import de.gsi.chart.ui.utils.JavaFXInterceptorUtils.SelectiveJavaFxInterceptor;
 import de.gsi.chart.ui.utils.TestFx;
+import de.gsi.chart.utils.FXUtils;
+import de.gsi.dataset.event.UpdatedDataEvent;
+import de.gsi.dataset.spi.DoubleDataSet;
 
 @ExtendWith(ApplicationExtension.class)
 @ExtendWith(SelectiveJavaFxInterceptor.class)
@@ -38,7 +46,46 @@ public class ChartTest {
         assertEquals(Side.RIGHT, chart.getTitleSide());
     }
 
+    @Test
+    public void testCoalescedDataSetEvents() throws Exception {
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        FXUtils.runAndWait(() -> chart.getDatasets().add(dataSet));
+        assertEquals(0, chart.getEventCount());
+
+        // block the FX thread while the producer notifies
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            blocked.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        final int nEvents = 1000;
+        for (int i = 0; i < nEvents; i++) {
+            dataSet.fireInvalidated(new UpdatedDataEvent(dataSet, "update"));
+        }
+        release.countDown();
+        FXUtils.runAndWait(() -> {});
+
+        assertEquals(nEvents, chart.getEventCount());
+        assertEquals(nEvents - 1, chart.getCoalescedEventCount(), "at most one pending FX task");
+        assertEquals(1, chart.nDataSetInvalidations);
+
+        // after the pending task has been executed, the next event is handed over again
+        dataSet.fireInvalidated(new UpdatedDataEvent(dataSet, "update"));
+        FXUtils.runAndWait(() -> {});
+        assertEquals(nEvents + 1, chart.getEventCount());
+        assertEquals(nEvents - 1, chart.getCoalescedEventCount());
+        assertEquals(2, chart.nDataSetInvalidations);
+    }
+
     private static class TestChart extends Chart {
+        private int nDataSetInvalidations;
+
         @Override
         public void updateAxisRange() {
         }
@@ -47,6 +94,12 @@ public class ChartTest {
         protected void axesChanged(ListChangeListener.Change<? extends Axis> change) {
         }
 
+        @Override
+        protected void dataSetInvalidated() {
+            nDataSetInvalidations++;
+            super.dataSetInvalidated();
+        }
+
         @Override
         protected void redrawCanvas() {
         }
@@ -262,6 +262,11 @@ class AbstractAxisParameterTests {
         axis.setTickLabelRotation(10);
         assertEquals(10, axis.getTickLabelRotation());
 
+        assertFalse(axis.isTickLabelMetricsCached());
+        axis.setTickLabelMetricsCached(true);
+        assertTrue(axis.isTickLabelMetricsCached());
+        axis.setTickLabelMetricsCached(false);
+
         assertTrue(axis.isTickLabelsVisible());
         axis.setTickLabelsVisible(false);
         assertFalse(axis.isTickLabelsVisible());
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
@@ -16,6 +17,7 @@ import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.layout.Pane;
 import javafx.stage.Stage;
+import javafx.util.StringConverter;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -213,6 +215,49 @@ class AbstractAxisTests {
         axis.getTickMarks().setAll(majorTickMarks);
     }
 
+    @Test
+    void testTickMarkReuse() {
+        AbstractAxis axis = new EmptyAbstractAxis(-5.0, 5.0);
+        final AxisRange range = axis.autoRange(DEFAULT_AXIS_LENGTH);
+
+        final List<TickMark> majorTickMarks = axis.computeTickMarks(range, true);
+        assertEquals(10, majorTickMarks.size());
+        axis.getTickMarks().setAll(majorTickMarks);
+        assertSame(axis.getTickMarks(), axis.computeTickMarks(range, true), "unchanged tick values");
+
+        axis.set(-4.0, 6.0);
+        final List<TickMark> shiftedTickMarks = axis.computeTickMarks(axis.autoRange(DEFAULT_AXIS_LENGTH), true);
+        assertEquals(10, shiftedTickMarks.size());
+        for (int i = 0; i < shiftedTickMarks.size(); i++) {
+            final TickMark tickMark = shiftedTickMarks.get(i);
+            assertSame(majorTickMarks.get(i), tickMark, "pooled tick mark instance");
+            assertEquals(-4.0 + i, tickMark.getValue(), 1e-9);
+            assertEquals(axis.getTickMarkLabel(tickMark.getValue()), tickMark.getText());
+        }
+        assertEquals(-4.0, axis.getTickMarkValues().get(0), 1e-9);
+
+        // cached label
+        assertSame(axis.getTickMarkLabel(1.0), axis.getTickMarkLabel(1.0));
+        axis.setTickLabelFormatter(new StringConverter<>() {
+            @Override
+            public Number fromString(final String string) {
+                return Double.valueOf(string);
+            }
+
+            @Override
+            public String toString(final Number object) {
+                return Double.toString(object.doubleValue());
+            }
+        });
+        assertEquals("1000.0", axis.getTickMarkLabel(1000.0));
+        axis.setUnitScaling(1000.0);
+        assertEquals("1.0", axis.getTickMarkLabel(1000.0), "label cache invalidated on unit scaling change");
+
+        axis.invalidateCaches();
+        assertEquals(0, axis.majorTickMarkPool.size());
+        assertEquals(0, axis.tickMarkLabelCache.size());
+    }
+
     @Start
     public void start(Stage stage) {
         assertDoesNotThrow(DefaultLegend::new);
@@ -10,6 +10,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import de.gsi.chart.axes.LogAxisType;
+import de.gsi.chart.ui.geometry.Side;
 
 /**
  * @author rstein
@@ -50,6 +51,37 @@ public class DefaultNumericAxisTests {
         }
     }
 
+    @Test
+    public void bulkDisplayPositionTests() {
+        final DefaultNumericAxis axis = new DefaultNumericAxis("axis name", 0.1, 100, 10.0);
+        axis.resize(500, 500);
+        final double[] values = { -1.0, 0.0, 0.1, 0.5, 1.0, 42.0, 100.0, 1e3, Double.NaN };
+        final double[] positions = new double[values.length + 2];
+
+        for (final Side side : new Side[] { Side.BOTTOM, Side.LEFT }) {
+            axis.setSide(side);
+            for (final boolean logAxis : new boolean[] { false, true }) {
+                for (final boolean inverted : new boolean[] { false, true }) {
+                    axis.setLogAxis(logAxis);
+                    axis.invertAxis(inverted);
+                    axis.updateCachedVariables();
+                    axis.getDisplayPositions(values, 0, positions, 2, values.length);
+                    for (int i = 0; i < values.length; i++) {
+                        final String msg = String.format("side=%s log=%b inverted=%b value=%f", side, logAxis, inverted, values[i]);
+                        assertEquals(axis.getDisplayPosition(values[i]), positions[i + 2], 1e-9, msg);
+                    }
+
+                    // in-place conversion
+                    final double[] inPlace = values.clone();
+                    axis.getDisplayPositions(inPlace, 0, inPlace, 0, inPlace.length);
+                    for (int i = 0; i < values.length; i++) {
+                        assertEquals(positions[i + 2], inPlace[i], 1e-9);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * tests parameters not already covered in AbstractAxisParameterTests
      */
@@ -1,6 +1,5 @@
 package de.gsi.chart.axes.spi;
 
-import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
 
@@ -18,7 +17,7 @@ import org.slf4j.LoggerFactory;
 import de.gsi.chart.utils.FXUtils;
 
 /**
- * Small test to demonstrate that the SoftHashMap TickMark cache sizes are in fact limited, memory-bound and do not leak
+ * Small test to demonstrate that the TickMark pool and label cache sizes are in fact limited, memory-bound and do not leak
  * rather than their earlier WeakHashMap-based counterpart that had issues when the weak key was also part of the kept value.
  *
  * See following references for details:
@@ -45,7 +44,7 @@ public class MemoryLeakTestDefaultAxis extends Application { // NOPMD -nomen est
             public void run() {
                 FXUtils.runFX(() -> axis.set(now(), now() + 1));
                 if (counter % 5000 == 0) {
-                    LOGGER.atInfo().addArgument(axis.getTickMarkDoubleCache().size()).addArgument(axis.getTickMarkStringCache().size()).log("cache sizes - Map<Double,TickMark> = {} Map<String,TickMark> = {}");
+                    LOGGER.atInfo().addArgument(axis.majorTickMarkPool.size()).addArgument(axis.minorTickMarkPool.size()).addArgument(axis.tickMarkLabelCache.size()).log("pool sizes - major = {} minor = {} label cache = {}");
                     System.gc(); // NOPMD NOSONAR - yes we need to eliminate the non-deterministic behaviour of the jvm's gc
                     System.gc(); // NOPMD NOSONAR - yes we need to eliminate the non-deterministic behaviour of the jvm's gc
                 }
@@ -71,13 +70,5 @@ public class MemoryLeakTestDefaultAxis extends Application { // NOPMD -nomen est
         public TestAxis() {
             super("test axis", now(), now() + 1, 0.05);
         }
-
-        public Map<Double, TickMark> getTickMarkDoubleCache() {
-            return tickMarkDoubleCache;
-        }
-
-        public Map<String, TickMark> getTickMarkStringCache() {
-            return tickMarkStringCache;
-        }
     }
 }
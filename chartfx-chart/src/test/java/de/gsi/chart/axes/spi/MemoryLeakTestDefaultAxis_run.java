@@ -3,7 +3,7 @@ package de.gsi.chart.axes.spi;
 import javafx.application.Application;
 
 /**
- * Small test to demonstrate that the SoftHashMap TickMark cache sizes are in fact limited, memory-bound and do not leak
+ * Small test to demonstrate that the TickMark pool and label cache sizes are in fact limited, memory-bound and do not leak
  * rather than their earlier WeakHashMap-based counterpart that had issues when the weak key was also part of the kept value.
  *
  * See following references for details:
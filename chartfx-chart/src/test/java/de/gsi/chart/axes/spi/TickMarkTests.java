@@ -58,6 +58,28 @@ public class TickMarkTests {
         }
     }
 
+    @Test
+    public void tickMarkFontMetricsCachedTests() {
+        TickMark tickMark = new TickMark(Side.BOTTOM, 0.0, 0.0, 0.0, "label");
+        assertFalse(tickMark.isFontMetricsCached());
+        tickMark.setFontMetricsCached(true);
+        assertTrue(tickMark.isFontMetricsCached());
+
+        final double width = tickMark.getWidth();
+        final double height = tickMark.getHeight();
+        assertTrue(width > 0.0);
+        assertTrue(height > 0.0);
+
+        // label extent has to follow text and rotation changes
+        tickMark.setText("label\nlabel");
+        assertEquals(width, tickMark.getWidth(), 1e-9);
+        assertEquals(2 * height, tickMark.getHeight(), 1e-9);
+        tickMark.setText("label");
+        tickMark.setRotation(90);
+        assertEquals(height, tickMark.getWidth(), 1e-9);
+        assertEquals(width, tickMark.getHeight(), 1e-9);
+    }
+
     @Test
     public void tickMarkPositionTests() {
         {
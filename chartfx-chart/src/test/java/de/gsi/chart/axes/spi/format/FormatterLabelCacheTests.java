@@ -0,0 +1,73 @@
+package de.gsi.chart.axes.spi.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.chart.utils.NumberFormatterImpl;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+
+/**
+ * Tests {@link de.gsi.chart.axes.spi.format.FormatterLabelCache}
+ */
+public class FormatterLabelCacheTests {
+    @Test
+    public void testLeastRecentlyUsed() {
+        assertThrows(IllegalArgumentException.class, () -> new FormatterLabelCache(0));
+
+        final FormatterLabelCache cache = new FormatterLabelCache(3);
+        assertEquals(3, cache.getCapacity());
+        assertTrue(Double.isNaN(cache.getHitRate()));
+
+        final String label1 = cache.computeIfAbsent(1.0, Double::toString);
+        cache.computeIfAbsent(2.0, Double::toString);
+        cache.computeIfAbsent(3.0, Double::toString);
+        assertEquals(3, cache.getMissCount());
+        assertSame(label1, cache.computeIfAbsent(1.0, Double::toString), "cached label");
+        assertEquals(1, cache.getHitCount());
+
+        // '2.0' is the least recently used entry
+        cache.computeIfAbsent(4.0, Double::toString);
+        assertEquals(3, cache.size());
+        assertSame(label1, cache.computeIfAbsent(1.0, Double::toString));
+        cache.computeIfAbsent(2.0, Double::toString);
+        assertEquals(5, cache.getMissCount());
+        assertEquals(2.0 / 7.0, cache.getHitRate(), 1e-9);
+
+        assertEquals(new NumberFormatterImpl().toString(1.5), cache.get(new NumberFormatterImpl(), 1.5));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        cache.resetStatistics();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void testDefaultFormatterCache() {
+        final DefaultFormatter formatter = new DefaultFormatter();
+        final FormatterLabelCache cache = formatter.getLabelCache();
+
+        formatter.updateFormatter(new DoubleArrayList(new double[] { 0.0, 0.5, 1.0, 1.5 }), 1.0);
+        final String label = formatter.toString(0.5);
+        assertSame(label, formatter.toString(0.5));
+        assertEquals(1, cache.getHitCount());
+
+        // same tick range -> labels remain valid
+        formatter.updateFormatter(Arrays.asList(0.0, 0.5, 1.0, 1.5), 1.0);
+        assertEquals(1, cache.size());
+        assertSame(label, formatter.toString(0.5));
+
+        // different tick unit -> labels are re-formatted
+        formatter.updateFormatter(Arrays.asList(0.0, 0.005, 0.01, 0.015), 1.0);
+        assertEquals(0, cache.size());
+        assertNotEquals(label, formatter.toString(0.005));
+    }
+}
@@ -3,6 +3,11 @@ package de.gsi.chart.plugins;
 import static de.gsi.chart.plugins.TableViewer.BUTTON_BAR_STYLE_CLASS;
 import static de.gsi.chart.plugins.TableViewer.BUTTON_SWITCH_TABLE_VIEW_STYLE_CLASS;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringWriter;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -80,6 +85,41 @@ class TableViewerTest {
         FxAssert.verifyThat(chart.getPlotForeground(), Matchers.not(NodeMatchers.hasChild(".table-view")));
     }
 
+    @Test
+    public void testDataExport() throws TimeoutException {
+        fxRobot.interact(() -> {
+            chart.getPlugins().add(tableViewer);
+            chart.setToolBarPinned(true);
+        });
+        final Button switchTableViewButton = locateTableViewButton(chart.getToolBar());
+        waitForNodeToBeVisible(switchTableViewButton);
+        fxRobot.clickOn(switchTableViewButton);
+        WaitForAsyncUtils.waitForFxEvents();
+        verifyThatWithTimeout(chart.getPlotForeground(), NodeMatchers.hasChild(".table-view"));
+
+        final StringWriter writer = new StringWriter();
+        fxRobot.interact(() -> assertDoesNotThrow(() -> tableViewer.writeSelectedData(writer)));
+        final String[] lines = writer.toString().split("\n");
+        assertEquals(51, lines.length, "header + one line per data point");
+        assertTrue(lines[0].startsWith("#x1, y1"), lines[0]);
+        assertTrue(lines[1].startsWith("0, "), lines[1]);
+        assertTrue(lines[50].startsWith("49, "), lines[50]);
+    }
+
+    @Test
+    public void testDataExportWithoutTableView() {
+        fxRobot.interact(() -> chart.getPlugins().add(tableViewer));
+        // N.B. table view is not opened -- columns need to be built for the export
+        FxAssert.verifyThat(chart.getPlotForeground(), Matchers.not(NodeMatchers.hasChild(".table-view")));
+
+        final StringWriter writer = new StringWriter();
+        fxRobot.interact(() -> assertDoesNotThrow(() -> tableViewer.writeSelectedData(writer)));
+        final String[] lines = writer.toString().split("\n");
+        assertEquals(51, lines.length, "header + one line per data point");
+        assertTrue(lines[0].startsWith("#x1, y1"), lines[0]);
+        assertTrue(lines[50].startsWith("49, "), lines[50]);
+    }
+
     private Button locateTableViewButton(final FlowPane toolbar) {
         return fxRobot.from(toolbar) //
                 .lookup("." + BUTTON_BAR_STYLE_CLASS + " > ." + BUTTON_SWITCH_TABLE_VIEW_STYLE_CLASS) //
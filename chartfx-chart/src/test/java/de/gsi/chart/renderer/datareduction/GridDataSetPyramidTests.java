@@ -0,0 +1,141 @@
+package de.gsi.chart.renderer.datareduction;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static de.gsi.dataset.DataSet.DIM_Z;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.event.AxisRecomputationEvent;
+import de.gsi.dataset.event.UpdatedDataEvent;
+import de.gsi.dataset.spi.DoubleGridDataSet;
+
+/**
+ * Tests {@link de.gsi.chart.renderer.datareduction.GridDataSetPyramid}
+ */
+public class GridDataSetPyramidTests {
+    private static final int N_X = 100;
+    private static final int N_Y = 70;
+    private static final int TILE_SIZE = 8;
+
+    @Test
+    public void testLevels() {
+        final GridDataSetPyramid pyramid = new GridDataSetPyramid(getDataSet(0.0), TILE_SIZE, 16);
+        assertEquals(7, pyramid.getLevelCount()); // 100 -> 50 -> 25 -> 13 -> 7 -> 4 -> 2 -> 1
+        assertEquals(0, pyramid.getLevel(1.9, 10.0));
+        assertEquals(1, pyramid.getLevel(2.0, 3.9));
+        assertEquals(3, pyramid.getLevel(8.5, 15.0));
+        assertEquals(7, pyramid.getLevel(1e12, 1e12));
+        assertEquals(0, pyramid.getLevel(Double.NaN, 4));
+        assertEquals(3, GridDataSetPyramid.getSize(2, 3, 8));
+
+        assertThrows(IllegalArgumentException.class, () -> pyramid.fill(0, 0, 9, 0, 9, ReductionType.MIN, new double[100]));
+        assertThrows(IllegalArgumentException.class, () -> pyramid.fill(1, 0, N_X, 0, 9, ReductionType.MIN, new double[100]));
+        assertThrows(IllegalArgumentException.class, () -> new GridDataSetPyramid(getDataSet(0.0), 1, 16));
+    }
+
+    @Test
+    public void testReduction() throws InterruptedException, ExecutionException, TimeoutException {
+        final GridDataSet dataSet = getDataSet(0.0);
+        final GridDataSetPyramid pyramid = new GridDataSetPyramid(dataSet, TILE_SIZE, 1000);
+        for (final ReductionType type : new ReductionType[] { ReductionType.MIN, ReductionType.MAX, ReductionType.AVERAGE }) {
+            for (int level = 1; level <= pyramid.getLevelCount(); level++) {
+                assertRegion(dataSet, pyramid, level, 0, N_X - 1, 0, N_Y - 1, type);
+                assertRegion(dataSet, pyramid, level, 13, 77, 5, 42, type);
+            }
+        }
+
+        // coarser levels computed from cached finer tiles and from the raw data are the same
+        final GridDataSetPyramid prefetched = new GridDataSetPyramid(dataSet, TILE_SIZE, 1000);
+        prefetched.prefetch().get(10, TimeUnit.SECONDS);
+        assertTrue(prefetched.getCachedTileCount() > 0, "background-built tiles");
+        for (int level = 1; level <= prefetched.getLevelCount(); level++) {
+            assertRegion(dataSet, prefetched, level, 0, N_X - 1, 0, N_Y - 1, ReductionType.AVERAGE);
+        }
+    }
+
+    @Test
+    public void testInvalidation() {
+        final DoubleGridDataSet dataSet = getDataSet(0.0);
+        dataSet.autoNotification().set(false); // events are issued explicitly below
+        final GridDataSetPyramid pyramid = new GridDataSetPyramid(dataSet, TILE_SIZE, 4);
+        final double[] target = new double[N_X * N_Y];
+        pyramid.fill(1, 0, N_X - 1, 0, N_Y - 1, ReductionType.MAX, target);
+        assertEquals(4, pyramid.getCachedTileCount(), "LRU limited");
+
+        // axis events do not invalidate
+        pyramid.fill(3, 0, N_X - 1, 0, N_Y - 1, ReductionType.MAX, target);
+        dataSet.set(DIM_Z, new int[] { 3, 4 }, 1000.0);
+        pyramid.handle(new AxisRecomputationEvent(dataSet, "axis", DIM_Z));
+        pyramid.fill(3, 0, N_X - 1, 0, N_Y - 1, ReductionType.MAX, target);
+        assertTrue(target[0] < 1000.0, "cached value");
+
+        // range invalidation
+        pyramid.handle(new UpdatedDataEvent(dataSet, "range", new int[] { 3, 3, 4, 4 }));
+        assertRegion(dataSet, pyramid, 3, 0, N_X - 1, 0, N_Y - 1, ReductionType.MAX);
+        pyramid.fill(3, 0, N_X - 1, 0, N_Y - 1, ReductionType.MAX, target);
+        assertEquals(1000.0, target[0]);
+
+        // full invalidation
+        dataSet.set(DIM_Z, new int[] { 60, 50 }, -1000.0);
+        pyramid.handle(new UpdatedDataEvent(dataSet, "full"));
+        assertRegion(dataSet, pyramid, 3, 0, N_X - 1, 0, N_Y - 1, ReductionType.AVERAGE);
+        pyramid.dispose();
+        assertEquals(0, pyramid.getCachedTileCount());
+    }
+
+    private static void assertRegion(final GridDataSet dataSet, final GridDataSetPyramid pyramid, final int level, final int xMin, final int xMax, final int yMin, final int yMax,
+            final ReductionType type) {
+        final int width = GridDataSetPyramid.getSize(level, xMin, xMax);
+        final int height = GridDataSetPyramid.getSize(level, yMin, yMax);
+        final double[] target = new double[width * height];
+        pyramid.fill(level, xMin, xMax, yMin, yMax, type, target);
+        final double[] expected = new double[width * height];
+        for (int cy = 0; cy < height; cy++) {
+            for (int cx = 0; cx < width; cx++) {
+                final int x0 = ((xMin >> level) + cx) << level;
+                final int y0 = ((yMin >> level) + cy) << level;
+                double min = Double.MAX_VALUE;
+                double max = -Double.MAX_VALUE;
+                double sum = 0;
+                int count = 0;
+                for (int y = y0; y < Math.min(y0 + (1 << level), N_Y); y++) {
+                    for (int x = x0; x < Math.min(x0 + (1 << level), N_X); x++) {
+                        final double value = dataSet.get(DIM_Z, x, y);
+                        min = Math.min(min, value);
+                        max = Math.max(max, value);
+                        sum += value;
+                        count++;
+                    }
+                }
+                expected[cy * width + cx] = type == ReductionType.MIN ? (float) min : type == ReductionType.MAX ? (float) max : sum / count;
+            }
+        }
+        final double tolerance = type == ReductionType.AVERAGE ? 1e-3 : 0.0;
+        assertArrayEquals(expected, target, tolerance, "level " + level + " type " + type);
+    }
+
+    private static DoubleGridDataSet getDataSet(final double offset) {
+        final double[] x = new double[N_X];
+        final double[] y = new double[N_Y];
+        final double[] z = new double[N_X * N_Y];
+        for (int i = 0; i < N_X; i++) {
+            x[i] = i;
+        }
+        for (int j = 0; j < N_Y; j++) {
+            y[j] = j;
+            for (int i = 0; i < N_X; i++) {
+                z[j * N_X + i] = offset + Math.sin(0.3 * i) * Math.cos(0.2 * j) + 0.01 * i;
+            }
+        }
+        return new DoubleGridDataSet("test", false, new double[][] { x, y }, z);
+    }
+}
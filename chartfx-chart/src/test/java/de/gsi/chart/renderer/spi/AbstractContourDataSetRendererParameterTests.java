@@ -67,6 +67,10 @@ public class AbstractContourDataSetRendererParameterTests {
         assertTrue(renderer.isSmooth());
         renderer.setSmooth(false);
         assertFalse(renderer.isSmooth());
+
+        assertFalse(renderer.isTilePyramid());
+        renderer.setTilePyramid(true);
+        assertTrue(renderer.isTilePyramid());
     }
 
     /**
@@ -0,0 +1,92 @@
+package de.gsi.chart.renderer.spi;
+
+import java.util.concurrent.TimeUnit;
+
+import javafx.geometry.Orientation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.gsi.chart.axes.Axis;
+import de.gsi.chart.renderer.ErrorStyle;
+import de.gsi.chart.renderer.datareduction.DefaultDataReducer;
+import de.gsi.dataset.spi.DoubleErrorDataSet;
+
+/**
+ * Benchmark of the ErrorDataSetRenderer screen-coordinate transform and data reduction stage, comparing a new
+ * {@link CachedDataPoints} per render pass with the persistent (re-used) per data set instance. Run with the GC
+ * profiler to check the steady-state allocation rate ('gc.alloc.rate.norm' should be ~0 B/op for the 'persistent'
+ * variants):
+ *
+ * <pre>
+ * java -cp [..] de.gsi.chart.renderer.spi.CachedDataPointsBenchmark -prof gc
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1)
+public class CachedDataPointsBenchmark {
+    @Param({ "10000", "1000000" })
+    private int nSamples;
+    @Param({ "true", "false" })
+    private boolean fused;
+
+    private final DefaultDataReducer reducer = new DefaultDataReducer();
+    private Axis xAxis;
+    private Axis yAxis;
+    private DoubleErrorDataSet dataSet;
+    private CachedDataPoints persistentPoints;
+
+    @Setup()
+    public void initialize() {
+        xAxis = CachedDataPointsTests.getAxis(Orientation.HORIZONTAL, 0, nSamples, 1920);
+        yAxis = CachedDataPointsTests.getAxis(Orientation.VERTICAL, -1.5, 1.5, 1080);
+        final double[] x = new double[nSamples];
+        final double[] y = new double[nSamples];
+        final double[] ey = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            x[i] = i;
+            y[i] = Math.sin(2.0 * Math.PI * i / (0.2 * nSamples)) + 0.01 * Math.random();
+            ey[i] = 0.1;
+        }
+        dataSet = new DoubleErrorDataSet("test", x, y, ey, ey, nSamples, false);
+        persistentPoints = new CachedDataPoints(0, nSamples, nSamples, true);
+    }
+
+    @Benchmark
+    public void newInstance(final Blackhole blackhole) {
+        blackhole.consume(compute(new CachedDataPoints(0, nSamples, nSamples, true)));
+    }
+
+    @Benchmark
+    public void persistentInstance(final Blackhole blackhole) {
+        blackhole.consume(compute(persistentPoints.reset(0, nSamples, nSamples, true)));
+    }
+
+    private CachedDataPoints compute(final CachedDataPoints points) {
+        if (fused) {
+            points.computeScreenCoordinatesFused(xAxis, yAxis, dataSet, 0, 0, nSamples, ErrorStyle.ERRORBARS, false, reducer.getMinPointPixelDistance());
+        } else {
+            points.computeScreenCoordinates(xAxis, yAxis, dataSet, 0, 0, nSamples, ErrorStyle.ERRORBARS, false, false);
+        }
+        points.reduce(reducer, true, 5);
+        return points;
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
@@ -0,0 +1,258 @@
+package de.gsi.chart.renderer.spi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import javafx.geometry.Orientation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import de.gsi.chart.axes.Axis;
+import de.gsi.chart.axes.spi.DefaultNumericAxis;
+import de.gsi.chart.renderer.ErrorStyle;
+import de.gsi.chart.renderer.datareduction.DefaultDataReducer;
+import de.gsi.chart.ui.geometry.Side;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.DoubleDataSet;
+import de.gsi.dataset.spi.DoubleErrorDataSet;
+
+/**
+ * Tests the fused transform and reduction path of {@link de.gsi.chart.renderer.spi.CachedDataPoints } against the
+ * two-pass reference implementation.
+ */
+public class CachedDataPointsTests {
+    private static final int N_SAMPLES = 100_000;
+    private static final int MIN_PIXEL_DISTANCE = 6;
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    public void testErrorSurfacePolygons(final boolean allowNaNs) {
+        final CachedDataPoints sequential = getErrorSurfacePoints();
+        final CachedDataPoints parallel = getErrorSurfacePoints();
+        sequential.computeErrorSurfacePolygons(allowNaNs, false);
+        parallel.computeErrorSurfacePolygons(allowNaNs, true);
+        assertEquals(sequential.polygonSegmentCount, parallel.polygonSegmentCount);
+        assertArrayEquals(Arrays.copyOf(sequential.polygonSegments, 2 * sequential.polygonSegmentCount), Arrays.copyOf(parallel.polygonSegments, 2 * parallel.polygonSegmentCount));
+        assertArrayEquals(Arrays.copyOf(sequential.polygonX, 2 * N_SAMPLES), Arrays.copyOf(parallel.polygonX, 2 * N_SAMPLES));
+        assertArrayEquals(Arrays.copyOf(sequential.polygonY, 2 * N_SAMPLES), Arrays.copyOf(parallel.polygonY, 2 * N_SAMPLES));
+
+        if (!allowNaNs) {
+            assertEquals(1, sequential.polygonSegmentCount);
+            assertEquals(0, sequential.polygonSegments[0]);
+            assertEquals(2 * N_SAMPLES, sequential.polygonSegments[1]);
+            return;
+        }
+
+        // runs of finite errors are separated by NaNs at every 5000th sample
+        assertEquals(N_SAMPLES / 5000 + 1, sequential.polygonSegmentCount);
+        for (int segment = 0; segment < sequential.polygonSegmentCount; segment++) {
+            final int offset = sequential.polygonSegments[2 * segment];
+            final int count = sequential.polygonSegments[2 * segment + 1];
+            final int start = offset / 2;
+            assertEquals(segment == 0 ? 0 : (segment - 1) * 5000 + 18, start, "segment start");
+            for (int k = 0; k < count / 2; k++) {
+                final int i = start + k;
+                assertTrue(Double.isFinite(sequential.errorYNeg[i]) && Double.isFinite(sequential.errorYPos[i]));
+                assertEquals(sequential.xValues[i], sequential.polygonX[offset + k]);
+                assertEquals(sequential.xValues[i], sequential.polygonX[offset + count - 1 - k]);
+                if (segment < sequential.polygonSegmentCount - 1 || k < count / 2 - 1) {
+                    assertEquals(sequential.errorYPos[i], sequential.polygonY[offset + k]);
+                    assertEquals(sequential.errorYNeg[i], sequential.polygonY[offset + count - 1 - k]);
+                }
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    public void testFusedReduction(final boolean allowNaNs) {
+        final Axis xAxis = getAxis(Orientation.HORIZONTAL, 0, N_SAMPLES, 800);
+        final Axis yAxis = getAxis(Orientation.VERTICAL, -1.5, 1.5, 600);
+
+        final DoubleDataSet dataSet = new DoubleDataSet("plain");
+        final DoubleErrorDataSet errorDataSet = new DoubleErrorDataSet("errors");
+        for (int i = 0; i < N_SAMPLES; i++) {
+            final double y = i % 5000 == 17 ? Double.NaN : Math.sin(2.0 * Math.PI * i / 20000.0);
+            dataSet.add(i, y);
+            errorDataSet.add(i, y, 0.1, 0.2);
+        }
+
+        for (final DataSet ds : new DataSet[] { dataSet, errorDataSet }) {
+            assertTrue(CachedDataPoints.isFusedReductionCompatible(xAxis, yAxis, ds, false));
+            assertFalse(CachedDataPoints.isFusedReductionCompatible(xAxis, yAxis, ds, true));
+
+            final DefaultDataReducer reducer = new DefaultDataReducer();
+            final CachedDataPoints reference = new CachedDataPoints(0, N_SAMPLES, N_SAMPLES, true);
+            reference.computeScreenCoordinates(xAxis, yAxis, ds, 0, 0, N_SAMPLES, ErrorStyle.ERRORBARS, false, allowNaNs);
+            reference.reduce(reducer, true, 5);
+
+            // start with small initial capacity to test the internal array growth
+            final CachedDataPoints fused = new CachedDataPoints(0, N_SAMPLES, 16, true);
+            fused.computeScreenCoordinatesFused(xAxis, yAxis, ds, 0, 0, N_SAMPLES, ErrorStyle.ERRORBARS, allowNaNs, MIN_PIXEL_DISTANCE);
+            fused.reduce(reducer, true, 5); // should be a no-op
+
+            assertEquals(reference.actualDataCount, fused.actualDataCount, "reduced number of points");
+            assertTrue(fused.xValues.length < N_SAMPLES, "arrays sized to the reduced output");
+            for (int i = 0; i < reference.actualDataCount; i++) {
+                assertEquals(reference.xValues[i], fused.xValues[i], 1.0, "x coordinate at index " + i);
+                assertEquals(reference.yValues[i], fused.yValues[i], 1.0, "y coordinate at index " + i);
+                assertEquals(reference.errorYNeg[i], fused.errorYNeg[i], 1.0, "negative y error at index " + i);
+                assertEquals(reference.errorYPos[i], fused.errorYPos[i], 1.0, "positive y error at index " + i);
+            }
+            assertEquals(reference.minDistanceX, fused.minDistanceX);
+
+            reference.release();
+            fused.release();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    public void testPolarCoordinates(final boolean uniformAngle) {
+        final Axis xAxis = getAxis(Orientation.HORIZONTAL, 0, 360, 800);
+        final Axis yAxis = getAxis(Orientation.VERTICAL, 0, 2.0, 600);
+        final DoubleDataSet dataSet = new DoubleDataSet("polar");
+        for (int i = 0; i < N_SAMPLES; i++) {
+            // non-uniform: quadratic angle spacing
+            final double phi = uniformAngle ? 360.0 * i / N_SAMPLES : 360.0 * i * i / ((double) N_SAMPLES * N_SAMPLES);
+            dataSet.add(phi, 1.0 + 0.5 * Math.sin(2.0 * Math.PI * i / 1000.0));
+        }
+
+        for (final boolean parallel : new boolean[] { false, true }) {
+            final CachedDataPoints points = new CachedDataPoints(0, N_SAMPLES, N_SAMPLES, true);
+            for (int repeat = 0; repeat < 2; repeat++) { // N.B. second pass re-uses the trig table
+                if (parallel) {
+                    points.computeScreenCoordinatesInParallel(xAxis, yAxis, dataSet, 0, 0, N_SAMPLES, ErrorStyle.NONE, true, false);
+                } else {
+                    points.computeScreenCoordinates(xAxis, yAxis, dataSet, 0, 0, N_SAMPLES, ErrorStyle.NONE, true, false);
+                }
+                for (int i = 0; i < N_SAMPLES; i++) {
+                    final double phi = Math.toRadians(dataSet.get(DataSet.DIM_X, i));
+                    final double r = points.maxRadius * Math.abs(1 - (yAxis.getDisplayPosition(dataSet.get(DataSet.DIM_Y, i)) / points.yRange));
+                    assertEquals(points.xZero + r * Math.cos(phi), points.xValues[i], 1e-6, "x coordinate at index " + i);
+                    assertEquals(points.yZero + r * Math.sin(phi), points.yValues[i], 1e-6, "y coordinate at index " + i);
+                }
+            }
+            points.release();
+        }
+    }
+
+    @Test
+    public void testCopyReduced() {
+        final Axis xAxis = getAxis(Orientation.HORIZONTAL, 0, N_SAMPLES, 800);
+        final Axis yAxis = getAxis(Orientation.VERTICAL, -1.5, 1.5, 600);
+        final DoubleDataSet dataSet = new DoubleDataSet("plain");
+        for (int i = 0; i < N_SAMPLES; i++) {
+            dataSet.add(i, Math.sin(2.0 * Math.PI * i / 20000.0));
+        }
+
+        final CachedDataPoints points = new CachedDataPoints(0, N_SAMPLES, N_SAMPLES, true);
+        points.computeScreenCoordinates(xAxis, yAxis, dataSet, 0, 0, N_SAMPLES, ErrorStyle.ERRORBARS, false, false);
+        points.reduce(new DefaultDataReducer(), true, 5);
+        final int nReduced = points.actualDataCount;
+        assertTrue(nReduced < N_SAMPLES / 10);
+
+        final CachedDataPoints copy = points.copyReduced();
+        assertEquals(nReduced, copy.actualDataCount);
+        assertTrue(copy.xValues.length < N_SAMPLES, "copy sized to the reduced points");
+        assertArrayEquals(Arrays.copyOf(points.xValues, nReduced), Arrays.copyOf(copy.xValues, nReduced));
+        assertArrayEquals(Arrays.copyOf(points.yValues, nReduced), Arrays.copyOf(copy.yValues, nReduced));
+        assertArrayEquals(Arrays.copyOf(points.errorYNeg, nReduced), Arrays.copyOf(copy.errorYNeg, nReduced));
+        assertArrayEquals(Arrays.copyOf(points.styles, nReduced), Arrays.copyOf(copy.styles, nReduced));
+        assertEquals(points.defaultStyle, copy.defaultStyle);
+        assertEquals(points.xZero, copy.xZero);
+        assertEquals(points.yMax, copy.yMax);
+        assertArrayEquals(points.errorType, copy.errorType);
+        assertNotSame(points.errorType, copy.errorType, "error types must not be shared with the pooled instance");
+
+        // pooled instance may be re-used without affecting the copy
+        final double[] xValues = Arrays.copyOf(copy.xValues, nReduced);
+        points.reset(0, N_SAMPLES, N_SAMPLES, true);
+        points.computeScreenCoordinates(xAxis, yAxis, dataSet, 0, 0, N_SAMPLES, ErrorStyle.ERRORBARS, false, false);
+        assertArrayEquals(xValues, Arrays.copyOf(copy.xValues, nReduced));
+
+        copy.release();
+        points.release();
+    }
+
+    @Test
+    public void testReuse() {
+        final Axis xAxis = getAxis(Orientation.HORIZONTAL, 0, N_SAMPLES, 800);
+        final Axis yAxis = getAxis(Orientation.VERTICAL, -1.5, 1.5, 600);
+        final DoubleDataSet dataSet = new DoubleDataSet("plain");
+        for (int i = 0; i < N_SAMPLES; i++) {
+            dataSet.add(i, Math.sin(2.0 * Math.PI * i / 20000.0));
+        }
+
+        final CachedDataPoints points = new CachedDataPoints(0, N_SAMPLES, N_SAMPLES, true);
+        points.computeScreenCoordinates(xAxis, yAxis, dataSet, 0, 0, N_SAMPLES, ErrorStyle.ERRORBARS, false, false);
+        points.reduce(new DefaultDataReducer(), true, 5);
+        final int nReduced = points.actualDataCount;
+        final double[] xValues = points.xValues;
+        final double[] errorXNeg = points.errorXNeg;
+        final String[] styles = points.styles;
+
+        // smaller or equal range -> no re-allocation
+        for (final int nPoints : new int[] { N_SAMPLES, N_SAMPLES / 2, N_SAMPLES }) {
+            assertSame(points, points.reset(0, nPoints, nPoints, true));
+            assertEquals(0, points.actualDataCount);
+            assertFalse(points.fusedReduction);
+            points.computeScreenCoordinates(xAxis, yAxis, dataSet, 0, 0, nPoints, ErrorStyle.ERRORBARS, false, false);
+            points.reduce(new DefaultDataReducer(), true, 5);
+            assertSame(xValues, points.xValues);
+            assertSame(errorXNeg, points.errorXNeg);
+            assertSame(styles, points.styles);
+        }
+        assertEquals(nReduced, points.actualDataCount);
+
+        // larger range -> grows
+        points.reset(0, N_SAMPLES, 2 * N_SAMPLES, true);
+        assertTrue(points.xValues.length >= 2 * N_SAMPLES);
+        assertTrue(points.errorXPos.length >= 2 * N_SAMPLES);
+        assertTrue(points.selected.length >= 2 * N_SAMPLES);
+
+        points.ensurePolygonCapacity(100);
+        final double[] polygonX = points.polygonX;
+        points.ensurePolygonCapacity(50);
+        assertSame(polygonX, points.polygonX);
+        assertEquals(100, points.polygonY.length);
+
+        points.release();
+        assertEquals(0, points.maxDataCount);
+    }
+
+    private static CachedDataPoints getErrorSurfacePoints() {
+        final CachedDataPoints points = new CachedDataPoints(0, N_SAMPLES, N_SAMPLES, true);
+        for (int i = 0; i < N_SAMPLES; i++) {
+            points.xValues[i] = i;
+            points.yValues[i] = Math.sin(2.0 * Math.PI * i / 20000.0);
+            points.errorYNeg[i] = i % 5000 == 17 ? Double.NaN : points.yValues[i] - 0.1;
+            points.errorYPos[i] = points.yValues[i] + 0.2;
+        }
+        points.actualDataCount = N_SAMPLES;
+        return points;
+    }
+
+    static Axis getAxis(final Orientation orientation, final double min, final double max, final double length) {
+        return new DefaultNumericAxis(min, max, 1.0) {
+            {
+                setSide(orientation == Orientation.HORIZONTAL ? Side.BOTTOM : Side.LEFT);
+                if (orientation == Orientation.HORIZONTAL) {
+                    resize(length, 50);
+                } else {
+                    resize(50, length);
+                }
+                setScale(calculateNewScale(length, min, max));
+                updateCachedVariables();
+            }
+        };
+    }
+}
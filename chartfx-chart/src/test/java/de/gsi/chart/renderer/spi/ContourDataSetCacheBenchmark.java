@@ -0,0 +1,95 @@
+package de.gsi.chart.renderer.spi;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.gsi.chart.renderer.spi.utils.ColorGradient;
+
+/**
+ * Benchmark of the heat-map colour mapping stage of the {@link ContourDataSetRenderer}: the former per-pixel
+ * {@link ColorGradient#getColorBytes(double)} look-up into a BGRA byte buffer compared with the LUT-based sequential and
+ * row-parallel conversion into a pre-multiplied ARGB int buffer. N.B. the 8k x 8k case requires about 1 GB of heap:
+ *
+ * <pre>
+ * java -Xmx2g -cp [..] de.gsi.chart.renderer.spi.ContourDataSetCacheBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ContourDataSetCacheBenchmark {
+    private static final int N_QUANTISATION = 256;
+    private static final int N_LUT_COLORS = 4096;
+    private static final int BGRA_BYTE_SIZE = 4;
+    @Param({ "1024", "4096", "8192" })
+    private int size;
+
+    private final ColorGradient colorGradient = ColorGradient.VIRIDIS;
+    private double[] data;
+    private int[] pixels;
+    private byte[] bytePixels;
+
+    @Setup()
+    public void initialize() {
+        data = new double[size * size];
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                final double value = 0.5 + 0.25 * (Math.sin(20.0 * x / size) + Math.cos(13.0 * y / size));
+                data[y * size + x] = ContourDataSetCache.quantize(value, N_QUANTISATION);
+            }
+        }
+        pixels = new int[size * size];
+        bytePixels = new byte[BGRA_BYTE_SIZE * size * size];
+    }
+
+    @Benchmark
+    public void colorBytes(final Blackhole blackhole) {
+        // reference: previous per-pixel implementation
+        final int rowSizeInBytes = BGRA_BYTE_SIZE * size;
+        final int hMinus1 = size - 1;
+        for (int yIndex = 0; yIndex < size; yIndex++) {
+            final int rowIndex = size * yIndex;
+            final int rowPixelIndex = rowSizeInBytes * (hMinus1 - yIndex);
+            for (int xIndex = 0; xIndex < size; xIndex++) {
+                final int[] color = colorGradient.getColorBytes(data[rowIndex + xIndex]);
+                final int pixelIndex = rowPixelIndex + xIndex * BGRA_BYTE_SIZE;
+                bytePixels[pixelIndex] = (byte) (color[3]);
+                bytePixels[pixelIndex + 1] = (byte) (color[2]);
+                bytePixels[pixelIndex + 2] = (byte) (color[1]);
+                bytePixels[pixelIndex + 3] = (byte) (color[0]);
+            }
+        }
+        blackhole.consume(bytePixels);
+    }
+
+    @Benchmark
+    public void lookUpTableParallel(final Blackhole blackhole) {
+        ContourDataSetCache.convertDataArrayToArgbPre(data, size, size, 0.0, 1.0, colorGradient.getLookUpTable(N_LUT_COLORS), pixels, true);
+        blackhole.consume(pixels);
+    }
+
+    @Benchmark
+    public void lookUpTableSequential(final Blackhole blackhole) {
+        ContourDataSetCache.convertDataArrayToArgbPre(data, size, size, 0.0, 1.0, colorGradient.getLookUpTable(N_LUT_COLORS), pixels, false);
+        blackhole.consume(pixels);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
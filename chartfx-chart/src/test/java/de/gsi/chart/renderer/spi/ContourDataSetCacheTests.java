@@ -3,6 +3,7 @@ package de.gsi.chart.renderer.spi;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 
 import static de.gsi.dataset.DataSet.DIM_X;
 import static de.gsi.dataset.DataSet.DIM_Y;
@@ -13,6 +14,7 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import de.gsi.chart.axes.AxisTransform;
+import de.gsi.chart.renderer.spi.utils.ColorGradient;
 import de.gsi.dataset.GridDataSet;
 import de.gsi.dataset.spi.DataRange;
 import de.gsi.dataset.spi.DataSetBuilder;
@@ -57,6 +59,43 @@ public class ContourDataSetCacheTests {
         0.9, 0.8, 0.7, 0.6, 0.5, 0.5, 0.4, 0.3, 0.2, 0.1, 0.0, 0.0
     };
 
+    @Test
+    public void testConvertDataArrayToArgbPre() {
+        final int width = TEST_DATA_X.length;
+        final int height = TEST_DATA_Y.length;
+        final int[] lut = ColorGradient.DEFAULT.getLookUpTable(11);
+        final int[] pixels = new int[width * height];
+        ContourDataSetCache.convertDataArrayToArgbPre(TEST_DATA_Z_QUANT1, width, height, 0.0, 1.0, lut, pixels, false);
+        assertEquals(0, pixels[(height - 1) * width], "zero offset -> transparent (first data row is the bottom image row)");
+        assertEquals(lut[10], pixels[width - 1], "max offset");
+        assertEquals(lut[4], pixels[(height - 2) * width + 1], "second data row");
+
+        // z-range normalisation folded into the LUT index computation
+        final int[] pixelsScaled = new int[width * height];
+        ContourDataSetCache.convertDataArrayToArgbPre(TEST_DATA_Z, width, height, 1.0, 12.0, lut, pixelsScaled, false);
+        assertEquals(lut[10], pixelsScaled[width - 1], "max value");
+        assertNotEquals(0, pixelsScaled[(height - 1) * width + 1]);
+
+        // out-of-range and NaN values are transparent
+        final double[] outOfRange = { -0.1, 1.1, Double.NaN };
+        final int[] pixelsOutOfRange = new int[outOfRange.length];
+        ContourDataSetCache.convertDataArrayToArgbPre(outOfRange, outOfRange.length, 1, 0.0, 1.0, lut, pixelsOutOfRange, false);
+        assertArrayEquals(new int[outOfRange.length], pixelsOutOfRange);
+
+        // parallel implementation
+        final int size = 512;
+        final double[] data = new double[size * size];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = ContourDataSetCache.quantize((i % 997) / 996.0, 100);
+        }
+        final int[] lutFine = ColorGradient.VIRIDIS.getLookUpTable(1024);
+        final int[] sequential = new int[data.length];
+        final int[] parallel = new int[data.length];
+        ContourDataSetCache.convertDataArrayToArgbPre(data, size, size, 0.0, 1.0, lutFine, sequential, false);
+        ContourDataSetCache.convertDataArrayToArgbPre(data, size, size, 0.0, 1.0, lutFine, parallel, true);
+        assertArrayEquals(sequential, parallel);
+    }
+
     @Test
     public void testDataSet() {
         GridDataSet dataSet = new DataSetBuilder().setValues(DIM_X, TEST_DATA_X).setValues(DIM_Y, TEST_DATA_Y).setValues(DIM_Z, TEST_DATA_Z).build(GridDataSet.class);
@@ -151,6 +190,13 @@ public class ContourDataSetCacheTests {
         ContourDataSetCache.quantizeData(inputDataInv, TEST_DATA_X.length, TEST_DATA_Y.length, true, 0, 12,
                 identityTransform, 10);
         assertArrayEquals(TEST_DATA_Z_QUANT2, inputDataInv, "quantizeData(..) - inverted");
+
+        // separate output -> input can be re-quantised (e.g. for z-range changes only)
+        final double[] output = new double[TEST_DATA_Z.length];
+        ContourDataSetCache.quantizeData(TEST_DATA_Z, output, TEST_DATA_X.length, TEST_DATA_Y.length, false, 0, 12,
+                identityTransform, 10);
+        assertArrayEquals(TEST_DATA_Z_QUANT1, output, "quantizeData(..) - separate output");
+        assertEquals(12, TEST_DATA_Z[TEST_DATA_Z.length - 1], "input unmodified");
     }
 
     @Test
@@ -204,6 +250,16 @@ public class ContourDataSetCacheTests {
         ContourDataSetCache.copySubFrame(dataSet, dataBuffer, true, false, 0, 2, false, 0, 3);
         assertArrayEquals(TEST_DATA_Z, dataBuffer, "data buffer content - parallel copySubFrame");
 
+        // in-place flip of normal-oriented data, as used for the tile pyramid
+        final int width = TEST_DATA_X.length;
+        final int height = TEST_DATA_Y.length;
+        final double[][] expected = { TEST_DATA_Z, TEST_DATA_Z_X_INVERTED, TEST_DATA_Z_Y_INVERTED, TEST_DATA_Z_XY_INVERTED };
+        for (int i = 0; i < expected.length; i++) {
+            final double[] flipped = Arrays.copyOf(TEST_DATA_Z, TEST_DATA_Z.length);
+            ContourDataSetCache.flip(flipped, width, height, (i & 1) != 0, (i & 2) != 0);
+            assertArrayEquals(expected[i], flipped, "flip case " + i);
+        }
+
         // requires FX to be tested, now in ContourDataSetRendererTests
         // final ContourDataSetCache cache = FXUtils.runAndWait(() -> new ContourDataSetCache(new XYChart(), new ContourDataSetRenderer(), dataSet));
         // assertDoesNotThrow(() -> cache.convertDataArrayToImage(TEST_DATA_Z, TEST_DATA_X.length, TEST_DATA_Y.length, ColorGradient.DEFAULT), "data to colour image conversion");
@@ -1,6 +1,10 @@
 package de.gsi.chart.renderer.spi;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static de.gsi.chart.ui.utils.FuzzyTestImageUtils.compareAndWriteReference;
@@ -8,7 +12,11 @@ import static de.gsi.chart.ui.utils.FuzzyTestImageUtils.writeTestImage;
 
 import java.io.IOException;
 
+import javafx.collections.FXCollections;
+import javafx.geometry.Orientation;
 import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 
@@ -30,6 +38,7 @@ import de.gsi.chart.utils.FXUtils;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.GridDataSet;
 import de.gsi.dataset.spi.DataSetBuilder;
+import de.gsi.dataset.spi.DoubleGridDataSet;
 
 /**
  * Tests {@link de.gsi.chart.renderer.spi.ContourDataSetRenderer }
@@ -133,6 +142,30 @@ public class ContourDataSetRendererTests {
         assertDoesNotThrow(() -> cache.convertDataArrayToImage(TEST_DATA_Z, TEST_DATA_X.length, TEST_DATA_Y.length, ColorGradient.DEFAULT), "data to colour image conversion");
     }
 
+    @TestFx
+    public void testCachePersistsAcrossRangeChanges() {
+        final ContourDataSetRenderer localRenderer = new ContourDataSetRenderer();
+        final XYChart localChart = new XYChart(CachedDataPointsTests.getAxis(Orientation.HORIZONTAL, 0, 4, WIDTH), CachedDataPointsTests.getAxis(Orientation.VERTICAL, 0, 5, HEIGHT));
+        localChart.getRenderers().set(0, localRenderer);
+        final DoubleGridDataSet dataSet = (DoubleGridDataSet) getTestDataSet();
+        final GraphicsContext gc = new Canvas(WIDTH, HEIGHT).getGraphicsContext2D();
+        localRenderer.render(gc, localChart, 0, FXCollections.observableArrayList(dataSet));
+        final ContourDataSetCache cache = localRenderer.getCache(dataSet);
+        assertNotNull(cache);
+
+        // changed data range -> changed content-based hash code
+        final int hashCode = dataSet.hashCode();
+        dataSet.set(DataSet.DIM_Z, new int[] { 0, 0 }, 100.0);
+        dataSet.recomputeLimits(DataSet.DIM_Z);
+        assertNotEquals(hashCode, dataSet.hashCode());
+        localRenderer.render(gc, localChart, 0, FXCollections.observableArrayList(dataSet));
+        assertSame(cache, localRenderer.getCache(dataSet), "cache is re-used");
+
+        // cache of data sets that are no longer drawn is released
+        localRenderer.render(gc, localChart, 0, FXCollections.observableArrayList());
+        assertNull(localRenderer.getCache(dataSet));
+    }
+
     private static GridDataSet getTestDataSet() {
         return new DataSetBuilder().setValues(DataSet.DIM_X, TEST_DATA_X).setValues(DataSet.DIM_Y, TEST_DATA_Y).setValues(DataSet.DIM_Z, TEST_DATA_Z).build(GridDataSet.class);
     }
@@ -0,0 +1,66 @@
+package de.gsi.chart.renderer.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+import static de.gsi.dataset.DataSet.DIM_Z;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.spi.DataSetBuilder;
+
+/**
+ * Tests {@link de.gsi.chart.renderer.spi.ContourDataSetRingBuffer}
+ */
+public class ContourDataSetRingBufferTests {
+    private static final int N_X = 16;
+    private static final int N_Y = 32;
+
+    @Test
+    public void testFindRowShift() {
+        final double[][] references = new double[ContourDataSetRingBuffer.N_REFERENCE_ROWS][N_X];
+        final GridDataSet reference = getWaterfall(100);
+        final int nReferences = copyNewestRows(reference, 2, 13, references);
+
+        assertEquals(0, ContourDataSetRingBuffer.findRowShift(reference, 2, 13, references, nReferences), "unchanged");
+        for (final int shift : new int[] { 1, 3, N_Y - nReferences }) {
+            assertEquals(shift, ContourDataSetRingBuffer.findRowShift(getWaterfall(100 + shift), 2, 13, references, nReferences), "shift by " + shift);
+        }
+        assertEquals(-1, ContourDataSetRingBuffer.findRowShift(getWaterfall(100 + N_Y), 2, 13, references, nReferences), "full turn-over");
+        assertEquals(-1, ContourDataSetRingBuffer.findRowShift(getWaterfall(10), 2, 13, references, nReferences), "different data");
+        assertEquals(-1, ContourDataSetRingBuffer.findRowShift(reference, 2, 13, references, 0), "no references");
+    }
+
+    private static int copyNewestRows(final GridDataSet dataSet, final int xMin, final int xMax, final double[][] rows) {
+        final int nRows = Math.min(rows.length, dataSet.getShape(DIM_Y));
+        for (int i = 0; i < nRows; i++) {
+            for (int x = xMin; x <= xMax; x++) {
+                rows[i][x - xMin] = dataSet.get(DIM_Z, x, dataSet.getShape(DIM_Y) - 1 - i);
+            }
+        }
+        return nRows;
+    }
+
+    /**
+     * @param frameCounter number of the newest frame
+     * @return waterfall data set containing the last N_Y frames (the oldest at y-index '0')
+     */
+    private static GridDataSet getWaterfall(final int frameCounter) {
+        final double[] x = new double[N_X];
+        final double[] y = new double[N_Y];
+        final double[] z = new double[N_X * N_Y];
+        for (int i = 0; i < N_X; i++) {
+            x[i] = i;
+        }
+        for (int j = 0; j < N_Y; j++) {
+            y[j] = j - N_Y + 1.0; // relative frame time -> constant y grid
+            final int frame = frameCounter - (N_Y - 1 - j);
+            for (int i = 0; i < N_X; i++) {
+                z[j * N_X + i] = Math.sin(0.3 * i + 0.7 * frame) + 0.01 * frame;
+            }
+        }
+        return new DataSetBuilder().setValues(DIM_X, x).setValues(DIM_Y, y).setValues(DIM_Z, z).build(GridDataSet.class);
+    }
+}
@@ -0,0 +1,146 @@
+package de.gsi.chart.renderer.spi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import javafx.geometry.Orientation;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.chart.axes.Axis;
+import de.gsi.chart.renderer.spi.utils.ColorGradient;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.DoubleDataSet;
+
+/**
+ * Tests {@link de.gsi.chart.renderer.spi.DensityDataSetRenderer}
+ */
+public class DensityDataSetRendererTests {
+    private static final int WIDTH = 200;
+    private static final int HEIGHT = 100;
+
+    @Test
+    public void testBinningAndColorMapping() {
+        final Axis xAxis = CachedDataPointsTests.getAxis(Orientation.HORIZONTAL, 0, WIDTH, WIDTH);
+        final Axis yAxis = CachedDataPointsTests.getAxis(Orientation.VERTICAL, 0, HEIGHT, HEIGHT);
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        dataSet.add(10.5, 10.5);
+        dataSet.add(10.5, 10.5);
+        dataSet.add(50.5, 20.5);
+        dataSet.add(Double.NaN, 20.5); // ignored
+        dataSet.add(-10, 20); // outside
+        dataSet.add(10, 2 * HEIGHT); // outside
+
+        final DensityDataSetRenderer renderer = new DensityDataSetRenderer();
+        renderer.setParallelImplementation(false);
+        renderer.updateGrid(xAxis, yAxis, false);
+        assertEquals(WIDTH, renderer.getGridWidth());
+        assertEquals(HEIGHT, renderer.getGridHeight());
+        renderer.binDataSet(dataSet, xAxis, yAxis);
+
+        assertEquals(3, sum(renderer));
+        assertEquals(2, renderer.getMaxCount());
+        final int index = bin(renderer, xAxis, yAxis, 10.5, 10.5);
+        assertEquals(2, renderer.getCounts()[index]);
+
+        renderer.computePixels();
+        final int[] pixels = renderer.getPixels();
+        assertEquals(0, pixels[0], "empty bins are transparent");
+        assertEquals(ColorGradient.DEFAULT.getColor(1.0).getOpacity(), ((pixels[index] >>> 24) & 0xFF) / 255.0, 1e-2);
+        final int lowIndex = bin(renderer, xAxis, yAxis, 50.5, 20.5);
+        assertNotEquals(0, pixels[lowIndex], "lowest non-zero count is visible");
+        final int linearLow = pixels[lowIndex];
+        renderer.setLogScale(true);
+        renderer.computePixels();
+        assertNotEquals(linearLow, renderer.getPixels()[lowIndex], "log scale lifts low counts");
+
+        // coarser bins
+        renderer.setBinSize(0);
+        assertEquals(1, renderer.getBinSize());
+        renderer.setBinSize(4);
+        renderer.updateGrid(xAxis, yAxis, false);
+        assertEquals(WIDTH / 4, renderer.getGridWidth());
+        assertEquals(HEIGHT / 4, renderer.getGridHeight());
+        renderer.binDataSet(dataSet, xAxis, yAxis);
+        assertEquals(3, sum(renderer));
+    }
+
+    @Test
+    public void testIncrementalAccumulation() {
+        final Axis xAxis = CachedDataPointsTests.getAxis(Orientation.HORIZONTAL, 0, WIDTH, WIDTH);
+        final Axis yAxis = CachedDataPointsTests.getAxis(Orientation.VERTICAL, 0, HEIGHT, HEIGHT);
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        final DensityDataSetRenderer renderer = new DensityDataSetRenderer().setAccumulate(true);
+        renderer.setParallelImplementation(false);
+
+        for (int chunk = 1; chunk <= 3; chunk++) {
+            for (int i = 0; i < 999; i++) {
+                dataSet.add(i % WIDTH + 0.5, i % HEIGHT + 0.5);
+            }
+            // appended point outside the (fixed) axis range extends the data set's x/y range
+            dataSet.add(chunk * WIDTH + 0.5, chunk * HEIGHT + 0.5);
+            dataSet.recomputeLimits(DataSet.DIM_X).recomputeLimits(DataSet.DIM_Y);
+            assertEquals(chunk * WIDTH + 0.5, dataSet.getAxisDescription(DataSet.DIM_X).getMax());
+            renderer.updateGrid(xAxis, yAxis, renderer.isAccumulate());
+            renderer.binDataSet(dataSet, xAxis, yAxis);
+            assertEquals(chunk * 999, sum(renderer), "only new points are binned");
+        }
+
+        // data set with equal content has its own state
+        final DoubleDataSet copy = new DoubleDataSet(dataSet);
+        renderer.updateGrid(xAxis, yAxis, renderer.isAccumulate());
+        renderer.binDataSet(copy, xAxis, yAxis);
+        assertEquals(2 * 3 * 999, sum(renderer), "equal data set binned independently");
+        renderer.clearAccumulation();
+        renderer.binDataSet(dataSet, xAxis, yAxis);
+
+        // changed axis range invalidates the accumulated counts
+        xAxis.set(0, 2 * WIDTH);
+        renderer.updateGrid(xAxis, yAxis, renderer.isAccumulate());
+        assertEquals(0, sum(renderer));
+        renderer.binDataSet(dataSet, xAxis, yAxis);
+        assertEquals(3 * 999, sum(renderer));
+
+        renderer.clearAccumulation();
+        assertEquals(0, sum(renderer));
+    }
+
+    @Test
+    public void testParallelEqualsSequential() {
+        final Axis xAxis = CachedDataPointsTests.getAxis(Orientation.HORIZONTAL, -4, 4, WIDTH);
+        final Axis yAxis = CachedDataPointsTests.getAxis(Orientation.VERTICAL, -4, 4, HEIGHT);
+        final int nSamples = 1_000_000;
+        final double[] x = new double[nSamples];
+        final double[] y = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            x[i] = 3.0 * Math.sin(0.37 * i) * Math.cos(0.011 * i);
+            y[i] = 3.0 * Math.cos(0.53 * i);
+        }
+        final DataSet dataSet = new DoubleDataSet("test", x, y, nSamples, false);
+
+        final DensityDataSetRenderer sequential = new DensityDataSetRenderer();
+        sequential.setParallelImplementation(false);
+        final DensityDataSetRenderer parallel = new DensityDataSetRenderer();
+        parallel.setParallelImplementation(true);
+        for (final DensityDataSetRenderer renderer : new DensityDataSetRenderer[] { sequential, parallel }) {
+            renderer.updateGrid(xAxis, yAxis, false);
+            renderer.binDataSet(dataSet, xAxis, yAxis);
+        }
+        assertTrue(sum(sequential) > nSamples / 2);
+        final int length = WIDTH * HEIGHT;
+        assertArrayEquals(Arrays.copyOf(sequential.getCounts(), length), Arrays.copyOf(parallel.getCounts(), length));
+    }
+
+    private static int bin(final DensityDataSetRenderer renderer, final Axis xAxis, final Axis yAxis, final double x, final double y) {
+        final int binSize = renderer.getBinSize();
+        return (int) (yAxis.getDisplayPosition(y) / binSize) * renderer.getGridWidth() + (int) (xAxis.getDisplayPosition(x) / binSize);
+    }
+
+    private static long sum(final DensityDataSetRenderer renderer) {
+        return Arrays.stream(renderer.getCounts(), 0, renderer.getGridWidth() * renderer.getGridHeight()).sum();
+    }
+}
@@ -0,0 +1,114 @@
+package de.gsi.chart.renderer.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javafx.geometry.Orientation;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.chart.axes.Axis;
+import de.gsi.chart.renderer.ErrorStyle;
+import de.gsi.chart.renderer.datareduction.DefaultDataReducer;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.DoubleDataSet;
+
+/**
+ * Tests {@link de.gsi.chart.renderer.spi.ZoomLevelCache}
+ */
+public class ZoomLevelCacheTests {
+    private final DefaultDataReducer reducer = new DefaultDataReducer();
+    private final Axis yAxis = CachedDataPointsTests.getAxis(Orientation.VERTICAL, -1.0, 1.0, 300);
+
+    @Test
+    public void testKey() {
+        final DoubleDataSet dataSet = getDataSet();
+        final Axis xAxis = CachedDataPointsTests.getAxis(Orientation.HORIZONTAL, 0, 100, 400);
+        final ZoomLevelCache.Key key = getKey(dataSet, xAxis);
+        assertEquals(key, getKey(dataSet, xAxis));
+        assertEquals(key.hashCode(), getKey(dataSet, xAxis).hashCode());
+        assertNotEquals(key, getKey(dataSet, CachedDataPointsTests.getAxis(Orientation.HORIZONTAL, 0, 50, 400)), "different zoom level");
+        assertNotEquals(key, getKey(getDataSet(), xAxis), "identical content but different data set");
+        assertNotEquals(key, new ZoomLevelCache.Key(dataSet, 0, xAxis, yAxis, ErrorStyle.ERRORBARS, reducer, 1.0), "different renderer parameter");
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        final DoubleDataSet dataSet = getDataSet();
+        final int nListener = dataSet.updateEventListener().size();
+        final ZoomLevelCache cache = new ZoomLevelCache(2);
+        assertTrue(cache.isEnabled());
+        assertThrows(IllegalArgumentException.class, () -> cache.setCapacity(-1));
+
+        final ZoomLevelCache.Key[] keys = new ZoomLevelCache.Key[3];
+        final CachedDataPoints[] points = new CachedDataPoints[3];
+        for (int level = 0; level < keys.length; level++) {
+            keys[level] = getKey(dataSet, CachedDataPointsTests.getAxis(Orientation.HORIZONTAL, 0, 100.0 / (level + 1), 400));
+            points[level] = new CachedDataPoints(0, 100, 100, true);
+            assertTrue(cache.put(keys[level], points[level], cache.track(dataSet)));
+            if (level == 1) {
+                assertSame(points[0], cache.get(keys[0])); // N.B. marks the first zoom level as recently used
+            }
+        }
+        assertEquals(2, cache.size());
+        assertSame(points[0], cache.get(keys[0]));
+        assertNull(cache.get(keys[1]), "least-recently used entry has been evicted");
+        assertSame(points[2], cache.get(keys[2]));
+        assertEquals(nListener + 1, dataSet.updateEventListener().size());
+
+        cache.setCapacity(0);
+        assertFalse(cache.isEnabled());
+        assertEquals(0, cache.size());
+        assertEquals(nListener, dataSet.updateEventListener().size());
+        assertFalse(cache.put(keys[0], points[0], cache.track(dataSet)));
+    }
+
+    @Test
+    public void testInvalidation() {
+        final DoubleDataSet dataSet = getDataSet();
+        final DoubleDataSet otherDataSet = getDataSet();
+        final int nListener = dataSet.updateEventListener().size();
+        final Axis xAxis = CachedDataPointsTests.getAxis(Orientation.HORIZONTAL, 0, 100, 400);
+        final ZoomLevelCache cache = new ZoomLevelCache(10);
+
+        final ZoomLevelCache.Key key = getKey(dataSet, xAxis);
+        final ZoomLevelCache.Key otherKey = getKey(otherDataSet, xAxis);
+        assertTrue(cache.put(key, new CachedDataPoints(0, 100, 100, true), cache.track(dataSet)));
+        assertTrue(cache.put(otherKey, new CachedDataPoints(0, 100, 100, true), cache.track(otherDataSet)));
+        assertEquals(2, cache.size());
+
+        // data set update drops only the entries of the given data set
+        dataSet.set(42, 42.0, 0.5);
+        assertNull(cache.get(key));
+        assertTrue(cache.get(otherKey) != null);
+        assertEquals(nListener, dataSet.updateEventListener().size());
+
+        // updates between reading the data and storing the entry
+        final long generation = cache.track(dataSet);
+        dataSet.set(42, 42.0, 0.6);
+        assertFalse(cache.put(key, new CachedDataPoints(0, 100, 100, true), generation));
+        assertNull(cache.get(key));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(nListener, dataSet.updateEventListener().size());
+        assertEquals(nListener, otherDataSet.updateEventListener().size());
+    }
+
+    private ZoomLevelCache.Key getKey(final DataSet dataSet, final Axis xAxis) {
+        return new ZoomLevelCache.Key(dataSet, 0, xAxis, yAxis, ErrorStyle.ERRORBARS, reducer, 0.0);
+    }
+
+    private static DoubleDataSet getDataSet() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        for (int i = 0; i < 100; i++) {
+            dataSet.add(i, Math.sin(0.1 * i));
+        }
+        return dataSet;
+    }
+}
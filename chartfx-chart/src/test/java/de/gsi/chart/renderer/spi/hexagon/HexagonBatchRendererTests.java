@@ -0,0 +1,62 @@
+package de.gsi.chart.renderer.spi.hexagon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.chart.renderer.spi.utils.ColorGradient;
+
+/**
+ * Tests {@link de.gsi.chart.renderer.spi.hexagon.HexagonBatchRenderer}
+ */
+public class HexagonBatchRendererTests {
+    private static final int N_X = 40;
+    private static final int N_Y = 30;
+
+    @Test
+    public void testGeometry() {
+        final HexagonBatchRenderer renderer = new HexagonBatchRenderer();
+        assertEquals(0, renderer.getHexagonCount());
+
+        assertTrue(renderer.updateGeometry(5, 10, N_X, N_Y));
+        final int nHexagons = renderer.getHexagonCount();
+        assertTrue(nHexagons > 10, "hexagon count: " + nHexagons);
+        assertEquals(0, nHexagons % 10);
+
+        // unchanged parameters re-use the geometry
+        assertFalse(renderer.updateGeometry(5, 10, N_X, N_Y));
+        assertEquals(nHexagons, renderer.getHexagonCount());
+
+        assertTrue(renderer.updateGeometry(5, 5, N_X, N_Y));
+        assertTrue(renderer.getHexagonCount() < nHexagons);
+
+        assertTrue(renderer.updateGeometry(5, 0, N_X, N_Y));
+        assertEquals(0, renderer.getHexagonCount());
+    }
+
+    @Test
+    public void testValues() {
+        final HexagonBatchRenderer renderer = new HexagonBatchRenderer();
+        renderer.updateGeometry(5, 10, N_X, N_Y);
+
+        final double[] data = new double[N_X * N_Y];
+        renderer.updateValues(data, ColorGradient.JET);
+        assertEquals(1, renderer.getBucketCount());
+
+        // left half low, right half high values
+        for (int y = 0; y < N_Y; y++) {
+            Arrays.fill(data, y * N_X + N_X / 2, (y + 1) * N_X, 1.0);
+        }
+        renderer.updateValues(data, ColorGradient.JET);
+        assertEquals(2, renderer.getBucketCount());
+
+        // undefined values are not drawn
+        Arrays.fill(data, Double.NaN);
+        renderer.updateValues(data, ColorGradient.JET);
+        assertEquals(0, renderer.getBucketCount());
+    }
+}
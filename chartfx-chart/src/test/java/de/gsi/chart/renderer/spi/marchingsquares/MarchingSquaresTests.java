@@ -0,0 +1,108 @@
+package de.gsi.chart.renderer.spi.marchingsquares;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.chart.renderer.spi.marchingsquares.GeneralPath.PathType;
+import de.gsi.chart.renderer.spi.marchingsquares.GeneralPath.Segment;
+
+/**
+ * Tests {@link de.gsi.chart.renderer.spi.marchingsquares.MarchingSquares}
+ */
+public class MarchingSquaresTests {
+    private static final int WIDTH = 120;
+    private static final int HEIGHT = 100;
+
+    @Test
+    public void testCircle() throws InterruptedException, ExecutionException {
+        final double radius = 30.0;
+        final double[] data = new double[WIDTH * HEIGHT];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                data[y * WIDTH + x] = Math.hypot(x - 60.0, y - 50.0);
+            }
+        }
+
+        for (final int nTiles : new int[] { 1, 3, 7, HEIGHT + 1 }) {
+            final GeneralPath[] paths = new MarchingSquares().buildContours(data, WIDTH, HEIGHT, new double[] { radius }, nTiles);
+            assertEquals(1, paths.length);
+            // inner circle and the outer rectangle w.r.t. the guard border
+            assertEquals(2, count(paths[0], PathType.GC_MOVETO), "sub-paths for nTiles = " + nTiles);
+            assertEquals(2, count(paths[0], PathType.GC_CLOSEPATH), "closed sub-paths for nTiles = " + nTiles);
+            // N.B. coordinates are relative to the padded grid
+            final List<double[]> circle = getSubPaths(paths[0]).stream().filter(p -> Math.hypot(p.get(0)[0] - 61.0, p.get(0)[1] - 51.0) < 2 * radius).findFirst().orElseThrow(IllegalStateException::new);
+            assertTrue(circle.size() > 100, "circle resolution");
+            for (final double[] point : circle) {
+                assertEquals(radius, Math.hypot(point[0] - 61.0, point[1] - 51.0), 0.1);
+            }
+        }
+    }
+
+    @Test
+    public void testTiledEqualsSingleTile() throws InterruptedException, ExecutionException {
+        final double[] data = new double[WIDTH * HEIGHT];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                data[y * WIDTH + x] = Math.sin(0.21 * x) * Math.cos(0.17 * y) + 0.1 * Math.sin(0.05 * x * y);
+            }
+        }
+        data[5 * WIDTH + 7] = Double.NaN;
+        final double[] levels = { -0.5, 0.0, 0.25, 0.5 };
+
+        final GeneralPath[] reference = new MarchingSquares().buildContours(data, WIDTH, HEIGHT, levels, 1);
+        for (final int nTiles : new int[] { 2, 5, 16, HEIGHT + 1 }) {
+            final GeneralPath[] tiled = new MarchingSquares().buildContours(data, WIDTH, HEIGHT, levels, nTiles);
+            for (int level = 0; level < levels.length; level++) {
+                assertEquals(count(reference[level], PathType.GC_MOVETO), count(tiled[level], PathType.GC_MOVETO), "sub-paths for nTiles = " + nTiles);
+                assertArrayEquals(getSortedCoordinates(reference[level]), getSortedCoordinates(tiled[level]), "nTiles = " + nTiles);
+            }
+        }
+
+        // legacy 2D API and automatic tiling
+        final double[][] data2D = new double[HEIGHT][WIDTH];
+        for (int y = 0; y < HEIGHT; y++) {
+            System.arraycopy(data, y * WIDTH, data2D[y], 0, WIDTH);
+        }
+        final GeneralPath[] legacy = new MarchingSquares().buildContours(data2D, levels);
+        for (int level = 0; level < levels.length; level++) {
+            assertArrayEquals(getSortedCoordinates(reference[level]), getSortedCoordinates(legacy[level]));
+        }
+    }
+
+    @Test
+    public void testExceptions() throws InterruptedException, ExecutionException {
+        final MarchingSquares marchingSquares = new MarchingSquares();
+        assertThrows(IllegalArgumentException.class, () -> marchingSquares.buildContours(new double[6], 3, 2, new double[] { 0.5 }));
+        assertThrows(IllegalArgumentException.class, () -> marchingSquares.buildContours(new double[5], 3, 2, new double[] { 0.5 }));
+        assertEquals(0, marchingSquares.buildContours(new double[][] { { 0, 1 }, { 1, 0 } }, new double[0]).length);
+    }
+
+    private static int count(final GeneralPath path, final PathType type) {
+        return (int) path.getSegments().stream().filter(s -> s.type == type).count();
+    }
+
+    private static double[] getSortedCoordinates(final GeneralPath path) {
+        return path.getSegments().stream().filter(s -> s.type == PathType.GC_MOVETO || s.type == PathType.GC_LINETO).mapToDouble(s -> s.x * 1e6 + s.y).sorted().toArray();
+    }
+
+    private static List<List<double[]>> getSubPaths(final GeneralPath path) {
+        final List<List<double[]>> subPaths = new ArrayList<>();
+        for (final Segment segment : path.getSegments()) {
+            if (segment.type == PathType.GC_MOVETO) {
+                subPaths.add(new ArrayList<>());
+            }
+            if (segment.type == PathType.GC_MOVETO || segment.type == PathType.GC_LINETO) {
+                subPaths.get(subPaths.size() - 1).add(new double[] { segment.x, segment.y });
+            }
+        }
+        return subPaths;
+    }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -43,4 +45,30 @@ public class ColorGradientTests {
             assertNotNull(gradient.toString(), "gradient name");
         }
     }
+
+    @Test
+    public void testLookUpTable() {
+        assertThrows(IllegalArgumentException.class, () -> ColorGradient.RAINBOW.getLookUpTable(1));
+        final int nColors = 256;
+        final int[] lut = ColorGradient.RAINBOW.getLookUpTable(nColors);
+        assertEquals(nColors, lut.length);
+        assertSame(lut, ColorGradient.RAINBOW.getLookUpTable(nColors), "LUT caching");
+        assertEquals(0, lut[0], "transparent zero offset");
+        assertEquals(0xFFFF0000, lut[nColors - 1], "opaque red at upper limit");
+
+        final int[] lutOpaque = ColorGradient.WHITE_BLACK.getLookUpTable(3);
+        assertArrayEquals(new int[] { 0xFFFFFFFF, 0xFF808080, 0xFF000000 }, lutOpaque);
+
+        // pre-multiplied alpha
+        final ColorGradient semiTransparent = new ColorGradient(new Stop(0.0, Color.rgb(255, 0, 0, 0.5)), new Stop(1.0, Color.rgb(255, 0, 0, 0.5)));
+        assertEquals(0x80800000, semiTransparent.getLookUpTable(2)[0]);
+
+        assertEquals(-1, ColorGradient.getLookUpIndex(-0.1, nColors));
+        assertEquals(-1, ColorGradient.getLookUpIndex(1.1, nColors));
+        assertEquals(-1, ColorGradient.getLookUpIndex(Double.NaN, nColors));
+        assertEquals(0, ColorGradient.getLookUpIndex(0.0, nColors));
+        assertEquals(1, ColorGradient.getLookUpIndex(Double.MIN_VALUE, nColors), "positive offsets are never mapped to index 0");
+        assertEquals(nColors - 1, ColorGradient.getLookUpIndex(1.0, nColors));
+        assertEquals(128, ColorGradient.getLookUpIndex(0.5, nColors));
+    }
 }
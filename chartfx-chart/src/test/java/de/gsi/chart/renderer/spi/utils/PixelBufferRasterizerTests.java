@@ -0,0 +1,166 @@
+package de.gsi.chart.renderer.spi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import javafx.scene.paint.Color;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.chart.marker.DefaultMarker;
+
+/**
+ * Tests {@link de.gsi.chart.renderer.spi.utils.PixelBufferRasterizer}
+ */
+public class PixelBufferRasterizerTests {
+    private static final int WIDTH = 300;
+    private static final int HEIGHT = 200;
+    private static final int RED = PixelBufferRasterizer.toArgbPre(Color.RED);
+    private static final int BLUE = PixelBufferRasterizer.toArgbPre(Color.BLUE);
+
+    @Test
+    public void testColorConversionAndBlending() {
+        assertEquals(0xFFFF0000, RED);
+        assertEquals(0x00000000, PixelBufferRasterizer.toArgbPre(Color.TRANSPARENT));
+        assertEquals(0x80800000, PixelBufferRasterizer.toArgbPre(Color.rgb(255, 0, 0, 128.0 / 255.0)));
+
+        assertEquals(RED, PixelBufferRasterizer.blendSrcOver(0xFF0000FF, RED, 255));
+        assertEquals(0xFF0000FF, PixelBufferRasterizer.blendSrcOver(0xFF0000FF, RED, 0));
+        // 50% red over opaque blue
+        assertEquals(0xFF80007F, PixelBufferRasterizer.blendSrcOver(0xFF0000FF, 0x80800000, 255));
+    }
+
+    @Test
+    public void testFilledShapes() {
+        final PixelBufferRasterizer rasterizer = new PixelBufferRasterizer();
+        rasterizer.reset(WIDTH, HEIGHT);
+        assertEquals(WIDTH, rasterizer.getWidth());
+        assertEquals(HEIGHT, rasterizer.getHeight());
+
+        rasterizer.fillRect(10, 20, 5, 4, RED);
+        rasterizer.drawMarker(DefaultMarker.CIRCLE, 100.5, 100.5, 10, RED, RED, 1.0);
+        rasterizer.drawMarker(DefaultMarker.DIAMOND, 200, 100, 10, RED, RED, 1.0);
+        rasterizer.fillRect(-100, -100, 10, 10, RED); // outside -> dropped
+        rasterizer.fillRect(10, 50, 5, 4, 0); // fully transparent -> dropped
+        assertEquals(3, rasterizer.getPrimitiveCount());
+        rasterizer.rasterize(false);
+        assertEquals(0, rasterizer.getPrimitiveCount());
+
+        assertEquals(5 * 4, count(rasterizer, 0, 0, 50, 50), "rectangle area");
+        final int circleArea = count(rasterizer, 80, 80, 121, 121);
+        assertEquals(Math.PI * 10 * 10, circleArea, 10.0, "circle area");
+        assertEquals(RED, pixel(rasterizer, 100, 100));
+        assertEquals(0, pixel(rasterizer, 100, 89));
+        final int diamondArea = count(rasterizer, 180, 80, 221, 121);
+        assertEquals(2 * 10 * 10, diamondArea, 10.0, "diamond area");
+    }
+
+    @Test
+    public void testLines() {
+        final PixelBufferRasterizer rasterizer = new PixelBufferRasterizer();
+        rasterizer.setAntiAliasing(false);
+        assertFalse(rasterizer.isAntiAliasing());
+        rasterizer.reset(WIDTH, HEIGHT);
+
+        rasterizer.drawLine(10, 10.5, 110, 10.5, RED, 1.0); // horizontal
+        rasterizer.drawLine(5.5, 20, 5.5, 120, RED, 1.0); // vertical
+        rasterizer.drawLine(150, 0, 250, 100, RED, 1.0); // diagonal
+        rasterizer.drawLine(150, 150, Double.NaN, 100, RED, 1.0); // non-finite -> dropped
+        rasterizer.rasterize(false);
+
+        assertEquals(101, count(rasterizer, 0, 0, 140, 11), "horizontal line");
+        assertEquals(101, count(rasterizer, 0, 11, 10, HEIGHT), "vertical line");
+        assertEquals(101, count(rasterizer, 140, 0, WIDTH, 110), "diagonal line");
+        for (int i = 0; i < 100; i++) {
+            assertEquals(RED, pixel(rasterizer, 150 + i, i), "diagonal pixel " + i);
+        }
+
+        // thick line
+        rasterizer.reset(WIDTH, HEIGHT);
+        rasterizer.drawLine(10, 10.5, 110, 10.5, RED, 3.0);
+        rasterizer.rasterize(false);
+        assertEquals(3 * 101, count(rasterizer, 0, 0, WIDTH, HEIGHT), "thick horizontal line");
+
+        // anti-aliased line distributes coverage over two pixels
+        rasterizer.setAntiAliasing(true);
+        rasterizer.reset(WIDTH, HEIGHT);
+        rasterizer.drawLine(10, 10.0, 110, 10.0, RED, 1.0);
+        rasterizer.rasterize(false);
+        assertNotEquals(0, pixel(rasterizer, 50, 9));
+        assertNotEquals(0, pixel(rasterizer, 50, 10));
+        assertNotEquals(RED, pixel(rasterizer, 50, 10));
+    }
+
+    @Test
+    public void testMarkerColors() {
+        final PixelBufferRasterizer rasterizer = new PixelBufferRasterizer();
+        for (final DefaultMarker marker : DefaultMarker.values()) {
+            rasterizer.reset(WIDTH, HEIGHT);
+            rasterizer.drawMarker(marker, 100.5, 100.5, 10, RED, BLUE, 2.0);
+            rasterizer.rasterize(false);
+            // N.B. same colour assignment as the GraphicsContext based DefaultMarker.draw(..)
+            final boolean strokeBased = marker == DefaultMarker.CROSS || marker == DefaultMarker.PLUS || marker == DefaultMarker.RECTANGLE2
+                                     || marker == DefaultMarker.CIRCLE2 || marker == DefaultMarker.DIAMOND2;
+            final int[] buffer = rasterizer.getBuffer();
+            assertTrue(Arrays.stream(buffer).anyMatch(v -> v != 0), marker + " has been drawn");
+            if (strokeBased) {
+                assertTrue(Arrays.stream(buffer).allMatch(v -> (v & 0x00FF0000) == 0), marker + " drawn with stroke colour");
+            } else {
+                assertTrue(Arrays.stream(buffer).allMatch(v -> (v & 0x000000FF) == 0), marker + " drawn with fill colour");
+            }
+        }
+    }
+
+    @Test
+    public void testParallelEqualsSequential() {
+        final PixelBufferRasterizer sequential = new PixelBufferRasterizer();
+        final PixelBufferRasterizer parallel = new PixelBufferRasterizer();
+        for (final PixelBufferRasterizer rasterizer : new PixelBufferRasterizer[] { sequential, parallel }) {
+            rasterizer.reset(WIDTH, 4 * HEIGHT);
+            double xLast = 0;
+            double yLast = 400;
+            for (int i = 1; i < 5000; i++) {
+                final double x = WIDTH * i / 5000.0;
+                final double y = 400 + 380 * Math.sin(2.0 * Math.PI * i / 37.0);
+                rasterizer.drawLine(xLast, yLast, x, y, PixelBufferRasterizer.toArgbPre(Color.rgb(0, 0, 255, 0.5)), 1.0);
+                xLast = x;
+                yLast = y;
+                if (i % 100 == 0) {
+                    for (final DefaultMarker marker : DefaultMarker.values()) {
+                        rasterizer.drawMarker(marker, x, y, 4, RED, BLUE, 2.0);
+                    }
+                    rasterizer.fillOval(x, y, 20, 10, PixelBufferRasterizer.toArgbPre(Color.rgb(0, 255, 0, 0.3)));
+                }
+            }
+        }
+        sequential.rasterize(false);
+        parallel.rasterize(true);
+        assertTrue(count(sequential, 0, 0, WIDTH, 4 * HEIGHT) > 0);
+        assertArrayEquals(sequential.getBuffer(), parallel.getBuffer());
+
+        // re-use with smaller size clears buffer
+        parallel.reset(WIDTH / 2, HEIGHT / 2);
+        assertTrue(Arrays.stream(parallel.getBuffer(), 0, WIDTH * HEIGHT / 4).allMatch(v -> v == 0));
+    }
+
+    private static int count(final PixelBufferRasterizer rasterizer, final int x0, final int y0, final int x1, final int y1) {
+        int count = 0;
+        for (int y = y0; y < y1; y++) {
+            for (int x = x0; x < x1; x++) {
+                if (pixel(rasterizer, x, y) != 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int pixel(final PixelBufferRasterizer rasterizer, final int x, final int y) {
+        return rasterizer.getBuffer()[y * rasterizer.getWidth() + x];
+    }
+}
@@ -0,0 +1,136 @@
+package de.gsi.chart.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.chart.axes.Axis;
+import de.gsi.chart.axes.spi.OscilloscopeAxis;
+import de.gsi.chart.ui.geometry.Side;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.DoubleDataSet;
+import de.gsi.dataset.spi.DoubleGridDataSet;
+
+/**
+ * Tests {@link de.gsi.chart.utils.DataSetPickingIndex}
+ */
+public class DataSetPickingIndexTests {
+    private static final int N_POINTS = 10_000;
+    private static final double PICKING_DISTANCE = 5.0;
+
+    @Test
+    public void testGridDataSet() {
+        final TestAxis xAxis = new TestAxis(Side.BOTTOM, 0.0, 100.0);
+        final TestAxis yAxis = new TestAxis(Side.LEFT, 0.0, 100.0);
+        final double[] grid = { 10.0, 20.0, 30.0, 40.0, 50.0 };
+        final DoubleGridDataSet dataSet = new DoubleGridDataSet("grid", false, new double[][] { grid, grid }, new double[25]);
+        final DataSetPickingIndex index = DataSetPickingIndex.get(dataSet);
+
+        // grid node (x = 30, y = 20) -> linear index 2 + 1 * 5 (N.B. 5 pixel per data unit)
+        final int nearest = index.getNearest(dataSet, xAxis, yAxis, xAxis.getDisplayPosition(30.5), yAxis.getDisplayPosition(20.5), PICKING_DISTANCE);
+        assertEquals(7, nearest);
+        assertEquals(Math.hypot(2.5, 2.5), index.getLastDistance(), 1e-9);
+        assertEquals(-1, index.getNearest(dataSet, xAxis, yAxis, xAxis.getDisplayPosition(35), yAxis.getDisplayPosition(25), PICKING_DISTANCE));
+
+        final List<Integer> inside = new ArrayList<>();
+        index.forEachInside(dataSet, xAxis, yAxis, xAxis.getDisplayPosition(15), yAxis.getDisplayPosition(35), xAxis.getDisplayPosition(35), yAxis.getDisplayPosition(15), inside::add);
+        assertEquals(List.of(6, 7, 11, 12), inside);
+    }
+
+    @Test
+    public void testNearest() {
+        final TestAxis xAxis = new TestAxis(Side.BOTTOM, 0.0, 100.0);
+        final TestAxis yAxis = new TestAxis(Side.LEFT, 0.0, 100.0);
+        final DoubleDataSet dataSet = getRandomDataSet();
+        final DataSetPickingIndex index = DataSetPickingIndex.get(dataSet);
+        assertSame(index, DataSetPickingIndex.get(dataSet));
+        assertNotSame(index, DataSetPickingIndex.get(getRandomDataSet()), "identical content but different data set");
+
+        final Random random = new Random(42);
+        for (int query = 0; query < 1000; query++) {
+            final double x = random.nextDouble() * 520 - 10;
+            final double y = random.nextDouble() * 520 - 10;
+            final int expected = getNearestBruteForce(dataSet, xAxis, yAxis, x, y, PICKING_DISTANCE);
+            assertEquals(expected, index.getNearest(dataSet, xAxis, yAxis, x, y, PICKING_DISTANCE), "query (" + x + ", " + y + ")");
+        }
+
+        // data set updates invalidate the index
+        final double x = xAxis.getDisplayPosition(dataSet.get(DataSet.DIM_X, 42));
+        final double y = yAxis.getDisplayPosition(dataSet.get(DataSet.DIM_Y, 42));
+        assertEquals(42, index.getNearest(dataSet, xAxis, yAxis, x, y, 0.1));
+        dataSet.set(42, 200.0, 200.0);
+        assertEquals(-1, index.getNearest(dataSet, xAxis, yAxis, x, y, 0.1));
+
+        // axis changes invalidate the index
+        dataSet.set(42, 50.0, 50.0);
+        assertEquals(42, index.getNearest(dataSet, xAxis, yAxis, 250.0, 250.0, 0.1));
+        xAxis.setRange(0.0, 200.0);
+        assertEquals(-1, index.getNearest(dataSet, xAxis, yAxis, 250.0, 250.0, 0.1));
+        assertEquals(42, index.getNearest(dataSet, xAxis, yAxis, xAxis.getDisplayPosition(50.0), 250.0, 0.1));
+    }
+
+    @Test
+    public void testRectangle() {
+        final TestAxis xAxis = new TestAxis(Side.BOTTOM, 0.0, 100.0);
+        final TestAxis yAxis = new TestAxis(Side.LEFT, 0.0, 100.0);
+        final DoubleDataSet dataSet = getRandomDataSet();
+        final DataSetPickingIndex index = DataSetPickingIndex.get(dataSet);
+
+        final List<Integer> inside = new ArrayList<>();
+        index.forEachInside(dataSet, xAxis, yAxis, 100, 50, 230, 420, inside::add);
+        int expected = 0;
+        for (int i = 0; i < dataSet.getDataCount(); i++) {
+            final double x = xAxis.getDisplayPosition(dataSet.get(DataSet.DIM_X, i));
+            final double y = yAxis.getDisplayPosition(dataSet.get(DataSet.DIM_Y, i));
+            if (x >= 100 && x <= 230 && y >= 50 && y <= 420) {
+                assertTrue(inside.contains(i), "missing index " + i);
+                expected++;
+            }
+        }
+        assertEquals(expected, inside.size());
+    }
+
+    private static int getNearestBruteForce(final DataSet dataSet, final Axis xAxis, final Axis yAxis, final double x, final double y, final double maxDistance) {
+        int nearest = -1;
+        double minDistance = maxDistance;
+        for (int i = 0; i < dataSet.getDataCount(); i++) {
+            final double distance = Math.hypot(xAxis.getDisplayPosition(dataSet.get(DataSet.DIM_X, i)) - x, yAxis.getDisplayPosition(dataSet.get(DataSet.DIM_Y, i)) - y);
+            if (distance < minDistance || distance == minDistance && nearest < 0) {
+                minDistance = distance;
+                nearest = i;
+            }
+        }
+        return nearest;
+    }
+
+    private static DoubleDataSet getRandomDataSet() {
+        final Random random = new Random(1234);
+        final DoubleDataSet dataSet = new DoubleDataSet("random", N_POINTS);
+        for (int i = 0; i < N_POINTS; i++) {
+            // N.B. not sorted in x, some points outside the axis range
+            dataSet.add(random.nextDouble() * 110 - 5, random.nextDouble() * 110 - 5);
+        }
+        return dataSet;
+    }
+
+    private static class TestAxis extends OscilloscopeAxis {
+        private TestAxis(final Side side, final double min, final double max) {
+            super("axis", min, max, 10.0);
+            setSide(side);
+            resize(500, 500);
+            updateCachedVariables();
+        }
+
+        private void setRange(final double min, final double max) {
+            set(min, max);
+            updateCachedVariables();
+        }
+    }
+}
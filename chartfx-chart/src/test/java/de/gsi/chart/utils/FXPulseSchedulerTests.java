@@ -0,0 +1,72 @@
+package de.gsi.chart.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import de.gsi.chart.ui.utils.JavaFXInterceptorUtils.SelectiveJavaFxInterceptor;
+import de.gsi.chart.ui.utils.TestFx;
+
+/**
+ * Tests {@link de.gsi.chart.utils.FXPulseScheduler}
+ */
+@ExtendWith(ApplicationExtension.class)
+@ExtendWith(SelectiveJavaFxInterceptor.class)
+public class FXPulseSchedulerTests {
+    private final AtomicInteger nExecutions = new AtomicInteger();
+    private final Runnable task = nExecutions::incrementAndGet;
+    private Scene scene;
+
+    @Start
+    public void start(final Stage stage) {
+        scene = new Scene(new Pane(), 100, 100);
+        stage.setScene(scene);
+        stage.show();
+    }
+
+    @TestFx
+    public void testGetAndConfiguration() {
+        final FXPulseScheduler scheduler = FXPulseScheduler.get(scene);
+        assertSame(scheduler, FXPulseScheduler.get(scene));
+        assertThrows(IllegalArgumentException.class, () -> FXPulseScheduler.get(null));
+
+        assertEquals(FXPulseScheduler.DEFAULT_MAX_FRAME_RATE, scheduler.getMaxFrameRate());
+        scheduler.setMaxFrameRate(25.0);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(40), scheduler.getMinFramePeriod());
+        assertThrows(IllegalArgumentException.class, () -> scheduler.setMaxFrameRate(0.0));
+        assertThrows(IllegalArgumentException.class, () -> scheduler.setMaxFrameRate(Double.NaN));
+        scheduler.setMaxFrameRate(FXPulseScheduler.DEFAULT_MAX_FRAME_RATE);
+    }
+
+    @Test
+    public void testCoalescedExecution() throws Exception {
+        final FXPulseScheduler scheduler = FXUtils.runAndWait(() -> FXPulseScheduler.get(scene));
+        FXUtils.runAndWait(() -> {
+            for (int i = 0; i < 100; i++) {
+                scheduler.schedule(task);
+            }
+            assertTrue(scheduler.isScheduled(task));
+        });
+
+        Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> nExecutions.get() > 0);
+        assertFalse(FXUtils.runAndWait(() -> scheduler.isScheduled(task)));
+        Thread.sleep(100);
+        assertEquals(1, nExecutions.get(), "repeated requests are executed once");
+        assertTrue(FXUtils.runAndWait(scheduler::getPulseCount) > 0);
+    }
+}
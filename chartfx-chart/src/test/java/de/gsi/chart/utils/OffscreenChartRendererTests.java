@@ -0,0 +1,90 @@
+package de.gsi.chart.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javafx.scene.image.WritableImage;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import de.gsi.chart.XYChart;
+import de.gsi.chart.axes.spi.DefaultNumericAxis;
+import de.gsi.chart.ui.utils.JavaFXInterceptorUtils.SelectiveJavaFxInterceptor;
+import de.gsi.dataset.spi.DoubleDataSet;
+
+/**
+ * Tests {@link de.gsi.chart.utils.OffscreenChartRenderer}
+ */
+@ExtendWith(ApplicationExtension.class)
+@ExtendWith(SelectiveJavaFxInterceptor.class)
+public class OffscreenChartRendererTests {
+    private static final int WIDTH = 300;
+    private static final int HEIGHT = 200;
+
+    @Start
+    public void start(final Stage stage) {
+        // N.B. initialises the JavaFX toolkit only, the charts are rendered without a stage
+    }
+
+    @Test
+    public void testConstructor() throws Exception {
+        final XYChart chart = FXUtils.runAndWait(() -> new XYChart(new DefaultNumericAxis(), new DefaultNumericAxis()));
+        assertThrows(IllegalArgumentException.class, () -> new OffscreenChartRenderer(null, WIDTH, HEIGHT));
+        assertThrows(IllegalArgumentException.class, () -> new OffscreenChartRenderer(chart, 0, HEIGHT));
+        assertThrows(IllegalArgumentException.class, () -> new OffscreenChartRenderer(chart, WIDTH, -1));
+        FXUtils.runAndWait(() -> new StackPane(chart));
+        assertThrows(IllegalArgumentException.class, () -> new OffscreenChartRenderer(chart, WIDTH, HEIGHT), "chart already attached");
+        assertThrows(IllegalArgumentException.class, () -> OffscreenChartRenderer.renderAll(new ArrayList<>(), Arrays.asList(new int[1])));
+    }
+
+    @Test
+    public void testRender() throws Exception {
+        final List<DoubleDataSet> dataSets = new ArrayList<>();
+        final List<OffscreenChartRenderer> renderers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final DoubleDataSet dataSet = new DoubleDataSet("sine");
+            dataSets.add(dataSet);
+            renderers.add(new OffscreenChartRenderer(FXUtils.runAndWait(() -> getChart(dataSet)), WIDTH, HEIGHT));
+        }
+        // N.B. data updated and rendered from the test (ie. non-FX) thread
+        for (int i = 0; i < dataSets.size(); i++) {
+            final double frequency = 0.01 * (i + 1);
+            dataSets.get(i).set(IntStream.range(0, 1000).asDoubleStream().toArray(), IntStream.range(0, 1000).mapToDouble(x -> Math.sin(frequency * x)).toArray());
+        }
+        assertEquals(WIDTH, renderers.get(0).getWidth());
+        assertEquals(HEIGHT, renderers.get(0).getHeight());
+
+        final List<int[]> pixels = OffscreenChartRenderer.renderAll(renderers);
+        assertEquals(renderers.size(), pixels.size());
+        for (final int[] buffer : pixels) {
+            assertEquals(WIDTH * HEIGHT, buffer.length);
+            assertTrue(Arrays.stream(buffer).distinct().count() > 1, "chart content has been drawn");
+        }
+
+        // re-use of existing buffers and images
+        final int[] buffer = pixels.get(0);
+        assertSame(buffer, renderers.get(0).render(buffer));
+        final WritableImage image = renderers.get(1).render(new WritableImage(WIDTH, HEIGHT));
+        assertEquals(WIDTH, (int) image.getWidth());
+        assertEquals(HEIGHT, (int) image.getHeight());
+        assertSame(image, renderers.get(1).render(image));
+    }
+
+    private static XYChart getChart(final DoubleDataSet dataSet) {
+        final XYChart chart = new XYChart(new DefaultNumericAxis("x"), new DefaultNumericAxis("y"));
+        chart.getDatasets().add(dataSet);
+        return chart;
+    }
+}
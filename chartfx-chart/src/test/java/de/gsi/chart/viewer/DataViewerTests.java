@@ -20,9 +20,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.framework.junit5.Start;
 
+import de.gsi.chart.XYChart;
+import de.gsi.chart.axes.spi.DefaultNumericAxis;
 import de.gsi.chart.ui.utils.JavaFXInterceptorUtils.SelectiveJavaFxInterceptor;
 import de.gsi.chart.ui.utils.TestFx;
 import de.gsi.chart.viewer.DataViewWindow.WindowDecoration;
+import de.gsi.dataset.spi.DoubleDataSet;
 
 /**
  * Tests {@link de.gsi.chart.viewer.DataViewer }
@@ -89,4 +92,33 @@ public class DataViewerTests {
 
         dataViewer.setSelectedView((DataView) null);
     }
+
+    @TestFx
+    public void testRenderCoordinator() {
+        final ChartRenderCoordinator coordinator = dataViewer.getRenderCoordinator();
+        assertNotNull(coordinator);
+        assertEquals(dataViewer, coordinator.getRoot());
+        assertTrue(coordinator.isEnabled());
+        assertThrows(IllegalArgumentException.class, () -> new ChartRenderCoordinator(null));
+
+        final XYChart chart1 = new XYChart(new DefaultNumericAxis(), new DefaultNumericAxis());
+        final XYChart chart2 = new XYChart(new DefaultNumericAxis(), new DefaultNumericAxis());
+        final DoubleDataSet dataSet = new DoubleDataSet("shared data set");
+        dataSet.add(0.0, 1.0).add(1.0, 2.0);
+        chart1.getDatasets().add(dataSet);
+        chart2.getDatasets().add(dataSet);
+        dataViewer.setSelectedView(dataView1);
+        dataView1.getVisibleChildren().addAll(new DataViewWindow("chart1", chart1), new DataViewWindow("chart2", new BorderPane(chart2)));
+        assertEquals(2, coordinator.getCharts().size());
+
+        chart1.requestLayout();
+        chart2.requestLayout();
+        assertEquals(2, coordinator.prepare());
+
+        coordinator.setEnabled(false);
+        assertFalse(coordinator.isEnabled());
+        coordinator.setEnabled(true);
+        assertNotNull(coordinator.getPulseStatistics());
+        assertNotNull(coordinator.getPulseStatistics().toString());
+    }
 }
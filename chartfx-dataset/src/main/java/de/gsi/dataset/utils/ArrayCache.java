@@ -1,7 +1,7 @@
 package de.gsi.dataset.utils;
 
-import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Simple cache for large recurring primitive arrays, e.g. to be used in functions where often large temporary arrays
@@ -20,20 +20,21 @@ import java.util.concurrent.ConcurrentHashMap;
  * ArrayCache.release(UNIQUE_IDENTIFIER, 100);
  * </pre>
  * 
- * N.B. for other simple caching needs see @see Cache
+ * N.B. the arrays are pooled per unique name in power-of-two size-class {@link SizeClassArrayCache}s, i.e. without
+ * global locks, and are returned with the exact requested size. For other simple caching needs see @see Cache
  * 
  * @author rstein
  *
  */
 public final class ArrayCache { // NOPMD nomen est omen
-    private static ConcurrentHashMap<String, WeakHashMap<Integer, boolean[]>> booleanArrayCache = new ConcurrentHashMap<>();
-    private static ConcurrentHashMap<String, WeakHashMap<Integer, byte[]>> byteArrayCache = new ConcurrentHashMap<>();
-    private static ConcurrentHashMap<String, WeakHashMap<Integer, double[]>> doubleArrayCache = new ConcurrentHashMap<>();
-    private static ConcurrentHashMap<String, WeakHashMap<Integer, float[]>> floatArrayCache = new ConcurrentHashMap<>();
-    private static ConcurrentHashMap<String, WeakHashMap<Integer, int[]>> intArrayCache = new ConcurrentHashMap<>();
-    private static ConcurrentHashMap<String, WeakHashMap<Integer, long[]>> longArrayCache = new ConcurrentHashMap<>();
-    private static ConcurrentHashMap<String, WeakHashMap<Integer, short[]>> shortArrayCache = new ConcurrentHashMap<>(); // NOPMD
-    private static ConcurrentHashMap<String, WeakHashMap<Integer, String[]>> stringArrayCache = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, SizeClassArrayCache<boolean[]>> booleanArrayCache = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, SizeClassArrayCache<byte[]>> byteArrayCache = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, SizeClassArrayCache<double[]>> doubleArrayCache = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, SizeClassArrayCache<float[]>> floatArrayCache = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, SizeClassArrayCache<int[]>> intArrayCache = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, SizeClassArrayCache<long[]>> longArrayCache = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, SizeClassArrayCache<short[]>> shortArrayCache = new ConcurrentHashMap<>(); // NOPMD
+    private static final ConcurrentMap<String, SizeClassArrayCache<String[]>> stringArrayCache = new ConcurrentHashMap<>();
 
     private ArrayCache() {
         // static helper class
@@ -51,17 +52,7 @@ public final class ArrayCache { // NOPMD nomen est omen
      * @return cached copy (N.B. removed from internal HashMap)
      */
     public static boolean[] getCachedBooleanArray(final String arrayName, final int size) {
-        synchronized (booleanArrayCache) {
-            final WeakHashMap<Integer, boolean[]> nameHashMap = booleanArrayCache.computeIfAbsent(arrayName,
-                    key -> new WeakHashMap<>());
-            boolean[] cachedArray = nameHashMap.get(size);
-            if (cachedArray == null) {
-                cachedArray = new boolean[size];
-            } else {
-                booleanArrayCache.get(arrayName).remove(size);
-            }
-            return cachedArray;
-        }
+        return booleanArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(boolean[]::new, array -> array.length)).getArrayExact(size);
     }
 
     /**
@@ -76,17 +67,7 @@ public final class ArrayCache { // NOPMD nomen est omen
      * @return cached copy (N.B. removed from internal HashMap)
      */
     public static byte[] getCachedByteArray(final String arrayName, final int size) {
-        synchronized (byteArrayCache) {
-            final WeakHashMap<Integer, byte[]> nameHashMap = byteArrayCache.computeIfAbsent(arrayName,
-                    key -> new WeakHashMap<>());
-            byte[] cachedArray = nameHashMap.get(size);
-            if (cachedArray == null) {
-                cachedArray = new byte[size];
-            } else {
-                byteArrayCache.get(arrayName).remove(size);
-            }
-            return cachedArray;
-        }
+        return byteArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(byte[]::new, array -> array.length)).getArrayExact(size);
     }
 
     /**
@@ -101,17 +82,7 @@ public final class ArrayCache { // NOPMD nomen est omen
      * @return cached copy (N.B. removed from internal HashMap)
      */
     public static double[] getCachedDoubleArray(final String arrayName, final int size) {
-        synchronized (doubleArrayCache) {
-            final WeakHashMap<Integer, double[]> nameHashMap = doubleArrayCache.computeIfAbsent(arrayName,
-                    key -> new WeakHashMap<>());
-            double[] cachedArray = nameHashMap.get(size);
-            if (cachedArray == null) {
-                cachedArray = new double[size];
-            } else {
-                doubleArrayCache.get(arrayName).remove(size);
-            }
-            return cachedArray;
-        }
+        return doubleArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(double[]::new, array -> array.length)).getArrayExact(size);
     }
 
     /**
@@ -126,17 +97,7 @@ public final class ArrayCache { // NOPMD nomen est omen
      * @return cached copy (N.B. removed from internal HashMap)
      */
     public static float[] getCachedFloatArray(final String arrayName, final int size) {
-        synchronized (floatArrayCache) {
-            final WeakHashMap<Integer, float[]> nameHashMap = floatArrayCache.computeIfAbsent(arrayName,
-                    key -> new WeakHashMap<>());
-            float[] cachedArray = nameHashMap.get(size);
-            if (cachedArray == null) {
-                cachedArray = new float[size];
-            } else {
-                floatArrayCache.get(arrayName).remove(size);
-            }
-            return cachedArray;
-        }
+        return floatArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(float[]::new, array -> array.length)).getArrayExact(size);
     }
 
     /**
@@ -151,17 +112,7 @@ public final class ArrayCache { // NOPMD nomen est omen
      * @return cached copy (N.B. removed from internal HashMap)
      */
     public static int[] getCachedIntArray(final String arrayName, final int size) {
-        synchronized (intArrayCache) {
-            final WeakHashMap<Integer, int[]> nameHashMap = intArrayCache.computeIfAbsent(arrayName,
-                    key -> new WeakHashMap<>());
-            int[] cachedArray = nameHashMap.get(size);
-            if (cachedArray == null) {
-                cachedArray = new int[size];
-            } else {
-                intArrayCache.get(arrayName).remove(size);
-            }
-            return cachedArray;
-        }
+        return intArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(int[]::new, array -> array.length)).getArrayExact(size);
     }
 
     /**
@@ -176,17 +127,7 @@ public final class ArrayCache { // NOPMD nomen est omen
      * @return cached copy (N.B. removed from internal HashMap)
      */
     public static long[] getCachedLongArray(final String arrayName, final int size) {
-        synchronized (longArrayCache) {
-            final WeakHashMap<Integer, long[]> nameHashMap = longArrayCache.computeIfAbsent(arrayName,
-                    key -> new WeakHashMap<>());
-            long[] cachedArray = nameHashMap.get(size);
-            if (cachedArray == null) {
-                cachedArray = new long[size];
-            } else {
-                longArrayCache.get(arrayName).remove(size);
-            }
-            return cachedArray;
-        }
+        return longArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(long[]::new, array -> array.length)).getArrayExact(size);
     }
 
     /**
@@ -201,17 +142,7 @@ public final class ArrayCache { // NOPMD nomen est omen
      * @return cached copy (N.B. removed from internal HashMap)
      */
     public static short[] getCachedShortArray(final String arrayName, final int size) {
-        synchronized (shortArrayCache) {
-            final WeakHashMap<Integer, short[]> nameHashMap = shortArrayCache.computeIfAbsent(arrayName,
-                    key -> new WeakHashMap<>());
-            short[] cachedArray = nameHashMap.get(size);
-            if (cachedArray == null) {
-                cachedArray = new short[size];
-            } else {
-                shortArrayCache.get(arrayName).remove(size);
-            }
-            return cachedArray;
-        }
+        return shortArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(short[]::new, array -> array.length)).getArrayExact(size);
     }
 
     /**
@@ -226,17 +157,7 @@ public final class ArrayCache { // NOPMD nomen est omen
      * @return cached copy (N.B. removed from internal HashMap)
      */
     public static String[] getCachedStringArray(final String arrayName, final int size) {
-        synchronized (stringArrayCache) {
-            final WeakHashMap<Integer, String[]> nameHashMap = stringArrayCache.computeIfAbsent(arrayName,
-                    key -> new WeakHashMap<>());
-            String[] cachedArray = nameHashMap.get(size);
-            if (cachedArray == null) {
-                cachedArray = new String[size];
-            } else {
-                stringArrayCache.get(arrayName).remove(size);
-            }
-            return cachedArray;
-        }
+        return stringArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(String[]::new, array -> array.length)).getArrayExact(size);
     }
 
     /**
@@ -249,7 +170,7 @@ public final class ArrayCache { // NOPMD nomen est omen
         if (cachedArray == null) {
             return;
         }
-        booleanArrayCache.get(arrayName).put(cachedArray.length, cachedArray);
+        booleanArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(boolean[]::new, array -> array.length)).add(cachedArray);
     }
 
     /**
@@ -262,7 +183,7 @@ public final class ArrayCache { // NOPMD nomen est omen
         if (cachedArray == null) {
             return;
         }
-        byteArrayCache.get(arrayName).put(cachedArray.length, cachedArray);
+        byteArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(byte[]::new, array -> array.length)).add(cachedArray);
     }
 
     /**
@@ -275,7 +196,7 @@ public final class ArrayCache { // NOPMD nomen est omen
         if (cachedArray == null) {
             return;
         }
-        doubleArrayCache.get(arrayName).put(cachedArray.length, cachedArray);
+        doubleArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(double[]::new, array -> array.length)).add(cachedArray);
     }
 
     /**
@@ -288,7 +209,7 @@ public final class ArrayCache { // NOPMD nomen est omen
         if (cachedArray == null) {
             return;
         }
-        floatArrayCache.get(arrayName).put(cachedArray.length, cachedArray);
+        floatArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(float[]::new, array -> array.length)).add(cachedArray);
     }
 
     /**
@@ -301,7 +222,7 @@ public final class ArrayCache { // NOPMD nomen est omen
         if (cachedArray == null) {
             return;
         }
-        intArrayCache.get(arrayName).put(cachedArray.length, cachedArray);
+        intArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(int[]::new, array -> array.length)).add(cachedArray);
     }
 
     /**
@@ -314,7 +235,7 @@ public final class ArrayCache { // NOPMD nomen est omen
         if (cachedArray == null) {
             return;
         }
-        longArrayCache.get(arrayName).put(cachedArray.length, cachedArray);
+        longArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(long[]::new, array -> array.length)).add(cachedArray);
     }
 
     /**
@@ -327,7 +248,7 @@ public final class ArrayCache { // NOPMD nomen est omen
         if (cachedArray == null) {
             return;
         }
-        shortArrayCache.get(arrayName).put(cachedArray.length, cachedArray);
+        shortArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(short[]::new, array -> array.length)).add(cachedArray);
     }
 
     /**
@@ -340,6 +261,6 @@ public final class ArrayCache { // NOPMD nomen est omen
         if (cachedArray == null) {
             return;
         }
-        stringArrayCache.get(arrayName).put(cachedArray.length, cachedArray);
+        stringArrayCache.computeIfAbsent(arrayName, key -> new SizeClassArrayCache<>(String[]::new, array -> array.length)).add(cachedArray);
     }
 }
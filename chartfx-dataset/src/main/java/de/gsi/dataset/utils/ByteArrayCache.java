@@ -1,7 +1,5 @@
 package de.gsi.dataset.utils;
 
-import java.lang.ref.Reference;
-
 /**
  * Implements byte-array (byte[]) cache collection to minimise memory re-allocation.
  *  
@@ -31,52 +29,18 @@ import java.lang.ref.Reference;
  *  }
  * </pre>
  *  
+ * <p>
+ * N.B. the implementation is based on the power-of-two size-class {@link SizeClassArrayCache} using thread-local
+ * magazines and a shared lock-free depot. Hit, miss and eviction statistics are available for tuning.
+ *
  * @author rstein
  *
  */
-public class ByteArrayCache extends CacheCollection<byte[]> {
+public class ByteArrayCache extends SizeClassArrayCache<byte[]> {
     private static final ByteArrayCache SELF = new ByteArrayCache();
 
-    public byte[] getArray(final int requiredSize) {
-        return getArray(requiredSize, false);
-    }
-
-    public byte[] getArrayExact(final int requiredSize) {
-        return getArray(requiredSize, true);
-    }
-
-    private byte[] getArray(final int requiredSize, final boolean exact) {
-        synchronized (contents) {
-            byte[] bestFit = null;
-            int bestFitSize = Integer.MAX_VALUE;
-
-            for (final Reference<byte[]> candidate : contents) {
-                final byte[] localRef = candidate.get();
-                if (localRef == null) {
-                    continue;
-                }
-
-                final int sizeDiff = localRef.length - requiredSize;
-                if (sizeDiff == 0) {
-                    bestFit = localRef;
-                    break;
-                }
-
-                if (sizeDiff > 0 && sizeDiff < bestFitSize && !exact) {
-                    bestFitSize = sizeDiff;
-                    bestFit = localRef;
-                }
-            }
-
-            if (bestFit == null) {
-                // could not find any cached, return new byte[]
-                bestFit = new byte[requiredSize];
-                return bestFit;
-            }
-
-            remove(bestFit);
-            return bestFit;
-        }
+    public ByteArrayCache() {
+        super(byte[]::new, array -> array.length);
     }
 
     public static ByteArrayCache getInstance() {
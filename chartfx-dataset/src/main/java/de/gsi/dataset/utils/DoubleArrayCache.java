@@ -1,7 +1,5 @@
 package de.gsi.dataset.utils;
 
-import java.lang.ref.Reference;
-
 /**
  * Implements double-array (double[]) cache collection to minimise memory re-allocation.
  *  
@@ -31,52 +29,18 @@ import java.lang.ref.Reference;
  *  }
  * </pre>
  *  
+ * <p>
+ * N.B. the implementation is based on the power-of-two size-class {@link SizeClassArrayCache} using thread-local
+ * magazines and a shared lock-free depot. Hit, miss and eviction statistics are available for tuning.
+ *
  * @author rstein
  *
  */
-public class DoubleArrayCache extends CacheCollection<double[]> {
+public class DoubleArrayCache extends SizeClassArrayCache<double[]> {
     private static final DoubleArrayCache SELF = new DoubleArrayCache();
 
-    public double[] getArray(final int requiredSize) {
-        return getArray(requiredSize, false);
-    }
-
-    public double[] getArrayExact(final int requiredSize) {
-        return getArray(requiredSize, true);
-    }
-
-    private double[] getArray(final int requiredSize, final boolean exact) {
-        synchronized (contents) {
-            double[] bestFit = null;
-            int bestFitSize = Integer.MAX_VALUE;
-
-            for (final Reference<double[]> candidate : contents) {
-                final double[] localRef = candidate.get();
-                if (localRef == null) {
-                    continue;
-                }
-
-                final int sizeDiff = localRef.length - requiredSize;
-                if (sizeDiff == 0) {
-                    bestFit = localRef;
-                    break;
-                }
-
-                if (sizeDiff > 0 && sizeDiff < bestFitSize && !exact) {
-                    bestFitSize = sizeDiff;
-                    bestFit = localRef;
-                }
-            }
-
-            if (bestFit == null) {
-                // could not find any cached, return new double[]
-                bestFit = new double[requiredSize];
-                return bestFit;
-            }
-
-            remove(bestFit);
-            return bestFit;
-        }
+    public DoubleArrayCache() {
+        super(double[]::new, array -> array.length);
     }
 
     public static DoubleArrayCache getInstance() {
@@ -0,0 +1,514 @@
+package de.gsi.dataset.utils;
+
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Array cache collection that bins the cached arrays into power-of-two size classes.
+ * <p>
+ * Each thread owns a small 'magazine' per size class that is used first for both {@link #getArray} and {@link #add}
+ * calls and that is -- apart from the rare inspection through the {@link java.util.Collection} interface -- only touched
+ * by the owning thread. Magazine overflows are spilled to a shared lock-free 'depot' that is used to balance arrays
+ * between producing and consuming threads. Arrays that do not fit into the depot are dropped and counted as evictions.
+ * As for {@link CacheCollection}, arrays are held via {@link SoftReference}s and may thus be reclaimed by the garbage
+ * collector under memory pressure.
+ * <p>
+ * Size class {@code k} contains arrays with a length in the range [2^(k-1), 2^k). A request for {@code n} elements is
+ * served from the best-fitting array in the class of {@code n}, or -- if not exact -- the next larger class, which
+ * limits the returned array to less than four times the requested size. Newly allocated arrays have exactly the
+ * requested length.
+ * <p>
+ * Arrays that are already cached (in any thread's magazine or the depot) are rejected by {@link #add}, ie. an array
+ * that is released twice -- also by different threads -- is never handed out to two callers. The membership is tracked
+ * in a lock-free identity set so that neither {@link #add} nor {@link #getArray} need to lock or scan other threads'
+ * magazines. N.B. the depot is only probed at its head, arrays that do not fit the request are re-queued at its tail.
+ *
+ * @param <T> generic for array type to be cached.
+ */
+public class SizeClassArrayCache<T> extends CacheCollection<T> {
+    protected static final int N_SIZE_CLASSES = Integer.SIZE + 1;
+    protected static final int DEFAULT_MAGAZINE_SIZE = 8;
+    protected static final int DEFAULT_DEPOT_SIZE = 64;
+    private final IntFunction<T> allocator;
+    private final ToIntFunction<T> lengthFunction;
+    private final int magazineSize;
+    private final int depotSize;
+    private final List<Magazine<T>> magazines = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Magazine<T>> localMagazine = ThreadLocal.withInitial(this::newMagazine);
+    @SuppressWarnings("unchecked")
+    private final Queue<CachedReference<T>>[] depot = new Queue[N_SIZE_CLASSES];
+    private final AtomicIntegerArray depotCount = new AtomicIntegerArray(N_SIZE_CLASSES);
+    private final Set<CachedReference<T>> cached = ConcurrentHashMap.newKeySet(); // identity-based membership
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * @param allocator function to allocate a new array of given size, e.g. {@code double[]::new}
+     * @param lengthFunction function returning the length of a given array, e.g. {@code array -> array.length}
+     */
+    public SizeClassArrayCache(final IntFunction<T> allocator, final ToIntFunction<T> lengthFunction) {
+        this(allocator, lengthFunction, DEFAULT_MAGAZINE_SIZE, DEFAULT_DEPOT_SIZE);
+    }
+
+    /**
+     * @param allocator function to allocate a new array of given size, e.g. {@code double[]::new}
+     * @param lengthFunction function returning the length of a given array, e.g. {@code array -> array.length}
+     * @param magazineSize maximum number of arrays per size class that are kept thread-locally
+     * @param depotSize maximum number of arrays per size class that are kept in the shared depot
+     */
+    public SizeClassArrayCache(final IntFunction<T> allocator, final ToIntFunction<T> lengthFunction, final int magazineSize, final int depotSize) {
+        super();
+        AssertUtils.notNull("allocator", allocator);
+        AssertUtils.notNull("lengthFunction", lengthFunction);
+        AssertUtils.gtThanZero("magazineSize", magazineSize);
+        AssertUtils.gtEqThanZero("depotSize", depotSize);
+        this.allocator = allocator;
+        this.lengthFunction = lengthFunction;
+        this.magazineSize = magazineSize;
+        this.depotSize = depotSize;
+        for (int i = 0; i < N_SIZE_CLASSES; i++) {
+            depot[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    @Override
+    public boolean add(final T recoveredObject) {
+        if (recoveredObject == null) {
+            return false;
+        }
+        final CachedReference<T> ref = new CachedReference<>(recoveredObject);
+        if (!cached.add(ref)) {
+            // already cached by this or another thread
+            return false;
+        }
+        final int sizeClass = getSizeClass(lengthFunction.applyAsInt(recoveredObject));
+        final Magazine<T> localMag = localMagazine.get();
+        synchronized (localMag) {
+            if (localMag.count[sizeClass] >= magazineSize) {
+                // spill older half of the local magazine to the shared depot
+                final int nSpill = Math.max(1, magazineSize / 2);
+                for (int i = 0; i < nSpill; i++) {
+                    pushToDepot(sizeClass, localMag.removeAt(sizeClass, 0));
+                }
+            }
+            localMag.push(sizeClass, ref);
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        for (final Magazine<T> magazine : magazines) {
+            synchronized (magazine) {
+                magazine.clear();
+            }
+        }
+        for (int i = 0; i < N_SIZE_CLASSES; i++) {
+            CachedReference<T> ref;
+            while ((ref = depot[i].poll()) != null) {
+                depotCount.decrementAndGet(i);
+                ref.clear();
+            }
+        }
+        cached.clear();
+    }
+
+    @Override
+    public boolean contains(final Object object) {
+        return object != null && cached.contains(new CachedReference<>(object));
+    }
+
+    /**
+     * @param requiredSize minimum required array size
+     * @return cached array with {@code length >= requiredSize} or newly allocated array of length {@code requiredSize}
+     */
+    public T getArray(final int requiredSize) {
+        return getArray(requiredSize, false);
+    }
+
+    /**
+     * @param requiredSize required array size
+     * @return cached or newly allocated array with {@code length == requiredSize}
+     */
+    public T getArrayExact(final int requiredSize) {
+        return getArray(requiredSize, true);
+    }
+
+    /**
+     * @return number of cache look-ups that could not be served from the cache, i.e. required a new allocation
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * @return number of cache look-ups that were served from the cache
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return number of arrays that were dropped either because the depot was full or because their soft reference
+     *         had been cleared by the garbage collector
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        final List<T> snapshot = new ArrayList<>();
+        for (final Magazine<T> magazine : magazines) {
+            synchronized (magazine) {
+                magazine.collect(snapshot);
+            }
+        }
+        for (int i = 0; i < N_SIZE_CLASSES; i++) {
+            for (final CachedReference<T> ref : depot[i]) {
+                final T array = ref.get();
+                if (array != null) {
+                    snapshot.add(array);
+                }
+            }
+        }
+        return new SnapshotIterator(snapshot.iterator());
+    }
+
+    @Override
+    public boolean remove(final Object object) {
+        if (object == null) {
+            return false;
+        }
+        for (final Magazine<T> magazine : magazines) {
+            synchronized (magazine) {
+                for (int i = 0; i < N_SIZE_CLASSES; i++) {
+                    final int index = magazine.indexOf(i, object);
+                    if (index >= 0) {
+                        cached.remove(magazine.removeAt(i, index));
+                        return true;
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < N_SIZE_CLASSES; i++) {
+            for (final CachedReference<T> ref : depot[i]) {
+                if (ref.get() == object && depot[i].remove(ref)) { // NOPMD -- identity check on purpose
+                    depotCount.decrementAndGet(i);
+                    cached.remove(ref);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * resets the hit, miss and eviction counters
+     */
+    public void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+    }
+
+    @Override
+    public int size() {
+        cleanup();
+        int size = 0;
+        for (final Magazine<T> magazine : magazines) {
+            synchronized (magazine) {
+                for (int i = 0; i < N_SIZE_CLASSES; i++) {
+                    size += magazine.count[i];
+                }
+            }
+        }
+        for (int i = 0; i < N_SIZE_CLASSES; i++) {
+            size += depot[i].size();
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + ']';
+    }
+
+    @Override
+    protected void cleanup() {
+        for (final Magazine<T> magazine : magazines) {
+            synchronized (magazine) {
+                magazine.purge(cached);
+                if (magazine.owner.get() == null) {
+                    // owning thread terminated -> hand the remaining arrays over to the shared depot
+                    for (int i = 0; i < N_SIZE_CLASSES; i++) {
+                        while (magazine.count[i] > 0) {
+                            pushToDepot(i, magazine.removeAt(i, magazine.count[i] - 1));
+                        }
+                    }
+                    magazines.remove(magazine);
+                }
+            }
+        }
+        for (int i = 0; i < N_SIZE_CLASSES; i++) {
+            for (final CachedReference<T> ref : depot[i]) {
+                if (ref.get() == null && depot[i].remove(ref)) {
+                    depotCount.decrementAndGet(i);
+                    cached.remove(ref);
+                    evictionCount.increment();
+                }
+            }
+        }
+    }
+
+    private T getArray(final int requiredSize, final boolean exact) {
+        final int sizeClass = getSizeClass(requiredSize);
+        final int lastClass = exact ? sizeClass : Math.min(sizeClass + 1, N_SIZE_CLASSES - 1);
+        final Magazine<T> magazine = localMagazine.get();
+        T array = null;
+        synchronized (magazine) {
+            for (int i = sizeClass; i <= lastClass && array == null; i++) {
+                final CachedReference<T> ref = magazine.take(i, requiredSize, exact, lengthFunction);
+                if (ref != null) {
+                    cached.remove(ref);
+                    array = ref.get();
+                }
+            }
+        }
+        for (int i = sizeClass; i <= lastClass && array == null; i++) {
+            array = takeFromDepot(i, requiredSize, exact);
+        }
+
+        if (array == null) {
+            missCount.increment();
+            return allocator.apply(requiredSize);
+        }
+        hitCount.increment();
+        return array;
+    }
+
+    private Magazine<T> newMagazine() {
+        final Magazine<T> magazine = new Magazine<>(Thread.currentThread(), magazineSize);
+        magazines.add(magazine);
+        return magazine;
+    }
+
+    private void pushToDepot(final int sizeClass, final CachedReference<T> ref) {
+        if (ref == null) {
+            return;
+        }
+        if (ref.get() == null) {
+            cached.remove(ref);
+            evictionCount.increment();
+            return;
+        }
+        if (depotCount.incrementAndGet(sizeClass) > depotSize) {
+            depotCount.decrementAndGet(sizeClass);
+            cached.remove(ref);
+            ref.clear();
+            evictionCount.increment();
+            return;
+        }
+        depot[sizeClass].offer(ref);
+    }
+
+    private T takeFromDepot(final int sizeClass, final int requiredSize, final boolean exact) {
+        final Queue<CachedReference<T>> queue = depot[sizeClass];
+        CachedReference<T> ref;
+        while ((ref = queue.poll()) != null) {
+            final T array = ref.get();
+            if (array != null) {
+                final int length = lengthFunction.applyAsInt(array);
+                if (length == requiredSize || (!exact && length > requiredSize)) {
+                    depotCount.decrementAndGet(sizeClass);
+                    cached.remove(ref);
+                    return array;
+                }
+                // does not fit -> re-queue at the tail, ie. probe only the head of the depot
+                queue.offer(ref);
+                return null;
+            }
+            // cleared by the garbage collector
+            depotCount.decrementAndGet(sizeClass);
+            cached.remove(ref);
+            evictionCount.increment();
+        }
+        return null;
+    }
+
+    /**
+     * @param length array length
+     * @return size class index {@code k} with {@code 2^(k-1) <= length < 2^k} (0 for zero-length arrays)
+     */
+    protected static int getSizeClass(final int length) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(0, length));
+    }
+
+    /**
+     * soft reference with identity-based (referent) equality, used for the lock-free membership check
+     *
+     * @param <T> generic for array type to be cached.
+     */
+    private static class CachedReference<T> extends SoftReference<T> {
+        private final int hashCode;
+
+        private CachedReference(final T referent) {
+            super(referent);
+            hashCode = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CachedReference)) {
+                return false;
+            }
+            final Object referent = get();
+            return referent != null && referent == ((CachedReference<?>) obj).get(); // NOPMD -- identity check on purpose
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static class Magazine<T> {
+        private final WeakReference<Thread> owner;
+        private final int capacity;
+        @SuppressWarnings("unchecked")
+        private final CachedReference<T>[][] slots = new CachedReference[N_SIZE_CLASSES][];
+        private final int[] count = new int[N_SIZE_CLASSES];
+
+        private Magazine(final Thread owner, final int capacity) {
+            this.owner = new WeakReference<>(owner);
+            this.capacity = capacity;
+        }
+
+        private void clear() {
+            for (int i = 0; i < N_SIZE_CLASSES; i++) {
+                while (count[i] > 0) {
+                    removeAt(i, count[i] - 1).clear();
+                }
+            }
+        }
+
+        private void collect(final List<T> list) {
+            for (int i = 0; i < N_SIZE_CLASSES; i++) {
+                for (int j = 0; j < count[i]; j++) {
+                    final T array = slots[i][j].get();
+                    if (array != null) {
+                        list.add(array);
+                    }
+                }
+            }
+        }
+
+        private int indexOf(final int sizeClass, final Object object) {
+            for (int j = 0; j < count[sizeClass]; j++) {
+                if (slots[sizeClass][j].get() == object) { // NOPMD -- identity check on purpose
+                    return j;
+                }
+            }
+            return -1;
+        }
+
+        private void purge(final Set<CachedReference<T>> cached) {
+            for (int i = 0; i < N_SIZE_CLASSES; i++) {
+                for (int j = count[i] - 1; j >= 0; j--) {
+                    if (slots[i][j].get() == null) {
+                        cached.remove(removeAt(i, j));
+                    }
+                }
+            }
+        }
+
+        private void push(final int sizeClass, final CachedReference<T> ref) {
+            if (slots[sizeClass] == null) {
+                @SuppressWarnings("unchecked")
+                final CachedReference<T>[] newSlots = new CachedReference[capacity];
+                slots[sizeClass] = newSlots;
+            }
+            slots[sizeClass][count[sizeClass]++] = ref;
+        }
+
+        private CachedReference<T> removeAt(final int sizeClass, final int index) {
+            final CachedReference<T>[] classSlots = slots[sizeClass];
+            final CachedReference<T> ref = classSlots[index];
+            final int last = --count[sizeClass];
+            System.arraycopy(classSlots, index + 1, classSlots, index, last - index);
+            classSlots[last] = null;
+            return ref;
+        }
+
+        private CachedReference<T> take(final int sizeClass, final int requiredSize, final boolean exact, final ToIntFunction<T> lengthFunction) {
+            int bestIndex = -1;
+            int bestFitSize = Integer.MAX_VALUE;
+            // search from most recently added to favour cache-warm arrays
+            for (int j = count[sizeClass] - 1; j >= 0; j--) {
+                final T candidate = slots[sizeClass][j].get();
+                if (candidate == null) {
+                    continue;
+                }
+                final int sizeDiff = lengthFunction.applyAsInt(candidate) - requiredSize;
+                if (sizeDiff == 0) {
+                    bestIndex = j;
+                    break;
+                }
+                if (sizeDiff > 0 && sizeDiff < bestFitSize && !exact) {
+                    bestFitSize = sizeDiff;
+                    bestIndex = j;
+                }
+            }
+            return bestIndex >= 0 ? removeAt(sizeClass, bestIndex) : null;
+        }
+    }
+
+    private class SnapshotIterator implements Iterator<T> {
+        private final Iterator<T> iterator;
+        private T last;
+
+        private SnapshotIterator(final Iterator<T> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!iterator.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = iterator.next();
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException("next() has not been called");
+            }
+            SizeClassArrayCache.this.remove(last);
+            last = null;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package de.gsi.dataset.utils;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests implementation of {@link de.gsi.dataset.utils.SizeClassArrayCache}.
+ */
+public class SizeClassArrayCacheTests {
+    @Test
+    public void testSizeClasses() {
+        assertEquals(0, SizeClassArrayCache.getSizeClass(0));
+        assertEquals(1, SizeClassArrayCache.getSizeClass(1));
+        assertEquals(2, SizeClassArrayCache.getSizeClass(2));
+        assertEquals(2, SizeClassArrayCache.getSizeClass(3));
+        assertEquals(11, SizeClassArrayCache.getSizeClass(1024));
+        assertEquals(11, SizeClassArrayCache.getSizeClass(2047));
+        assertEquals(31, SizeClassArrayCache.getSizeClass(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testDuplicateReleaseByDifferentThreads() throws Exception {
+        final SizeClassArrayCache<double[]> cache = new SizeClassArrayCache<>(double[]::new, array -> array.length);
+        final double[] array = new double[1000];
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        assertTrue(executor.submit(() -> cache.add(array)).get());
+        assertFalse(cache.add(array), "already released by another thread");
+        assertFalse(executor.submit(() -> cache.add(array)).get(), "duplicate add");
+
+        // the array is handed out only once
+        final double[] first = cache.getArray(1000);
+        final double[] second = executor.submit(() -> cache.getArray(1000)).get();
+        assertTrue(first == array ^ second == array); // NOPMD -- identity check on purpose
+        assertEquals(0, cache.size());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testGetArrayAndStatistics() {
+        final SizeClassArrayCache<double[]> cache = new SizeClassArrayCache<>(double[]::new, array -> array.length);
+        assertThrows(IllegalArgumentException.class, () -> new SizeClassArrayCache<double[]>(null, array -> array.length));
+        assertThrows(IllegalArgumentException.class, () -> new SizeClassArrayCache<>(double[]::new, array -> array.length, 0, 1));
+
+        final double[] first = cache.getArray(1000);
+        assertEquals(1000, first.length);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        assertTrue(cache.add(first));
+        assertFalse(cache.add(first), "duplicate add");
+        assertSame(first, cache.getArray(900), "same size class");
+        assertEquals(1, cache.getHitCount());
+
+        cache.add(first);
+        assertSame(first, cache.getArray(600), "next smaller size class");
+        cache.add(first);
+        assertNotSame(first, cache.getArray(200), "more than one size class apart");
+        assertNotSame(first, cache.getArray(1001), "array too small");
+        assertNotSame(first, cache.getArrayExact(900), "not exact");
+        assertSame(first, cache.getArrayExact(1000), "exact");
+        assertEquals(3, cache.getHitCount());
+        assertEquals(4, cache.getMissCount());
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        assertEquals(0, cache.getEvictionCount());
+        assertDoesNotThrow(cache::toString);
+    }
+
+    @Test
+    public void testMagazineOverflow() {
+        final int magazineSize = 4;
+        final int depotSize = 4;
+        final SizeClassArrayCache<int[]> cache = new SizeClassArrayCache<>(int[]::new, array -> array.length, magazineSize, depotSize);
+        final List<int[]> arrays = new ArrayList<>();
+        for (int i = 0; i < 2 * (magazineSize + depotSize); i++) {
+            final int[] array = new int[100];
+            arrays.add(array);
+            assertTrue(cache.add(array));
+        }
+        assertEquals(magazineSize + depotSize, cache.size());
+        assertEquals(arrays.size() - magazineSize - depotSize, cache.getEvictionCount());
+        for (int i = 0; i < magazineSize + depotSize; i++) {
+            assertEquals(100, cache.getArray(100).length);
+        }
+        assertEquals(magazineSize + depotSize, cache.getHitCount());
+        assertEquals(0, cache.size());
+
+        final int[] array = new int[10];
+        cache.add(array);
+        assertTrue(cache.contains(array));
+        assertTrue(cache.remove(array));
+        assertFalse(cache.contains(array));
+    }
+
+    @Test
+    public void testMultiThreaded() throws Exception {
+        final SizeClassArrayCache<double[]> cache = new SizeClassArrayCache<>(double[]::new, array -> array.length);
+        final int nThreads = 4;
+        final int nIterations = 10_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+        final List<Future<Boolean>> results = new ArrayList<>();
+        for (int thread = 0; thread < nThreads; thread++) {
+            results.add(executor.submit(() -> {
+                for (int i = 0; i < nIterations; i++) {
+                    final int size = 100 + (i % 50);
+                    final double[] array = cache.getArray(size);
+                    if (array.length < size) {
+                        return false;
+                    }
+                    cache.add(array);
+                }
+                return true;
+            }));
+        }
+        for (final Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+
+        assertEquals((long) nThreads * nIterations, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.getHitCount() > cache.getMissCount(), "hit/miss ratio: " + cache);
+
+        // arrays remain accessible after the worker threads terminated
+        final int size = cache.size();
+        assertTrue(size > 0);
+        assertEquals(size, cache.size());
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+}
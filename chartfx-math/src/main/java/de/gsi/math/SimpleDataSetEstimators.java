@@ -374,6 +374,13 @@ public final class SimpleDataSetEstimators { // NOPMD name is as is (ie. no Help
         return Double.NaN;
     }
 
+    /**
+     * @param dataSet input dataset
+     * @param indexMin min index
+     * @param indexMax max index
+     * @return median of the y data between the given indices, ie. the mean of the two central values for an even number
+     *         of samples (same as {@link StreamingDataSetEstimators#getMedian})
+     */
     public static double getMedian(final DataSet dataSet, final int indexMin, final int indexMax) {
         final double[] data = SimpleDataSetEstimators.getDoubleArray(dataSet, indexMin, indexMax);
         if (data.length == 0) {
@@ -577,7 +584,7 @@ public final class SimpleDataSetEstimators { // NOPMD name is as is (ie. no Help
         final double[] temp = SimpleDataSetEstimators.sort(data, length, false);
 
         if (length % 2 == 0) {
-            return 0.5 * (temp[length / 2] + temp[length / 2 + 1]);
+            return 0.5 * (temp[length / 2 - 1] + temp[length / 2]);
         }
         return temp[length / 2];
     }
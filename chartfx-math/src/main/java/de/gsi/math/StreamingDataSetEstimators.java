@@ -0,0 +1,395 @@
+package de.gsi.math;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+
+import de.gsi.dataset.DataSet;
+
+import it.unimi.dsi.fastutil.doubles.Double2IntOpenHashMap;
+import it.unimi.dsi.fastutil.doubles.DoubleComparators;
+import it.unimi.dsi.fastutil.doubles.DoubleHeapPriorityQueue;
+
+/**
+ * Streaming (incremental) estimators of the y-values of a DataSet within a sliding index window [indexMin, indexMax).
+ * <p>
+ * Counterpart to {@link SimpleDataSetEstimators} for the case where the window is repeatedly evaluated while the data
+ * set grows (e.g. trending) or the window slides forward: only the samples entering or leaving the window are
+ * processed instead of the full window. The following estimators are maintained:
+ * <ul>
+ * <li>mean and r.m.s. (standard deviation) via Welford's online algorithm,</li>
+ * <li>minimum and maximum via monotonic deques (amortised O(1) per sample),</li>
+ * <li>median via two heaps with lazy deletion (O(log n) per sample, optional).</li>
+ * </ul>
+ * N.B. Non-finite values are ignored (NaN is returned for windows without finite values). The even-count median is
+ * the mean of the two central values. The incremental update assumes that the data within the previous window did
+ * not change (i.e. data has only been appended). This is cross-checked with the samples at the previous window
+ * boundaries and the estimators are recomputed from scratch if these moved (e.g. for FIFO-type data sets), if the
+ * window shrinks or moves backwards, or after the window has been replaced once by the incremental updates (to limit
+ * the numerical drift of the running sums).
+ * <p>
+ * N.B. not thread-safe, the caller needs to hold the data set's read lock and synchronise concurrent updates.
+ */
+public class StreamingDataSetEstimators {
+    private final boolean trackMedian;
+    private final MonotonicDeque minimum = new MonotonicDeque(false);
+    private final MonotonicDeque maximum = new MonotonicDeque(true);
+    private final SlidingMedian median;
+    private DataSet dataSet;
+    private boolean valid;
+    private int windowMin;
+    private int windowMax;
+    private final double[] anchors = new double[4]; // x/y of first and last window sample
+    private long removedSinceRebuild;
+    // Welford's running mean/variance of the finite samples
+    private int count;
+    private double mean;
+    private double m2;
+
+    /**
+     * Estimators for min, max, range, mean and r.m.s. (w/o median)
+     */
+    public StreamingDataSetEstimators() {
+        this(false);
+    }
+
+    /**
+     * @param trackMedian {@code true}: also track the median (N.B. requires O(n) storage and O(log n) per sample)
+     */
+    public StreamingDataSetEstimators(final boolean trackMedian) {
+        this.trackMedian = trackMedian;
+        median = trackMedian ? new SlidingMedian() : null;
+    }
+
+    /**
+     * @return number of finite samples within the window
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return maximum of the finite samples within the window or NaN if none
+     */
+    public double getMaximum() {
+        return maximum.get();
+    }
+
+    /**
+     * @return mean of the finite samples within the window or NaN if none
+     */
+    public double getMean() {
+        return count == 0 ? Double.NaN : mean;
+    }
+
+    /**
+     * @return median of the finite samples within the window or NaN if none
+     * @throws IllegalStateException if the median is not tracked
+     */
+    public double getMedian() {
+        if (!trackMedian) {
+            throw new IllegalStateException("median is not tracked by this instance");
+        }
+        return median.get();
+    }
+
+    /**
+     * @return minimum of the finite samples within the window or NaN if none
+     */
+    public double getMinimum() {
+        return minimum.get();
+    }
+
+    /**
+     * @return maximum - minimum of the finite samples within the window or NaN if none
+     */
+    public double getRange() {
+        return Math.abs(maximum.get() - minimum.get());
+    }
+
+    /**
+     * @return r.m.s., ie. population standard deviation (normalised by N) of the finite samples within the window or NaN
+     *         if none (same as {@link SimpleDataSetEstimators#getRms})
+     */
+    public double getRms() {
+        return count == 0 ? Double.NaN : Math.sqrt(Math.max(0.0, m2 / count));
+    }
+
+    /**
+     * @return whether the median is tracked by this instance
+     */
+    public boolean isTrackingMedian() {
+        return trackMedian;
+    }
+
+    /**
+     * Invalidates the state, the next {@link #update} recomputes the estimators from scratch
+     */
+    public void reset() {
+        valid = false;
+        dataSet = null;
+    }
+
+    /**
+     * Updates the estimators to the window [indexMin, indexMax) of the data set's y-values.
+     *
+     * @param dataSet the source data set
+     * @param indexMin first index (inclusive)
+     * @param indexMax last index (exclusive)
+     * @param dataAppendedOnly {@code true}: the data within the previous window is unchanged (i.e. data has been
+     *            appended only or only the window changed), {@code false}: forces a full re-computation
+     * @return {@code true} if the estimators have been updated incrementally, {@code false} if recomputed from scratch
+     */
+    public boolean update(final DataSet dataSet, final int indexMin, final int indexMax, final boolean dataAppendedOnly) {
+        final int min = Math.max(0, indexMin);
+        final int max = Math.max(min, Math.min(indexMax, dataSet.getDataCount()));
+        if (dataAppendedOnly && isIncrementalUpdatePossible(dataSet, min, max)) {
+            // N.B. add new before removing old samples to keep the deques' index order
+            for (int index = windowMax; index < max; index++) {
+                add(index, dataSet.get(DIM_Y, index));
+            }
+            for (int index = windowMin; index < min; index++) {
+                remove(index, dataSet.get(DIM_Y, index));
+            }
+            removedSinceRebuild += min - windowMin;
+            setWindow(dataSet, min, max);
+            return true;
+        }
+
+        clear();
+        for (int index = min; index < max; index++) {
+            add(index, dataSet.get(DIM_Y, index));
+        }
+        setWindow(dataSet, min, max);
+        this.dataSet = dataSet;
+        valid = true;
+        return false;
+    }
+
+    private void add(final int index, final double value) {
+        if (!Double.isFinite(value)) {
+            return;
+        }
+        count++;
+        final double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+        minimum.add(index, value);
+        maximum.add(index, value);
+        if (trackMedian) {
+            median.add(value);
+        }
+    }
+
+    private void clear() {
+        count = 0;
+        mean = 0.0;
+        m2 = 0.0;
+        removedSinceRebuild = 0;
+        minimum.clear();
+        maximum.clear();
+        if (trackMedian) {
+            median.clear();
+        }
+    }
+
+    private boolean isIncrementalUpdatePossible(final DataSet dataSet, final int min, final int max) {
+        if (!valid || dataSet != this.dataSet || min < windowMin || max < windowMax || min >= windowMax || windowMax > dataSet.getDataCount()) {
+            // first update, other data set, window moved backward/shrank or does not overlap
+            return false;
+        }
+        if (removedSinceRebuild + (min - windowMin) > windowMax - windowMin) {
+            // window has been replaced once -- recompute to limit the numerical drift
+            return false;
+        }
+        // cross-check that the samples did not move (e.g. FIFO-type or inserted data)
+        // N.B. Double.compare(..) == 0 since non-finite samples are valid anchors as well
+        return Double.compare(dataSet.get(DIM_X, windowMin), anchors[0]) == 0 && Double.compare(dataSet.get(DIM_Y, windowMin), anchors[1]) == 0 //
+                && Double.compare(dataSet.get(DIM_X, windowMax - 1), anchors[2]) == 0 && Double.compare(dataSet.get(DIM_Y, windowMax - 1), anchors[3]) == 0;
+    }
+
+    private void remove(final int index, final double value) {
+        if (!Double.isFinite(value)) {
+            return;
+        }
+        minimum.remove(index);
+        maximum.remove(index);
+        if (trackMedian) {
+            median.remove(value);
+        }
+        if (count == 1) {
+            count = 0;
+            mean = 0.0;
+            m2 = 0.0;
+            return;
+        }
+        final double delta = value - mean;
+        count--;
+        mean -= delta / count;
+        m2 -= delta * (value - mean);
+    }
+
+    private void setWindow(final DataSet dataSet, final int min, final int max) {
+        windowMin = min;
+        windowMax = max;
+        if (max > min) {
+            anchors[0] = dataSet.get(DIM_X, min);
+            anchors[1] = dataSet.get(DIM_Y, min);
+            anchors[2] = dataSet.get(DIM_X, max - 1);
+            anchors[3] = dataSet.get(DIM_Y, max - 1);
+        }
+    }
+
+    /**
+     * Deque of (index, value) pairs with monotonic values: the front holds the extremum of the window. Samples are added
+     * at the back with increasing index and removed from the front with the oldest index.
+     */
+    private static class MonotonicDeque {
+        private static final int INITIAL_CAPACITY = 64;
+        private final boolean isMaximum;
+        private int[] indices = new int[INITIAL_CAPACITY];
+        private double[] values = new double[INITIAL_CAPACITY];
+        private int head; // N.B. ring-buffer with power-of-two capacity
+        private int size;
+
+        private MonotonicDeque(final boolean isMaximum) {
+            this.isMaximum = isMaximum;
+        }
+
+        private void add(final int index, final double value) {
+            final int mask = indices.length - 1;
+            while (size > 0) {
+                final double last = values[(head + size - 1) & mask];
+                if (isMaximum ? last > value : last < value) {
+                    break;
+                }
+                size--; // N.B. dominated by the new sample
+            }
+            if (size == indices.length) {
+                grow();
+            }
+            final int tail = (head + size) & (indices.length - 1);
+            indices[tail] = index;
+            values[tail] = value;
+            size++;
+        }
+
+        private void clear() {
+            head = 0;
+            size = 0;
+        }
+
+        private double get() {
+            return size == 0 ? Double.NaN : values[head];
+        }
+
+        private void grow() {
+            final int capacity = indices.length;
+            final int[] newIndices = new int[2 * capacity];
+            final double[] newValues = new double[2 * capacity];
+            final int firstPart = capacity - head;
+            System.arraycopy(indices, head, newIndices, 0, firstPart);
+            System.arraycopy(indices, 0, newIndices, firstPart, head);
+            System.arraycopy(values, head, newValues, 0, firstPart);
+            System.arraycopy(values, 0, newValues, firstPart, head);
+            indices = newIndices;
+            values = newValues;
+            head = 0;
+        }
+
+        private void remove(final int index) {
+            if (size > 0 && indices[head] == index) {
+                head = (head + 1) & (indices.length - 1);
+                size--;
+            }
+        }
+    }
+
+    /**
+     * Sliding median based on a max-heap (lower half) and a min-heap (upper half). Removed samples are only marked and
+     * discarded once they reach the top of their heap (lazy deletion).
+     */
+    private static class SlidingMedian {
+        private final DoubleHeapPriorityQueue lower = new DoubleHeapPriorityQueue(DoubleComparators.OPPOSITE_COMPARATOR);
+        private final DoubleHeapPriorityQueue upper = new DoubleHeapPriorityQueue();
+        private final Double2IntOpenHashMap pendingRemovals = new Double2IntOpenHashMap();
+        private int lowerSize; // N.B. w/o samples pending removal
+        private int upperSize;
+
+        private void add(final double sample) {
+            final double value = sample + 0.0; // N.B. -0.0 -> +0.0 for consistent hash keys
+            if (lowerSize == 0 || value <= lower.firstDouble()) {
+                lower.enqueue(value);
+                lowerSize++;
+            } else {
+                upper.enqueue(value);
+                upperSize++;
+            }
+            rebalance();
+        }
+
+        private void clear() {
+            lower.clear();
+            upper.clear();
+            pendingRemovals.clear();
+            lowerSize = 0;
+            upperSize = 0;
+        }
+
+        private double get() {
+            if (lowerSize == 0) {
+                return Double.NaN;
+            }
+            if (lowerSize > upperSize) {
+                return lower.firstDouble();
+            }
+            return 0.5 * (lower.firstDouble() + upper.firstDouble());
+        }
+
+        private void prune(final DoubleHeapPriorityQueue heap) {
+            while (!heap.isEmpty()) {
+                final double top = heap.firstDouble();
+                final int pending = pendingRemovals.get(top);
+                if (pending == 0) {
+                    return;
+                }
+                if (pending == 1) {
+                    pendingRemovals.remove(top);
+                } else {
+                    pendingRemovals.put(top, pending - 1);
+                }
+                heap.dequeueDouble();
+            }
+        }
+
+        private void rebalance() {
+            if (lowerSize > upperSize + 1) {
+                upper.enqueue(lower.dequeueDouble());
+                lowerSize--;
+                upperSize++;
+                prune(lower);
+            } else if (lowerSize < upperSize) {
+                lower.enqueue(upper.dequeueDouble());
+                lowerSize++;
+                upperSize--;
+                prune(upper);
+            }
+        }
+
+        private void remove(final double sample) {
+            final double value = sample + 0.0;
+            pendingRemovals.addTo(value, 1);
+            if (value <= lower.firstDouble()) {
+                lowerSize--;
+                if (value == lower.firstDouble()) {
+                    prune(lower);
+                }
+            } else {
+                upperSize--;
+                if (value == upper.firstDouble()) {
+                    prune(upper);
+                }
+            }
+            rebalance();
+        }
+    }
+}
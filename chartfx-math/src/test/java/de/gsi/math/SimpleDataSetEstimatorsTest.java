@@ -194,6 +194,10 @@ class SimpleDataSetEstimatorsTest {
         // test odd number of elements
         assertEquals(2, SimpleDataSetEstimators
                                 .getMedian(new DataSetBuilder().setValues(DIM_Y, new double[] { 1.5, 1.5, 5, 2, 6, 7, -4 }).build(), 0, 7));
+        // test even number of elements -> mean of the two central values
+        assertEquals(3.5, SimpleDataSetEstimators
+                                  .getMedian(new DataSetBuilder().setValues(DIM_Y, new double[] { 1.5, 5, 2, 6, 7, -4 }).build(), 0, 6));
+        assertEquals(1.5, SimpleDataSetEstimators.getMedian(new DataSetBuilder().setValues(DIM_Y, new double[] { 2, 1 }).build(), 0, 2));
     }
 
     @Test
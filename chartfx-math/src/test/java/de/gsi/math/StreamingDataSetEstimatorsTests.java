@@ -0,0 +1,101 @@
+package de.gsi.math;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.DoubleDataSet;
+
+/**
+ * Tests {@link de.gsi.math.StreamingDataSetEstimators}
+ */
+class StreamingDataSetEstimatorsTests {
+    private static final double DELTA = 1e-9;
+
+    @Test
+    void testAppendAndSlide() {
+        final Random random = new Random(42);
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        final StreamingDataSetEstimators estimators = new StreamingDataSetEstimators(true);
+        assertTrue(estimators.isTrackingMedian());
+
+        int nIncremental = 0;
+        int windowMin = 0;
+        for (int step = 0; step < 2000; step++) {
+            // N.B. integer values to provoke duplicates for the median
+            final double value = step % 97 == 0 ? Double.NaN : random.nextInt(50);
+            dataSet.add(step, value);
+            if (step > 300) {
+                windowMin += random.nextInt(2); // sliding window of varying length
+            }
+            final int windowMax = dataSet.getDataCount();
+            if (estimators.update(dataSet, windowMin, windowMax, true)) {
+                nIncremental++;
+            }
+            assertEstimators(dataSet, windowMin, windowMax, estimators);
+        }
+        assertTrue(nIncremental > 1900, "incremental updates: " + nIncremental);
+    }
+
+    @Test
+    void testFallbacks() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        for (int i = 0; i < 100; i++) {
+            dataSet.add(i, Math.sin(0.1 * i));
+        }
+        final StreamingDataSetEstimators estimators = new StreamingDataSetEstimators();
+        assertThrows(IllegalStateException.class, estimators::getMedian);
+        assertEquals(Double.NaN, estimators.getMean());
+
+        assertFalse(estimators.update(dataSet, 10, 50, true), "initial update");
+        assertTrue(estimators.update(dataSet, 20, 60, true), "sliding window");
+        assertFalse(estimators.update(dataSet, 10, 60, true), "window moved backward");
+        assertFalse(estimators.update(dataSet, 10, 60, false), "data changed");
+        assertEstimators(dataSet, 10, 60, estimators);
+
+        // FIFO-type update: data shifted by one sample
+        dataSet.remove(0, 1);
+        dataSet.add(100, 1.0);
+        assertFalse(estimators.update(dataSet, 10, 60, true), "data shifted");
+        assertEstimators(dataSet, 10, 60, estimators);
+
+        // window beyond data range
+        assertFalse(estimators.update(dataSet, 200, 300, true));
+        assertEquals(0, estimators.getCount());
+        assertEquals(Double.NaN, estimators.getMean());
+        assertEquals(Double.NaN, estimators.getMinimum());
+        assertEquals(Double.NaN, estimators.getRms());
+
+        estimators.update(dataSet, 0, 100, true);
+        estimators.reset();
+        assertFalse(estimators.update(dataSet, 0, 100, true), "after reset");
+    }
+
+    private static void assertEstimators(final DataSet dataSet, final int indexMin, final int indexMax, final StreamingDataSetEstimators estimators) {
+        final double[] values = Arrays.stream(SimpleDataSetEstimators.getDoubleArray(dataSet, indexMin, indexMax)).filter(Double::isFinite).toArray();
+        final String msg = "window [" + indexMin + ", " + indexMax + ")";
+        assertEquals(values.length, estimators.getCount(), msg);
+        if (values.length == 0) {
+            assertEquals(Double.NaN, estimators.getMean(), msg);
+            return;
+        }
+        assertEquals(SimpleDataSetEstimators.getMean(dataSet, indexMin, indexMax), estimators.getMean(), DELTA, msg);
+        assertEquals(SimpleDataSetEstimators.getMinimum(dataSet, indexMin, indexMax), estimators.getMinimum(), msg);
+        assertEquals(SimpleDataSetEstimators.getMaximum(dataSet, indexMin, indexMax), estimators.getMaximum(), msg);
+        assertEquals(SimpleDataSetEstimators.getRange(dataSet, indexMin, indexMax), estimators.getRange(), msg);
+        assertEquals(SimpleDataSetEstimators.rootMeanSquare(values, values.length), estimators.getRms(), DELTA, msg);
+        if (estimators.isTrackingMedian()) {
+            Arrays.sort(values);
+            final int n = values.length;
+            final double median = n % 2 == 1 ? values[n / 2] : 0.5 * (values[n / 2 - 1] + values[n / 2]);
+            assertEquals(median, estimators.getMedian(), msg);
+        }
+    }
+}
@@ -75,6 +75,7 @@ public class WaterfallPerformanceSample extends Application {
     private final CheckBox smooth = new CheckBox("smooth");
     private final CheckBox altImplementation = new CheckBox("alt impl.");
     private final CheckBox parallelImplementation = new CheckBox("parallel impl.");
+    private final CheckBox scrolling = new CheckBox("scrolling");
 
     private TestDataSetSource dataSet = new TestDataSetSource();
     private Timer timer;
@@ -228,8 +229,13 @@ public class WaterfallPerformanceSample extends Application {
         parallelImplementation.selectedProperty().bindBidirectional(renderer.parallelImplementationProperty());
         parallelImplementation.selectedProperty().addListener((ch, old, selection) -> chart.requestLayout());
 
+        scrolling.setSelected(renderer.isScrolling());
+        scrolling.setTooltip(new Tooltip("incremental ring-buffer update of the HEATMAP image (colour-maps only new rows)"));
+        scrolling.selectedProperty().bindBidirectional(renderer.scrollingProperty());
+        scrolling.selectedProperty().addListener((ch, old, selection) -> chart.requestLayout());
+
         final ToolBar newCountourParameters = new ToolBar(dataReduction, hBoxReductionFactorSlider, reductionType,
-                smooth, altImplementation, parallelImplementation);
+                smooth, altImplementation, parallelImplementation, scrolling);
 
         contourToolBar.getItems().addAll(new VBox(standardCountourParameters, newCountourParameters));
         return contourToolBar;